@@ -98,6 +98,18 @@ public class BaseSessionEventListener implements SessionEventListener {
 	public void dirtyCalculationEnd(boolean dirty) {
 	}
 
+	@Override
+	public void entityFetch(String entityName) {
+	}
+
+	@Override
+	public void collectionFetch(String role) {
+	}
+
+	@Override
+	public void jdbcExecutedSql(String sql) {
+	}
+
 	@Override
 	public void end() {
 	}
@@ -46,5 +46,38 @@ public interface SessionEventListener extends Serializable {
 	public void dirtyCalculationStart();
 	public void dirtyCalculationEnd(boolean dirty);
 
+	/**
+	 * Notification of an entity being loaded from the database to resolve an association or to initialize
+	 * a proxy.
+	 *
+	 * @param entityName The name of the fetched entity
+	 *
+	 * @since 5.4
+	 */
+	default void entityFetch(String entityName) {
+	}
+
+	/**
+	 * Notification of a collection being initialized from the database.
+	 *
+	 * @param role The collection role
+	 *
+	 * @since 5.4
+	 */
+	default void collectionFetch(String role) {
+	}
+
+	/**
+	 * Notification of the SQL executed by the JDBC statement or batch whose execution is ending, right before
+	 * {@link #jdbcExecuteStatementEnd()} or {@link #jdbcExecuteBatchEnd()}.  Not called when the SQL is not known,
+	 * which is the case for statements not prepared by Hibernate.
+	 *
+	 * @param sql The executed SQL
+	 *
+	 * @since 5.4
+	 */
+	default void jdbcExecutedSql(String sql) {
+	}
+
 	public void end();
 }
@@ -9,6 +9,8 @@ package org.hibernate;
 import java.io.Closeable;
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.Collection;
+import java.util.List;
 
 import org.hibernate.query.NativeQuery;
 
@@ -53,6 +55,23 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable,
 	 */
 	Serializable insert(String entityName, Object entity);
 
+	/**
+	 * Insert a row for each of the given entities.
+	 * <p/>
+	 * The entities are grouped by entity type, so that the rows of each type are sent as a single JDBC batch
+	 * (subject to {@value org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE}) instead of the batch being
+	 * executed whenever the entity type changes.  The types are inserted in the order in which they first
+	 * occur in the collection, so entities referenced through a foreign key must be of a type occurring earlier.
+	 * Entities using a post-insert identifier generator (e.g. identity columns) cannot be batched.
+	 *
+	 * @param entities new transient instances
+	 *
+	 * @return The identifiers of the inserted entities, in the iteration order of the collection
+	 *
+	 * @since 5.4
+	 */
+	List<Serializable> insertAll(Collection<?> entities);
+
 	/**
 	 * Update a row.
 	 *
@@ -68,6 +87,15 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable,
 	 */
 	void update(String entityName, Object entity);
 
+	/**
+	 * Update the rows of the given entities, grouped by entity type as explained for {@link #insertAll}.
+	 *
+	 * @param entities detached entity instances
+	 *
+	 * @since 5.4
+	 */
+	void updateAll(Collection<?> entities);
+
 	/**
 	 * Delete a row.
 	 *
@@ -83,6 +111,17 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable,
 	 */
 	void delete(String entityName, Object entity);
 
+	/**
+	 * Delete the rows of the given entities, grouped by entity type as explained for {@link #insertAll}.  Since
+	 * the types are deleted in the order in which they first occur in the collection, entities referencing
+	 * others through a foreign key must be of a type occurring earlier.
+	 *
+	 * @param entities detached entity instances
+	 *
+	 * @since 5.4
+	 */
+	void deleteAll(Collection<?> entities);
+
 	/**
 	 * Retrieve a row.
 	 *
@@ -62,10 +62,10 @@ public final class CollectionRecreateAction extends CollectionAction {
 		if ( listenerGroup.isEmpty() ) {
 			return;
 		}
-		final PreCollectionRecreateEvent event = new PreCollectionRecreateEvent( getPersister(), getCollection(), eventSource() );
-		for ( PreCollectionRecreateEventListener listener : listenerGroup.listeners() ) {
-			listener.onPreRecreateCollection( event );
-		}
+		listenerGroup.fireLazyEventOnEachListener(
+				() -> new PreCollectionRecreateEvent( getPersister(), getCollection(), eventSource() ),
+				PreCollectionRecreateEventListener::onPreRecreateCollection
+		);
 	}
 
 	private void postRecreate() {
@@ -73,9 +73,9 @@ public final class CollectionRecreateAction extends CollectionAction {
 		if ( listenerGroup.isEmpty() ) {
 			return;
 		}
-		final PostCollectionRecreateEvent event = new PostCollectionRecreateEvent( getPersister(), getCollection(), eventSource() );
-		for ( PostCollectionRecreateEventListener listener : listenerGroup.listeners() ) {
-			listener.onPostRecreateCollection( event );
-		}
+		listenerGroup.fireLazyEventOnEachListener(
+				() -> new PostCollectionRecreateEvent( getPersister(), getCollection(), eventSource() ),
+				PostCollectionRecreateEventListener::onPostRecreateCollection
+		);
 	}
 }
@@ -114,15 +114,10 @@ public final class CollectionRemoveAction extends CollectionAction {
 		if ( listenerGroup.isEmpty() ) {
 			return;
 		}
-		final PreCollectionRemoveEvent event = new PreCollectionRemoveEvent(
-				getPersister(),
-				getCollection(),
-				eventSource(),
-				affectedOwner
+		listenerGroup.fireLazyEventOnEachListener(
+				() -> new PreCollectionRemoveEvent( getPersister(), getCollection(), eventSource(), affectedOwner ),
+				PreCollectionRemoveEventListener::onPreRemoveCollection
 		);
-		for ( PreCollectionRemoveEventListener listener : listenerGroup.listeners() ) {
-			listener.onPreRemoveCollection( event );
-		}
 	}
 
 	private void postRemove() {
@@ -130,14 +125,9 @@ public final class CollectionRemoveAction extends CollectionAction {
 		if ( listenerGroup.isEmpty() ) {
 			return;
 		}
-		final PostCollectionRemoveEvent event = new PostCollectionRemoveEvent(
-				getPersister(),
-				getCollection(),
-				eventSource(),
-				affectedOwner
+		listenerGroup.fireLazyEventOnEachListener(
+				() -> new PostCollectionRemoveEvent( getPersister(), getCollection(), eventSource(), affectedOwner ),
+				PostCollectionRemoveEventListener::onPostRemoveCollection
 		);
-		for ( PostCollectionRemoveEventListener listener : listenerGroup.listeners() ) {
-			listener.onPostRemoveCollection( event );
-		}
 	}
 }
@@ -102,14 +102,10 @@ public final class CollectionUpdateAction extends CollectionAction {
 		if ( listenerGroup.isEmpty() ) {
 			return;
 		}
-		final PreCollectionUpdateEvent event = new PreCollectionUpdateEvent(
-				getPersister(),
-				getCollection(),
-				eventSource()
+		listenerGroup.fireLazyEventOnEachListener(
+				() -> new PreCollectionUpdateEvent( getPersister(), getCollection(), eventSource() ),
+				PreCollectionUpdateEventListener::onPreUpdateCollection
 		);
-		for ( PreCollectionUpdateEventListener listener : listenerGroup.listeners() ) {
-			listener.onPreUpdateCollection( event );
-		}
 	}
 
 	private void postUpdate() {
@@ -117,13 +113,9 @@ public final class CollectionUpdateAction extends CollectionAction {
 		if ( listenerGroup.isEmpty() ) {
 			return;
 		}
-		final PostCollectionUpdateEvent event = new PostCollectionUpdateEvent(
-				getPersister(),
-				getCollection(),
-				eventSource()
+		listenerGroup.fireLazyEventOnEachListener(
+				() -> new PostCollectionUpdateEvent( getPersister(), getCollection(), eventSource() ),
+				PostCollectionUpdateEventListener::onPostUpdateCollection
 		);
-		for ( PostCollectionUpdateEventListener listener : listenerGroup.listeners() ) {
-			listener.onPostUpdateCollection( event );
-		}
 	}
 }
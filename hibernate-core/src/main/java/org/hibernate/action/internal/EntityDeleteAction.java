@@ -151,9 +151,7 @@ public class EntityDeleteAction extends EntityAction {
 				getPersister(),
 				eventSource()
 		);
-		for ( PostDeleteEventListener listener : listenerGroup.listeners() ) {
-			listener.onPostDelete( event );
-		}
+		listenerGroup.fireEventOnEachListener( event, PostDeleteEventListener::onPostDelete );
 	}
 
 	private void postCommitDelete(boolean success) {
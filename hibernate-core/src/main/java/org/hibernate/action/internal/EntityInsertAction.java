@@ -164,9 +164,7 @@ public final class EntityInsertAction extends AbstractEntityInsertAction {
 				getPersister(),
 				eventSource()
 		);
-		for ( PostInsertEventListener listener : listenerGroup.listeners() ) {
-			listener.onPostInsert( event );
-		}
+		listenerGroup.fireEventOnEachListener( event, PostInsertEventListener::onPostInsert );
 	}
 
 	private void postCommitInsert(boolean success) {
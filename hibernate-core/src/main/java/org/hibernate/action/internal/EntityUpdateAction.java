@@ -264,9 +264,7 @@ public final class EntityUpdateAction extends EntityAction {
 				getPersister(),
 				eventSource()
 		);
-		for ( PostUpdateEventListener listener : listenerGroup.listeners() ) {
-			listener.onPostUpdate( event );
-		}
+		listenerGroup.fireEventOnEachListener( event, PostUpdateEventListener::onPostUpdate );
 	}
 
 	private void postCommitUpdate(boolean success) {
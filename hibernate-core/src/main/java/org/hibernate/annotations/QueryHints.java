@@ -144,4 +144,43 @@ public class QueryHints {
 	 */
 	public static final String PASS_DISTINCT_THROUGH = "hibernate.query.passDistinctThrough";
 
+	/**
+	 * Hint providing a {@link org.hibernate.graph.RootGraph} whose associations are initialized for the query
+	 * results after the query has been executed, one association level at a time, using a single batched
+	 * {@code IN} query per entity type or collection role of each level rather than one query per proxy or
+	 * collection as they are touched.
+	 *
+	 * @since 5.4
+	 * @see org.hibernate.graph.EntityGraphs#batchLoad
+	 */
+	public static final String BATCH_GRAPH = "org.hibernate.batchGraph";
+
+	/**
+	 * Hint to return the entities loaded by a query detached from the Session.  They are loaded as read-only,
+	 * no post-load events are fired for them, and they are removed from the persistence context once the
+	 * query (including its eager fetches) has been executed, so the Session neither grows nor has to dirty
+	 * check them on flush.  Identity within the query results still holds.
+	 * <p/>
+	 * Only applies to {@code list()} style execution; results read from the query cache are not detached.
+	 *
+	 * @since 5.4
+	 */
+	public static final String DETACHED_RESULTS = "org.hibernate.detachedResults";
+
+	/**
+	 * Hint for the number of rows read ahead, from the JDBC ResultSet, by a background task while the results
+	 * of {@link org.hibernate.query.Query#stream()} are processed.  The JDBC fetch size still determines the
+	 * number of rows transferred per round trip to the database.  The task is run by the
+	 * {@link org.hibernate.query.spi.StreamPrefetchExecutor} service.
+	 * <p/>
+	 * Only applies to HQL queries selecting values of basic types, i.e. no entities, associations, collection
+	 * fetches nor LOBs, so that reading a row does not execute other statements; the stream of other queries is
+	 * rejected.  The Session must not execute other statements until the stream is closed.  Default is
+	 * {@code 0}, i.e. no rows are read ahead.
+	 *
+	 * @since 5.4
+	 * @see org.hibernate.internal.PrefetchingScrollableResultsIterator
+	 */
+	public static final String STREAM_PREFETCH = "org.hibernate.streamPrefetch";
+
 }
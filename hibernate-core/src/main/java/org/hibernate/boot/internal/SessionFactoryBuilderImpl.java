@@ -459,7 +459,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 	@Override
 	public SessionFactory build() {
 		metadata.validate();
-		return new SessionFactoryImpl( metadata, buildSessionFactoryOptions() );
+		final SessionFactoryImpl sessionFactory = new SessionFactoryImpl( metadata, buildSessionFactoryOptions() );
+		// pre-compile the HQL query plans recorded by a previous run, if configured, once the SessionFactory
+		// is fully built
+		sessionFactory.getQueryPlanCache().warmUp();
+		return sessionFactory;
 	}
 
 	@Override
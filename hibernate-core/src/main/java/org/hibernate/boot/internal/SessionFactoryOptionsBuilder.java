@@ -79,6 +79,7 @@ import static org.hibernate.cfg.AvailableSettings.COLLECTION_JOIN_SUBQUERY;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
 import static org.hibernate.cfg.AvailableSettings.CONVENTIONAL_JAVA_CONSTANTS;
 import static org.hibernate.cfg.AvailableSettings.CRITERIA_LITERAL_HANDLING_MODE;
+import static org.hibernate.cfg.AvailableSettings.CRITERIA_PLAN_CACHE;
 import static org.hibernate.cfg.AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_BATCH_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_ENTITY_MODE;
@@ -109,11 +110,16 @@ import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
+import static org.hibernate.cfg.AvailableSettings.SESSION_EVENTS_DIAGNOSTICS;
+import static org.hibernate.cfg.AvailableSettings.SESSION_EVENTS_DIAGNOSTICS_FETCH_THRESHOLD;
+import static org.hibernate.cfg.AvailableSettings.SESSION_EVENTS_DIAGNOSTICS_SLOW_STATEMENT_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.SQL_STATEMENT_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -169,6 +175,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	// Statistics/Interceptor/observers
 	private boolean statisticsEnabled;
+	private boolean sqlStatementStatisticsEnabled;
 	private Interceptor interceptor;
 	private Class<? extends Interceptor> statelessInterceptorClass;
 	private Supplier<? extends Interceptor> statelessInterceptorSupplier;
@@ -218,6 +225,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean compactCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -237,6 +245,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TimeZone jdbcTimeZone;
 	private boolean queryParametersValidationEnabled;
 	private LiteralHandlingMode criteriaLiteralHandlingMode;
+	private boolean criteriaPlanCacheEnabled;
 	private ImmutableEntityUpdateQueryHandlingMode immutableEntityUpdateQueryHandlingMode;
 
 	private Map<String, SQLFunction> sqlFunctions;
@@ -293,6 +302,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.autoCloseSessionEnabled = cfgService.getSetting( AUTO_CLOSE_SESSION, BOOLEAN, false );
 
 		this.statisticsEnabled = cfgService.getSetting( GENERATE_STATISTICS, BOOLEAN, false );
+		this.sqlStatementStatisticsEnabled = cfgService.getSetting( SQL_STATEMENT_STATISTICS, BOOLEAN, false );
 		this.interceptor = determineInterceptor( configurationSettings, strategySelector );
 		this.statelessInterceptorSupplier = determineStatelessInterceptor( configurationSettings, strategySelector );
 		this.statementInspector = strategySelector.resolveStrategy(
@@ -310,6 +320,23 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		final boolean logSessionMetrics = cfgService.getSetting( LOG_SESSION_METRICS, BOOLEAN, statisticsEnabled );
 		this.baselineSessionEventsListenerBuilder = new BaselineSessionEventsListenerBuilder( logSessionMetrics, autoSessionEventsListener );
+		this.baselineSessionEventsListenerBuilder.setDiagnostics(
+				cfgService.getSetting( SESSION_EVENTS_DIAGNOSTICS, BOOLEAN, false )
+		);
+		this.baselineSessionEventsListenerBuilder.setDiagnosticsFetchThreshold(
+				ConfigurationHelper.getInt(
+						SESSION_EVENTS_DIAGNOSTICS_FETCH_THRESHOLD,
+						configurationSettings,
+						BaselineSessionEventsListenerBuilder.DEFAULT_DIAGNOSTICS_FETCH_THRESHOLD
+				)
+		);
+		this.baselineSessionEventsListenerBuilder.setDiagnosticsSlowStatementThreshold(
+				ConfigurationHelper.getLong(
+						SESSION_EVENTS_DIAGNOSTICS_SLOW_STATEMENT_THRESHOLD,
+						configurationSettings,
+						BaselineSessionEventsListenerBuilder.DEFAULT_DIAGNOSTICS_SLOW_STATEMENT_THRESHOLD
+				)
+		);
 
 		this.customEntityDirtinessStrategy = strategySelector.resolveDefaultableStrategy(
 				CustomEntityDirtinessStrategy.class,
@@ -376,6 +403,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = cfgService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.compactCacheEntriesEnabled = cfgService.getSetting( USE_COMPACT_CACHE_ENTRIES, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = cfgService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
@@ -390,6 +418,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.compactCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
@@ -486,6 +515,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings.get( CRITERIA_LITERAL_HANDLING_MODE )
 		);
 
+		this.criteriaPlanCacheEnabled = ConfigurationHelper.getBoolean(
+				CRITERIA_PLAN_CACHE,
+				configurationSettings,
+				false
+		);
+
 		this.jdbcStyleParamsZeroBased = ConfigurationHelper.getBoolean(
 				JDBC_TYLE_PARAMS_ZERO_BASE,
 				configurationSettings,
@@ -735,6 +770,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return statisticsEnabled;
 	}
 
+	@Override
+	public boolean isSqlStatementStatisticsEnabled() {
+		return sqlStatementStatisticsEnabled;
+	}
+
 	@Override
 	public Interceptor getInterceptor() {
 		return interceptor == null ? EmptyInterceptor.INSTANCE : interceptor;
@@ -905,6 +945,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1015,6 +1060,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.criteriaLiteralHandlingMode;
 	}
 
+	@Override
+	public boolean isCriteriaPlanCacheEnabled() {
+		return criteriaPlanCacheEnabled;
+	}
+
 	@Override
 	public ImmutableEntityUpdateQueryHandlingMode getImmutableEntityUpdateQueryHandlingMode() {
 		return immutableEntityUpdateQueryHandlingMode;
@@ -1094,6 +1144,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.statisticsEnabled = enabled;
 	}
 
+	public void enableSqlStatementStatistics(boolean enabled) {
+		this.sqlStatementStatisticsEnabled = enabled;
+	}
+
 	public void addSessionFactoryObservers(SessionFactoryObserver... observers) {
 		Collections.addAll( this.sessionFactoryObserverList, observers );
 	}
@@ -1231,6 +1285,14 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.structuredCacheEntriesEnabled = enabled;
 	}
 
+	public void enableCompactCacheEntries(boolean enabled) {
+		this.compactCacheEntriesEnabled = enabled;
+	}
+
+	public void enableCriteriaPlanCache(boolean enabled) {
+		this.criteriaPlanCacheEnabled = enabled;
+	}
+
 	public void allowDirectReferenceCacheEntries(boolean enabled) {
 		this.directReferenceCacheEntriesEnabled = enabled;
 	}
@@ -112,6 +112,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStatisticsEnabled();
 	}
 
+	@Override
+	public boolean isSqlStatementStatisticsEnabled() {
+		return delegate.isSqlStatementStatisticsEnabled();
+	}
+
 	@Override
 	public Interceptor getInterceptor() {
 		return delegate.getInterceptor();
@@ -282,6 +287,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -403,6 +413,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getCriteriaLiteralHandlingMode();
 	}
 
+	@Override
+	public boolean isCriteriaPlanCacheEnabled() {
+		return delegate.isCriteriaPlanCacheEnabled();
+	}
+
 	@Override
 	public boolean jdbcStyleParamsZeroBased() {
 		return delegate.jdbcStyleParamsZeroBased();
@@ -108,6 +108,10 @@ public interface SessionFactoryOptions {
 
 	boolean isStatisticsEnabled();
 
+	default boolean isSqlStatementStatisticsEnabled() {
+		return false;
+	}
+
 	/**
 	 * Get the interceptor to use by default for all sessions opened from this factory.
 	 *
@@ -207,6 +211,10 @@ public interface SessionFactoryOptions {
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
 	boolean isAutoEvictCollectionCache();
@@ -274,6 +282,10 @@ public interface SessionFactoryOptions {
 		return LiteralHandlingMode.AUTO;
 	}
 
+	default boolean isCriteriaPlanCacheEnabled() {
+		return false;
+	}
+
 	boolean jdbcStyleParamsZeroBased();
 
 	JpaCompliance getJpaCompliance();
@@ -9,11 +9,23 @@ package org.hibernate.cache.spi.entry;
 import java.io.Serializable;
 
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.type.ArrayType;
+import org.hibernate.type.BagType;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.ListType;
+import org.hibernate.type.SetType;
+import org.hibernate.type.Type;
 
 /**
  * Cacheable representation of persistent collections
+ * <p/>
+ * When {@link org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE_ENTRIES compact entries} are enabled,
+ * a state made only of {@code Long}, {@code Integer} or {@code UUID} values, typically the identifiers
+ * of the elements of a collection of entities, is kept as a primitive array rather than as an array of
+ * boxed values.
  *
  * @author Gavin King
  */
@@ -27,7 +39,10 @@ public class CollectionCacheEntry implements Serializable {
 	 * @param persister The collection persister
 	 */
 	public CollectionCacheEntry(PersistentCollection collection, CollectionPersister persister) {
-		this.state = collection.disassemble( persister );
+		final Serializable disassembled = collection.disassemble( persister );
+		this.state = persister.getFactory().getSessionFactoryOptions().isCompactCacheEntriesEnabled()
+				? PackedIdentifiers.pack( disassembled )
+				: disassembled;
 	}
 
 	CollectionCacheEntry(Serializable state) {
@@ -41,7 +56,7 @@ public class CollectionCacheEntry implements Serializable {
 	 */
 	public Serializable[] getState() {
 		//TODO: assumes all collections disassemble to an array!
-		return (Serializable[]) state;
+		return (Serializable[]) PackedIdentifiers.unpack( state );
 	}
 
 	/**
@@ -55,10 +70,52 @@ public class CollectionCacheEntry implements Serializable {
 			final PersistentCollection collection,
 			final CollectionPersister persister,
 			final Object owner) {
-		collection.initializeFromCache( persister, state, owner );
+		collection.initializeFromCache( persister, PackedIdentifiers.unpack( state ), owner );
 		collection.afterInitialize();
 	}
 
+	/**
+	 * Assembles the collection from the cached state.  The elements of a bag, set, list or array of
+	 * entities are first all registered with the {@link org.hibernate.engine.spi.BatchFetchQueue}, so
+	 * that those which need to be loaded are loaded in batches (if the entity is batch loadable) rather
+	 * than one at a time.
+	 *
+	 * @param collection The persistent collection instance being assembled
+	 * @param persister The collection persister
+	 * @param owner The collection owner instance
+	 * @param session The session
+	 */
+	public void assemble(
+			final PersistentCollection collection,
+			final CollectionPersister persister,
+			final Object owner,
+			final SharedSessionContractImplementor session) {
+		final Serializable unpackedState = PackedIdentifiers.unpack( state );
+		if ( isElementsOnly( persister ) ) {
+			final Type elementType = persister.getElementType();
+			for ( Serializable element : (Serializable[]) unpackedState ) {
+				elementType.beforeAssemble( element, session );
+			}
+		}
+		collection.initializeFromCache( persister, unpackedState, owner );
+		collection.afterInitialize();
+	}
+
+	/**
+	 * Whether the state is made of the disassembled elements only, unlike maps (keys and elements)
+	 * and id bags (identifiers and elements)
+	 */
+	private boolean isElementsOnly(CollectionPersister persister) {
+		if ( !persister.getElementType().isEntityType() ) {
+			return false;
+		}
+		final CollectionType collectionType = persister.getCollectionType();
+		return collectionType instanceof BagType
+				|| collectionType instanceof SetType
+				|| collectionType instanceof ListType
+				|| collectionType instanceof ArrayType;
+	}
+
 	@Override
 	public String toString() {
 		return "CollectionCacheEntry" + ArrayHelper.toString( getState() );
@@ -0,0 +1,488 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.Type;
+
+/**
+ * Compact binary CacheEntry format for entities.  The disassembled state is written into a {@code byte[]}
+ * using a primitive encoding for the common basic values (numbers, strings, temporals, UUIDs, binary data)
+ * and nested arrays for components, so no class names are written except for the (rare) values falling back
+ * to Java serialization.  The entity name is only written for subclasses of the hierarchy root.
+ * <p/>
+ * Every entry is prefixed with a format version and a schema hash derived from the property names and
+ * types of the persister which wrote it.  An entry whose format or schema does not match the current
+ * mapping is {@link #destructure destructured} to {@code null}, which callers treat as a cache miss.
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+	/**
+	 * The version of the binary format written by this class.
+	 */
+	public static final byte FORMAT_VERSION = 1;
+
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_UNFETCHED = 1;
+	private static final byte TAG_UNKNOWN = 2;
+	private static final byte TAG_FALSE = 3;
+	private static final byte TAG_TRUE = 4;
+	private static final byte TAG_BYTE = 5;
+	private static final byte TAG_SHORT = 6;
+	private static final byte TAG_INT = 7;
+	private static final byte TAG_LONG = 8;
+	private static final byte TAG_FLOAT = 9;
+	private static final byte TAG_DOUBLE = 10;
+	private static final byte TAG_CHAR = 11;
+	private static final byte TAG_STRING = 12;
+	private static final byte TAG_BYTES = 13;
+	private static final byte TAG_BIG_DECIMAL = 14;
+	private static final byte TAG_BIG_INTEGER = 15;
+	private static final byte TAG_UUID = 16;
+	private static final byte TAG_UTIL_DATE = 17;
+	private static final byte TAG_SQL_DATE = 18;
+	private static final byte TAG_SQL_TIME = 19;
+	private static final byte TAG_SQL_TIMESTAMP = 20;
+	private static final byte TAG_INSTANT = 21;
+	private static final byte TAG_LOCAL_DATE = 22;
+	private static final byte TAG_LOCAL_DATE_TIME = 23;
+	private static final byte TAG_LOCAL_TIME = 24;
+	private static final byte TAG_ARRAY = 25;
+	private static final byte TAG_SERIALIZED = 26;
+
+	private final EntityPersister persister;
+	private final Map<String, Integer> schemaHashes = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final String subclass = entry.getSubclass();
+		final Serializable[] state = entry.getDisassembledState();
+
+		final Writer writer = new Writer( 16 + state.length * 8 );
+		writer.writeByte( FORMAT_VERSION );
+		writer.writeInt( schemaHash( subclass, persister.getFactory() ) );
+		if ( subclass.equals( persister.getRootEntityName() ) ) {
+			writer.writeByte( (byte) 0 );
+		}
+		else {
+			writer.writeByte( (byte) 1 );
+			writer.writeString( subclass );
+		}
+		writeValue( writer, entry.getVersion() );
+		writer.writeVarInt( state.length );
+		for ( Serializable value : state ) {
+			writeValue( writer, value );
+		}
+		return writer.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		if ( !( structured instanceof byte[] ) ) {
+			// not written by this strategy (e.g. the setting was switched on a shared remote cache)
+			return structured instanceof CacheEntry ? structured : null;
+		}
+
+		final Reader reader = new Reader( (byte[]) structured );
+		if ( reader.readByte() != FORMAT_VERSION ) {
+			return null;
+		}
+		final int schemaHash = reader.readInt();
+		final String subclass = reader.readByte() == 0 ? persister.getRootEntityName() : reader.readString();
+		if ( schemaHash != schemaHash( subclass, factory ) ) {
+			return null;
+		}
+
+		final Object version = readValue( reader );
+		final Serializable[] state = new Serializable[ reader.readVarInt() ];
+		for ( int i = 0; i < state.length; i++ ) {
+			state[i] = (Serializable) readValue( reader );
+		}
+		return new StandardCacheEntryImpl( state, subclass, version );
+	}
+
+	private int schemaHash(String entityName, SessionFactoryImplementor factory) {
+		Integer hash = schemaHashes.get( entityName );
+		if ( hash == null ) {
+			final EntityPersister subclassPersister = entityName.equals( persister.getEntityName() )
+					? persister
+					: factory.getMetamodel().entityPersister( entityName );
+			hash = computeSchemaHash( subclassPersister );
+			schemaHashes.put( entityName, hash );
+		}
+		return hash;
+	}
+
+	/**
+	 * Derive the schema hash from the property names and types of the given persister.  Relies only on
+	 * {@link String#hashCode()}, so the result is stable across JVMs sharing a cache.
+	 *
+	 * @param persister The (subclass) persister
+	 *
+	 * @return The schema hash
+	 */
+	static int computeSchemaHash(EntityPersister persister) {
+		final String[] names = persister.getPropertyNames();
+		final Type[] types = persister.getPropertyTypes();
+		int hash = names.length;
+		for ( int i = 0; i < names.length; i++ ) {
+			hash = 31 * hash + names[i].hashCode();
+			hash = 31 * hash + types[i].getName().hashCode();
+		}
+		return hash;
+	}
+
+	private static void writeValue(Writer writer, Object value) {
+		if ( value == null ) {
+			writer.writeByte( TAG_NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			writer.writeByte( TAG_UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			writer.writeByte( TAG_UNKNOWN );
+		}
+		else {
+			final Class valueClass = value.getClass();
+			if ( valueClass == Long.class ) {
+				writer.writeByte( TAG_LONG );
+				writer.writeVarLong( zigZag( (Long) value ) );
+			}
+			else if ( valueClass == Integer.class ) {
+				writer.writeByte( TAG_INT );
+				writer.writeVarLong( zigZag( (Integer) value ) );
+			}
+			else if ( valueClass == String.class ) {
+				writer.writeByte( TAG_STRING );
+				writer.writeString( (String) value );
+			}
+			else if ( valueClass == Boolean.class ) {
+				writer.writeByte( (Boolean) value ? TAG_TRUE : TAG_FALSE );
+			}
+			else if ( valueClass == Short.class ) {
+				writer.writeByte( TAG_SHORT );
+				writer.writeVarLong( zigZag( (Short) value ) );
+			}
+			else if ( valueClass == Byte.class ) {
+				writer.writeByte( TAG_BYTE );
+				writer.writeByte( (Byte) value );
+			}
+			else if ( valueClass == Double.class ) {
+				writer.writeByte( TAG_DOUBLE );
+				writer.writeLong( Double.doubleToRawLongBits( (Double) value ) );
+			}
+			else if ( valueClass == Float.class ) {
+				writer.writeByte( TAG_FLOAT );
+				writer.writeInt( Float.floatToRawIntBits( (Float) value ) );
+			}
+			else if ( valueClass == Character.class ) {
+				writer.writeByte( TAG_CHAR );
+				writer.writeVarLong( (Character) value );
+			}
+			else if ( valueClass == byte[].class ) {
+				writer.writeByte( TAG_BYTES );
+				writer.writeBytes( (byte[]) value );
+			}
+			else if ( valueClass == BigDecimal.class ) {
+				final BigDecimal decimal = (BigDecimal) value;
+				writer.writeByte( TAG_BIG_DECIMAL );
+				writer.writeVarLong( zigZag( decimal.scale() ) );
+				writer.writeBytes( decimal.unscaledValue().toByteArray() );
+			}
+			else if ( valueClass == BigInteger.class ) {
+				writer.writeByte( TAG_BIG_INTEGER );
+				writer.writeBytes( ( (BigInteger) value ).toByteArray() );
+			}
+			else if ( valueClass == UUID.class ) {
+				final UUID uuid = (UUID) value;
+				writer.writeByte( TAG_UUID );
+				writer.writeLong( uuid.getMostSignificantBits() );
+				writer.writeLong( uuid.getLeastSignificantBits() );
+			}
+			else if ( valueClass == Timestamp.class ) {
+				final Timestamp timestamp = (Timestamp) value;
+				writer.writeByte( TAG_SQL_TIMESTAMP );
+				writer.writeVarLong( zigZag( timestamp.getTime() ) );
+				writer.writeVarLong( timestamp.getNanos() );
+			}
+			else if ( valueClass == java.sql.Date.class ) {
+				writer.writeByte( TAG_SQL_DATE );
+				writer.writeVarLong( zigZag( ( (Date) value ).getTime() ) );
+			}
+			else if ( valueClass == Time.class ) {
+				writer.writeByte( TAG_SQL_TIME );
+				writer.writeVarLong( zigZag( ( (Date) value ).getTime() ) );
+			}
+			else if ( valueClass == Date.class ) {
+				writer.writeByte( TAG_UTIL_DATE );
+				writer.writeVarLong( zigZag( ( (Date) value ).getTime() ) );
+			}
+			else if ( valueClass == Instant.class ) {
+				final Instant instant = (Instant) value;
+				writer.writeByte( TAG_INSTANT );
+				writer.writeVarLong( zigZag( instant.getEpochSecond() ) );
+				writer.writeVarLong( instant.getNano() );
+			}
+			else if ( valueClass == LocalDate.class ) {
+				writer.writeByte( TAG_LOCAL_DATE );
+				writer.writeVarLong( zigZag( ( (LocalDate) value ).toEpochDay() ) );
+			}
+			else if ( valueClass == LocalDateTime.class ) {
+				final LocalDateTime dateTime = (LocalDateTime) value;
+				writer.writeByte( TAG_LOCAL_DATE_TIME );
+				writer.writeVarLong( zigZag( dateTime.toLocalDate().toEpochDay() ) );
+				writer.writeVarLong( dateTime.toLocalTime().toNanoOfDay() );
+			}
+			else if ( valueClass == LocalTime.class ) {
+				writer.writeByte( TAG_LOCAL_TIME );
+				writer.writeVarLong( ( (LocalTime) value ).toNanoOfDay() );
+			}
+			else if ( valueClass == Object[].class ) {
+				// the disassembled state of a component
+				final Object[] values = (Object[]) value;
+				writer.writeByte( TAG_ARRAY );
+				writer.writeVarInt( values.length );
+				for ( Object element : values ) {
+					writeValue( writer, element );
+				}
+			}
+			else {
+				writer.writeByte( TAG_SERIALIZED );
+				writer.writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+			}
+		}
+	}
+
+	private static Object readValue(Reader reader) {
+		final byte tag = reader.readByte();
+		switch ( tag ) {
+			case TAG_NULL:
+				return null;
+			case TAG_UNFETCHED:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case TAG_UNKNOWN:
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case TAG_FALSE:
+				return Boolean.FALSE;
+			case TAG_TRUE:
+				return Boolean.TRUE;
+			case TAG_BYTE:
+				return reader.readByte();
+			case TAG_SHORT:
+				return (short) unZigZag( reader.readVarLong() );
+			case TAG_INT:
+				return (int) unZigZag( reader.readVarLong() );
+			case TAG_LONG:
+				return unZigZag( reader.readVarLong() );
+			case TAG_FLOAT:
+				return Float.intBitsToFloat( reader.readInt() );
+			case TAG_DOUBLE:
+				return Double.longBitsToDouble( reader.readLong() );
+			case TAG_CHAR:
+				return (char) reader.readVarLong();
+			case TAG_STRING:
+				return reader.readString();
+			case TAG_BYTES:
+				return reader.readBytes();
+			case TAG_BIG_DECIMAL: {
+				final int scale = (int) unZigZag( reader.readVarLong() );
+				return new BigDecimal( new BigInteger( reader.readBytes() ), scale );
+			}
+			case TAG_BIG_INTEGER:
+				return new BigInteger( reader.readBytes() );
+			case TAG_UUID:
+				return new UUID( reader.readLong(), reader.readLong() );
+			case TAG_UTIL_DATE:
+				return new Date( unZigZag( reader.readVarLong() ) );
+			case TAG_SQL_DATE:
+				return new java.sql.Date( unZigZag( reader.readVarLong() ) );
+			case TAG_SQL_TIME:
+				return new Time( unZigZag( reader.readVarLong() ) );
+			case TAG_SQL_TIMESTAMP: {
+				final Timestamp timestamp = new Timestamp( unZigZag( reader.readVarLong() ) );
+				timestamp.setNanos( (int) reader.readVarLong() );
+				return timestamp;
+			}
+			case TAG_INSTANT: {
+				final long seconds = unZigZag( reader.readVarLong() );
+				return Instant.ofEpochSecond( seconds, reader.readVarLong() );
+			}
+			case TAG_LOCAL_DATE:
+				return LocalDate.ofEpochDay( unZigZag( reader.readVarLong() ) );
+			case TAG_LOCAL_DATE_TIME: {
+				final LocalDate date = LocalDate.ofEpochDay( unZigZag( reader.readVarLong() ) );
+				return LocalDateTime.of( date, LocalTime.ofNanoOfDay( reader.readVarLong() ) );
+			}
+			case TAG_LOCAL_TIME:
+				return LocalTime.ofNanoOfDay( reader.readVarLong() );
+			case TAG_ARRAY: {
+				final Object[] values = new Object[ reader.readVarInt() ];
+				for ( int i = 0; i < values.length; i++ ) {
+					values[i] = readValue( reader );
+				}
+				return values;
+			}
+			case TAG_SERIALIZED:
+				return SerializationHelper.deserialize( reader.readBytes() );
+			default:
+				throw new CacheException( "Unexpected tag [" + tag + "] in compact cache entry" );
+		}
+	}
+
+	private static long zigZag(long value) {
+		return ( value << 1 ) ^ ( value >> 63 );
+	}
+
+	private static long unZigZag(long value) {
+		return ( value >>> 1 ) ^ -( value & 1 );
+	}
+
+	private static final class Writer {
+		private byte[] buffer;
+		private int position;
+
+		private Writer(int initialSize) {
+			this.buffer = new byte[initialSize];
+		}
+
+		private void ensureCapacity(int additional) {
+			if ( position + additional > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length * 2, position + additional ) );
+			}
+		}
+
+		private void writeByte(byte value) {
+			ensureCapacity( 1 );
+			buffer[position++] = value;
+		}
+
+		private void writeInt(int value) {
+			ensureCapacity( 4 );
+			buffer[position++] = (byte) ( value >>> 24 );
+			buffer[position++] = (byte) ( value >>> 16 );
+			buffer[position++] = (byte) ( value >>> 8 );
+			buffer[position++] = (byte) value;
+		}
+
+		private void writeLong(long value) {
+			writeInt( (int) ( value >>> 32 ) );
+			writeInt( (int) value );
+		}
+
+		private void writeVarInt(int value) {
+			writeVarLong( value & 0xFFFFFFFFL );
+		}
+
+		private void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				buffer[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		private void writeBytes(byte[] bytes) {
+			writeVarInt( bytes.length );
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, buffer, position, bytes.length );
+			position += bytes.length;
+		}
+
+		private void writeString(String value) {
+			writeBytes( value.getBytes( StandardCharsets.UTF_8 ) );
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf( buffer, position );
+		}
+	}
+
+	private static final class Reader {
+		private final byte[] buffer;
+		private int position;
+
+		private Reader(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		private byte readByte() {
+			return buffer[position++];
+		}
+
+		private int readInt() {
+			return ( ( buffer[position++] & 0xFF ) << 24 )
+					| ( ( buffer[position++] & 0xFF ) << 16 )
+					| ( ( buffer[position++] & 0xFF ) << 8 )
+					| ( buffer[position++] & 0xFF );
+		}
+
+		private long readLong() {
+			return ( (long) readInt() << 32 ) | ( readInt() & 0xFFFFFFFFL );
+		}
+
+		private int readVarInt() {
+			return (int) readVarLong();
+		}
+
+		private long readVarLong() {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = buffer[position++];
+				value |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			} while ( ( b & 0x80 ) != 0 );
+			return value;
+		}
+
+		private byte[] readBytes() {
+			final int length = readVarInt();
+			final byte[] bytes = Arrays.copyOfRange( buffer, position, position + length );
+			position += length;
+			return bytes;
+		}
+
+		private String readString() {
+			final int length = readVarInt();
+			final String value = new String( buffer, position, length, StandardCharsets.UTF_8 );
+			position += length;
+			return value;
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Compact representation of a disassembled collection state made only of {@link Long}, {@link Integer}
+ * or {@link UUID} values, which is the case of collections of entities with simple numeric or UUID
+ * identifiers.  The values are stored in a primitive array ({@code long[]}, {@code int[]}, or a
+ * {@code long[]} holding the most and least significant bits of each UUID) rather than as an array of
+ * references to boxed values, which is both smaller on the heap and much cheaper to serialize.
+ */
+final class PackedIdentifiers implements Serializable {
+	private static final byte LONG = 0;
+	private static final byte INTEGER = 1;
+	private static final byte UUID_BITS = 2;
+
+	private final byte kind;
+	private final long[] longs;
+	private final int[] ints;
+
+	private PackedIdentifiers(byte kind, long[] longs, int[] ints) {
+		this.kind = kind;
+		this.longs = longs;
+		this.ints = ints;
+	}
+
+	/**
+	 * Pack the given disassembled state, if possible.
+	 *
+	 * @return The packed state, or the given state unchanged if it is not an array of non-null
+	 * {@code Long}, {@code Integer} or {@code UUID} values
+	 */
+	static Serializable pack(Serializable state) {
+		if ( !( state instanceof Serializable[] ) ) {
+			return state;
+		}
+		final Serializable[] values = (Serializable[]) state;
+		if ( values.length == 0 || values[0] == null ) {
+			return state;
+		}
+
+		final Class valueClass = values[0].getClass();
+		for ( Serializable value : values ) {
+			if ( value == null || value.getClass() != valueClass ) {
+				return state;
+			}
+		}
+
+		if ( valueClass == Long.class ) {
+			final long[] longs = new long[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				longs[i] = (Long) values[i];
+			}
+			return new PackedIdentifiers( LONG, longs, null );
+		}
+		else if ( valueClass == Integer.class ) {
+			final int[] ints = new int[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				ints[i] = (Integer) values[i];
+			}
+			return new PackedIdentifiers( INTEGER, null, ints );
+		}
+		else if ( valueClass == UUID.class ) {
+			final long[] longs = new long[values.length * 2];
+			for ( int i = 0; i < values.length; i++ ) {
+				final UUID uuid = (UUID) values[i];
+				longs[2 * i] = uuid.getMostSignificantBits();
+				longs[2 * i + 1] = uuid.getLeastSignificantBits();
+			}
+			return new PackedIdentifiers( UUID_BITS, longs, null );
+		}
+		return state;
+	}
+
+	/**
+	 * Reverse of {@link #pack}
+	 */
+	static Serializable unpack(Serializable state) {
+		return state instanceof PackedIdentifiers ? ( (PackedIdentifiers) state ).toArray() : state;
+	}
+
+	private Serializable[] toArray() {
+		final Serializable[] values;
+		switch ( kind ) {
+			case LONG: {
+				values = new Serializable[longs.length];
+				for ( int i = 0; i < longs.length; i++ ) {
+					values[i] = longs[i];
+				}
+				break;
+			}
+			case INTEGER: {
+				values = new Serializable[ints.length];
+				for ( int i = 0; i < ints.length; i++ ) {
+					values[i] = ints[i];
+				}
+				break;
+			}
+			default: {
+				values = new Serializable[longs.length / 2];
+				for ( int i = 0; i < values.length; i++ ) {
+					values[i] = new UUID( longs[2 * i], longs[2 * i + 1] );
+				}
+			}
+		}
+		return values;
+	}
+}
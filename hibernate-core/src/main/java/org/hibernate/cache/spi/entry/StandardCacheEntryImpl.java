@@ -152,9 +152,7 @@ public class StandardCacheEntryImpl implements CacheEntry {
 				.getServiceRegistry()
 				.getService( EventListenerRegistry.class )
 				.getEventListenerGroup( EventType.PRE_LOAD );
-		for ( PreLoadEventListener listener : listenerGroup.listeners() ) {
-			listener.onPreLoad( preLoadEvent );
-		}
+		listenerGroup.fireEventOnEachListener( preLoadEvent, PreLoadEventListener::onPreLoad );
 
 		persister.setPropertyValues( instance, state );
 
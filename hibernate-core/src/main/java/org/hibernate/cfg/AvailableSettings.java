@@ -858,6 +858,20 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String USE_REFLECTION_OPTIMIZER = "hibernate.bytecode.use_reflection_optimizer";
 
+	/**
+	 * Should field and JavaBean-style property access go through {@link java.lang.invoke.MethodHandle}s
+	 * bound to the field or getter/setter when the persisters are built, rather than through
+	 * {@link java.lang.reflect.Field} and {@link java.lang.reflect.Method} reflection on each access?
+	 * Unlike {@link #USE_REFLECTION_OPTIMIZER}, this applies to non-public members as well.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @see org.hibernate.property.access.internal.PropertyAccessStrategyMethodHandleImpl
+	 *
+	 * @since 5.4
+	 */
+	String USE_METHOD_HANDLES = "hibernate.bytecode.use_method_handles";
+
 	/**
 	 * Configure the global BytecodeProvider implementation to generate class names matching the
 	 * existing naming patterns.
@@ -1115,6 +1129,23 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enable use of compact, binary second-level cache entries for entities.  The entity state is
+	 * written as a schema-versioned {@code byte[]} instead of an array of boxed values, which reduces
+	 * heap usage and the size of the entries shipped to off-heap or remote cache tiers.  Takes
+	 * precedence over {@link #USE_STRUCTURED_CACHE}.
+	 * <p/>
+	 * Also applies to collections whose cached state is made only of {@code Long}, {@code Integer} or
+	 * {@code UUID} values, e.g. the identifiers of the elements of a collection of entities, which is
+	 * then kept as a primitive array.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 * @see org.hibernate.cache.spi.entry.CollectionCacheEntry
+	 */
+	String USE_COMPACT_CACHE_ENTRIES = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Enables the automatic eviction of a bi-directional association's collection cache when an element in the
 	 * ManyToOne collection is added/updated/removed without properly managing the change on the OneToMany side.
@@ -1220,6 +1251,59 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
 
+	/**
+	 * Names a file holding the {@link org.hibernate.engine.query.spi.HQLQueryPlan} keys (query string, enabled
+	 * filters and shallow flag) to pre-compile into the {@link org.hibernate.engine.query.spi.QueryPlanCache}
+	 * when the SessionFactory is built.  The file is typically produced by enabling
+	 * {@link #QUERY_PLAN_CACHE_RECORD}.  A missing file is silently ignored.
+	 *
+	 * @since 5.4
+	 */
+	String QUERY_PLAN_CACHE_WARM_UP_FILE = "hibernate.query.plan_cache_warm_up_file";
+
+	/**
+	 * Should the keys of the HQL query plans held by the {@link org.hibernate.engine.query.spi.QueryPlanCache} be
+	 * written to the {@link #QUERY_PLAN_CACHE_WARM_UP_FILE} when the SessionFactory is closed?  Default is
+	 * {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String QUERY_PLAN_CACHE_RECORD = "hibernate.query.plan_cache_record";
+
+	/**
+	 * Should the {@link org.hibernate.engine.query.spi.QueryPlanCache} warm-up from
+	 * {@link #QUERY_PLAN_CACHE_WARM_UP_FILE} happen on a background thread rather than blocking the SessionFactory
+	 * build?  Default is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String QUERY_PLAN_CACHE_WARM_UP_IN_BACKGROUND = "hibernate.query.plan_cache_warm_up_in_background";
+
+	/**
+	 * How HQL queries are normalized before looking up their plan in the
+	 * {@link org.hibernate.engine.query.spi.QueryPlanCache}, so that queries differing only in whitespace
+	 * ({@code whitespace}), or also in the values of their string and integer literals ({@code literals}), share
+	 * the same plan.  Accepts the names of the {@link org.hibernate.engine.query.spi.QueryPlanCacheNormalization}
+	 * values.
+	 * <p/>
+	 * Default is {@code none}
+	 *
+	 * @since 5.4
+	 */
+	String QUERY_PLAN_CACHE_NORMALIZATION = "hibernate.query.plan_cache_normalization";
+
+	/**
+	 * Should HQL constructor expressions ({@code select new com.acme.Dto(...)}) of scalar values be
+	 * instantiated straight from the JDBC ResultSet, through a {@link java.lang.invoke.MethodHandle} built once
+	 * per query plan which reads each argument and calls the constructor, rather than by reading a tuple and
+	 * passing it to {@link java.lang.reflect.Constructor#newInstance}?
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 5.4
+	 */
+	String QUERY_DIRECT_DTO_PROJECTION = "hibernate.query.direct_dto_projection";
+
 	/**
 	 * Should we not use contextual LOB creation (aka based on {@link java.sql.Connection#createBlob()} et al).
 	 */
@@ -1593,6 +1677,18 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String STATEMENT_INSPECTOR = "hibernate.session_factory.statement_inspector";
 
+	/**
+	 * The maximum number of persistence contexts and action queues of closed Sessions kept by the
+	 * {@link org.hibernate.SessionFactory} for reuse by the Sessions it opens next, rather than building them
+	 * again for each Session.  They are only kept if nothing of their previous Session remains in them once
+	 * cleared, and only for Sessions closed outside of a transaction.
+	 * <p/>
+	 * Default is {@code 0}, meaning no recycling
+	 *
+	 * @since 5.4
+	 */
+	String SESSION_RECYCLING_POOL_SIZE = "hibernate.session_factory.session_recycling_pool_size";
+
 	String ENABLE_LAZY_LOAD_NO_TRANS = "hibernate.enable_lazy_load_no_trans";
 
 	String HQL_BULK_ID_STRATEGY = "hibernate.hql.bulk_id_strategy";
@@ -1674,6 +1770,19 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String GENERATE_STATISTICS = "hibernate.generate_statistics";
 
+	/**
+	 * Enable the collection of per-SQL-statement execution time histograms, in addition to the other
+	 * statistics.  Only has an effect when statistics are enabled (see {@link #GENERATE_STATISTICS}).
+	 * The number of distinct SQL statements tracked is bounded by {@link #QUERY_STATISTICS_MAX_SIZE}.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @see org.hibernate.stat.Statistics#getSqlStatementStatistics(String)
+	 *
+	 * @since 5.4
+	 */
+	String SQL_STATEMENT_STATISTICS = "hibernate.statistics.sql_statements";
+
 	/**
 	 * A setting to control whether to {@link org.hibernate.engine.internal.StatisticalLoggingSessionEventListener} is
 	 * enabled on all Sessions (unless explicitly disabled for a given Session).  The default value of this
@@ -1687,6 +1796,38 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String AUTO_SESSION_EVENTS_LISTENER = "hibernate.session.events.auto";
 
+	/**
+	 * Enables the {@link org.hibernate.engine.internal.DiagnosticSessionEventListener} on all Sessions, which
+	 * detects repeated fetches of the same entity or collection role within a Session (the "N+1 selects" pattern)
+	 * and slow statements, and reports them through {@link org.hibernate.stat.Statistics#getPerformanceFindings()}.
+	 * Findings are only reported when statistics are enabled (see {@link #GENERATE_STATISTICS}).
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 5.4
+	 */
+	String SESSION_EVENTS_DIAGNOSTICS = "hibernate.session.events.diagnostics";
+
+	/**
+	 * The number of times an entity or collection role has to be fetched from the database within a single
+	 * Session before it is reported as a repeated fetch by {@link #SESSION_EVENTS_DIAGNOSTICS}.
+	 * <p/>
+	 * Default is {@code 10}
+	 *
+	 * @since 5.4
+	 */
+	String SESSION_EVENTS_DIAGNOSTICS_FETCH_THRESHOLD = "hibernate.session.events.diagnostics.fetch_threshold";
+
+	/**
+	 * The execution time, in milliseconds, above which a statement is reported as slow by
+	 * {@link #SESSION_EVENTS_DIAGNOSTICS}.
+	 * <p/>
+	 * Default is {@code 1000}
+	 *
+	 * @since 5.4
+	 */
+	String SESSION_EVENTS_DIAGNOSTICS_SLOW_STATEMENT_THRESHOLD = "hibernate.session.events.diagnostics.slow_statement_threshold";
+
 	/**
 	 * Global setting for whether NULL parameter bindings should be passed to database
 	 * procedure/function calls as part of {@link org.hibernate.procedure.ProcedureCall}
@@ -1835,6 +1976,20 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String CRITERIA_LITERAL_HANDLING_MODE = "hibernate.criteria.literal_handling_mode";
 
+	/**
+	 * Should the interpretation of JPA Criteria queries be cached by the structure of the criteria tree?
+	 * <p/>
+	 * Criteria queries are typically built anew for each execution.  When enabled, a structural key is
+	 * computed from the criteria tree (with literals rendered as parameters normalized away) and, for
+	 * the supported subset of the Criteria API, queries of the same shape re-use one interpretation
+	 * instead of being rendered to JPQL again.
+	 * <p/>
+	 * The default value is {@code false}
+	 *
+	 * @since 5.4
+	 */
+	String CRITERIA_PLAN_CACHE = "hibernate.criteria.plan_cache";
+
 	/**
 	 * True/false setting indicating whether the value specified for {@link GeneratedValue#generator()}
 	 * should be used as the sequence/table name when no matching {@link javax.persistence.SequenceGenerator}
@@ -11,14 +11,22 @@ import java.util.List;
 
 import org.hibernate.HibernateException;
 import org.hibernate.SessionEventListener;
+import org.hibernate.engine.internal.DiagnosticSessionEventListener;
 import org.hibernate.engine.internal.StatisticalLoggingSessionEventListener;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * @author Steve Ebersole
  */
 public class BaselineSessionEventsListenerBuilder {
+	public static final int DEFAULT_DIAGNOSTICS_FETCH_THRESHOLD = 10;
+	public static final int DEFAULT_DIAGNOSTICS_SLOW_STATEMENT_THRESHOLD = 1000;
+
 	private boolean logSessionMetrics;
 	private Class<? extends SessionEventListener> autoListener;
+	private boolean diagnostics;
+	private int diagnosticsFetchThreshold = DEFAULT_DIAGNOSTICS_FETCH_THRESHOLD;
+	private long diagnosticsSlowStatementThreshold = DEFAULT_DIAGNOSTICS_SLOW_STATEMENT_THRESHOLD;
 
 	public BaselineSessionEventsListenerBuilder(
 			boolean logSessionMetrics,
@@ -47,11 +55,55 @@ public class BaselineSessionEventsListenerBuilder {
 		this.autoListener = autoListener;
 	}
 
+	public boolean isDiagnostics() {
+		return diagnostics;
+	}
+
+	public void setDiagnostics(boolean diagnostics) {
+		this.diagnostics = diagnostics;
+	}
+
+	public int getDiagnosticsFetchThreshold() {
+		return diagnosticsFetchThreshold;
+	}
+
+	public void setDiagnosticsFetchThreshold(int diagnosticsFetchThreshold) {
+		this.diagnosticsFetchThreshold = diagnosticsFetchThreshold;
+	}
+
+	/**
+	 * @return The slow statement threshold, in milliseconds
+	 */
+	public long getDiagnosticsSlowStatementThreshold() {
+		return diagnosticsSlowStatementThreshold;
+	}
+
+	public void setDiagnosticsSlowStatementThreshold(long diagnosticsSlowStatementThreshold) {
+		this.diagnosticsSlowStatementThreshold = diagnosticsSlowStatementThreshold;
+	}
+
 	public List<SessionEventListener> buildBaselineList() {
+		return buildBaselineList( null );
+	}
+
+	/**
+	 * @param statistics The statistics to report diagnostic findings to; diagnostics are not enabled if
+	 * {@code null}
+	 */
+	public List<SessionEventListener> buildBaselineList(StatisticsImplementor statistics) {
 		List<SessionEventListener> list = new ArrayList<SessionEventListener>();
 		if ( logSessionMetrics && StatisticalLoggingSessionEventListener.isLoggingEnabled() ) {
 			list.add( new StatisticalLoggingSessionEventListener() );
 		}
+		if ( diagnostics && statistics != null ) {
+			list.add(
+					new DiagnosticSessionEventListener(
+							statistics,
+							diagnosticsFetchThreshold,
+							diagnosticsSlowStatementThreshold
+					)
+			);
+		}
 		if ( autoListener != null ) {
 			try {
 				list.add( autoListener.newInstance() );
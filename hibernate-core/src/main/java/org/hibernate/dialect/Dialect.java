@@ -2935,6 +2935,20 @@ public abstract class Dialect implements ConversionContext {
 		return false;
 	}
 
+	/**
+	 * Does this dialect/database support non-query statements (e.g. UPDATE, DELETE) within a CTE (Common Table
+	 * Expression), whose effects are all applied by the enclosing statement?
+	 * <p/>
+	 * For example, "with ids as ( select ... ), d as ( delete from A where ... ) delete from B where ...".
+	 *
+	 * @return {@code true} if data-modifying statements are supported within CTE
+	 *
+	 * @since 5.4
+	 */
+	public boolean supportsDataModifyingCTE() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect/database support VALUES list (e.g. VALUES (1), (2), (3) )
 	 *
@@ -0,0 +1,279 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.graph.spi.AttributeNodeImplementor;
+import org.hibernate.graph.spi.GraphImplementor;
+import org.hibernate.graph.spi.SubGraphImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+
+/**
+ * Initializes the associations described by an entity graph for a set of already loaded entities, one
+ * association level at a time: all uninitialized proxies of an entity type and all uninitialized collections
+ * of a role found at one level of the graph are loaded together using an {@code IN} restriction (split only
+ * according to {@link org.hibernate.dialect.Dialect#getInExpressionCountLimit()}), instead of one by one as
+ * they are touched.
+ *
+ * @see org.hibernate.annotations.QueryHints#BATCH_GRAPH
+ * @see org.hibernate.graph.EntityGraphs#batchLoad
+ */
+public final class BatchGraphLoader {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BatchGraphLoader.class );
+
+	private final SessionImplementor session;
+	private final int inListLimit;
+
+	private final Map<GraphImplementor<?>, Set<Object>> visited = new IdentityHashMap<>();
+
+	private BatchGraphLoader(SessionImplementor session) {
+		this.session = session;
+		this.inListLimit = session.getJdbcServices().getDialect().getInExpressionCountLimit();
+	}
+
+	/**
+	 * Initialize the graph for the given entities.  Elements of {@code roots} which are not instances of the
+	 * graph's type (scalars, tuples, other entities) are ignored.
+	 *
+	 * @param session The session the entities are associated with
+	 * @param roots The entities
+	 * @param graph The graph to initialize
+	 */
+	public static void load(SessionImplementor session, Collection<?> roots, GraphImplementor<?> graph) {
+		if ( roots.isEmpty() ) {
+			return;
+		}
+
+		final Class<?> rootType = graph.getGraphedType().getJavaType();
+		final BatchGraphLoader loader = new BatchGraphLoader( session );
+		List<Node> level = new ArrayList<>();
+		for ( Object root : roots ) {
+			if ( root != null && ( rootType == null || rootType.isInstance( root ) ) ) {
+				loader.addNode( level, root, graph );
+			}
+		}
+
+		int depth = 0;
+		while ( !level.isEmpty() ) {
+			LOG.debugf( "Initializing %s entities at entity graph level %s", level.size(), depth++ );
+			level = loader.processLevel( level );
+		}
+	}
+
+	private List<Node> processLevel(List<Node> level) {
+		initializeProxies( level );
+
+		final Map<String, List<PersistentCollection>> uninitializedCollections = new LinkedHashMap<>();
+		final List<AssociationValue> values = new ArrayList<>();
+		for ( Node node : level ) {
+			if ( node.graph == null ) {
+				continue;
+			}
+			final Object entity = unproxy( node.entity );
+			final EntityPersister persister = session.getEntityPersister( null, entity );
+			for ( AttributeNodeImplementor<?> attributeNode : node.graph.getAttributeNodeImplementors() ) {
+				final Integer index = persister.getEntityMetamodel().getPropertyIndexOrNull(
+						attributeNode.getAttributeName()
+				);
+				if ( index == null ) {
+					continue;
+				}
+				final Type type = persister.getPropertyTypes()[index];
+				if ( !type.isAssociationType() ) {
+					continue;
+				}
+				final Object value = persister.getPropertyValue( entity, index );
+				if ( value == null ) {
+					continue;
+				}
+				if ( type.isCollectionType() ) {
+					if ( value instanceof PersistentCollection && !( (PersistentCollection) value ).wasInitialized() ) {
+						uninitializedCollections.computeIfAbsent(
+								( (PersistentCollection) value ).getRole(),
+								role -> new ArrayList<>()
+						).add( (PersistentCollection) value );
+					}
+					final boolean entityElements = ( (CollectionType) type ).getElementType( session.getFactory() ).isEntityType();
+					values.add( new AssociationValue( value, entityElements, attributeNode ) );
+				}
+				else {
+					values.add( new AssociationValue( value, type.isEntityType(), attributeNode ) );
+				}
+			}
+		}
+
+		for ( Map.Entry<String, List<PersistentCollection>> entry : uninitializedCollections.entrySet() ) {
+			initializeCollections( entry.getKey(), entry.getValue() );
+		}
+
+		final List<Node> nextLevel = new ArrayList<>();
+		for ( AssociationValue value : values ) {
+			if ( !value.entityValued ) {
+				continue;
+			}
+			for ( Object element : value.elements() ) {
+				if ( element == null ) {
+					continue;
+				}
+				final Map<? extends Class<?>, ? extends SubGraphImplementor<?>> subGraphs = value.attributeNode.getSubGraphMap();
+				if ( subGraphs.isEmpty() ) {
+					addNode( nextLevel, element, null );
+					continue;
+				}
+				for ( SubGraphImplementor<?> subGraph : subGraphs.values() ) {
+					final Class<?> subGraphType = subGraph.getGraphedType().getJavaType();
+					if ( subGraphType == null || subGraphType.isInstance( element ) ) {
+						addNode( nextLevel, element, subGraph );
+					}
+				}
+			}
+		}
+		return nextLevel;
+	}
+
+	private void addNode(List<Node> level, Object entity, GraphImplementor<?> graph) {
+		// guards against cycles in the data as well as in (shared) sub-graphs
+		final Set<Object> seen = visited.computeIfAbsent(
+				graph,
+				g -> Collections.newSetFromMap( new IdentityHashMap<>() )
+		);
+		if ( seen.add( entity ) ) {
+			level.add( new Node( entity, graph ) );
+		}
+	}
+
+	private void initializeProxies(List<Node> level) {
+		final Map<String, List<LazyInitializer>> proxiesByEntityName = new LinkedHashMap<>();
+		final Set<Object> seen = Collections.newSetFromMap( new IdentityHashMap<>() );
+		for ( Node node : level ) {
+			if ( node.entity instanceof HibernateProxy && seen.add( node.entity ) ) {
+				final LazyInitializer initializer = ( (HibernateProxy) node.entity ).getHibernateLazyInitializer();
+				if ( initializer.isUninitialized() ) {
+					proxiesByEntityName.computeIfAbsent( initializer.getEntityName(), name -> new ArrayList<>() )
+							.add( initializer );
+				}
+			}
+		}
+
+		for ( Map.Entry<String, List<LazyInitializer>> entry : proxiesByEntityName.entrySet() ) {
+			final EntityPersister persister = session.getFactory().getMetamodel().entityPersister( entry.getKey() );
+			final String idName = persister.getIdentifierPropertyName();
+			if ( idName == null || persister.getIdentifierType().isComponentType() ) {
+				for ( LazyInitializer initializer : entry.getValue() ) {
+					initializer.initialize();
+				}
+				continue;
+			}
+			final List<Serializable> ids = new ArrayList<>( entry.getValue().size() );
+			for ( LazyInitializer initializer : entry.getValue() ) {
+				ids.add( initializer.getIdentifier() );
+			}
+			executeInChunks(
+					"select e from " + persister.getEntityName() + " e where e." + idName + " in (:ids)",
+					ids
+			);
+		}
+	}
+
+	private void initializeCollections(String role, List<PersistentCollection> collections) {
+		final CollectionPersister collectionPersister = session.getFactory().getMetamodel().collectionPersister( role );
+		final EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
+		final String idName = ownerPersister.getIdentifierPropertyName();
+		if ( idName == null
+				|| ownerPersister.getIdentifierType().isComponentType()
+				|| collectionPersister.getCollectionType().getLHSPropertyName() != null ) {
+			for ( PersistentCollection collection : collections ) {
+				Hibernate.initialize( collection );
+			}
+			return;
+		}
+
+		final List<Serializable> ownerIds = new ArrayList<>( collections.size() );
+		for ( PersistentCollection collection : collections ) {
+			ownerIds.add( session.getContextEntityIdentifier( collection.getOwner() ) );
+		}
+		final String path = role.substring( ownerPersister.getEntityName().length() + 1 );
+		executeInChunks(
+				"select distinct o from " + ownerPersister.getEntityName() + " o left join fetch o." + path
+						+ " where o." + idName + " in (:ids)",
+				ownerIds
+		);
+	}
+
+	private void executeInChunks(String hql, List<Serializable> ids) {
+		final int chunkSize = inListLimit > 0 ? inListLimit : ids.size();
+		for ( int start = 0; start < ids.size(); start += chunkSize ) {
+			session.createQuery( hql )
+					.setParameterList( "ids", ids.subList( start, Math.min( ids.size(), start + chunkSize ) ) )
+					.setHibernateFlushMode( FlushMode.MANUAL )
+					.list();
+		}
+	}
+
+	private static Object unproxy(Object entity) {
+		if ( entity instanceof HibernateProxy ) {
+			return ( (HibernateProxy) entity ).getHibernateLazyInitializer().getImplementation();
+		}
+		return entity;
+	}
+
+	private static class Node {
+		private final Object entity;
+		private final GraphImplementor<?> graph;
+
+		private Node(Object entity, GraphImplementor<?> graph) {
+			this.entity = entity;
+			this.graph = graph;
+		}
+	}
+
+	private static class AssociationValue {
+		private final Object value;
+		private final boolean entityValued;
+		private final AttributeNodeImplementor<?> attributeNode;
+
+		private AssociationValue(Object value, boolean entityValued, AttributeNodeImplementor<?> attributeNode) {
+			this.value = value;
+			this.entityValued = entityValued;
+			this.attributeNode = attributeNode;
+		}
+
+		private Collection<?> elements() {
+			if ( value instanceof Map ) {
+				return ( (Map<?, ?>) value ).values();
+			}
+			if ( value instanceof Collection ) {
+				return (Collection<?>) value;
+			}
+			if ( value.getClass().isArray() && !value.getClass().getComponentType().isPrimitive() ) {
+				return Arrays.asList( (Object[]) value );
+			}
+			return Collections.singletonList( value );
+		}
+	}
+}
@@ -78,7 +78,9 @@ public final class Cascade {
 			final Object parent,
 			final Object anything) throws HibernateException {
 
-		if ( persister.hasCascades() || action.requiresNoCascadeChecking() ) { // performance opt
+		// only visit the properties the action may actually cascade to (see EntityMetamodel#getCascadePlan)
+		final int[] cascadePlan = persister.getEntityMetamodel().getCascadePlan( action );
+		if ( cascadePlan.length > 0 ) { // performance opt
 			final boolean traceEnabled = LOG.isTraceEnabled();
 			if ( traceEnabled ) {
 				LOG.tracev( "Processing cascade {0} for: {1}", action, persister.getEntityName() );
@@ -89,7 +91,7 @@ public final class Cascade {
 			final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
 			final boolean hasUninitializedLazyProperties = persister.hasUninitializedLazyProperties( parent );
 			final int componentPathStackDepth = 0;
-			for ( int i = 0; i < types.length; i++) {
+			for ( int i : cascadePlan ) {
 				final CascadeStyle style = cascadeStyles[ i ];
 				final String propertyName = propertyNames[ i ];
 				final boolean isUninitializedProperty =
@@ -193,6 +195,19 @@ public final class Cascade {
 		}
 	}
 
+	/**
+	 * Does cascading the given action from instances of the given entity have any effect?  Callers cascading
+	 * over many entities can use this to skip the ones which have nothing to cascade.
+	 *
+	 * @param action The cascading action
+	 * @param persister The parent's entity persister
+	 *
+	 * @return {@code false} if {@link #cascade} would not visit any property
+	 */
+	public static boolean requiresCascade(final CascadingAction action, final EntityPersister persister) {
+		return persister.getEntityMetamodel().getCascadePlan( action ).length > 0;
+	}
+
 	/**
 	 * Cascade an action to the child or children
 	 */
@@ -0,0 +1,181 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.stat.PerformanceFinding;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Detects performance hot spots in a Session: the same entity or collection role being fetched from the database
+ * over and over (the "N+1 selects" pattern), and statements taking longer than a threshold to execute.  Findings
+ * are attributed to the application call site which triggered them, and reported to the SessionFactory
+ * {@link org.hibernate.stat.Statistics}, which aggregates them across Sessions.
+ * <p/>
+ * The stack is only inspected when something is reported, so the overhead on the regular code path is a map
+ * lookup per fetch and a clock read per statement execution.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SESSION_EVENTS_DIAGNOSTICS
+ */
+public class DiagnosticSessionEventListener extends BaseSessionEventListener {
+	private static final String UNKNOWN_CALL_SITE = "<unknown>";
+
+	private static final String[] FRAMEWORK_PACKAGES = {
+			"org.hibernate.",
+			"java.",
+			"javax.",
+			"jdk.",
+			"sun.",
+			"com.sun."
+	};
+
+	private final transient StatisticsImplementor statistics;
+	private final int fetchThreshold;
+	private final long slowStatementThresholdNanos;
+
+	private Map<String,FetchCount> fetchCounts;
+
+	private long jdbcExecutionStart = -1;
+	private long jdbcBatchExecutionStart = -1;
+	private String executedSql;
+
+	/**
+	 * @param statistics The statistics to report findings to
+	 * @param fetchThreshold The number of fetches of the same entity or collection role within the Session
+	 * above which they are reported
+	 * @param slowStatementThreshold The execution time, in milliseconds, above which a statement is reported
+	 */
+	public DiagnosticSessionEventListener(
+			StatisticsImplementor statistics,
+			int fetchThreshold,
+			long slowStatementThreshold) {
+		this.statistics = statistics;
+		this.fetchThreshold = fetchThreshold;
+		this.slowStatementThresholdNanos = TimeUnit.MILLISECONDS.toNanos( slowStatementThreshold );
+	}
+
+	@Override
+	public void entityFetch(String entityName) {
+		fetched( entityName, PerformanceFinding.Type.REPEATED_ENTITY_FETCH );
+	}
+
+	@Override
+	public void collectionFetch(String role) {
+		fetched( role, PerformanceFinding.Type.REPEATED_COLLECTION_FETCH );
+	}
+
+	private void fetched(String role, PerformanceFinding.Type type) {
+		if ( fetchCounts == null ) {
+			fetchCounts = new HashMap<>();
+		}
+		FetchCount fetchCount = fetchCounts.get( role );
+		if ( fetchCount == null ) {
+			fetchCount = new FetchCount( type );
+			fetchCounts.put( role, fetchCount );
+		}
+		if ( ++fetchCount.count >= fetchThreshold && fetchCount.callSite == null ) {
+			// the fetch which crosses the threshold is usually triggered from within the offending loop
+			fetchCount.callSite = determineCallSite();
+		}
+	}
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		jdbcExecutionStart = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecutedSql(String sql) {
+		executedSql = sql;
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		jdbcExecutionStart = executed( jdbcExecutionStart );
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		jdbcBatchExecutionStart = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		jdbcBatchExecutionStart = executed( jdbcBatchExecutionStart );
+	}
+
+	private long executed(long start) {
+		final String sql = executedSql;
+		executedSql = null;
+		if ( start >= 0 ) {
+			final long elapsed = System.nanoTime() - start;
+			if ( elapsed >= slowStatementThresholdNanos && isReporting() ) {
+				statistics.performanceFinding(
+						PerformanceFinding.Type.SLOW_STATEMENT,
+						sql,
+						determineCallSite(),
+						TimeUnit.NANOSECONDS.toMillis( elapsed )
+				);
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public void end() {
+		if ( fetchCounts == null || !isReporting() ) {
+			return;
+		}
+		for ( Map.Entry<String,FetchCount> entry : fetchCounts.entrySet() ) {
+			final FetchCount fetchCount = entry.getValue();
+			if ( fetchCount.count >= fetchThreshold ) {
+				statistics.performanceFinding( fetchCount.type, entry.getKey(), fetchCount.callSite, fetchCount.count );
+			}
+		}
+		fetchCounts = null;
+	}
+
+	private boolean isReporting() {
+		return statistics != null && statistics.isStatisticsEnabled();
+	}
+
+	private static String determineCallSite() {
+		for ( StackTraceElement element : new Throwable().getStackTrace() ) {
+			if ( !isFrameworkClass( element.getClassName() ) ) {
+				return element.toString();
+			}
+		}
+		return UNKNOWN_CALL_SITE;
+	}
+
+	private static boolean isFrameworkClass(String className) {
+		if ( className.contains( "$HibernateProxy$" ) ) {
+			return true;
+		}
+		for ( String frameworkPackage : FRAMEWORK_PACKAGES ) {
+			if ( className.startsWith( frameworkPackage ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static class FetchCount implements Serializable {
+		private final PerformanceFinding.Type type;
+		private int count;
+		private String callSite;
+
+		private FetchCount(PerformanceFinding.Type type) {
+			this.type = type;
+		}
+	}
+}
@@ -10,8 +10,11 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.AssertionFailure;
@@ -99,10 +102,8 @@ public class NaturalIdXrefDelegate {
 		final NaturalIdResolutionCache entityNaturalIdResolutionCache = naturalIdResolutionCacheMap.get( persister );
 		Object[] sessionCachedNaturalIdValues = null;
 		if ( entityNaturalIdResolutionCache != null ) {
-			final CachedNaturalId cachedNaturalId = entityNaturalIdResolutionCache.pkToNaturalIdMap
-					.remove( pk );
+			final CachedNaturalId cachedNaturalId = entityNaturalIdResolutionCache.remove( pk );
 			if ( cachedNaturalId != null ) {
-				entityNaturalIdResolutionCache.naturalIdToPkMap.remove( cachedNaturalId );
 				sessionCachedNaturalIdValues = cachedNaturalId.getValues();
 			}
 		}
@@ -272,8 +273,7 @@ public class NaturalIdXrefDelegate {
 				}
 			}
 
-			entityNaturalIdResolutionCache.pkToNaturalIdMap.put( pk, cachedNaturalId );
-			entityNaturalIdResolutionCache.naturalIdToPkMap.put( cachedNaturalId, pk );
+			entityNaturalIdResolutionCache.put( pk, cachedNaturalId );
 		}
 		else if ( factory.getStatistics().isStatisticsEnabled() ) {
 			factory.getStatistics().naturalIdCacheMiss(
@@ -285,6 +285,32 @@ public class NaturalIdXrefDelegate {
 		return pk;
 	}
 
+	/**
+	 * Given a persister defining a simple (single attribute) natural id and its value, find the locally
+	 * cross-referenced primary key without allocating a lookup key.  Only natural ids whose type compares values
+	 * using their {@link Object#equals}/{@link Object#hashCode} are indexed this way; for any other natural id, or
+	 * while invalid natural id references are stashed for the persister, {@code null} is returned and the caller
+	 * should fall back to {@link #findCachedNaturalIdResolution}.
+	 *
+	 * @param persister The persister representing the entity type.
+	 * @param naturalIdValue The natural id value
+	 *
+	 * @return The corresponding cross-referenced primary key, or {@code null} if none
+	 */
+	public Serializable findCachedSimpleNaturalIdResolution(EntityPersister persister, Object naturalIdValue) {
+		if ( naturalIdValue == null ) {
+			return null;
+		}
+		persister = locatePersisterForKey( persister );
+		final NaturalIdResolutionCache entityNaturalIdResolutionCache = naturalIdResolutionCacheMap.get( persister );
+		if ( entityNaturalIdResolutionCache == null
+				|| entityNaturalIdResolutionCache.simpleNaturalIdToPkMap == null
+				|| entityNaturalIdResolutionCache.hasInvalidNaturalIdReferences() ) {
+			return null;
+		}
+		return entityNaturalIdResolutionCache.simpleNaturalIdToPkMap.get( naturalIdValue );
+	}
+
 	/**
 	 * Return all locally cross-referenced primary keys for the given persister.  Used as part of load
 	 * synchronization process.
@@ -411,6 +437,27 @@ public class NaturalIdXrefDelegate {
 		}
 	}
 
+	/**
+	 * Value types whose {@link Type#isEqual}/{@link Type#getHashCode} agree with the value's own
+	 * equals/hashCode, making them usable directly as keys of the simple natural id index.
+	 */
+	private static final Set<Class> SIMPLE_NATURAL_ID_KEY_TYPES = new HashSet<>(
+			Arrays.<Class>asList(
+					String.class,
+					Long.class,
+					Integer.class,
+					Short.class,
+					Byte.class,
+					Character.class,
+					UUID.class,
+					long.class,
+					int.class,
+					short.class,
+					byte.class,
+					char.class
+			)
+	);
+
 	/**
 	 * Represents the persister-specific cross-reference cache.
 	 */
@@ -420,10 +467,19 @@ public class NaturalIdXrefDelegate {
 		private Map<Serializable, CachedNaturalId> pkToNaturalIdMap = new ConcurrentHashMap<>();
 		private Map<CachedNaturalId, Serializable> naturalIdToPkMap = new ConcurrentHashMap<>();
 
+		// index of simple natural ids keyed by the raw natural id value, null if the natural id does not qualify
+		private final Map<Object, Serializable> simpleNaturalIdToPkMap;
+
 		private List<CachedNaturalId> invalidNaturalIdList;
 
 		private NaturalIdResolutionCache(EntityPersister persister) {
 			this.persister = persister;
+
+			final int[] naturalIdPropertyIndexes = persister.getNaturalIdentifierProperties();
+			this.simpleNaturalIdToPkMap = naturalIdPropertyIndexes.length == 1
+					&& SIMPLE_NATURAL_ID_KEY_TYPES.contains( persister.getPropertyTypes()[naturalIdPropertyIndexes[0]].getReturnedClass() )
+					? new ConcurrentHashMap<>()
+					: null;
 		}
 
 		public EntityPersister getPersister() {
@@ -453,15 +509,37 @@ public class NaturalIdXrefDelegate {
 					return false;
 				}
 				naturalIdToPkMap.remove( initial );
+				removeSimpleNaturalId( pk, initial );
 			}
 
-			final CachedNaturalId cachedNaturalId = new CachedNaturalId( persister, naturalIdValues );
-			pkToNaturalIdMap.put( pk, cachedNaturalId );
-			naturalIdToPkMap.put( cachedNaturalId, pk );
+			put( pk, new CachedNaturalId( persister, naturalIdValues ) );
 			
 			return true;
 		}
 
+		private void put(Serializable pk, CachedNaturalId cachedNaturalId) {
+			pkToNaturalIdMap.put( pk, cachedNaturalId );
+			naturalIdToPkMap.put( cachedNaturalId, pk );
+			if ( simpleNaturalIdToPkMap != null && cachedNaturalId.getValues()[0] != null ) {
+				simpleNaturalIdToPkMap.put( cachedNaturalId.getValues()[0], pk );
+			}
+		}
+
+		private CachedNaturalId remove(Serializable pk) {
+			final CachedNaturalId cachedNaturalId = pkToNaturalIdMap.remove( pk );
+			if ( cachedNaturalId != null ) {
+				naturalIdToPkMap.remove( cachedNaturalId );
+				removeSimpleNaturalId( pk, cachedNaturalId );
+			}
+			return cachedNaturalId;
+		}
+
+		private void removeSimpleNaturalId(Serializable pk, CachedNaturalId cachedNaturalId) {
+			if ( simpleNaturalIdToPkMap != null && cachedNaturalId.getValues()[0] != null ) {
+				simpleNaturalIdToPkMap.remove( cachedNaturalId.getValues()[0], pk );
+			}
+		}
+
 		public void stashInvalidNaturalIdReference(Object[] invalidNaturalIdValues) {
 			if ( invalidNaturalIdList == null ) {
 				invalidNaturalIdList = new ArrayList<>();
@@ -469,6 +547,10 @@ public class NaturalIdXrefDelegate {
 			invalidNaturalIdList.add( new CachedNaturalId( persister, invalidNaturalIdValues ) );
 		}
 
+		public boolean hasInvalidNaturalIdReferences() {
+			return invalidNaturalIdList != null && !invalidNaturalIdList.isEmpty();
+		}
+
 		public boolean containsInvalidNaturalIdReference(Object[] naturalIdValues) {
 			return invalidNaturalIdList != null
 					&& invalidNaturalIdList.contains( new CachedNaturalId( persister, naturalIdValues ) );
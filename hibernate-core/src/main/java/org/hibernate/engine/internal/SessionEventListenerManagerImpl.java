@@ -259,6 +259,39 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void entityFetch(String entityName) {
+		if ( listenerList == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listenerList ) {
+			listener.entityFetch( entityName );
+		}
+	}
+
+	@Override
+	public void collectionFetch(String role) {
+		if ( listenerList == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listenerList ) {
+			listener.collectionFetch( role );
+		}
+	}
+
+	@Override
+	public void jdbcExecutedSql(String sql) {
+		if ( listenerList == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listenerList ) {
+			listener.jdbcExecutedSql( sql );
+		}
+	}
+
 	@Override
 	public void end() {
 		if ( listenerList == null ) {
@@ -151,34 +151,43 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		this.session = session;
 
 		entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
-		entitiesByUniqueKey = new HashMap<>( INIT_COLL_SIZE );
-		//noinspection unchecked
-		proxiesByKey = new ConcurrentReferenceHashMap<>(
-				INIT_COLL_SIZE,
-				.75f,
-				1,
-				ConcurrentReferenceHashMap.ReferenceType.STRONG,
-				ConcurrentReferenceHashMap.ReferenceType.WEAK,
-				null
-		);
-		entitySnapshotsByKey = new HashMap<>( INIT_COLL_SIZE );
 
 		entityEntryContext = new EntityEntryContext( this );
 //		entityEntries = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
 		collectionEntries = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
-		parentsByChild = new IdentityHashMap<>( INIT_COLL_SIZE );
 
 		collectionsByKey = new HashMap<>( INIT_COLL_SIZE );
-		arrayHolders = new IdentityHashMap<>( INIT_COLL_SIZE );
 
-		nullifiableEntityKeys = new HashSet<>();
+		// the remaining structures are not needed by many (short) sessions, and are created on first use
+	}
 
-		initTransientState();
+	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
+		if ( proxiesByKey == null ) {
+			//noinspection unchecked
+			proxiesByKey = new ConcurrentReferenceHashMap<>(
+					INIT_COLL_SIZE,
+					.75f,
+					1,
+					ConcurrentReferenceHashMap.ReferenceType.STRONG,
+					ConcurrentReferenceHashMap.ReferenceType.WEAK,
+					null
+			);
+		}
+		return proxiesByKey;
 	}
 
-	private void initTransientState() {
-		nullAssociations = new HashSet<>( INIT_COLL_SIZE );
-		nonlazyCollections = new ArrayList<>( INIT_COLL_SIZE );
+	private Map<EntityKey, Object> getOrInitializeEntitySnapshotsByKey() {
+		if ( entitySnapshotsByKey == null ) {
+			entitySnapshotsByKey = new HashMap<>( INIT_COLL_SIZE );
+		}
+		return entitySnapshotsByKey;
+	}
+
+	private Map<Object, Object> getOrInitializeParentsByChild() {
+		if ( parentsByChild == null ) {
+			parentsByChild = new IdentityHashMap<>( INIT_COLL_SIZE );
+		}
+		return parentsByChild;
 	}
 
 	@Override
@@ -222,12 +231,14 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void clear() {
-		for ( Object o : proxiesByKey.values() ) {
-			if ( o == null ) {
-				//entry may be GCd
-				continue;
+		if ( proxiesByKey != null ) {
+			for ( Object o : proxiesByKey.values() ) {
+				if ( o == null ) {
+					//entry may be GCd
+					continue;
+				}
+				((HibernateProxy) o).getHibernateLazyInitializer().unsetSession();
 			}
-			((HibernateProxy) o).getHibernateLazyInitializer().unsetSession();
 		}
 
 		for ( Entry<Object, EntityEntry> objectEntityEntryEntry : entityEntryContext.reentrantSafeEntityEntries() ) {
@@ -244,20 +255,20 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			aCollectionEntryArray.getKey().unsetSession( getSession() );
 		}
 
-		arrayHolders.clear();
+		arrayHolders = null;
 		entitiesByKey.clear();
-		entitiesByUniqueKey.clear();
+		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
 //		entityEntries.clear();
-		parentsByChild.clear();
-		entitySnapshotsByKey.clear();
+		parentsByChild = null;
+		entitySnapshotsByKey = null;
 		collectionsByKey.clear();
 		collectionEntries.clear();
 		if ( unownedCollections != null ) {
 			unownedCollections.clear();
 		}
-		proxiesByKey.clear();
-		nullifiableEntityKeys.clear();
+		proxiesByKey = null;
+		nullifiableEntityKeys = null;
 		if ( batchFetchQueue != null ) {
 			batchFetchQueue.clear();
 		}
@@ -269,6 +280,51 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		naturalIdXrefDelegate.clear();
 	}
 
+	/**
+	 * Checks that this context, {@link #clear() cleared} on close of its session, holds nothing of that session
+	 * anymore, and unbinds it from that session so that it can be {@link #reuse reused} by another one.
+	 *
+	 * @return {@code false} if some state of the closed session remains, in which case this context must not
+	 * be reused
+	 */
+	public boolean resetForReuse() {
+		if ( cascading != 0 || loadCounter != 0 || removeOrphanBeforeUpdatesCounter != 0 || flushing ) {
+			// closed in the middle of an operation
+			return false;
+		}
+		if ( !entitiesByKey.isEmpty()
+				|| entitiesByUniqueKey != null
+				|| entityEntryContext.getNumberOfManagedEntities() != 0
+				|| proxiesByKey != null
+				|| entitySnapshotsByKey != null
+				|| arrayHolders != null
+				|| parentsByChild != null
+				|| !collectionsByKey.isEmpty()
+				|| !collectionEntries.isEmpty()
+				|| ( unownedCollections != null && !unownedCollections.isEmpty() )
+				|| ( loadContexts != null && ( loadContexts.hasLoadingCollectionEntries()
+						|| loadContexts.hasRegisteredLoadingCollectionEntries() ) ) ) {
+			return false;
+		}
+
+		nullifiableEntityKeys = null;
+		nullAssociations = null;
+		nonlazyCollections = null;
+		defaultReadOnly = false;
+		hasNonReadOnlyEntities = false;
+		session = null;
+		return true;
+	}
+
+	/**
+	 * Binds this context, {@link #resetForReuse() reset} on close of its previous session, to the given session.
+	 *
+	 * @param session The session now "owning" this context.
+	 */
+	public void reuse(SharedSessionContractImplementor session) {
+		this.session = session;
+	}
+
 	@Override
 	public boolean isDefaultReadOnly() {
 		return defaultReadOnly;
@@ -315,13 +371,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public Object[] getDatabaseSnapshot(Serializable id, EntityPersister persister) throws HibernateException {
 		final EntityKey key = session.generateEntityKey( id, persister );
-		final Object cached = entitySnapshotsByKey.get( key );
+		final Object cached = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( key );
 		if ( cached != null ) {
 			return cached == NO_ROW ? null : (Object[]) cached;
 		}
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
-			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
+			getOrInitializeEntitySnapshotsByKey().put( key, snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
 		}
 	}
@@ -379,7 +435,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Object[] getCachedDatabaseSnapshot(EntityKey key) {
-		final Object snapshot = entitySnapshotsByKey.get( key );
+		final Object snapshot = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( key );
 		if ( snapshot == NO_ROW ) {
 			throw new IllegalStateException(
 					"persistence context reported no row snapshot for "
@@ -410,16 +466,24 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public Object removeEntity(EntityKey key) {
 		final Object entity = entitiesByKey.remove( key );
-		final Iterator itr = entitiesByUniqueKey.values().iterator();
-		while ( itr.hasNext() ) {
-			if ( itr.next() == entity ) {
-				itr.remove();
+		if ( entitiesByUniqueKey != null ) {
+			final Iterator itr = entitiesByUniqueKey.values().iterator();
+			while ( itr.hasNext() ) {
+				if ( itr.next() == entity ) {
+					itr.remove();
+				}
 			}
 		}
 		// Clear all parent cache
-		parentsByChild.clear();
-		entitySnapshotsByKey.remove( key );
-		nullifiableEntityKeys.remove( key );
+		if ( parentsByChild != null ) {
+			parentsByChild.clear();
+		}
+		if ( entitySnapshotsByKey != null ) {
+			entitySnapshotsByKey.remove( key );
+		}
+		if ( nullifiableEntityKeys != null ) {
+			nullifiableEntityKeys.remove( key );
+		}
 		if( batchFetchQueue != null ) {
 			getBatchFetchQueue().removeBatchLoadableEntityKey(key);
 			getBatchFetchQueue().removeSubselect(key);
@@ -429,11 +493,14 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Object getEntity(EntityUniqueKey euk) {
-		return entitiesByUniqueKey.get( euk );
+		return entitiesByUniqueKey == null ? null : entitiesByUniqueKey.get( euk );
 	}
 
 	@Override
 	public void addEntity(EntityUniqueKey euk, Object entity) {
+		if ( entitiesByUniqueKey == null ) {
+			entitiesByUniqueKey = new HashMap<>( INIT_COLL_SIZE );
+		}
 		entitiesByUniqueKey.put( euk, entity );
 	}
 
@@ -566,7 +633,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public boolean containsProxy(Object entity) {
-		return proxiesByKey.containsValue( entity );
+		return proxiesByKey != null && proxiesByKey.containsValue( entity );
 	}
 
 	@Override
@@ -604,7 +671,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			final EntityPersister persister = session.getFactory().getMetamodel().entityPersister( li.getEntityName() );
 			final EntityKey key = session.generateEntityKey( li.getIdentifier(), persister );
 		  	// any earlier proxy takes precedence
-			proxiesByKey.putIfAbsent( key, proxy );
+			getOrInitializeProxiesByKey().putIfAbsent( key, proxy );
 			proxy.getHibernateLazyInitializer().setSession( session );
 		}
 	}
@@ -666,7 +733,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			// If an impl is passed, there is really no point in creating a proxy.
 			// It would just be extra processing.  Just return the impl
 			if ( object != null ) {
-				proxiesByKey.remove( key );
+				removeProxyByKey( key );
 				return object;
 			}
 
@@ -677,7 +744,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				final Object impl = originalHibernateProxy.getHibernateLazyInitializer().getImplementation();
 				// can we return it?
 				if ( concreteProxyClass.isInstance( impl ) ) {
-					proxiesByKey.remove( key );
+					removeProxyByKey( key );
 					return impl;
 				}
 			}
@@ -707,7 +774,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		if ( !persister.hasProxy() ) {
 			return impl;
 		}
-		final Object proxy = proxiesByKey.get( key );
+		final Object proxy = getProxy( key );
 		return ( proxy != null ) ? narrowProxy( proxy, persister, key, impl ) : impl;
 	}
 
@@ -907,6 +974,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void addNonLazyCollection(PersistentCollection collection) {
+		if ( nonlazyCollections == null ) {
+			nonlazyCollections = new ArrayList<>( INIT_COLL_SIZE );
+		}
 		nonlazyCollections.add( collection );
 	}
 
@@ -922,7 +992,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			loadCounter++;
 			try {
 				int size;
-				while ( ( size = nonlazyCollections.size() ) > 0 ) {
+				while ( nonlazyCollections != null && ( size = nonlazyCollections.size() ) > 0 ) {
 					//note that each iteration of the loop may add new elements
 					nonlazyCollections.remove( size - 1 ).forceInitialization();
 				}
@@ -936,18 +1006,21 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public PersistentCollection getCollectionHolder(Object array) {
-		return arrayHolders.get( array );
+		return arrayHolders == null ? null : arrayHolders.get( array );
 	}
 
 	@Override
 	public void addCollectionHolder(PersistentCollection holder) {
 		//TODO:refactor + make this method private
+		if ( arrayHolders == null ) {
+			arrayHolders = new IdentityHashMap<>( INIT_COLL_SIZE );
+		}
 		arrayHolders.put( holder.getValue(), holder );
 	}
 
 	@Override
 	public PersistentCollection removeCollectionHolder(Object array) {
-		return arrayHolders.remove( array );
+		return arrayHolders == null ? null : arrayHolders.remove( array );
 	}
 
 	@Override
@@ -983,12 +1056,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Object getProxy(EntityKey key) {
-		return proxiesByKey.get( key );
+		return proxiesByKey == null ? null : proxiesByKey.get( key );
 	}
 
 	@Override
 	public void addProxy(EntityKey key, Object proxy) {
-		proxiesByKey.put( key, proxy );
+		getOrInitializeProxiesByKey().put( key, proxy );
 	}
 
 	@Override
@@ -997,11 +1070,18 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			batchFetchQueue.removeBatchLoadableEntityKey( key );
 			batchFetchQueue.removeSubselect( key );
 		}
-		return proxiesByKey.remove( key );
+		return removeProxyByKey( key );
+	}
+
+	private Object removeProxyByKey(EntityKey key) {
+		return proxiesByKey == null ? null : proxiesByKey.remove( key );
 	}
 
 	@Override
 	public HashSet getNullifiableEntityKeys() {
+		if ( nullifiableEntityKeys == null ) {
+			nullifiableEntityKeys = new HashSet<>();
+		}
 		return nullifiableEntityKeys;
 	}
 
@@ -1011,7 +1091,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	}
 
 	public Map getProxiesByKey() {
-		return proxiesByKey;
+		return getOrInitializeProxiesByKey();
 	}
 
 	@Override
@@ -1138,7 +1218,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		final CollectionPersister collectionPersister = session.getFactory().getMetamodel().collectionPersister( collectionRole );
 
 	    // try cache lookup first
-		final Object parent = parentsByChild.get( childEntity );
+		final Object parent = parentsByChild == null ? null : parentsByChild.get( childEntity );
 		if ( parent != null ) {
 			final EntityEntry entityEntry = entityEntryContext.getEntityEntry( parent );
 			//there maybe more than one parent, filter by type
@@ -1257,7 +1337,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		final CollectionPersister cp = session.getFactory().getMetamodel().collectionPersister( entity + '.' + property );
 
 	    // try cache lookup first
-		final Object parent = parentsByChild.get( childEntity );
+		final Object parent = parentsByChild == null ? null : parentsByChild.get( childEntity );
 		if ( parent != null ) {
 			final EntityEntry entityEntry = entityEntryContext.getEntityEntry( parent );
 			//there maybe more than one parent, filter by type
@@ -1329,16 +1409,21 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void addNullProperty(EntityKey ownerKey, String propertyName) {
+		if ( nullAssociations == null ) {
+			nullAssociations = new HashSet<>( INIT_COLL_SIZE );
+		}
 		nullAssociations.add( new AssociationKey( ownerKey, propertyName ) );
 	}
 
 	@Override
 	public boolean isPropertyNull(EntityKey ownerKey, String propertyName) {
-		return nullAssociations.contains( new AssociationKey( ownerKey, propertyName ) );
+		return nullAssociations != null && nullAssociations.contains( new AssociationKey( ownerKey, propertyName ) );
 	}
 
 	private void clearNullProperties() {
-		nullAssociations.clear();
+		if ( nullAssociations != null ) {
+			nullAssociations.clear();
+		}
 	}
 
 	@Override
@@ -1410,7 +1495,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public void replaceDelayedEntityIdentityInsertKeys(EntityKey oldKey, Serializable generatedId) {
 		final Object entity = entitiesByKey.remove( oldKey );
 		final EntityEntry oldEntry = entityEntryContext.removeEntityEntry( entity );
-		parentsByChild.clear();
+		if ( parentsByChild != null ) {
+			parentsByChild.clear();
+		}
 
 		final EntityKey newKey = session.generateEntityKey( generatedId, oldEntry.getPersister() );
 		addEntity( newKey, entity );
@@ -1453,31 +1540,46 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			oos.writeObject( entry.getValue() );
 		}
 
-		oos.writeInt( entitiesByUniqueKey.size() );
-		if ( tracing ) {
-			LOG.trace( "Starting serialization of [" + entitiesByUniqueKey.size() + "] entitiesByUniqueKey entries" );
+		if ( entitiesByUniqueKey == null ) {
+			oos.writeInt( 0 );
 		}
-		for ( Map.Entry<EntityUniqueKey,Object> entry : entitiesByUniqueKey.entrySet() ) {
-			entry.getKey().serialize( oos );
-			oos.writeObject( entry.getValue() );
+		else {
+			oos.writeInt( entitiesByUniqueKey.size() );
+			if ( tracing ) {
+				LOG.trace( "Starting serialization of [" + entitiesByUniqueKey.size() + "] entitiesByUniqueKey entries" );
+			}
+			for ( Map.Entry<EntityUniqueKey,Object> entry : entitiesByUniqueKey.entrySet() ) {
+				entry.getKey().serialize( oos );
+				oos.writeObject( entry.getValue() );
+			}
 		}
 
-		oos.writeInt( proxiesByKey.size() );
-		if ( tracing ) {
-			LOG.trace( "Starting serialization of [" + proxiesByKey.size() + "] proxiesByKey entries" );
+		if ( proxiesByKey == null ) {
+			oos.writeInt( 0 );
 		}
-		for ( Map.Entry<EntityKey,Object> entry : proxiesByKey.entrySet() ) {
-			entry.getKey().serialize( oos );
-			oos.writeObject( entry.getValue() );
+		else {
+			oos.writeInt( proxiesByKey.size() );
+			if ( tracing ) {
+				LOG.trace( "Starting serialization of [" + proxiesByKey.size() + "] proxiesByKey entries" );
+			}
+			for ( Map.Entry<EntityKey,Object> entry : proxiesByKey.entrySet() ) {
+				entry.getKey().serialize( oos );
+				oos.writeObject( entry.getValue() );
+			}
 		}
 
-		oos.writeInt( entitySnapshotsByKey.size() );
-		if ( tracing ) {
-			LOG.trace( "Starting serialization of [" + entitySnapshotsByKey.size() + "] entitySnapshotsByKey entries" );
+		if ( entitySnapshotsByKey == null ) {
+			oos.writeInt( 0 );
 		}
-		for ( Map.Entry<EntityKey,Object> entry : entitySnapshotsByKey.entrySet() ) {
-			entry.getKey().serialize( oos );
-			oos.writeObject( entry.getValue() );
+		else {
+			oos.writeInt( entitySnapshotsByKey.size() );
+			if ( tracing ) {
+				LOG.trace( "Starting serialization of [" + entitySnapshotsByKey.size() + "] entitySnapshotsByKey entries" );
+			}
+			for ( Map.Entry<EntityKey,Object> entry : entitySnapshotsByKey.entrySet() ) {
+				entry.getKey().serialize( oos );
+				oos.writeObject( entry.getValue() );
+			}
 		}
 
 		entityEntryContext.serialize( oos );
@@ -1500,21 +1602,31 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			entry.getValue().serialize( oos );
 		}
 
-		oos.writeInt( arrayHolders.size() );
-		if ( tracing ) {
-			LOG.trace( "Starting serialization of [" + arrayHolders.size() + "] arrayHolders entries" );
+		if ( arrayHolders == null ) {
+			oos.writeInt( 0 );
 		}
-		for ( Map.Entry<Object,PersistentCollection> entry : arrayHolders.entrySet() ) {
-			oos.writeObject( entry.getKey() );
-			oos.writeObject( entry.getValue() );
+		else {
+			oos.writeInt( arrayHolders.size() );
+			if ( tracing ) {
+				LOG.trace( "Starting serialization of [" + arrayHolders.size() + "] arrayHolders entries" );
+			}
+			for ( Map.Entry<Object,PersistentCollection> entry : arrayHolders.entrySet() ) {
+				oos.writeObject( entry.getKey() );
+				oos.writeObject( entry.getValue() );
+			}
 		}
 
-		oos.writeInt( nullifiableEntityKeys.size() );
-		if ( tracing ) {
-			LOG.trace( "Starting serialization of [" + nullifiableEntityKeys.size() + "] nullifiableEntityKey entries" );
+		if ( nullifiableEntityKeys == null ) {
+			oos.writeInt( 0 );
 		}
-		for ( EntityKey entry : nullifiableEntityKeys ) {
-			entry.serialize( oos );
+		else {
+			oos.writeInt( nullifiableEntityKeys.size() );
+			if ( tracing ) {
+				LOG.trace( "Starting serialization of [" + nullifiableEntityKeys.size() + "] nullifiableEntityKey entries" );
+			}
+			for ( EntityKey entry : nullifiableEntityKeys ) {
+				entry.serialize( oos );
+			}
 		}
 	}
 
@@ -1655,12 +1767,14 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void addChildParent(Object child, Object parent) {
-		parentsByChild.put( child, parent );
+		getOrInitializeParentsByChild().put( child, parent );
 	}
 
 	@Override
 	public void removeChildParent(Object child) {
-		parentsByChild.remove( child );
+		if ( parentsByChild != null ) {
+			parentsByChild.remove( child );
+		}
 	}
 
 
@@ -1952,6 +2066,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			return naturalIdXrefDelegate.findCachedNaturalIdResolution( locateProperPersister( persister ), naturalIdValues );
 		}
 
+		@Override
+		public Serializable findCachedSimpleNaturalIdResolution(EntityPersister persister, Object naturalIdValue) {
+			return naturalIdXrefDelegate.findCachedSimpleNaturalIdResolution( locateProperPersister( persister ), naturalIdValue );
+		}
+
 		@Override
 		public Object[] extractNaturalIdValues(Object[] state, EntityPersister persister) {
 			final int[] naturalIdPropertyIndexes = persister.getNaturalIdentifierProperties();
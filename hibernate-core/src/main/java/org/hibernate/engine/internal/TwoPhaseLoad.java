@@ -199,9 +199,7 @@ public final class TwoPhaseLoad {
 					.getServiceRegistry()
 					.getService( EventListenerRegistry.class )
 					.getEventListenerGroup( EventType.PRE_LOAD );
-			for ( PreLoadEventListener listener : listenerGroup.listeners() ) {
-				listener.onPreLoad( preLoadEvent );
-			}
+			listenerGroup.fireEventOnEachListener( preLoadEvent, PreLoadEventListener::onPreLoad );
 		}
 
 		persister.setPropertyValues( entity, hydratedState );
@@ -404,9 +402,7 @@ public final class TwoPhaseLoad {
 							.getServiceRegistry()
 							.getService( EventListenerRegistry.class )
 							.getEventListenerGroup( EventType.POST_LOAD );
-			for ( PostLoadEventListener listener : listenerGroup.listeners() ) {
-				listener.onPostLoad( postLoadEvent );
-			}
+			listenerGroup.fireEventOnEachListener( postLoadEvent, PostLoadEventListener::onPostLoad );
 		}
 	}
 
@@ -13,6 +13,7 @@ import java.sql.Blob;
 import java.sql.SQLException;
 
 import org.hibernate.engine.jdbc.internal.BinaryStreamImpl;
+import org.hibernate.engine.jdbc.internal.StreamBackedBinaryStream;
 import org.hibernate.type.descriptor.java.DataHelper;
 
 /**
@@ -175,45 +176,6 @@ public final class BlobProxy implements Blob, BlobImplementer {
 		return DataHelper.subStream( getStream(), start-1, intLength );
 	}
 
-	private static class StreamBackedBinaryStream implements BinaryStream {
-
-		private final InputStream stream;
-		private final long length;
-		private byte[] bytes;
-
-		private StreamBackedBinaryStream(InputStream stream, long length) {
-			this.stream = stream;
-			this.length = length;
-		}
-
-		@Override
-		public InputStream getInputStream() {
-			return stream;
-		}
-
-		@Override
-		public byte[] getBytes() {
-			if ( bytes == null ) {
-				bytes = DataHelper.extractBytes( stream );
-			}
-			return bytes;
-		}
-
-		@Override
-		public long getLength() {
-			return (int) length;
-		}
-
-		@Override
-		public void release() {
-			try {
-				stream.close();
-			}
-			catch (IOException ignore) {
-			}
-		}
-	}
-
 	private static UnsupportedOperationException notSupported() {
 		return new UnsupportedOperationException( "Blob may not be manipulated from creating session" );
 	}
@@ -6,11 +6,18 @@
  */
 package org.hibernate.engine.jdbc;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
 
 /**
  * Stream copying utilities
@@ -59,6 +66,122 @@ public class StreamUtils {
 		return count;
 	}
 
+	/**
+	 * Copy the inputStream to the channel.  Uses a buffer of the default size ({@link #DEFAULT_CHUNK_SIZE}).
+	 *
+	 * @param inputStream The input stream to read
+	 * @param channel The channel to write to
+	 *
+	 * @return The number of bytes read
+	 *
+	 * @throws IOException If a problem occurred accessing either the stream or the channel
+	 *
+	 * @since 5.4
+	 */
+	public static long copy(InputStream inputStream, WritableByteChannel channel) throws IOException {
+		return copy( inputStream, channel, DEFAULT_CHUNK_SIZE );
+	}
+
+	/**
+	 * Copy the inputStream to the channel using a buffer of the specified size.  When the inputStream is a
+	 * {@link FileInputStream} the bytes are handed directly from its {@link FileChannel} to the target channel,
+	 * which allows the platform to avoid copying them through the heap at all.
+	 *
+	 * @param inputStream The input stream to read
+	 * @param channel The channel to write to
+	 * @param bufferSize The size of the buffer to use for reading
+	 *
+	 * @return The number of bytes read
+	 *
+	 * @throws IOException If a problem occurred accessing either the stream or the channel
+	 *
+	 * @since 5.4
+	 */
+	public static long copy(InputStream inputStream, WritableByteChannel channel, int bufferSize)
+			throws IOException {
+		if ( inputStream instanceof FileInputStream ) {
+			final FileChannel fileChannel = ( (FileInputStream) inputStream ).getChannel();
+			final long start = fileChannel.position();
+			final long size = fileChannel.size();
+			long position = start;
+			while ( position < size ) {
+				position += fileChannel.transferTo( position, size - position, channel );
+			}
+			fileChannel.position( position );
+			return position - start;
+		}
+
+		final byte[] buffer = new byte[bufferSize];
+		final ByteBuffer byteBuffer = ByteBuffer.wrap( buffer );
+		long count = 0;
+		int n;
+		while ( -1 != ( n = inputStream.read( buffer ) ) ) {
+			byteBuffer.clear().limit( n );
+			while ( byteBuffer.hasRemaining() ) {
+				channel.write( byteBuffer );
+			}
+			count += n;
+		}
+		return count;
+	}
+
+	/**
+	 * Copy the content of the Blob to the outputStream, without reading the whole content into memory.
+	 *
+	 * @param blob The Blob to read
+	 * @param outputStream The output stream to write to
+	 *
+	 * @return The number of bytes read
+	 *
+	 * @throws SQLException If a problem occurred accessing the Blob
+	 * @throws IOException If a problem occurred accessing either stream
+	 *
+	 * @since 5.4
+	 */
+	public static long copy(Blob blob, OutputStream outputStream) throws SQLException, IOException {
+		try ( InputStream inputStream = blob.getBinaryStream() ) {
+			return copy( inputStream, outputStream );
+		}
+	}
+
+	/**
+	 * Copy the content of the Blob to the channel, without reading the whole content into memory.
+	 *
+	 * @param blob The Blob to read
+	 * @param channel The channel to write to
+	 *
+	 * @return The number of bytes read
+	 *
+	 * @throws SQLException If a problem occurred accessing the Blob
+	 * @throws IOException If a problem occurred accessing either the stream or the channel
+	 *
+	 * @since 5.4
+	 */
+	public static long copy(Blob blob, WritableByteChannel channel) throws SQLException, IOException {
+		try ( InputStream inputStream = blob.getBinaryStream() ) {
+			return copy( inputStream, channel );
+		}
+	}
+
+	/**
+	 * Copy the content of the Clob to the writer, without reading the whole content into memory.
+	 *
+	 * @param clob The Clob to read
+	 * @param writer The writer to write to
+	 *
+	 * @return The number of characters read
+	 *
+	 * @throws SQLException If a problem occurred accessing the Clob
+	 * @throws IOException If a problem occurred accessing the reader or writer
+	 *
+	 * @since 5.4
+	 */
+	public static long copy(Clob clob, Writer writer) throws SQLException, IOException {
+		try ( Reader reader = clob.getCharacterStream() ) {
+			return copy( reader, writer );
+		}
+	}
+
 	/**
 	 * Copy the reader to the writer.  Uses a buffer of the default size ({@link #DEFAULT_CHUNK_SIZE}).
 	 *
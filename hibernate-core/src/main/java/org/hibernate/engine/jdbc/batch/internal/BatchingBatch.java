@@ -9,11 +9,15 @@ package org.hibernate.engine.jdbc.batch.internal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -108,18 +112,30 @@ public class BatchingBatch extends AbstractBatchImpl {
 
 	private void performExecution() {
 		LOG.debugf( "Executing batch size: %s", batchPosition );
+		final StatisticsImplementor statistics = getSqlStatementStatistics();
 		try {
 			for ( Map.Entry<String,PreparedStatement> entry : getStatements().entrySet() ) {
 				String sql = entry.getKey();
 				try {
 					final PreparedStatement statement = entry.getValue();
 					final int[] rowCounts;
+					final long executeStartNanos = statistics != null ? System.nanoTime() : 0L;
 					try {
 						getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
 						rowCounts = statement.executeBatch();
 					}
 					finally {
-						getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+						final JdbcObserver observer = getJdbcCoordinator().getJdbcSessionOwner()
+								.getJdbcSessionContext()
+								.getObserver();
+						observer.jdbcExecutedSql( sql );
+						observer.jdbcExecuteBatchEnd();
+					}
+					if ( statistics != null ) {
+						statistics.sqlStatementExecuted(
+								sql,
+								TimeUnit.NANOSECONDS.toMicros( System.nanoTime() - executeStartNanos )
+						);
 					}
 					checkRowCounts( rowCounts, statement );
 				}
@@ -140,6 +156,19 @@ public class BatchingBatch extends AbstractBatchImpl {
 		}
 	}
 
+	private StatisticsImplementor getSqlStatementStatistics() {
+		final SessionFactoryImplementor sessionFactory = getJdbcCoordinator().getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory();
+		if ( sessionFactory.getSessionFactoryOptions().isSqlStatementStatisticsEnabled() ) {
+			final StatisticsImplementor statistics = sessionFactory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				return statistics;
+			}
+		}
+		return null;
+	}
+
 	private void checkRowCounts(int[] rowCounts, PreparedStatement ps) throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 && numberOfRowCounts != batchPosition / getStatements().size() ) {
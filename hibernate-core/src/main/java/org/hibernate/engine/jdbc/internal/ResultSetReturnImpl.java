@@ -11,6 +11,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -18,6 +21,9 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Standard implementation of the ResultSetReturn contract
@@ -25,12 +31,32 @@ import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
  * @author Brett Meyer
  */
 public class ResultSetReturnImpl implements ResultSetReturn {
+	private static final long NOT_TIMED = Long.MIN_VALUE;
+
 	private final JdbcCoordinator jdbcCoordinator;
 
 	private final Dialect dialect;
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
 
+	/**
+	 * Only set when SQL statement statistics are enabled
+	 */
+	private final StatisticsImplementor statistics;
+	private long executeStartNanos = NOT_TIMED;
+
+	/**
+	 * Whether the SQL of the prepared statements is remembered, for the SQL statement statistics or for the
+	 * session events diagnostics
+	 */
+	private final boolean trackPreparedSql;
+
+	/**
+	 * The SQL of the prepared statements, weakly keyed as the statements are not always closed through this
+	 * class
+	 */
+	private Map<Statement,String> preparedSql;
+
 	/**
 	 * Constructs a ResultSetReturnImpl
 	 *
@@ -48,6 +74,15 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		final SessionFactoryImplementor sessionFactory = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory();
+		this.statistics = sessionFactory.getSessionFactoryOptions().isSqlStatementStatisticsEnabled()
+				? sessionFactory.getStatistics()
+				: null;
+		this.trackPreparedSql = statistics != null
+				|| sessionFactory.getSessionFactoryOptions().getBaselineSessionEventsListenerBuilder().isDiagnostics();
 	}
 
 	@Override
@@ -60,7 +95,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 				rs = statement.executeQuery();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( statement, null );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -70,12 +105,42 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 	}
 
-	private void jdbcExecuteStatementEnd() {
-		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteStatementEnd();
+	private void jdbcExecuteStatementEnd(Statement statement, String sql) {
+		final long endNanos = executeStartNanos == NOT_TIMED ? 0L : System.nanoTime();
+		final String executedSql = sql != null ? sql : preparedSql == null ? null : preparedSql.get( statement );
+		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		if ( executedSql != null ) {
+			observer.jdbcExecutedSql( executedSql );
+		}
+		observer.jdbcExecuteStatementEnd();
+		if ( executeStartNanos != NOT_TIMED ) {
+			final long microseconds = TimeUnit.NANOSECONDS.toMicros( endNanos - executeStartNanos );
+			executeStartNanos = NOT_TIMED;
+			if ( executedSql != null ) {
+				statistics.sqlStatementExecuted( executedSql, microseconds );
+			}
+		}
 	}
 
 	private void jdbcExecuteStatementStart() {
 		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteStatementStart();
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			executeStartNanos = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Remembers the SQL of a statement prepared by the {@link StatementPreparerImpl}, so that its execution
+	 * can be reported against it.  Only done when SQL statement statistics or session events diagnostics are
+	 * enabled.
+	 */
+	void statementPrepared(Statement statement, String sql) {
+		if ( trackPreparedSql ) {
+			if ( preparedSql == null ) {
+				preparedSql = new WeakHashMap<>();
+			}
+			preparedSql.put( statement, sql );
+		}
 	}
 
 	@Override
@@ -88,7 +153,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 				rs = dialect.getResultSet( callableStatement );
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( callableStatement, null );
 			}
 			postExtract( rs, callableStatement );
 			return rs;
@@ -108,7 +173,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 				rs = statement.executeQuery( sql );
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( statement, sql );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -133,7 +198,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 				rs = statement.getResultSet();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( statement, null );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -158,7 +223,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 				rs = statement.getResultSet();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( statement, sql );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -178,7 +243,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			throw sqlExceptionHelper.convert( e, "could not execute statement" );
 		}
 		finally {
-			jdbcExecuteStatementEnd();
+			jdbcExecuteStatementEnd( statement, null );
 		}
 	}
 
@@ -193,7 +258,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			throw sqlExceptionHelper.convert( e, "could not execute statement" );
 		}
 		finally {
-			jdbcExecuteStatementEnd();
+			jdbcExecuteStatementEnd( statement, sql );
 		}
 	}
 
@@ -187,6 +187,7 @@ class StatementPreparerImpl implements StatementPreparer {
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getResourceRegistry().register( preparedStatement, true );
+			jdbcCoordinator.getResultSetReturn().statementPrepared( preparedStatement, sql );
 //			logicalConnection().notifyObserversStatementPrepared();
 		}
 
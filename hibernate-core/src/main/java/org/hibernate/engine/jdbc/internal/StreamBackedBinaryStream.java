@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.hibernate.engine.jdbc.BinaryStream;
+import org.hibernate.type.descriptor.java.DataHelper;
+
+/**
+ * Implementation of {@link BinaryStream} backed by an {@link InputStream} of known length.  The content is only
+ * read into memory if {@link #getBytes()} is called, so binding through {@link #getInputStream()} streams the
+ * data straight from its source.
+ */
+public final class StreamBackedBinaryStream implements BinaryStream {
+	private final InputStream stream;
+	private final long length;
+	private byte[] bytes;
+
+	/**
+	 * Constructs a StreamBackedBinaryStream
+	 *
+	 * @param stream The stream to read from
+	 * @param length The length of the stream's content, in bytes
+	 */
+	public StreamBackedBinaryStream(InputStream stream, long length) {
+		this.stream = stream;
+		this.length = length;
+	}
+
+	@Override
+	public InputStream getInputStream() {
+		return stream;
+	}
+
+	@Override
+	public byte[] getBytes() {
+		if ( bytes == null ) {
+			bytes = DataHelper.extractBytes( stream );
+		}
+		return bytes;
+	}
+
+	@Override
+	public long getLength() {
+		return length;
+	}
+
+	@Override
+	public void release() {
+		try {
+			stream.close();
+		}
+		catch (IOException ignore) {
+		}
+	}
+}
@@ -143,6 +143,23 @@ public class HQLQueryPlan implements Serializable {
 		}
 	}
 
+	/**
+	 * Constructs a HQLQueryPlan sharing the translation of the given plan
+	 *
+	 * @param plan The plan to share the translation of
+	 * @param sourceQuery The HQL query
+	 * @param parameterMetadata The parameter metadata exposed by this plan
+	 */
+	protected HQLQueryPlan(HQLQueryPlan plan, String sourceQuery, ParameterMetadataImpl parameterMetadata) {
+		this.sourceQuery = sourceQuery;
+		this.translators = plan.translators;
+		this.parameterMetadata = parameterMetadata;
+		this.returnMetadata = plan.returnMetadata;
+		this.querySpaces = plan.querySpaces;
+		this.enabledFilterNames = plan.enabledFilterNames;
+		this.shallow = plan.shallow;
+	}
+
 	public String getSourceQuery() {
 		return sourceQuery;
 	}
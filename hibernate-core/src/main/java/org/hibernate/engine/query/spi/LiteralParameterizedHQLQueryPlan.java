@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.query.spi;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.query.internal.ParameterMetadataImpl;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * The plan of an HQL query whose literals were replaced by parameters when it was
+ * {@link org.hibernate.hql.internal.ast.HqlQueryNormalizer normalized}.  It shares the translation of the plan of
+ * the normalized query, hides the synthetic parameters from the parameter metadata, and binds them to the values
+ * of the literals of this particular query on execution.
+ */
+class LiteralParameterizedHQLQueryPlan extends HQLQueryPlan {
+	private final Map<String, TypedValue> literalParameters;
+
+	LiteralParameterizedHQLQueryPlan(
+			HQLQueryPlan normalizedPlan,
+			String sourceQuery,
+			Map<String, TypedValue> literalParameters) {
+		super( normalizedPlan, sourceQuery, userParameterMetadata( normalizedPlan.getParameterMetadata(), literalParameters ) );
+		this.literalParameters = literalParameters;
+	}
+
+	private static ParameterMetadataImpl userParameterMetadata(
+			ParameterMetadataImpl parameterMetadata,
+			Map<String, TypedValue> literalParameters) {
+		final Map<String, NamedParameterDescriptor> namedDescriptors = new HashMap<>();
+		for ( String name : parameterMetadata.getNamedParameterNames() ) {
+			if ( !literalParameters.containsKey( name ) ) {
+				namedDescriptors.put( name, parameterMetadata.getNamedParameterDescriptor( name ) );
+			}
+		}
+		// literals are not parameterized in queries using ordinal parameters
+		return new ParameterMetadataImpl( null, namedDescriptors );
+	}
+
+	private QueryParameters bindLiterals(QueryParameters queryParameters) {
+		final Map<String, TypedValue> namedParameters = new HashMap<>( literalParameters );
+		if ( queryParameters.getNamedParameters() != null ) {
+			namedParameters.putAll( queryParameters.getNamedParameters() );
+		}
+		queryParameters.setNamedParameters( namedParameters );
+		return queryParameters;
+	}
+
+	@Override
+	public List performList(QueryParameters queryParameters, SharedSessionContractImplementor session)
+			throws HibernateException {
+		return super.performList( bindLiterals( queryParameters ), session );
+	}
+
+	@Override
+	public Iterator performIterate(QueryParameters queryParameters, EventSource session) throws HibernateException {
+		return super.performIterate( bindLiterals( queryParameters ), session );
+	}
+
+	@Override
+	public ScrollableResultsImplementor performScroll(
+			QueryParameters queryParameters,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return super.performScroll( bindLiterals( queryParameters ), session );
+	}
+
+	@Override
+	public int performExecuteUpdate(QueryParameters queryParameters, SharedSessionContractImplementor session)
+			throws HibernateException {
+		return super.performExecuteUpdate( bindLiterals( queryParameters ), session );
+	}
+}
@@ -6,21 +6,31 @@
  */
 package org.hibernate.engine.query.spi;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.Filter;
 import org.hibernate.MappingException;
 import org.hibernate.QueryException;
 import org.hibernate.cfg.Environment;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
+import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.internal.ast.HqlQueryNormalizer;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.FilterImpl;
@@ -28,6 +38,8 @@ import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.ParameterMetadata;
+import org.hibernate.query.criteria.internal.compile.CriteriaQueryPlan;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.internal.ParameterMetadataImpl;
 
 /**
@@ -35,6 +47,8 @@ import org.hibernate.query.internal.ParameterMetadataImpl;
  *
  * @see Environment#QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE
  * @see Environment#QUERY_PLAN_CACHE_MAX_SIZE
+ * @see Environment#QUERY_PLAN_CACHE_WARM_UP_FILE
+ * @see Environment#QUERY_PLAN_CACHE_NORMALIZATION
  *
  * @author Steve Ebersole
  */
@@ -70,6 +84,29 @@ public class QueryPlanCache implements Serializable {
 
 	private NativeQueryInterpreter nativeQueryInterpreter;
 
+	/**
+	 * The file the HQL query plan keys are pre-compiled from and, optionally, recorded to.
+	 */
+	private final String warmUpFile;
+	private final boolean recordOnCleanup;
+	private final boolean warmUpInBackground;
+
+	/**
+	 * The normalization applied to HQL queries before looking up their plan.
+	 */
+	private final QueryPlanCacheNormalization normalization;
+
+	/**
+	 * The normalized form of the recently used HQL query strings, when normalization is enabled, so that
+	 * queries are only lexed once.
+	 */
+	private final BoundedConcurrentHashMap<String, HqlQueryNormalizer.NormalizedQuery> normalizedQueries;
+
+	/**
+	 * The number of distinct query strings mapped to each normalized query, when normalization is enabled.
+	 */
+	private final BoundedConcurrentHashMap<String, LongAdder> normalizedQueryVariants;
+
 	/**
 	 * Constructs the QueryPlanCache to be used by the given SessionFactory
 	 *
@@ -110,6 +147,30 @@ public class QueryPlanCache implements Serializable {
 		);
 
 		nativeQueryInterpreter = factory.getServiceRegistry().getService( NativeQueryInterpreter.class );
+
+		warmUpFile = ConfigurationHelper.getString( Environment.QUERY_PLAN_CACHE_WARM_UP_FILE, factory.getProperties() );
+		recordOnCleanup = warmUpFile != null && ConfigurationHelper.getBoolean(
+				Environment.QUERY_PLAN_CACHE_RECORD,
+				factory.getProperties(),
+				false
+		);
+		warmUpInBackground = ConfigurationHelper.getBoolean(
+				Environment.QUERY_PLAN_CACHE_WARM_UP_IN_BACKGROUND,
+				factory.getProperties(),
+				false
+		);
+
+		normalization = QueryPlanCacheNormalization.interpret(
+				factory.getProperties().get( Environment.QUERY_PLAN_CACHE_NORMALIZATION )
+		);
+		if ( normalization == QueryPlanCacheNormalization.NONE ) {
+			normalizedQueries = null;
+			normalizedQueryVariants = null;
+		}
+		else {
+			normalizedQueries = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+			normalizedQueryVariants = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		}
 	}
 
 	/**
@@ -147,7 +208,67 @@ public class QueryPlanCache implements Serializable {
 	@SuppressWarnings("unchecked")
 	public HQLQueryPlan getHQLQueryPlan(String queryString, boolean shallow, Map<String, Filter> enabledFilters)
 			throws QueryException, MappingException {
-		final HQLQueryPlanKey key = new HQLQueryPlanKey( queryString, shallow, enabledFilters );
+		if ( normalization == QueryPlanCacheNormalization.NONE ) {
+			return getHQLQueryPlan( queryString, queryString, shallow, enabledFilters );
+		}
+
+		final HqlQueryNormalizer.NormalizedQuery normalizedQuery = normalize( queryString, true );
+		final String normalizedQueryString = normalizedQuery.getQuery();
+
+		final HQLQueryPlan plan = getHQLQueryPlan( queryString, normalizedQueryString, shallow, enabledFilters );
+		if ( normalizedQuery.getLiteralParameters().isEmpty() ) {
+			return plan;
+		}
+		return new LiteralParameterizedHQLQueryPlan( plan, queryString, normalizedQuery.getLiteralParameters() );
+	}
+
+	/**
+	 * Get the number of distinct HQL query strings which were mapped to the plan of the given query once
+	 * normalized.
+	 *
+	 * @param queryString The HQL query string
+	 *
+	 * @return The number of distinct query strings, or zero if the query plans are not cached by normalized
+	 * query or if the plan of the query was not requested yet.  A query string evicted from the cache of the
+	 * normalized queries is counted again when used afterwards.
+	 *
+	 * @see Environment#QUERY_PLAN_CACHE_NORMALIZATION
+	 */
+	public int getNormalizedQueryVariantCount(String queryString) {
+		if ( normalization == QueryPlanCacheNormalization.NONE ) {
+			return 0;
+		}
+		final LongAdder variants = normalizedQueryVariants.get( normalize( queryString, false ).getQuery() );
+		return variants == null ? 0 : (int) Math.min( variants.sum(), Integer.MAX_VALUE );
+	}
+
+	/**
+	 * Get the normalized form of the given query, from the cache of the normalized queries if possible.
+	 *
+	 * @param countVariant Whether a query string normalized for the first time is counted as a variant of its
+	 * normalized query
+	 */
+	private HqlQueryNormalizer.NormalizedQuery normalize(String queryString, boolean countVariant) {
+		HqlQueryNormalizer.NormalizedQuery normalizedQuery = normalizedQueries.get( queryString );
+		if ( normalizedQuery == null ) {
+			normalizedQuery = HqlQueryNormalizer.normalize(
+					queryString,
+					normalization == QueryPlanCacheNormalization.LITERALS
+			);
+			if ( countVariant && normalizedQueries.putIfAbsent( queryString, normalizedQuery ) == null ) {
+				normalizedQueryVariants.computeIfAbsent( normalizedQuery.getQuery(), k -> new LongAdder() ).increment();
+			}
+		}
+		return normalizedQuery;
+	}
+
+	@SuppressWarnings("unchecked")
+	private HQLQueryPlan getHQLQueryPlan(
+			String queryString,
+			String normalizedQueryString,
+			boolean shallow,
+			Map<String, Filter> enabledFilters) {
+		final HQLQueryPlanKey key = new HQLQueryPlanKey( normalizedQueryString, shallow, enabledFilters );
 		HQLQueryPlan value = (HQLQueryPlan) queryPlanCache.get( key );
 		boolean stats = factory.getStatistics().isStatisticsEnabled();
 
@@ -155,7 +276,7 @@ public class QueryPlanCache implements Serializable {
 			final long startTime = ( stats ) ? System.nanoTime() : 0L;
 
 			LOG.tracev( "Unable to locate HQL query plan in cache; generating ({0})", queryString );
-			value = new HQLQueryPlan( queryString, shallow, enabledFilters, factory );
+			value = new HQLQueryPlan( normalizedQueryString, shallow, enabledFilters, factory );
 
 			if ( stats ) {
 				final long endTime = System.nanoTime();
@@ -235,6 +356,34 @@ public class QueryPlanCache implements Serializable {
 		return value;
 	}
 
+	/**
+	 * Get the cached interpretation of JPA criteria queries having the given structure, if any.
+	 *
+	 * @param key The structural key of the criteria query
+	 *
+	 * @return The cached plan, or {@code null}
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE
+	 */
+	public CriteriaQueryPlan getCriteriaQueryPlan(CriteriaStructure.Key key) {
+		final CriteriaQueryPlan value = (CriteriaQueryPlan) queryPlanCache.get( key );
+		if ( value != null ) {
+			LOG.tracev( "Located criteria query plan in cache ({0})", value.getJpaqlString() );
+		}
+		return value;
+	}
+
+	/**
+	 * Cache the interpretation of JPA criteria queries having the given structure.
+	 *
+	 * @param key The structural key of the criteria query
+	 * @param plan The plan
+	 */
+	@SuppressWarnings("unchecked")
+	public void cacheCriteriaQueryPlan(CriteriaStructure.Key key, CriteriaQueryPlan plan) {
+		queryPlanCache.putIfAbsent( key, plan );
+	}
+
 	/**
 	 * Clean up the caches when the SessionFactory is closed.
 	 * <p>
@@ -245,15 +394,177 @@ public class QueryPlanCache implements Serializable {
 	 * memory until they are replaced by others. It is not considered a memory leak as the cache is bounded.
 	 */
 	public void cleanup() {
+		if ( recordOnCleanup ) {
+			try {
+				recordHQLQueryPlanKeys( Paths.get( warmUpFile ) );
+			}
+			catch (IOException e) {
+				LOG.warnf( "Unable to record HQL query plan keys to [%s] : %s", warmUpFile, e.getMessage() );
+			}
+		}
+
 		LOG.trace( "Cleaning QueryPlan Cache" );
 		queryPlanCache.clear();
 		parameterMetadataCache.clear();
+		if ( normalizedQueries != null ) {
+			normalizedQueries.clear();
+			normalizedQueryVariants.clear();
+		}
 	}
 
 	public NativeQueryInterpreter getNativeQueryInterpreter() {
 		return nativeQueryInterpreter;
 	}
 
+	/**
+	 * Pre-compile the HQL query plans recorded in the configured warm-up file, if any.  Depending on
+	 * configuration this happens on the calling thread or on a background daemon thread.
+	 *
+	 * @see Environment#QUERY_PLAN_CACHE_WARM_UP_FILE
+	 * @see Environment#QUERY_PLAN_CACHE_WARM_UP_IN_BACKGROUND
+	 */
+	public void warmUp() {
+		if ( warmUpFile == null ) {
+			return;
+		}
+
+		final Path path = Paths.get( warmUpFile );
+		if ( !Files.isReadable( path ) ) {
+			LOG.debugf( "Skipping QueryPlanCache warm-up; [%s] is not readable", warmUpFile );
+			return;
+		}
+
+		if ( warmUpInBackground ) {
+			final Thread thread = new Thread( () -> warmUp( path ), "Hibernate QueryPlanCache warm-up" );
+			thread.setDaemon( true );
+			thread.start();
+		}
+		else {
+			warmUp( path );
+		}
+	}
+
+	/**
+	 * Pre-compile the HQL query plans whose keys were recorded in the given file by
+	 * {@link #recordHQLQueryPlanKeys}.  Entries which can no longer be compiled (e.g. because the mapping
+	 * changed) are skipped.
+	 *
+	 * @param path The file holding the recorded keys
+	 *
+	 * @return The number of plans compiled
+	 */
+	public int warmUp(Path path) {
+		final List<String> lines;
+		try {
+			lines = Files.readAllLines( path, StandardCharsets.UTF_8 );
+		}
+		catch (IOException e) {
+			LOG.warnf( "Unable to read HQL query plan keys from [%s] : %s", path, e.getMessage() );
+			return 0;
+		}
+
+		int count = 0;
+		for ( String line : lines ) {
+			if ( line.isEmpty() || line.startsWith( "#" ) ) {
+				continue;
+			}
+			if ( factory.isClosed() ) {
+				break;
+			}
+			try {
+				final String[] parts = line.split( "\t", 3 );
+				getHQLQueryPlan( unescape( parts[2] ), "1".equals( parts[0] ), resolveFilters( parts[1] ) );
+				count++;
+			}
+			catch (RuntimeException e) {
+				LOG.debugf( "Unable to pre-compile recorded HQL query plan [%s] : %s", line, e.getMessage() );
+			}
+		}
+		LOG.debugf( "Pre-compiled %s HQL query plans from [%s]", count, path );
+		return count;
+	}
+
+	private Map<String, Filter> resolveFilters(String filterNames) {
+		if ( filterNames.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		final Map<String, Filter> filters = new HashMap<>();
+		for ( String filterName : filterNames.split( "," ) ) {
+			final FilterDefinition definition = factory.getFilterDefinition( filterName );
+			final FilterImpl filter = new FilterImpl( definition );
+			// the parameter values are not needed for translation, only whether they are multi-valued
+			for ( String parameterName : definition.getParameterNames() ) {
+				filter.setParameter( parameterName, null );
+			}
+			filters.put( filterName, filter );
+		}
+		return filters;
+	}
+
+	/**
+	 * Write the keys of the HQL query plans currently held by this cache to the given file, one per line, in
+	 * the form understood by {@link #warmUp(Path)}.  Plans compiled for multi-valued filter parameters are not
+	 * recorded.
+	 *
+	 * @param path The file to write
+	 *
+	 * @return The number of keys written
+	 *
+	 * @throws IOException Indicates a problem writing the file
+	 */
+	public int recordHQLQueryPlanKeys(Path path) throws IOException {
+		int count = 0;
+		try ( BufferedWriter writer = Files.newBufferedWriter( path, StandardCharsets.UTF_8 ) ) {
+			writer.write( "# HQL query plan keys : shallow<TAB>enabled filters<TAB>query" );
+			writer.newLine();
+			for ( Object key : queryPlanCache.keySet() ) {
+				if ( key instanceof HQLQueryPlanKey && ( (HQLQueryPlanKey) key ).isRecordable() ) {
+					writer.write( ( (HQLQueryPlanKey) key ).toRecord() );
+					writer.newLine();
+					count++;
+				}
+			}
+		}
+		LOG.debugf( "Recorded %s HQL query plan keys to [%s]", count, path );
+		return count;
+	}
+
+	private static String escape(String value) {
+		return value.replace( "\\", "\\\\" ).replace( "\n", "\\n" ).replace( "\r", "\\r" ).replace( "\t", "\\t" );
+	}
+
+	private static String unescape(String value) {
+		if ( value.indexOf( '\\' ) < 0 ) {
+			return value;
+		}
+
+		final StringBuilder buffer = new StringBuilder( value.length() );
+		for ( int i = 0; i < value.length(); i++ ) {
+			final char c = value.charAt( i );
+			if ( c == '\\' && i + 1 < value.length() ) {
+				final char next = value.charAt( ++i );
+				switch ( next ) {
+					case 'n':
+						buffer.append( '\n' );
+						break;
+					case 'r':
+						buffer.append( '\r' );
+						break;
+					case 't':
+						buffer.append( '\t' );
+						break;
+					default:
+						buffer.append( next );
+				}
+			}
+			else {
+				buffer.append( c );
+			}
+		}
+		return buffer.toString();
+	}
+
 	private static class ParameterMetadataKey implements Serializable {
 		private final String query;
 		private final boolean isOrdinalParameterZeroBased;
@@ -339,6 +650,28 @@ public class QueryPlanCache implements Serializable {
 		public int hashCode() {
 			return hashCode;
 		}
+
+		private boolean isRecordable() {
+			for ( DynamicFilterKey filterKey : filterKeys ) {
+				for ( Integer valueCount : filterKey.parameterMetadata.values() ) {
+					if ( valueCount != 1 ) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+
+		private String toRecord() {
+			final StringBuilder buffer = new StringBuilder( query.length() + 16 );
+			buffer.append( shallow ? '1' : '0' ).append( '\t' );
+			String separator = "";
+			for ( DynamicFilterKey filterKey : filterKeys ) {
+				buffer.append( separator ).append( filterKey.filterName );
+				separator = ",";
+			}
+			return buffer.append( '\t' ).append( escape( query ) ).toString();
+		}
 	}
 
 	private static class DynamicFilterKey implements Serializable {
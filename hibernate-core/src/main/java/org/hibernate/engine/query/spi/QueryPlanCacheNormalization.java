@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.query.spi;
+
+import org.hibernate.HibernateException;
+
+/**
+ * Defines how HQL queries are normalized before looking up their plan in the {@link QueryPlanCache}.
+ *
+ * By default ({@code NONE}), plans are cached by query string, as given.
+ *
+ * The {@code WHITESPACE} mode canonicalizes the formatting of the query, so that queries differing only in
+ * whitespace share the same plan.
+ *
+ * The {@code LITERALS} mode additionally replaces the string and integer literals of restrictions by parameters,
+ * so that queries differing only in those literal values share the same plan.  Note that the literal values are
+ * then bound as {@code VARCHAR}/{@code INTEGER}/{@code BIGINT} parameters, which some databases compare differently
+ * than literals (e.g. against fixed-length {@code CHAR} columns).
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_NORMALIZATION
+ * @see org.hibernate.hql.internal.ast.HqlQueryNormalizer
+ */
+public enum QueryPlanCacheNormalization {
+
+	NONE,
+	WHITESPACE,
+	LITERALS;
+
+	/**
+	 * Interpret the configured normalization value.
+	 * Valid values are either a {@link QueryPlanCacheNormalization} object or its String representation.
+	 * For string values, the matching is case insensitive.
+	 *
+	 * @param normalization configured {@link QueryPlanCacheNormalization} representation
+	 * @return associated {@link QueryPlanCacheNormalization} object
+	 */
+	public static QueryPlanCacheNormalization interpret(Object normalization) {
+		if ( normalization == null ) {
+			return NONE;
+		}
+		else if ( normalization instanceof QueryPlanCacheNormalization ) {
+			return (QueryPlanCacheNormalization) normalization;
+		}
+		else if ( normalization instanceof String ) {
+			for ( QueryPlanCacheNormalization value : values() ) {
+				if ( value.name().equalsIgnoreCase( ( (String) normalization ).trim() ) ) {
+					return value;
+				}
+			}
+		}
+		throw new HibernateException(
+				"Unrecognized plan_cache_normalization value : " + normalization
+						+ ".  Supported values include 'none', 'whitespace', and 'literals'."
+		);
+	}
+}
@@ -240,6 +240,34 @@ public class ActionQueue {
 		}
 	}
 
+	/**
+	 * Clears this queue on close of its session, checks that no transaction completion process of that session
+	 * remains, and unbinds it from that session so that it can be {@link #reuse reused} by another one.
+	 *
+	 * @return {@code false} if some transaction completion process of the closed session remains, in which case
+	 * this queue must not be reused
+	 */
+	public boolean resetForReuse() {
+		clear();
+		if ( hasBeforeTransactionActions() || hasAfterTransactionActions() ) {
+			return false;
+		}
+		beforeTransactionProcesses = null;
+		afterTransactionProcesses = null;
+		isTransactionCoordinatorShared = false;
+		session = null;
+		return true;
+	}
+
+	/**
+	 * Binds this queue, {@link #resetForReuse() reset} on close of its previous session, to the given session.
+	 *
+	 * @param session The session now "owning" this queue.
+	 */
+	public void reuse(SessionImplementor session) {
+		this.session = session;
+	}
+
 	/**
 	 * Adds an entity insert action
 	 *
@@ -7,13 +7,19 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.hibernate.EntityMode;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -59,6 +65,13 @@ public class BatchFetchQueue {
 	 */
 	private final Map<String, LinkedHashMap<CollectionEntry, PersistentCollection>> batchLoadableCollections = new HashMap<>( 8 );
 
+	/**
+	 * Used to hold information about the (loaded, bytecode enhanced) entities whose lazy attributes are eligible for
+	 * batch-fetching, by entity name and lazy fetch group.  Ultimately used by {@link #getLazyAttributesBatch} to
+	 * build lazy fetch group load batches.
+	 */
+	private final Map<String, Map<String, LinkedHashSet<EntityKey>>> lazyAttributesBatchLoadableEntityKeys = new HashMap<>( 8 );
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -76,6 +89,7 @@ public class BatchFetchQueue {
 	public void clear() {
 		batchLoadableEntityKeys.clear();
 		batchLoadableCollections.clear();
+		lazyAttributesBatchLoadableEntityKeys.clear();
 		subselectsByEntityKey.clear();
 	}
 
@@ -148,6 +162,12 @@ public class BatchFetchQueue {
 			if (set != null) {
 				set.remove(key);
 			}
+			final Map<String, LinkedHashSet<EntityKey>> fetchGroupSets = lazyAttributesBatchLoadableEntityKeys.get( key.getEntityName() );
+			if ( fetchGroupSets != null ) {
+				for ( LinkedHashSet<EntityKey> fetchGroupSet : fetchGroupSets.values() ) {
+					fetchGroupSet.remove( key );
+				}
+			}
 		}
 	}
 
@@ -229,6 +249,95 @@ public class BatchFetchQueue {
 	}
 	
 
+	// lazy attribute batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * If an EntityKey represents a batch loadable entity, add it to the queues of entities whose lazy fetch groups
+	 * may be initialized together.
+	 * <p/>
+	 * Unlike {@link #addBatchLoadableEntityKey}, the key refers to an entity instance already associated with the
+	 * {@link PersistenceContext}.  It is removed, like the keys of batch loadable entities, when the instance is
+	 * evicted or deleted.
+	 *
+	 * @param key The key of the entity instance
+	 * @param fetchGroups The names of the lazy fetch groups of the entity which may be batch initialized
+	 */
+	public void addLazyAttributesBatchLoadableEntityKey(EntityKey key, Collection<String> fetchGroups) {
+		if ( key.isBatchLoadable() ) {
+			Map<String, LinkedHashSet<EntityKey>> fetchGroupSets = lazyAttributesBatchLoadableEntityKeys.get( key.getEntityName() );
+			if ( fetchGroupSets == null ) {
+				fetchGroupSets = new HashMap<>( 4 );
+				lazyAttributesBatchLoadableEntityKeys.put( key.getEntityName(), fetchGroupSets );
+			}
+			for ( String fetchGroup : fetchGroups ) {
+				LinkedHashSet<EntityKey> set = fetchGroupSets.get( fetchGroup );
+				if ( set == null ) {
+					set = new LinkedHashSet<>( 8 );
+					fetchGroupSets.put( fetchGroup, set );
+				}
+				set.add( key );
+			}
+		}
+	}
+
+	/**
+	 * Get a batch of managed instances of the given entity whose lazy fetch group is not initialized yet.  The
+	 * instances returned, as well as those no longer associated with the {@link PersistenceContext} or whose fetch
+	 * group is already initialized, are dropped from the queue of the fetch group along the way, so each entry is
+	 * visited once.
+	 *
+	 * @param persister The persister for the entities being initialized.
+	 * @param entity The entity instance currently demanding initialization.
+	 * @param fetchGroup The name of the fetch group being initialized
+	 * @param batchSize The maximum number of instances to return
+	 * @return The instances to initialize, starting with {@code entity}
+	 */
+	public List<Object> getLazyAttributesBatch(
+			final EntityPersister persister,
+			final Object entity,
+			final String fetchGroup,
+			final int batchSize) {
+		final List<Object> batch = new ArrayList<>( batchSize );
+		batch.add( entity );
+
+		final Map<String, LinkedHashSet<EntityKey>> fetchGroupSets = lazyAttributesBatchLoadableEntityKeys.get( persister.getEntityName() );
+		final LinkedHashSet<EntityKey> set = fetchGroupSets == null ? null : fetchGroupSets.get( fetchGroup );
+		if ( set == null ) {
+			return batch;
+		}
+
+		final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors = persister.getEntityMetamodel()
+				.getBytecodeEnhancementMetadata()
+				.getLazyAttributesMetadata()
+				.getFetchGroupAttributeDescriptors( fetchGroup );
+		final Iterator<EntityKey> keys = set.iterator();
+		while ( keys.hasNext() && batch.size() < batchSize ) {
+			final Object candidate = context.getEntity( keys.next() );
+			final EntityEntry entry = candidate == null ? null : context.getEntry( candidate );
+			if ( entry != null && entry.getStatus() != Status.MANAGED && entry.getStatus() != Status.READ_ONLY ) {
+				// e.g. still loading; it may be initialized by a later batch
+				continue;
+			}
+			keys.remove();
+			if ( entry == null || candidate == entity ) {
+				continue;
+			}
+			final LazyAttributeLoadingInterceptor interceptor = persister.getEntityMetamodel()
+					.getBytecodeEnhancementMetadata()
+					.extractInterceptor( candidate );
+			if ( interceptor == null ) {
+				continue;
+			}
+			for ( LazyAttributeDescriptor descriptor : fetchGroupAttributeDescriptors ) {
+				if ( !interceptor.isAttributeLoaded( descriptor.getName() ) ) {
+					batch.add( candidate );
+					break;
+				}
+			}
+		}
+		return batch;
+	}
+
 	// collection batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
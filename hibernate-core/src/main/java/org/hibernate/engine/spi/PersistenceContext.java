@@ -831,6 +831,23 @@ public interface PersistenceContext {
 		 */
 		Serializable findCachedNaturalIdResolution(EntityPersister persister, Object[] naturalIdValues);
 
+		/**
+		 * Given a persister defining a simple (single attribute) natural id and its value, find the corresponding
+		 * cross-referenced primary key without creating a lookup key.  A {@code null} return only means the
+		 * resolution could not be found this way; callers should then fall back to
+		 * {@link #findCachedNaturalIdResolution}.
+		 *
+		 * @param persister The persister representing the entity type.
+		 * @param naturalIdValue The natural id value
+		 *
+		 * @return The corresponding cross-referenced primary key, or {@code null}.
+		 *
+		 * @since 5.4
+		 */
+		default Serializable findCachedSimpleNaturalIdResolution(EntityPersister persister, Object naturalIdValue) {
+			return null;
+		}
+
 		/**
 		 * Find all the locally cached primary key cross-reference entries for the given persister.
 		 *
@@ -64,6 +64,7 @@ public final class QueryParameters {
 	private boolean autodiscovertypes;
 	private boolean isNaturalKeyLookup;
 	private boolean passDistinctThrough = true;
+	private boolean detachedResults;
 
 	private final ResultTransformer resultTransformer; // why is all others non final ?
 
@@ -520,6 +521,26 @@ public final class QueryParameters {
 		this.passDistinctThrough = passDistinctThrough;
 	}
 
+	/**
+	 * Should the entities loaded by this query be detached from the session once loaded?
+	 *
+	 * @return {@code true} if the results are detached
+	 *
+	 * @see org.hibernate.annotations.QueryHints#DETACHED_RESULTS
+	 */
+	public boolean isDetachedResults() {
+		return detachedResults;
+	}
+
+	/**
+	 * Set if the entities loaded by this query should be detached from the session once loaded.
+	 *
+	 * @param detachedResults the results are detached
+	 */
+	public void setDetachedResults(boolean detachedResults) {
+		this.detachedResults = detachedResults;
+	}
+
 	public void processFilters(String sql, SharedSessionContractImplementor session) {
 		processFilters( sql, session.getLoadQueryInfluencers().getEnabledFilters(), session.getFactory() );
 	}
@@ -654,6 +675,7 @@ public final class QueryParameters {
 		copy.processedPositionalParameterTypes = this.processedPositionalParameterTypes;
 		copy.processedPositionalParameterValues = this.processedPositionalParameterValues;
 		copy.passDistinctThrough = this.passDistinctThrough;
+		copy.detachedResults = this.detachedResults;
 		return copy;
 	}
 
@@ -77,6 +77,7 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 					LOG.trace( "Collection initialized" );
 				}
 
+				source.getEventListenerManager().collectionFetch( ce.getLoadedPersister().getRole() );
 				if ( source.getFactory().getStatistics().isStatisticsEnabled() ) {
 					source.getFactory().getStatistics().fetchCollection(
 							ce.getLoadedPersister().getRole()
@@ -145,7 +146,7 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 		);
 
 		final PersistenceContext persistenceContext = source.getPersistenceContext();
-		cacheEntry.assemble( collection, persister, persistenceContext.getCollectionOwner( id, persister ) );
+		cacheEntry.assemble( collection, persister, persistenceContext.getCollectionOwner( id, persister ), source );
 		persistenceContext.getCollectionEntry( collection ).postInitialize( collection );
 		// addInitializedCollection(collection, persister, id);
 		return true;
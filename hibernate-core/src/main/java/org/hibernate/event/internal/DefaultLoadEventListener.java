@@ -486,8 +486,11 @@ public class DefaultLoadEventListener implements LoadEventListener {
 				event.getSession()
 		);
 
-		if ( event.isAssociationFetch() && event.getSession().getFactory().getStatistics().isStatisticsEnabled() ) {
-			event.getSession().getFactory().getStatistics().fetchEntity( event.getEntityClassName() );
+		if ( event.isAssociationFetch() ) {
+			event.getSession().getEventListenerManager().entityFetch( event.getEntityClassName() );
+			if ( event.getSession().getFactory().getStatistics().isStatisticsEnabled() ) {
+				event.getSession().getFactory().getStatistics().fetchEntity( event.getEntityClassName() );
+			}
 		}
 
 		return entity;
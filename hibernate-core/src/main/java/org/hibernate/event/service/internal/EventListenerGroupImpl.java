@@ -12,8 +12,10 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import org.hibernate.event.service.spi.DuplicationStrategy;
+import org.hibernate.event.service.spi.EventActionWithParameter;
 import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.service.spi.EventListenerRegistrationException;
 import org.hibernate.event.service.spi.JpaBootstrapSensitive;
@@ -30,6 +32,13 @@ class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 	private final Set<DuplicationStrategy> duplicationStrategies = new LinkedHashSet<>();
 	private List<T> listeners;
 
+	// snapshot of the listeners used for dispatching, refreshed whenever the listeners change
+	private volatile Object[] listenersAsArray = NO_LISTENERS;
+	// read-only view of the listeners, so that they can only change through this group, which refreshes the snapshot
+	private volatile List<T> listenersView = Collections.emptyList();
+
+	private static final Object[] NO_LISTENERS = new Object[0];
+
 	public EventListenerGroupImpl(EventType<T> eventType, EventListenerRegistryImpl listenerRegistry) {
 		this.eventType = eventType;
 		this.listenerRegistry = listenerRegistry;
@@ -73,6 +82,42 @@ class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 		if ( listeners != null ) {
 			listeners.clear();
 		}
+		refreshListenersAsArray();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <U> void fireEventOnEachListener(final U event, final BiConsumer<T,U> actionOnEvent) {
+		final Object[] ls = listenersAsArray;
+		if ( ls.length == 1 ) {
+			// the common case of only the default listener being registered
+			actionOnEvent.accept( (T) ls[0], event );
+			return;
+		}
+		for ( Object listener : ls ) {
+			actionOnEvent.accept( (T) listener, event );
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <U,X> void fireEventOnEachListener(
+			final U event,
+			final X param,
+			final EventActionWithParameter<T,U,X> actionOnEvent) {
+		final Object[] ls = listenersAsArray;
+		if ( ls.length == 1 ) {
+			actionOnEvent.applyEventToListener( (T) ls[0], event, param );
+			return;
+		}
+		for ( Object listener : ls ) {
+			actionOnEvent.applyEventToListener( (T) listener, event, param );
+		}
+	}
+
+	private void refreshListenersAsArray() {
+		listenersAsArray = listeners == null || listeners.isEmpty() ? NO_LISTENERS : listeners.toArray();
+		listenersView = listeners == null ? Collections.emptyList() : Collections.unmodifiableList( listeners );
 	}
 
 	@Override
@@ -82,7 +127,7 @@ class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 
 	@Override
 	public Iterable<T> listeners() {
-		return listeners == null ? Collections.emptyList() : listeners;
+		return listenersView;
 	}
 
 	@Override
@@ -98,6 +143,7 @@ class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 		if ( listenerShouldGetAdded( listener ) ) {
 			internalAppend( listener );
 		}
+		refreshListenersAsArray();
 	}
 
 	@Override
@@ -113,6 +159,7 @@ class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 		if ( listenerShouldGetAdded( listener ) ) {
 			internalPrepend( listener );
 		}
+		refreshListenersAsArray();
 	}
 
 	private boolean listenerShouldGetAdded(T listener) {
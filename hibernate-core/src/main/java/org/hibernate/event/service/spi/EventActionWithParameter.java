@@ -0,0 +1,23 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.service.spi;
+
+/**
+ * An action applying an event, together with one additional parameter, to a listener.
+ *
+ * @param <T> The listener type
+ * @param <U> The event type
+ * @param <X> The parameter type
+ *
+ * @see EventListenerGroup#fireEventOnEachListener(Object, Object, EventActionWithParameter)
+ */
+@FunctionalInterface
+public interface EventActionWithParameter<T, U, X> {
+
+	void applyEventToListener(T eventListener, U action, X param);
+
+}
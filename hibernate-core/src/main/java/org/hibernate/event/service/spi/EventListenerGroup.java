@@ -7,6 +7,8 @@
 package org.hibernate.event.service.spi;
 
 import java.io.Serializable;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import org.hibernate.event.spi.EventType;
 
@@ -54,4 +56,60 @@ public interface EventListenerGroup<T> extends Serializable {
 
 	public void clear();
 
+	/**
+	 * Fires an event on each registered event listener of this group.
+	 * <p/>
+	 * Unlike iterating over {@link #listeners()}, this does not allocate an iterator.  Passing a non-capturing
+	 * method reference as {@code actionOnEvent} (e.g. {@code LoadEventListener::onLoad}) avoids allocating the
+	 * action itself.
+	 *
+	 * @param event The event
+	 * @param actionOnEvent The action applying the event to a listener
+	 * @param <U> The event type
+	 *
+	 * @since 5.4
+	 */
+	default <U> void fireEventOnEachListener(final U event, final BiConsumer<T,U> actionOnEvent) {
+		for ( T listener : listeners() ) {
+			actionOnEvent.accept( listener, event );
+		}
+	}
+
+	/**
+	 * Similar to {@link #fireEventOnEachListener(Object, BiConsumer)}, for listener methods taking an additional
+	 * parameter.
+	 *
+	 * @param event The event
+	 * @param param The additional parameter
+	 * @param actionOnEvent The action applying the event and parameter to a listener
+	 * @param <U> The event type
+	 * @param <X> The parameter type
+	 *
+	 * @since 5.4
+	 */
+	default <U,X> void fireEventOnEachListener(
+			final U event,
+			final X param,
+			final EventActionWithParameter<T,U,X> actionOnEvent) {
+		for ( T listener : listeners() ) {
+			actionOnEvent.applyEventToListener( listener, event, param );
+		}
+	}
+
+	/**
+	 * Similar to {@link #fireEventOnEachListener(Object, BiConsumer)}, but the event is only created (once) if
+	 * there is at least one listener registered.
+	 *
+	 * @param eventSupplier Creates the event
+	 * @param actionOnEvent The action applying the event to a listener
+	 * @param <U> The event type
+	 *
+	 * @since 5.4
+	 */
+	default <U> void fireLazyEventOnEachListener(final Supplier<U> eventSupplier, final BiConsumer<T,U> actionOnEvent) {
+		if ( !isEmpty() ) {
+			fireEventOnEachListener( eventSupplier.get(), actionOnEvent );
+		}
+	}
+
 }
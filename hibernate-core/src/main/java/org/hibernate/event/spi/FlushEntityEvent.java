@@ -27,6 +27,27 @@ public class FlushEntityEvent extends AbstractEvent {
 		this.entityEntry = entry;
 	}
 
+	/**
+	 * Re-initializes this event for flushing another entity, so that one instance can be used for all the
+	 * entities of a flush.  Events are not retained by listeners once {@code onFlushEntity} returns, and entity
+	 * flushes are not nested, so this is safe during the flush loop only.
+	 *
+	 * @param entity The entity to flush next
+	 * @param entry Its entry
+	 *
+	 * @since 5.4
+	 */
+	public void resetAndReuseEventInstance(Object entity, EntityEntry entry) {
+		this.entity = entity;
+		this.entityEntry = entry;
+		this.propertyValues = null;
+		this.databaseSnapshot = null;
+		this.dirtyProperties = null;
+		this.hasDirtyCollection = false;
+		this.dirtyCheckPossible = false;
+		this.dirtyCheckHandledByInterceptor = false;
+	}
+
 	public EntityEntry getEntityEntry() {
 		return entityEntry;
 	}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.graph;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -17,6 +18,7 @@ import javax.persistence.Subgraph;
 import javax.persistence.TypedQuery;
 
 import org.hibernate.Session;
+import org.hibernate.engine.internal.BatchGraphLoader;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.graph.spi.GraphImplementor;
 import org.hibernate.graph.spi.RootGraphImplementor;
@@ -169,6 +171,20 @@ public final class EntityGraphs {
 		return executeList( query, graph, GraphSemantic.FETCH );
 	}
 
+	/**
+	 * Initialize the associations described by the given graph for already loaded entities, using one
+	 * batched query per entity type or collection role at each level of the graph.
+	 *
+	 * @param em The EntityManager the entities are associated with
+	 * @param entities The entities; elements which are not of the graph's type are ignored
+	 * @param graph The graph to initialize
+	 *
+	 * @see org.hibernate.annotations.QueryHints#BATCH_GRAPH
+	 */
+	public static void batchLoad(EntityManager em, Collection<?> entities, EntityGraph<?> graph) {
+		BatchGraphLoader.load( em.unwrap( SessionImplementor.class ), entities, (GraphImplementor<?>) graph );
+	}
+
 	// todo : ? - we could add JPA's other Query execution methods
 	//		but really, I think unwrapping as Hibernate's Query and using our
 	//		"proprietary" methods is better (this class is "proprietary" too).
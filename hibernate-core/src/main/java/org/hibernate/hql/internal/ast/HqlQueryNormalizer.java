@@ -0,0 +1,222 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.internal.ast;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.QueryException;
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.hql.internal.antlr.HqlTokenTypes;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.StringType;
+
+import antlr.Token;
+import antlr.TokenStreamException;
+
+/**
+ * Normalizes HQL queries, so that queries differing only in their formatting, and optionally in the values of
+ * their literals, share the same {@link org.hibernate.engine.query.spi.HQLQueryPlan}.
+ * <p/>
+ * The query is tokenized with the HQL lexer and rebuilt with a single space between tokens (none around
+ * {@code .}, nor within parameter references).  When requested, string and integer literals compared against
+ * an expression in a restriction, e.g. {@code e.name = 'Joe'} or {@code e.age > 18}, are replaced by synthetic
+ * {@link #LITERAL_PARAMETER_PREFIX named parameters} bound to the literal values.  Other literals (select list,
+ * arithmetic, {@code in} lists, {@code between} bounds, assignments, decimal, hexadecimal or octal numbers) are
+ * left untouched, and so are the literals of queries using ordinal parameters, which cannot be mixed with named
+ * ones.
+ */
+public final class HqlQueryNormalizer {
+	/**
+	 * The prefix of the names of the parameters the literals are replaced with
+	 */
+	public static final String LITERAL_PARAMETER_PREFIX = "hibernateLiteral";
+
+	private HqlQueryNormalizer() {
+	}
+
+	/**
+	 * Normalize the given HQL query.
+	 *
+	 * @param hql The query
+	 * @param parameterizeLiterals Whether literals should be replaced by parameters
+	 *
+	 * @return The normalized query, which is the given query, unchanged, if it could not be tokenized
+	 */
+	public static NormalizedQuery normalize(String hql, boolean parameterizeLiterals) {
+		final List<Token> tokens = new ArrayList<>();
+		boolean hasOrdinalParameters = false;
+		try {
+			final HqlLexer lexer = new HqlLexer( new StringReader( hql ) );
+			Token token = lexer.nextToken();
+			while ( token.getType() != Token.EOF_TYPE ) {
+				if ( token.getType() == HqlTokenTypes.PARAM ) {
+					hasOrdinalParameters = true;
+				}
+				tokens.add( token );
+				token = lexer.nextToken();
+			}
+		}
+		catch (TokenStreamException | QueryException e) {
+			// leave it to the parser to report the problem
+			return new NormalizedQuery( hql, Collections.emptyMap() );
+		}
+
+		final StringBuilder buffer = new StringBuilder( hql.length() );
+		Map<String, TypedValue> literalParameters = Collections.emptyMap();
+		for ( int i = 0; i < tokens.size(); i++ ) {
+			final Token token = tokens.get( i );
+			if ( i > 0 && isSeparated( tokens.get( i - 1 ), token ) ) {
+				buffer.append( ' ' );
+			}
+
+			final TypedValue literal = parameterizeLiterals && !hasOrdinalParameters
+					? toParameterValue( tokens, i )
+					: null;
+			if ( literal == null ) {
+				buffer.append( token.getText() );
+			}
+			else {
+				if ( literalParameters.isEmpty() ) {
+					literalParameters = new LinkedHashMap<>();
+				}
+				final String name = LITERAL_PARAMETER_PREFIX + literalParameters.size();
+				literalParameters.put( name, literal );
+				buffer.append( ':' ).append( name );
+			}
+		}
+		return new NormalizedQuery( buffer.toString(), literalParameters );
+	}
+
+	private static boolean isSeparated(Token previous, Token token) {
+		return previous.getType() != HqlTokenTypes.DOT
+				&& previous.getType() != HqlTokenTypes.COLON
+				&& token.getType() != HqlTokenTypes.DOT
+				&& !( previous.getType() == HqlTokenTypes.PARAM && token.getType() == HqlTokenTypes.NUM_INT );
+	}
+
+	/**
+	 * @return The value to bind in place of the literal at the given position, or {@code null} if it should not
+	 * be parameterized
+	 */
+	private static TypedValue toParameterValue(List<Token> tokens, int position) {
+		if ( position == 0 || !isComparisonOperator( tokens.get( position - 1 ).getType() ) ) {
+			return null;
+		}
+		if ( position + 1 < tokens.size() && !isRestrictionEnd( tokens.get( position + 1 ).getType() ) ) {
+			return null;
+		}
+
+		final String text = tokens.get( position ).getText();
+		switch ( tokens.get( position ).getType() ) {
+			case HqlTokenTypes.QUOTED_STRING: {
+				return new TypedValue(
+						StringType.INSTANCE,
+						text.substring( 1, text.length() - 1 ).replace( "''", "'" )
+				);
+			}
+			case HqlTokenTypes.NUM_INT: {
+				if ( !isDecimal( text, text.length() ) ) {
+					return null;
+				}
+				final long value = Long.parseLong( text );
+				return value == (int) value
+						? new TypedValue( IntegerType.INSTANCE, (int) value )
+						: new TypedValue( LongType.INSTANCE, value );
+			}
+			case HqlTokenTypes.NUM_LONG: {
+				if ( !isDecimal( text, text.length() - 1 ) ) {
+					return null;
+				}
+				return new TypedValue( LongType.INSTANCE, Long.parseLong( text.substring( 0, text.length() - 1 ) ) );
+			}
+			default: {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Whether the first {@code length} characters are a plain decimal number which fits in a long, i.e. neither
+	 * hexadecimal nor octal
+	 */
+	private static boolean isDecimal(String text, int length) {
+		if ( length == 0 || length > 18 || ( length > 1 && text.charAt( 0 ) == '0' ) ) {
+			return false;
+		}
+		for ( int i = 0; i < length; i++ ) {
+			if ( !Character.isDigit( text.charAt( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isComparisonOperator(int tokenType) {
+		switch ( tokenType ) {
+			case HqlTokenTypes.EQ:
+			case HqlTokenTypes.NE:
+			case HqlTokenTypes.SQL_NE:
+			case HqlTokenTypes.LT:
+			case HqlTokenTypes.GT:
+			case HqlTokenTypes.LE:
+			case HqlTokenTypes.GE:
+			case HqlTokenTypes.LIKE: {
+				return true;
+			}
+			default: {
+				return false;
+			}
+		}
+	}
+
+	private static boolean isRestrictionEnd(int tokenType) {
+		switch ( tokenType ) {
+			case HqlTokenTypes.AND:
+			case HqlTokenTypes.OR:
+			case HqlTokenTypes.CLOSE:
+			case HqlTokenTypes.ORDER:
+			case HqlTokenTypes.GROUP:
+			case HqlTokenTypes.ESCAPE:
+			case HqlTokenTypes.THEN: {
+				return true;
+			}
+			default: {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * The result of the normalization of a query
+	 */
+	public static class NormalizedQuery {
+		private final String query;
+		private final Map<String, TypedValue> literalParameters;
+
+		private NormalizedQuery(String query, Map<String, TypedValue> literalParameters) {
+			this.query = query;
+			this.literalParameters = Collections.unmodifiableMap( literalParameters );
+		}
+
+		public String getQuery() {
+			return query;
+		}
+
+		/**
+		 * The values of the literals replaced by parameters, keyed by parameter name
+		 */
+		public Map<String, TypedValue> getLiteralParameters() {
+			return literalParameters;
+		}
+	}
+}
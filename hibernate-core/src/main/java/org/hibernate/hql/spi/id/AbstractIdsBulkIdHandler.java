@@ -60,6 +60,17 @@ public abstract class AbstractIdsBulkIdHandler
 		return targetedPersister;
 	}
 
+	/**
+	 * The {@code SELECT} of the ids matching the restrictions defined in the original {@code WHERE} clause
+	 */
+	protected String getIdSelect() {
+		return idSelect;
+	}
+
+	protected List<ParameterSpecification> getIdSelectParameterSpecifications() {
+		return idSelectParameterSpecifications;
+	}
+
 	protected Dialect dialect() {
 		return factory().getServiceRegistry().getService( JdbcServices.class ).getDialect();
 	}
@@ -0,0 +1,325 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.chunked;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.spi.id.AbstractIdsBulkIdHandler;
+import org.hibernate.jdbc.AbstractWork;
+import org.hibernate.param.ParameterSpecification;
+
+/**
+ * Base class for the bulk-id handlers selecting the ids to be updated/deleted one chunk at a time, in id order
+ * and starting after the last id of the previous chunk, and applying the statements of the operation to each
+ * chunk of ids.
+ *
+ * @see ChunkedIdsBulkIdStrategy
+ */
+public abstract class AbstractChunkedIdsBulkIdHandler
+		extends AbstractIdsBulkIdHandler {
+
+	protected static final ParameterSpecification[] NO_PARAMETERS = new ParameterSpecification[0];
+
+	private final int chunkSize;
+	private final boolean commitChunks;
+	private final ChunkedIdsBulkIdStrategy.ProgressListener progressListener;
+
+	private final String firstChunkIdSelect;
+	private final String nextChunkIdSelect;
+	private final int[] keysetParameterColumns;
+
+	private final List<ChunkStatement> statements = new ArrayList<>();
+
+	public AbstractChunkedIdsBulkIdHandler(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker,
+			int chunkSize,
+			boolean commitChunks,
+			ChunkedIdsBulkIdStrategy.ProgressListener progressListener) {
+		super( factory, walker );
+		this.chunkSize = chunkSize;
+		this.commitChunks = commitChunks;
+		this.progressListener = progressListener;
+
+		final String[] idColumnNames = getTargetedQueryable().getIdentifierColumnNames();
+		final String idColumns = String.join( ", ", (CharSequence[]) idColumnNames );
+		final boolean rowValueKeyset = idColumnNames.length == 1 || dialect().supportsRowValueConstructorSyntax();
+		final List<Integer> parameterColumns = new ArrayList<>();
+		final String chunkIdSelect = "select " + idColumns + " from (" + getIdSelect() + ") chunk_ids";
+		this.firstChunkIdSelect = chunkIdSelect + " order by " + idColumns;
+		this.nextChunkIdSelect = chunkIdSelect
+				+ " where " + generateKeysetRestriction( idColumnNames, rowValueKeyset, parameterColumns )
+				+ " order by " + idColumns;
+		this.keysetParameterColumns = new int[parameterColumns.size()];
+		for ( int i = 0; i < keysetParameterColumns.length; i++ ) {
+			keysetParameterColumns[i] = parameterColumns.get( i );
+		}
+	}
+
+	@Override
+	public String[] getSqlStatements() {
+		final String[] sqlStatements = new String[statements.size()];
+		for ( int i = 0; i < sqlStatements.length; i++ ) {
+			sqlStatements[i] = statements.get( i ).fullChunkSql;
+		}
+		return sqlStatements;
+	}
+
+	/**
+	 * Register a statement to be executed for each chunk, in registration order.
+	 *
+	 * @param sqlRenderer Renders the statement for the given number of ids, see {@link #generateIdsRestriction}
+	 * @param parameterSpecifications The parameters bound ahead of the ids
+	 */
+	protected void addStatement(IntFunction<String> sqlRenderer, ParameterSpecification[] parameterSpecifications) {
+		statements.add( new ChunkStatement( sqlRenderer, parameterSpecifications, chunkSize ) );
+	}
+
+	/**
+	 * Generate the {@code (a, b) in ((?, ?), (?, ?))} restriction matching the given number of ids.
+	 */
+	protected String generateIdsRestriction(String[] columnNames, int idCount) {
+		final StringBuilder buffer = new StringBuilder( "(" )
+				.append( String.join( ", ", (CharSequence[]) columnNames ) )
+				.append( ") in (" );
+		for ( int i = 0; i < idCount; i++ ) {
+			if ( i > 0 ) {
+				buffer.append( ", " );
+			}
+			if ( columnNames.length == 1 ) {
+				buffer.append( '?' );
+			}
+			else {
+				buffer.append( '(' );
+				for ( int j = 0; j < columnNames.length; j++ ) {
+					if ( j > 0 ) {
+						buffer.append( ", " );
+					}
+					buffer.append( '?' );
+				}
+				buffer.append( ')' );
+			}
+		}
+		return buffer.append( ')' ).toString();
+	}
+
+	protected int executeChunked(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			String errorMessage) {
+		final String entityName = getTargetedQueryable().getEntityName();
+
+		long totalIdCount = 0;
+		int chunkNumber = 0;
+		Object[] lastId = null;
+		List<Object[]> chunk;
+		do {
+			// the ids of a chunk are read, and their statement closed, before the chunk is applied, so that no
+			// cursor is left open on the Connection of the Session while the chunk statements are executed
+			chunk = selectChunk( lastId, session, queryParameters );
+			if ( chunk.isEmpty() ) {
+				break;
+			}
+			applyChunk( chunk, session, queryParameters, errorMessage );
+			totalIdCount += chunk.size();
+			progressListener.chunkApplied( entityName, ++chunkNumber, chunk.size(), totalIdCount );
+			lastId = chunk.get( chunk.size() - 1 );
+		}
+		while ( chunk.size() == chunkSize );
+
+		return (int) totalIdCount;
+	}
+
+	/**
+	 * Select the next chunk of ids, in id order, following the given id.
+	 *
+	 * @param lastId The last id of the previous chunk, or {@code null} for the first chunk
+	 */
+	private List<Object[]> selectChunk(
+			Object[] lastId,
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) {
+		final int idColumnCount = getTargetedQueryable().getIdentifierColumnNames().length;
+		final LimitHandler limitHandler = dialect().getLimitHandler();
+		final RowSelection selection = new RowSelection();
+		selection.setMaxRows( chunkSize );
+		final String sql = limitHandler.processSql( lastId == null ? firstChunkIdSelect : nextChunkIdSelect, selection );
+
+		final List<Object[]> chunk = new ArrayList<>( chunkSize );
+		try {
+			PreparedStatement ps = null;
+			try {
+				ps = session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql, false );
+				int position = 1;
+				position += limitHandler.bindLimitParametersAtStartOfQuery( selection, ps, position );
+				for ( ParameterSpecification parameterSpecification : getIdSelectParameterSpecifications() ) {
+					position += parameterSpecification.bind( ps, queryParameters, session, position );
+				}
+				if ( lastId != null ) {
+					for ( int column : keysetParameterColumns ) {
+						ps.setObject( position++, lastId[column] );
+					}
+				}
+				limitHandler.bindLimitParametersAtEndOfQuery( selection, ps, position );
+				limitHandler.setMaxRows( selection, ps );
+
+				final ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
+				while ( chunk.size() < chunkSize && rs.next() ) {
+					final Object[] id = new Object[idColumnCount];
+					for ( int i = 0; i < idColumnCount; i++ ) {
+						id[i] = rs.getObject( i + 1 );
+					}
+					chunk.add( id );
+				}
+			}
+			finally {
+				if ( ps != null ) {
+					session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( ps );
+					session.getJdbcCoordinator().afterStatementExecution();
+				}
+			}
+		}
+		catch ( SQLException e ) {
+			throw convert( e, "could not select ids for bulk operation", sql );
+		}
+		return chunk;
+	}
+
+	/**
+	 * Generate the restriction of the ids following the last id of the previous chunk.
+	 *
+	 * @param parameterColumns Collects the index of the id column bound to each parameter of the restriction
+	 */
+	private static String generateKeysetRestriction(
+			String[] columnNames,
+			boolean rowValue,
+			List<Integer> parameterColumns) {
+		if ( rowValue ) {
+			final StringBuilder parameters = new StringBuilder();
+			for ( int i = 0; i < columnNames.length; i++ ) {
+				if ( i > 0 ) {
+					parameters.append( ", " );
+				}
+				parameters.append( '?' );
+				parameterColumns.add( i );
+			}
+			return columnNames.length == 1
+					? columnNames[0] + " > ?"
+					: "(" + String.join( ", ", (CharSequence[]) columnNames ) + ") > (" + parameters + ")";
+		}
+
+		// (a > ?) or (a = ? and b > ?) ...
+		final StringBuilder restriction = new StringBuilder( "(" );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( i > 0 ) {
+				restriction.append( " or " );
+			}
+			restriction.append( '(' );
+			for ( int j = 0; j < i; j++ ) {
+				restriction.append( columnNames[j] ).append( " = ? and " );
+				parameterColumns.add( j );
+			}
+			restriction.append( columnNames[i] ).append( " > ?)" );
+			parameterColumns.add( i );
+		}
+		return restriction.append( ')' ).toString();
+	}
+
+	private void applyChunk(
+			List<Object[]> ids,
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			String errorMessage) {
+		if ( commitChunks ) {
+			final JdbcServices jdbcServices = factory().getServiceRegistry().getService( JdbcServices.class );
+			session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
+					new AbstractWork() {
+						@Override
+						public void execute(Connection connection) throws SQLException {
+							for ( ChunkStatement statement : statements ) {
+								final String sql = statement.getSql( ids.size() );
+								jdbcServices.getSqlStatementLogger().logStatement( sql );
+								try ( PreparedStatement ps = connection.prepareStatement( sql ) ) {
+									bind( ps, statement, ids, session, queryParameters );
+									ps.executeUpdate();
+								}
+							}
+						}
+					},
+					true
+			);
+		}
+		else {
+			for ( ChunkStatement statement : statements ) {
+				final String sql = statement.getSql( ids.size() );
+				try {
+					try ( PreparedStatement ps = session.getJdbcCoordinator()
+							.getStatementPreparer()
+							.prepareStatement( sql, false ) ) {
+						bind( ps, statement, ids, session, queryParameters );
+						session.getJdbcCoordinator().getResultSetReturn().executeUpdate( ps );
+					}
+				}
+				catch ( SQLException e ) {
+					throw convert( e, errorMessage, sql );
+				}
+			}
+		}
+	}
+
+	private void bind(
+			PreparedStatement ps,
+			ChunkStatement statement,
+			List<Object[]> ids,
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) throws SQLException {
+		int position = 1; // jdbc params are 1-based
+		for ( ParameterSpecification parameterSpecification : statement.parameterSpecifications ) {
+			position += parameterSpecification.bind( ps, queryParameters, session, position );
+		}
+		for ( Object[] id : ids ) {
+			for ( Object column : id ) {
+				ps.setObject( position++, column );
+			}
+		}
+	}
+
+	private static class ChunkStatement {
+		private final IntFunction<String> sqlRenderer;
+		private final ParameterSpecification[] parameterSpecifications;
+		private final int chunkSize;
+		private final String fullChunkSql;
+
+		private ChunkStatement(
+				IntFunction<String> sqlRenderer,
+				ParameterSpecification[] parameterSpecifications,
+				int chunkSize) {
+			this.sqlRenderer = sqlRenderer;
+			this.parameterSpecifications = parameterSpecifications;
+			this.chunkSize = chunkSize;
+			this.fullChunkSql = sqlRenderer.apply( chunkSize );
+		}
+
+		private String getSql(int idCount) {
+			// only the last chunk is smaller
+			return idCount == chunkSize ? fullChunkSql : sqlRenderer.apply( idCount );
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.chunked;
+
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * This bulk-id strategy is meant for bulk operations affecting a very large number of rows.  The ids matching
+ * the restriction are selected one chunk at a time, in id order and starting after the last id of the
+ * previous chunk, and the update/delete statements are applied to each table one chunk of ids at a time,
+ * using a parameterized in-list:
+ *
+ * <pre>
+ * delete
+ * from
+ *     Doctor
+ * where
+ *     ( id ) in (
+ *         ?, ?, ?
+ *     )
+ * </pre>
+ *
+ * Only one chunk of ids is held in memory at any time, whatever the number of affected rows, and the
+ * in-list never exceeds the {@link org.hibernate.dialect.Dialect#getInExpressionCountLimit() limit} of the
+ * Dialect.  The select of each chunk is closed before the chunk is applied, so no cursor is kept open on the
+ * Connection while the update/delete statements are executed.
+ * <p/>
+ * By default all the chunks are applied within the transaction of the Session.  When {@link #COMMIT_CHUNKS}
+ * is enabled, each chunk is instead applied and committed in its own isolated transaction, keeping the
+ * undo/lock footprint of the operation bounded as well; the operation is then no longer atomic, and rows
+ * already locked by the transaction of the Session must not be affected, as the isolated transactions would
+ * wait for them.
+ * <p/>
+ * The {@link ProgressListener} is notified after each chunk.
+ */
+public class ChunkedIdsBulkIdStrategy
+		implements MultiTableBulkIdStrategy {
+
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( ChunkedIdsBulkIdStrategy.class );
+
+	public static final String SHORT_NAME = "chunked";
+
+	/**
+	 * The maximum number of ids applied per statement.  Default is 1000.
+	 */
+	public static final String CHUNK_SIZE = "hibernate.hql.bulk_id_strategy.chunked.chunk_size";
+
+	/**
+	 * Whether each chunk is committed in its own isolated transaction.  Default is {@code false}.
+	 */
+	public static final String COMMIT_CHUNKS = "hibernate.hql.bulk_id_strategy.chunked.commit_chunks";
+
+	public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+	/**
+	 * Notified each time a chunk of ids has been applied.
+	 */
+	@FunctionalInterface
+	public interface ProgressListener {
+		/**
+		 * @param entityName The name of the entity targeted by the bulk operation
+		 * @param chunkNumber The 1-based number of the chunk
+		 * @param chunkIdCount The number of ids in the chunk
+		 * @param totalIdCount The number of ids applied so far, including this chunk
+		 */
+		void chunkApplied(String entityName, int chunkNumber, int chunkIdCount, long totalIdCount);
+	}
+
+	private static final ProgressListener LOGGING_LISTENER = (entityName, chunkNumber, chunkIdCount, totalIdCount) ->
+			log.debugf(
+					"Applied chunk #%s of bulk operation on %s (%s ids, %s in total)",
+					chunkNumber,
+					entityName,
+					chunkIdCount,
+					totalIdCount
+			);
+
+	private final boolean configurable;
+	private int chunkSize;
+	private boolean commitChunks;
+	private final ProgressListener progressListener;
+
+	/**
+	 * Creates the strategy configured by the {@link #CHUNK_SIZE} and {@link #COMMIT_CHUNKS} settings.
+	 */
+	public ChunkedIdsBulkIdStrategy() {
+		this.configurable = true;
+		this.chunkSize = DEFAULT_CHUNK_SIZE;
+		this.progressListener = LOGGING_LISTENER;
+	}
+
+	public ChunkedIdsBulkIdStrategy(int chunkSize, boolean commitChunks, ProgressListener progressListener) {
+		if ( chunkSize < 1 ) {
+			throw new IllegalArgumentException( "Chunk size must be positive : " + chunkSize );
+		}
+		this.configurable = false;
+		this.chunkSize = chunkSize;
+		this.commitChunks = commitChunks;
+		this.progressListener = progressListener == null ? LOGGING_LISTENER : progressListener;
+	}
+
+	@Override
+	public void prepare(
+			JdbcServices jdbcServices,
+			JdbcConnectionAccess jdbcConnectionAccess,
+			MetadataImplementor metadataImplementor,
+			SessionFactoryOptions sessionFactoryOptions) {
+		if ( configurable ) {
+			final ConfigurationService configService = sessionFactoryOptions.getServiceRegistry()
+					.getService( ConfigurationService.class );
+			this.chunkSize = ConfigurationHelper.getInt( CHUNK_SIZE, configService.getSettings(), DEFAULT_CHUNK_SIZE );
+			if ( chunkSize < 1 ) {
+				throw new IllegalArgumentException( "Setting " + CHUNK_SIZE + " must be positive : " + chunkSize );
+			}
+			this.commitChunks = configService.getSetting( COMMIT_CHUNKS, StandardConverters.BOOLEAN, false );
+		}
+
+		final int inExpressionCountLimit = jdbcServices.getDialect().getInExpressionCountLimit();
+		if ( inExpressionCountLimit > 0 && chunkSize > inExpressionCountLimit ) {
+			this.chunkSize = inExpressionCountLimit;
+		}
+	}
+
+	@Override
+	public void release(
+			JdbcServices jdbcServices,
+			JdbcConnectionAccess connectionAccess) {
+		// nothing to do
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	public boolean isCommitChunks() {
+		return commitChunks;
+	}
+
+	@Override
+	public UpdateHandler buildUpdateHandler(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker) {
+		return new ChunkedIdsUpdateHandlerImpl( factory, walker, chunkSize, commitChunks, progressListener );
+	}
+
+	@Override
+	public DeleteHandler buildDeleteHandler(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker) {
+		return new ChunkedIdsDeleteHandlerImpl( factory, walker, chunkSize, commitChunks, progressListener );
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.chunked;
+
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.sql.Delete;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+
+/**
+ * Chunked bulk-id delete handler, deleting the rows of each table one chunk of ids at a time.
+ */
+public class ChunkedIdsDeleteHandlerImpl
+		extends AbstractChunkedIdsBulkIdHandler
+		implements MultiTableBulkIdStrategy.DeleteHandler {
+
+	public ChunkedIdsDeleteHandlerImpl(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker,
+			int chunkSize,
+			boolean commitChunks,
+			ChunkedIdsBulkIdStrategy.ProgressListener progressListener) {
+		super( factory, walker, chunkSize, commitChunks, progressListener );
+
+		for ( Type type : getTargetedQueryable().getPropertyTypes() ) {
+			if ( type.isCollectionType() ) {
+				CollectionType cType = (CollectionType) type;
+				AbstractCollectionPersister cPersister = (AbstractCollectionPersister) factory.getMetamodel().collectionPersister( cType.getRole() );
+				if ( cPersister.isManyToMany() ) {
+					addStatement(
+							idCount -> generateDelete(
+									cPersister.getTableName(),
+									cPersister.getKeyColumnNames(),
+									idCount,
+									"bulk delete - m2m join table cleanup"
+							),
+							NO_PARAMETERS
+					);
+				}
+			}
+		}
+
+		String[] tableNames = getTargetedQueryable().getConstraintOrderedTableNameClosure();
+		String[][] columnNames = getTargetedQueryable().getContraintOrderedTableKeyColumnClosure();
+		for ( int i = 0; i < tableNames.length; i++ ) {
+			final String tableName = tableNames[i];
+			final String[] keyColumnNames = columnNames[i];
+			addStatement( idCount -> generateDelete( tableName, keyColumnNames, idCount, "bulk delete" ), NO_PARAMETERS );
+		}
+	}
+
+	@Override
+	public int execute(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) {
+		return executeChunked( session, queryParameters, "error performing bulk delete" );
+	}
+
+	protected String generateDelete(
+			String tableName,
+			String[] columnNames,
+			int idCount,
+			String comment) {
+		final Delete delete = new Delete()
+				.setTableName( tableName )
+				.setWhere( generateIdsRestriction( columnNames, idCount ) );
+		if ( factory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			delete.setComment( comment );
+		}
+		return delete.toStatementString();
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.chunked;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.internal.ast.tree.AssignmentSpecification;
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.param.ParameterSpecification;
+import org.hibernate.sql.Update;
+
+/**
+ * Chunked bulk-id update handler, updating the affected tables one chunk of ids at a time.
+ */
+public class ChunkedIdsUpdateHandlerImpl
+		extends AbstractChunkedIdsBulkIdHandler
+		implements MultiTableBulkIdStrategy.UpdateHandler {
+
+	public ChunkedIdsUpdateHandlerImpl(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker,
+			int chunkSize,
+			boolean commitChunks,
+			ChunkedIdsBulkIdStrategy.ProgressListener progressListener) {
+		super( factory, walker, chunkSize, commitChunks, progressListener );
+
+		String[] tableNames = getTargetedQueryable().getConstraintOrderedTableNameClosure();
+		String[][] columnNames = getTargetedQueryable().getContraintOrderedTableKeyColumnClosure();
+		for ( int tableIndex = 0; tableIndex < tableNames.length; tableIndex++ ) {
+			final String tableName = tableNames[tableIndex];
+			final String[] keyColumnNames = columnNames[tableIndex];
+			final List<String> assignmentFragments = new ArrayList<>();
+			final List<ParameterSpecification> parameterList = new ArrayList<>();
+
+			final List<AssignmentSpecification> assignmentSpecifications = walker.getAssignmentSpecifications();
+			for ( AssignmentSpecification assignmentSpecification : assignmentSpecifications ) {
+				if ( assignmentSpecification.affectsTable( tableName ) ) {
+					assignmentFragments.add( assignmentSpecification.getSqlAssignmentFragment() );
+					if ( assignmentSpecification.getParameters() != null ) {
+						Collections.addAll( parameterList, assignmentSpecification.getParameters() );
+					}
+				}
+			}
+			if ( !assignmentFragments.isEmpty() ) {
+				addStatement(
+						idCount -> generateUpdate( tableName, keyColumnNames, assignmentFragments, idCount ),
+						parameterList.toArray( new ParameterSpecification[parameterList.size()] )
+				);
+			}
+		}
+	}
+
+	@Override
+	public int execute(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) {
+		return executeChunked( session, queryParameters, "error performing bulk update" );
+	}
+
+	protected String generateUpdate(
+			String tableName,
+			String[] columnNames,
+			List<String> assignmentFragments,
+			int idCount) {
+		final Update update = new Update( dialect() )
+				.setTableName( tableName )
+				.setWhere( generateIdsRestriction( columnNames, idCount ) );
+		for ( String assignmentFragment : assignmentFragments ) {
+			update.appendAssignmentFragment( assignmentFragment );
+		}
+		if ( factory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			update.setComment( "bulk update" );
+		}
+		return update.toStatementString();
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.cte;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.engine.jdbc.env.spi.IdentifierHelper;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.spi.id.AbstractIdsBulkIdHandler;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.param.ParameterSpecification;
+
+/**
+ * Builds and executes the single statement of {@link CteDataModifyingBulkIdStrategy}: a CTE selecting the
+ * ids, one data-modifying CTE per table reading them, and a final count of the ids.
+ */
+public abstract class AbstractCteDataModifyingBulkIdHandler extends
+		AbstractIdsBulkIdHandler {
+
+	private final IdentifierHelper identifierHelper;
+	private final String idCteBaseName;
+	private final String idCteName;
+
+	public AbstractCteDataModifyingBulkIdHandler(SessionFactoryImplementor sessionFactory, HqlSqlWalker walker) {
+		super( sessionFactory, walker );
+		if ( !dialect().supportsDataModifyingCTE() ) {
+			throw new UnsupportedOperationException(
+					"The " + getClass().getSimpleName() +
+							" can only be used with Dialects that support data-modifying statements in CTE!"
+			);
+		}
+
+		final JdbcEnvironment jdbcEnvironment = sessionFactory.getJdbcServices().getJdbcEnvironment();
+		this.identifierHelper = jdbcEnvironment.getIdentifierHelper();
+		this.idCteBaseName = "HT_" + StringHelper.unquote( getTargetedQueryable().getTableName(), jdbcEnvironment.getDialect() );
+		this.idCteName = cteName( idCteBaseName );
+	}
+
+	/**
+	 * The name of a CTE, quoted if identifiers are globally quoted; the names of the data-modifying CTEs are
+	 * derived from the unquoted name of the id CTE, so they are quoted only once
+	 */
+	private String cteName(String unquotedName) {
+		return identifierHelper.applyGlobalQuoting( unquotedName ).render();
+	}
+
+	/**
+	 * The sub-select of the ids from the CTE holding them, for restricting the data-modifying statements
+	 */
+	protected String generateIdSubselect() {
+		return "select " + String.join( ", ", (CharSequence[]) getTargetedQueryable().getIdentifierColumnNames() )
+				+ " from " + idCteName;
+	}
+
+	protected String generateStatement(List<String> modifyingStatements) {
+		final StringBuilder statement = new StringBuilder( "with " )
+				.append( idCteName )
+				.append( " (" )
+				.append( String.join( ", ", (CharSequence[]) getTargetedQueryable().getIdentifierColumnNames() ) )
+				.append( ") as (" )
+				.append( getIdSelect() )
+				.append( ')' );
+		for ( int i = 0; i < modifyingStatements.size(); i++ ) {
+			statement.append( ", " )
+					.append( cteName( idCteBaseName + '_' + i ) )
+					.append( " as (" )
+					.append( modifyingStatements.get( i ) )
+					.append( ')' );
+		}
+		return statement.append( " select count(*) from " ).append( idCteName ).toString();
+	}
+
+	/**
+	 * Execute the statement, binding the parameters of the id select first, then the given ones.
+	 *
+	 * @return The number of ids matching the restrictions
+	 */
+	protected int execute(
+			String statement,
+			List<ParameterSpecification> parameterSpecifications,
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			String errorMessage) {
+		try {
+			try ( PreparedStatement ps = session.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( statement, false ) ) {
+				int position = 1;
+				for ( ParameterSpecification parameterSpecification : getIdSelectParameterSpecifications() ) {
+					position += parameterSpecification.bind( ps, queryParameters, session, position );
+				}
+				for ( ParameterSpecification parameterSpecification : parameterSpecifications ) {
+					position += parameterSpecification.bind( ps, queryParameters, session, position );
+				}
+
+				final ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
+				return rs.next() ? rs.getInt( 1 ) : 0;
+			}
+		}
+		catch ( SQLException e ) {
+			throw convert( e, errorMessage, statement );
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.cte;
+
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+
+/**
+ * This bulk-id strategy runs the whole bulk operation as a single statement: the ids are selected by a CTE,
+ * and each table is updated or deleted by a data-modifying CTE reading them, so that no id is transferred to
+ * the client and no id table is needed:
+ *
+ * <pre>
+ * with HT_Person (id ) as (
+ *     select
+ *         p.id as id
+ *     from
+ *         Person p
+ *     where
+ *         p.name like ?
+ * ),
+ * HT_Person_0 as (
+ *     delete
+ *     from
+ *         Doctor
+ *     where
+ *         ( id ) in (
+ *             select
+ *                 id
+ *             from
+ *                 HT_Person
+ *         )
+ * ),
+ * HT_Person_1 as (
+ *     delete
+ *     from
+ *         Person
+ *     where
+ *         ( id ) in (
+ *             select
+ *                 id
+ *             from
+ *                 HT_Person
+ *         )
+ * )
+ * select
+ *     count(*)
+ * from
+ *     HT_Person
+ * </pre>
+ *
+ * All the sub-statements see the same snapshot of the data, so the restriction is only evaluated once,
+ * before any table is modified.  Requires a Dialect {@link org.hibernate.dialect.Dialect#supportsDataModifyingCTE()
+ * supporting data-modifying statements in CTE}, such as PostgreSQL.
+ */
+public class CteDataModifyingBulkIdStrategy
+		implements MultiTableBulkIdStrategy {
+
+	public static final CteDataModifyingBulkIdStrategy INSTANCE = new CteDataModifyingBulkIdStrategy();
+
+	@Override
+	public void prepare(
+			JdbcServices jdbcServices,
+			JdbcConnectionAccess jdbcConnectionAccess,
+			MetadataImplementor metadataImplementor,
+			SessionFactoryOptions sessionFactoryOptions) {
+		// nothing to do
+	}
+
+	@Override
+	public void release(
+			JdbcServices jdbcServices,
+			JdbcConnectionAccess connectionAccess) {
+		// nothing to do
+	}
+
+	@Override
+	public UpdateHandler buildUpdateHandler(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker) {
+		return new CteDataModifyingUpdateHandlerImpl( factory, walker );
+	}
+
+	@Override
+	public DeleteHandler buildDeleteHandler(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker) {
+		return new CteDataModifyingDeleteHandlerImpl( factory, walker );
+	}
+
+}
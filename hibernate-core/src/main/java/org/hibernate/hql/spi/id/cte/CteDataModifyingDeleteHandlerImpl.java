@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.cte;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.sql.Delete;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+
+/**
+ * Bulk-id delete handler that deletes from all the tables in a single statement, through data-modifying CTE.
+ */
+public class CteDataModifyingDeleteHandlerImpl
+		extends AbstractCteDataModifyingBulkIdHandler
+		implements MultiTableBulkIdStrategy.DeleteHandler {
+
+	private final String delete;
+
+	public CteDataModifyingDeleteHandlerImpl(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker) {
+		super( factory, walker );
+
+		final String idSubselect = generateIdSubselect();
+		final List<String> deletes = new ArrayList<>();
+
+		for ( Type type : getTargetedQueryable().getPropertyTypes() ) {
+			if ( type.isCollectionType() ) {
+				CollectionType cType = (CollectionType) type;
+				AbstractCollectionPersister cPersister = (AbstractCollectionPersister) factory.getMetamodel().collectionPersister( cType.getRole() );
+				if ( cPersister.isManyToMany() ) {
+					deletes.add( generateDelete(
+							cPersister.getTableName(),
+							cPersister.getKeyColumnNames(),
+							idSubselect,
+							"bulk delete - m2m join table cleanup"
+					) );
+				}
+			}
+		}
+
+		String[] tableNames = getTargetedQueryable().getConstraintOrderedTableNameClosure();
+		String[][] columnNames = getTargetedQueryable().getContraintOrderedTableKeyColumnClosure();
+		for ( int i = 0; i < tableNames.length; i++ ) {
+			deletes.add( generateDelete( tableNames[i], columnNames[i], idSubselect, "bulk delete" ) );
+		}
+
+		this.delete = generateStatement( deletes );
+	}
+
+	private String generateDelete(
+			String tableName,
+			String[] columnNames,
+			String idSubselect,
+			String comment) {
+		final Delete delete = new Delete().setTableName( tableName ).setWhere(
+				"(" + String.join( ", ", (CharSequence[]) columnNames ) + ") in ("
+						+ idSubselect + ")" );
+		if ( factory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			delete.setComment( comment );
+		}
+		return delete.toStatementString();
+	}
+
+	@Override
+	public int execute(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) {
+		return execute( delete, Collections.emptyList(), session, queryParameters, "error performing bulk delete" );
+	}
+
+	@Override
+	public String[] getSqlStatements() {
+		return new String[] { delete };
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.cte;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.internal.ast.tree.AssignmentSpecification;
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.param.ParameterSpecification;
+import org.hibernate.sql.Update;
+
+/**
+ * Bulk-id update handler that updates all the affected tables in a single statement, through data-modifying CTE.
+ */
+public class CteDataModifyingUpdateHandlerImpl
+		extends AbstractCteDataModifyingBulkIdHandler
+		implements MultiTableBulkIdStrategy.UpdateHandler {
+
+	private final String update;
+	private final List<ParameterSpecification> assignmentParameterSpecifications = new ArrayList<>();
+
+	public CteDataModifyingUpdateHandlerImpl(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker) {
+		super( factory, walker );
+
+		String[] tableNames = getTargetedQueryable().getConstraintOrderedTableNameClosure();
+		String[][] columnNames = getTargetedQueryable().getContraintOrderedTableKeyColumnClosure();
+		String idSubselect = generateIdSubselect();
+
+		final List<String> updates = new ArrayList<>();
+		for ( int tableIndex = 0; tableIndex < tableNames.length; tableIndex++ ) {
+			boolean affected = false;
+			final List<ParameterSpecification> parameterList = new ArrayList<>();
+			final Update update = new Update( dialect() )
+					.setTableName( tableNames[tableIndex] )
+					.setWhere( "(" + String.join( ", ", (CharSequence[]) columnNames[tableIndex] ) + ") in (" + idSubselect + ")" );
+			if ( factory().getSessionFactoryOptions().isCommentsEnabled() ) {
+				update.setComment( "bulk update" );
+			}
+			final List<AssignmentSpecification> assignmentSpecifications = walker.getAssignmentSpecifications();
+			for ( AssignmentSpecification assignmentSpecification : assignmentSpecifications ) {
+				if ( assignmentSpecification.affectsTable( tableNames[tableIndex] ) ) {
+					affected = true;
+					update.appendAssignmentFragment( assignmentSpecification.getSqlAssignmentFragment() );
+					if ( assignmentSpecification.getParameters() != null ) {
+						Collections.addAll( parameterList, assignmentSpecification.getParameters() );
+					}
+				}
+			}
+			if ( affected ) {
+				updates.add( update.toStatementString() );
+				assignmentParameterSpecifications.addAll( parameterList );
+			}
+		}
+
+		this.update = generateStatement( updates );
+	}
+
+	@Override
+	public String[] getSqlStatements() {
+		return new String[] { update };
+	}
+
+	@Override
+	public int execute(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) {
+		return execute(
+				update,
+				assignmentParameterSpecifications,
+				session,
+				queryParameters,
+				"error performing bulk update"
+		);
+	}
+}
@@ -84,6 +84,11 @@ public class JdbcObserverImpl implements JdbcObserver {
 		session.getEventListenerManager().jdbcExecuteBatchEnd();
 	}
 
+	@Override
+	public void jdbcExecutedSql(String sql) {
+		session.getEventListenerManager().jdbcExecutedSql( sql );
+	}
+
 	@Override
 	public void jdbcReleaseRegistryResourcesStart() {
 		session.getJdbcCoordinator().abortBatch();
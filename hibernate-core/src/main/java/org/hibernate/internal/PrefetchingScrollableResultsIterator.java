@@ -0,0 +1,306 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.HibernateException;
+import org.hibernate.QueryException;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.hql.QueryLoader;
+import org.hibernate.query.spi.CloseableIterator;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.StreamPrefetchExecutor;
+import org.hibernate.resource.jdbc.ResourceRegistry;
+
+/**
+ * Iterates the results of a forward-only {@link ScrollableResultsImpl}, the rows being read ahead from the JDBC
+ * ResultSet, into a bounded buffer, by a background task while the rows already read are turned into results
+ * by the calling thread.  The JDBC fetch size of the query still determines the number of rows transferred per
+ * round trip to the database; the size of the buffer bounds the number of rows held in memory ahead of the
+ * results.
+ * <p/>
+ * The background task buffers the values of each row as read by their Hibernate Type.  Only HQL queries whose
+ * rows are read without executing other statements, i.e. selecting values of basic types, are supported, see
+ * {@link QueryLoader#isReadAheadSupported()}: the ResultSet is then the only use of the Connection, as long as
+ * the Session is not used to execute other statements until the stream is closed.
+ * <p/>
+ * The background task is run by the {@link StreamPrefetchExecutor} service.  It stops once the iterator is closed,
+ * or before the Session releases its JDBC resources, e.g. when the Session is closed: the iterator registers the
+ * stopping of the task with the {@link ResourceRegistry} of the Session, which waits for the task to stop before
+ * closing the ResultSet and releasing the Connection.
+ *
+ * @since 5.4
+ */
+public class PrefetchingScrollableResultsIterator<T> implements CloseableIterator<T> {
+	private static final Object[] END = new Object[0];
+	private static final long POLL_TIMEOUT_MILLIS = 100;
+
+	private final ScrollableResultsImpl scrollableResults;
+	private final QueryLoader loader;
+	private final Reader reader;
+	private final ResourceRegistry resourceRegistry;
+	private final Runnable stopReader;
+
+	private boolean closed;
+	private Object[] nextRow;
+	private boolean exhausted;
+
+	/**
+	 * Starts reading the rows of the given ScrollableResults ahead.
+	 *
+	 * @param scrollableResults The forward-only ScrollableResults, positioned before its first row
+	 * @param bufferSize The maximum number of rows read ahead
+	 *
+	 * @throws QueryException If the rows of the query cannot be read ahead, the ScrollableResults being closed
+	 * @throws HibernateException If the reading cannot be started, the ScrollableResults being closed
+	 */
+	public PrefetchingScrollableResultsIterator(ScrollableResultsImplementor scrollableResults, int bufferSize) {
+		if ( !( scrollableResults instanceof ScrollableResultsImpl )
+				|| !( ( (ScrollableResultsImpl) scrollableResults ).getLoader() instanceof QueryLoader )
+				|| !( (QueryLoader) ( (ScrollableResultsImpl) scrollableResults ).getLoader() ).isReadAheadSupported() ) {
+			scrollableResults.close();
+			throw new QueryException(
+					"Query hint [" + QueryHints.STREAM_PREFETCH + "] only applies to HQL queries selecting values of "
+							+ "basic types, without entities, associations, collection fetches nor LOBs"
+			);
+		}
+		this.scrollableResults = (ScrollableResultsImpl) scrollableResults;
+		this.loader = (QueryLoader) this.scrollableResults.getLoader();
+
+		final SharedSessionContractImplementor session = this.scrollableResults.getSession();
+		// the reader does not refer to the iterator, so that an iterator which is not closed can be reclaimed
+		this.reader = new Reader(
+				this.scrollableResults.getResultSet(),
+				loader,
+				session,
+				new ArrayBlockingQueue<>( bufferSize )
+		);
+		this.stopReader = reader::stop;
+		this.resourceRegistry = session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry();
+		resourceRegistry.registerBeforeReleaseAction( stopReader );
+		try {
+			session.getFactory()
+					.getServiceRegistry()
+					.getService( StreamPrefetchExecutor.class )
+					.getExecutor()
+					.execute( reader );
+		}
+		catch (RejectedExecutionException e) {
+			resourceRegistry.unregisterBeforeReleaseAction( stopReader );
+			scrollableResults.close();
+			throw new HibernateException( "Unable to start reading the rows of the stream ahead", e );
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( nextRow == null && !exhausted && !closed ) {
+			nextRow = take();
+			exhausted = nextRow == END;
+		}
+		return !exhausted && !closed;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		final Object[] row = nextRow;
+		nextRow = null;
+
+		final Object result = loader.getReadAheadResult(
+				row,
+				scrollableResults.getQueryParameters().getResultTransformer()
+		);
+		Object[] currentRow = result != null && result.getClass().isArray()
+				? (Object[]) result
+				: new Object[] {result};
+		if ( scrollableResults.getHolderInstantiator() != null ) {
+			currentRow = new Object[] {scrollableResults.getHolderInstantiator().instantiate( currentRow )};
+		}
+		scrollableResults.afterScrollOperation();
+
+		return currentRow.length == 1 ? (T) currentRow[0] : (T) currentRow;
+	}
+
+	private Object[] take() {
+		Object element;
+		try {
+			do {
+				element = reader.buffer.poll( POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS );
+			}
+			while ( element == null && reader.isRunning() );
+			if ( element == null ) {
+				// possibly put right before the reader ended
+				element = reader.buffer.poll();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for the next row", e );
+		}
+
+		if ( element == null ) {
+			if ( reader.completed ) {
+				return END;
+			}
+			exhausted = true;
+			throw new HibernateException( "The JDBC resources of the stream were released before its last row was read" );
+		}
+		if ( element instanceof Failure ) {
+			exhausted = true;
+			final Throwable cause = ( (Failure) element ).cause;
+			if ( cause instanceof SQLException ) {
+				throw scrollableResults.getSession().getJdbcServices().getSqlExceptionHelper().convert(
+						(SQLException) cause,
+						"could not advance using next()"
+				);
+			}
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw new HibernateException( cause );
+		}
+		return (Object[]) element;
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+
+		resourceRegistry.unregisterBeforeReleaseAction( stopReader );
+		reader.buffer.clear();
+		reader.stop();
+		scrollableResults.close();
+	}
+
+	/**
+	 * Reads the rows of the ResultSet into the buffer, until the end of the ResultSet is reached or the reader is
+	 * stopped.  The ResultSet is only closed once the reader is stopped, see {@link #stop()}.
+	 */
+	private static class Reader implements Runnable {
+		private final ResultSet resultSet;
+		private final QueryLoader loader;
+		private final SharedSessionContractImplementor session;
+		private final BlockingQueue<Object> buffer;
+
+		private final AtomicBoolean started = new AtomicBoolean();
+		private final CountDownLatch finished = new CountDownLatch( 1 );
+
+		private volatile boolean stopped;
+		private volatile boolean completed;
+
+		private Reader(
+				ResultSet resultSet,
+				QueryLoader loader,
+				SharedSessionContractImplementor session,
+				BlockingQueue<Object> buffer) {
+			this.resultSet = resultSet;
+			this.loader = loader;
+			this.session = session;
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void run() {
+			if ( !started.compareAndSet( false, true ) ) {
+				// stopped before it was run
+				return;
+			}
+			try {
+				while ( !stopped ) {
+					if ( !resultSet.next() ) {
+						// the end is known even if it cannot be put, e.g. once stopped
+						completed = true;
+						put( END );
+						return;
+					}
+					if ( !put( loader.readAheadRow( resultSet, session ) ) ) {
+						return;
+					}
+				}
+			}
+			catch (Throwable t) {
+				put( new Failure( t ) );
+			}
+			finally {
+				finished.countDown();
+			}
+		}
+
+		private boolean put(Object element) {
+			try {
+				while ( !stopped ) {
+					if ( buffer.offer( element, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS ) ) {
+						return true;
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return false;
+		}
+
+		private boolean isRunning() {
+			return finished.getCount() > 0;
+		}
+
+		/**
+		 * Stops the reader at the next row, or once the pending read returns, and waits for it to stop.  The
+		 * reader is not interrupted, as an interrupt may leave the Connection unusable with some drivers.
+		 */
+		private void stop() {
+			stopped = true;
+			if ( started.compareAndSet( false, true ) ) {
+				// not run yet, and never will
+				finished.countDown();
+				return;
+			}
+			boolean interrupted = false;
+			while ( true ) {
+				try {
+					finished.await();
+					break;
+				}
+				catch (InterruptedException e) {
+					// the resources must not be released while still read
+					interrupted = true;
+				}
+			}
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static class Failure {
+		private final Throwable cause;
+
+		private Failure(Throwable cause) {
+			this.cause = cause;
+		}
+	}
+}
@@ -178,6 +178,7 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 	private final transient CacheImplementor cacheAccess;
 	private final transient org.hibernate.query.spi.NamedQueryRepository namedQueryRepository;
 	private final transient QueryPlanCache queryPlanCache;
+	private final transient SessionRecyclingPool sessionRecyclingPool;
 
 	private final transient CurrentSessionContext currentSessionContext;
 
@@ -253,6 +254,13 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 
 		this.queryPlanCache = new QueryPlanCache( this );
 
+		final int sessionRecyclingPoolSize = ConfigurationHelper.getInt(
+				AvailableSettings.SESSION_RECYCLING_POOL_SIZE,
+				properties,
+				0
+		);
+		this.sessionRecyclingPool = sessionRecyclingPoolSize > 0 ? new SessionRecyclingPool( sessionRecyclingPoolSize ) : null;
+
 		class IntegratorObserver implements SessionFactoryObserver {
 			private ArrayList<Integrator> integrators = new ArrayList<>();
 
@@ -566,6 +574,13 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		return queryPlanCache;
 	}
 
+	/**
+	 * @return The pool of the structures of closed Sessions, or {@code null} if Sessions are not recycled
+	 */
+	SessionRecyclingPool getSessionRecyclingPool() {
+		return sessionRecyclingPool;
+	}
+
 	private Map<String,HibernateException> checkNamedQueries() throws HibernateException {
 		return namedQueryRepository.checkNamedQueries( queryPlanCache );
 	}
@@ -809,6 +824,10 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 			queryPlanCache.cleanup();
 		}
 
+		if ( sessionRecyclingPool != null ) {
+			sessionRecyclingPool.clear();
+		}
+
 		if ( delayedDropAction != null ) {
 			delayedDropAction.perform( serviceRegistry );
 		}
@@ -1179,7 +1198,9 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 			}
 			this.jdbcTimeZone = sessionFactory.getSessionFactoryOptions().getJdbcTimeZone();
 
-			listeners = sessionFactory.getSessionFactoryOptions().getBaselineSessionEventsListenerBuilder().buildBaselineList();
+			listeners = sessionFactory.getSessionFactoryOptions()
+					.getBaselineSessionEventsListenerBuilder()
+					.buildBaselineList( sessionFactory.getStatistics() );
 			queryParametersValidationEnabled = sessionFactory.getSessionFactoryOptions().isQueryParametersValidationEnabled();
 		}
 
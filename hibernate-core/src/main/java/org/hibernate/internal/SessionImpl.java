@@ -102,6 +102,7 @@ import org.hibernate.engine.spi.Status;
 import org.hibernate.engine.spi.TypedValue;
 import org.hibernate.engine.transaction.spi.TransactionImplementor;
 import org.hibernate.engine.transaction.spi.TransactionObserver;
+import org.hibernate.event.internal.DefaultResolveNaturalIdEventListener;
 import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.AutoFlushEvent;
@@ -250,15 +251,27 @@ public final class SessionImpl
 
 	private transient LoadEvent loadEvent; //cached LoadEvent instance
 
+	private transient Boolean defaultNaturalIdResolution;
+
 	private transient boolean discardOnClose;
 
 	private transient TransactionObserver transactionObserver;
 
+	// the pool the persistence context and action queue are returned to on close, if any
+	private transient SessionRecyclingPool sessionRecyclingPool;
+
 	public SessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 		super( factory, options );
 
-		this.actionQueue = new ActionQueue( this );
-		this.persistenceContext = new StatefulPersistenceContext( this );
+		this.sessionRecyclingPool = factory.getSessionRecyclingPool();
+		if ( sessionRecyclingPool == null ) {
+			this.actionQueue = new ActionQueue( this );
+			this.persistenceContext = new StatefulPersistenceContext( this );
+		}
+		else {
+			this.actionQueue = sessionRecyclingPool.checkoutActionQueue( this );
+			this.persistenceContext = sessionRecyclingPool.checkoutPersistenceContext( this );
+		}
 
 		this.sessionOwner = options.getSessionOwner();
 		initializeFromSessionOwner( sessionOwner );
@@ -400,9 +413,7 @@ public final class SessionImpl
 		actionQueue.clear();
 
 		final ClearEvent event = new ClearEvent( this );
-		for ( ClearEventListener listener : listeners( EventType.CLEAR ) ) {
-			listener.onClear( event );
-		}
+		eventListenerGroup( EventType.CLEAR ).fireEventOnEachListener( event, ClearEventListener::onClear );
 	}
 
 
@@ -536,6 +547,9 @@ public final class SessionImpl
 
 	private void managedClose() {
 		log.trace( "Automatically closing session" );
+		// closed while completing the transaction, whose remaining callbacks may still use the persistence
+		// context and action queue
+		sessionRecyclingPool = null;
 		closeWithoutOpenChecks();
 	}
 
@@ -593,7 +607,17 @@ public final class SessionImpl
 	 */
 	@Override
 	protected void cleanupOnClose() {
+		if ( persistenceContext == null ) {
+			// already recycled
+			return;
+		}
 		persistenceContext.clear();
+		if ( sessionRecyclingPool != null && !getTransactionCoordinator().isTransactionActive() ) {
+			sessionRecyclingPool.release( persistenceContext, actionQueue );
+			// from now on owned by the pool, and possibly by another session
+			persistenceContext = null;
+			actionQueue = null;
+		}
 	}
 
 	@Override
@@ -678,16 +702,10 @@ public final class SessionImpl
 		checkOpen();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
-		for ( SaveOrUpdateEventListener listener : listeners( EventType.SAVE_UPDATE ) ) {
-			listener.onSaveOrUpdate( event );
-		}
+		eventListenerGroup( EventType.SAVE_UPDATE ).fireEventOnEachListener( event, SaveOrUpdateEventListener::onSaveOrUpdate );
 		checkNoUnresolvedActionsAfterOperation();
 	}
 
-	private <T> Iterable<T> listeners(EventType<T> type) {
-		return eventListenerGroup( type ).listeners();
-	}
-
 	private <T> EventListenerGroup<T> eventListenerGroup(EventType<T> type) {
 		return getFactory().getServiceRegistry().getService( EventListenerRegistry.class ).getEventListenerGroup( type );
 	}
@@ -709,9 +727,7 @@ public final class SessionImpl
 		checkOpen();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
-		for ( SaveOrUpdateEventListener listener : listeners( EventType.SAVE ) ) {
-			listener.onSaveOrUpdate( event );
-		}
+		eventListenerGroup( EventType.SAVE ).fireEventOnEachListener( event, SaveOrUpdateEventListener::onSaveOrUpdate );
 		checkNoUnresolvedActionsAfterOperation();
 		return event.getResultId();
 	}
@@ -733,9 +749,7 @@ public final class SessionImpl
 		checkOpen();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
-		for ( SaveOrUpdateEventListener listener : listeners( EventType.UPDATE ) ) {
-			listener.onSaveOrUpdate( event );
-		}
+		eventListenerGroup( EventType.UPDATE ).fireEventOnEachListener( event, SaveOrUpdateEventListener::onSaveOrUpdate );
 		checkNoUnresolvedActionsAfterOperation();
 	}
 
@@ -768,9 +782,7 @@ public final class SessionImpl
 	private void fireLock(LockEvent event) {
 		checkOpen();
 		checkTransactionSynchStatus();
-		for ( LockEventListener listener : listeners( EventType.LOCK ) ) {
-			listener.onLock( event );
-		}
+		eventListenerGroup( EventType.LOCK ).fireEventOnEachListener( event, LockEventListener::onLock );
 		delayedAfterCompletion();
 	}
 
@@ -800,9 +812,7 @@ public final class SessionImpl
 			checkTransactionSynchStatus();
 			checkNoUnresolvedActionsBeforeOperation();
 
-			for ( PersistEventListener listener : listeners( EventType.PERSIST ) ) {
-				listener.onPersist( event );
-			}
+			eventListenerGroup( EventType.PERSIST ).fireEventOnEachListener( event, PersistEventListener::onPersist );
 		}
 		catch (MappingException e) {
 			throw exceptionConverter.convert( new IllegalArgumentException( e.getMessage() ) );
@@ -824,9 +834,7 @@ public final class SessionImpl
 		checkTransactionSynchStatus();
 
 		try {
-			for ( PersistEventListener listener : listeners( EventType.PERSIST ) ) {
-				listener.onPersist( event, copiedAlready );
-			}
+			eventListenerGroup( EventType.PERSIST ).fireEventOnEachListener( event, copiedAlready, PersistEventListener::onPersist );
 		}
 		catch ( MappingException e ) {
 			throw exceptionConverter.convert( new IllegalArgumentException( e.getMessage() ) ) ;
@@ -860,9 +868,7 @@ public final class SessionImpl
 	private void firePersistOnFlush(Map copiedAlready, PersistEvent event) {
 		checkOpenOrWaitingForAutoClose();
 		checkTransactionSynchStatus();
-		for ( PersistEventListener listener : listeners( EventType.PERSIST_ONFLUSH ) ) {
-			listener.onPersist( event, copiedAlready );
-		}
+		eventListenerGroup( EventType.PERSIST_ONFLUSH ).fireEventOnEachListener( event, copiedAlready, PersistEventListener::onPersist );
 		delayedAfterCompletion();
 	}
 
@@ -870,9 +876,7 @@ public final class SessionImpl
 		checkOpen();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
-		for ( PersistEventListener listener : listeners( EventType.PERSIST_ONFLUSH ) ) {
-			listener.onPersist( event );
-		}
+		eventListenerGroup( EventType.PERSIST_ONFLUSH ).fireEventOnEachListener( event, PersistEventListener::onPersist );
 		checkNoUnresolvedActionsAfterOperation();
 	}
 
@@ -901,9 +905,7 @@ public final class SessionImpl
 		try {
 			checkTransactionSynchStatus();
 			checkNoUnresolvedActionsBeforeOperation();
-			for ( MergeEventListener listener : listeners( EventType.MERGE ) ) {
-				listener.onMerge( event );
-			}
+			eventListenerGroup( EventType.MERGE ).fireEventOnEachListener( event, MergeEventListener::onMerge );
 			checkNoUnresolvedActionsAfterOperation();
 		}
 		catch ( ObjectDeletedException sse ) {
@@ -923,9 +925,7 @@ public final class SessionImpl
 	private void fireMerge(Map copiedAlready, MergeEvent event) {
 		try {
 			checkTransactionSynchStatus();
-			for ( MergeEventListener listener : listeners( EventType.MERGE ) ) {
-				listener.onMerge( event, copiedAlready );
-			}
+			eventListenerGroup( EventType.MERGE ).fireEventOnEachListener( event, copiedAlready, MergeEventListener::onMerge );
 		}
 		catch ( ObjectDeletedException sse ) {
 			throw exceptionConverter.convert( new IllegalArgumentException( sse ) );
@@ -1011,9 +1011,7 @@ public final class SessionImpl
 	private void fireDelete(DeleteEvent event) {
 		try{
 		checkTransactionSynchStatus();
-		for ( DeleteEventListener listener : listeners( EventType.DELETE ) ) {
-			listener.onDelete( event );
-		}
+		eventListenerGroup( EventType.DELETE ).fireEventOnEachListener( event, DeleteEventListener::onDelete );
 		}
 		catch ( ObjectDeletedException sse ) {
 			throw exceptionConverter.convert( new IllegalArgumentException( sse ) );
@@ -1033,9 +1031,7 @@ public final class SessionImpl
 	private void fireDelete(DeleteEvent event, Set transientEntities) {
 		try{
 		checkTransactionSynchStatus();
-		for ( DeleteEventListener listener : listeners( EventType.DELETE ) ) {
-			listener.onDelete( event, transientEntities );
-		}
+		eventListenerGroup( EventType.DELETE ).fireEventOnEachListener( event, transientEntities, DeleteEventListener::onDelete );
 		}
 		catch ( ObjectDeletedException sse ) {
 			throw exceptionConverter.convert( new IllegalArgumentException( sse ) );
@@ -1283,21 +1279,33 @@ public final class SessionImpl
 	private void fireLoad(LoadEvent event, LoadType loadType) {
 		checkOpenOrWaitingForAutoClose();
 		checkTransactionSynchStatus();
-		for ( LoadEventListener listener : listeners( EventType.LOAD ) ) {
-			listener.onLoad( event, loadType );
-		}
+		eventListenerGroup( EventType.LOAD ).fireEventOnEachListener( event, loadType, LoadEventListener::onLoad );
 		delayedAfterCompletion();
 	}
 
 	private void fireResolveNaturalId(ResolveNaturalIdEvent event) {
 		checkOpenOrWaitingForAutoClose();
 		checkTransactionSynchStatus();
-		for ( ResolveNaturalIdEventListener listener : listeners( EventType.RESOLVE_NATURAL_ID ) ) {
-			listener.onResolveNaturalId( event );
-		}
+		eventListenerGroup( EventType.RESOLVE_NATURAL_ID ).fireEventOnEachListener( event, ResolveNaturalIdEventListener::onResolveNaturalId );
 		delayedAfterCompletion();
 	}
 
+	/**
+	 * Is natural id resolution handled by the {@link DefaultResolveNaturalIdEventListener} alone?  Only then may
+	 * a resolution already cross-referenced in the persistence context be used without firing the event.
+	 */
+	private boolean isDefaultNaturalIdResolution() {
+		if ( defaultNaturalIdResolution == null ) {
+			final EventListenerGroup<ResolveNaturalIdEventListener> group = eventListenerGroup( EventType.RESOLVE_NATURAL_ID );
+			boolean onlyDefault = group.count() == 1;
+			for ( ResolveNaturalIdEventListener listener : group.listeners() ) {
+				onlyDefault = onlyDefault && listener.getClass() == DefaultResolveNaturalIdEventListener.class;
+			}
+			defaultNaturalIdResolution = onlyDefault;
+		}
+		return defaultNaturalIdResolution;
+	}
+
 
 	// refresh() operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -1352,9 +1360,7 @@ public final class SessionImpl
 				}
 			}
 			checkTransactionSynchStatus();
-			for ( RefreshEventListener listener : listeners( EventType.REFRESH ) ) {
-				listener.onRefresh( event );
-			}
+			eventListenerGroup( EventType.REFRESH ).fireEventOnEachListener( event, RefreshEventListener::onRefresh );
 		}
 		catch (RuntimeException e) {
 			if ( !getSessionFactory().getSessionFactoryOptions().isJpaBootstrap() ) {
@@ -1373,9 +1379,7 @@ public final class SessionImpl
 	private void fireRefresh(Map refreshedAlready, RefreshEvent event) {
 		try {
 			checkTransactionSynchStatus();
-			for ( RefreshEventListener listener : listeners( EventType.REFRESH ) ) {
-				listener.onRefresh( event, refreshedAlready );
-			}
+			eventListenerGroup( EventType.REFRESH ).fireEventOnEachListener( event, refreshedAlready, RefreshEventListener::onRefresh );
 			delayedAfterCompletion();
 		}
 		catch (RuntimeException e) {
@@ -1403,9 +1407,7 @@ public final class SessionImpl
 	private void fireReplicate(ReplicateEvent event) {
 		checkOpen();
 		checkTransactionSynchStatus();
-		for ( ReplicateEventListener listener : listeners( EventType.REPLICATE ) ) {
-			listener.onReplicate( event );
-		}
+		eventListenerGroup( EventType.REPLICATE ).fireEventOnEachListener( event, ReplicateEventListener::onReplicate );
 		delayedAfterCompletion();
 	}
 
@@ -1424,9 +1426,7 @@ public final class SessionImpl
 	private void fireEvict(EvictEvent event) {
 		checkOpen();
 		checkTransactionSynchStatus();
-		for ( EvictEventListener listener : listeners( EventType.EVICT ) ) {
-			listener.onEvict( event );
-		}
+		eventListenerGroup( EventType.EVICT ).fireEventOnEachListener( event, EvictEventListener::onEvict );
 		delayedAfterCompletion();
 	}
 
@@ -1441,9 +1441,7 @@ public final class SessionImpl
 			return false;
 		}
 		AutoFlushEvent event = new AutoFlushEvent( querySpaces, this );
-		for ( AutoFlushEventListener listener : listeners( EventType.AUTO_FLUSH ) ) {
-			listener.onAutoFlush( event );
-		}
+		eventListenerGroup( EventType.AUTO_FLUSH ).fireEventOnEachListener( event, AutoFlushEventListener::onAutoFlush );
 		return event.isFlushRequired();
 	}
 
@@ -1457,9 +1455,7 @@ public final class SessionImpl
 			return true;
 		}
 		DirtyCheckEvent event = new DirtyCheckEvent( this );
-		for ( DirtyCheckEventListener listener : listeners( EventType.DIRTY_CHECK ) ) {
-			listener.onDirtyCheck( event );
-		}
+		eventListenerGroup( EventType.DIRTY_CHECK ).fireEventOnEachListener( event, DirtyCheckEventListener::onDirtyCheck );
 		delayedAfterCompletion();
 		return event.isDirty();
 	}
@@ -1480,9 +1476,7 @@ public final class SessionImpl
 			}
 
 			FlushEvent flushEvent = new FlushEvent( this );
-			for ( FlushEventListener listener : listeners( EventType.FLUSH ) ) {
-				listener.onFlush( flushEvent );
-			}
+			eventListenerGroup( EventType.FLUSH ).fireEventOnEachListener( flushEvent, FlushEventListener::onFlush );
 
 			delayedAfterCompletion();
 		}
@@ -2282,9 +2276,7 @@ public final class SessionImpl
 		checkOpenOrWaitingForAutoClose();
 		checkTransactionSynchStatus();
 		InitializeCollectionEvent event = new InitializeCollectionEvent( collection, this );
-		for ( InitializeCollectionEventListener listener : listeners( EventType.INIT_COLLECTION ) ) {
-			listener.onInitializeCollection( event );
-		}
+		eventListenerGroup( EventType.INIT_COLLECTION ).fireEventOnEachListener( event, InitializeCollectionEventListener::onInitializeCollection );
 		delayedAfterCompletion();
 	}
 
@@ -3120,7 +3112,10 @@ public final class SessionImpl
 
 		protected final Serializable resolveNaturalId(Map<String, Object> naturalIdParameters) {
 			performAnyNeededCrossReferenceSynchronizations();
+			return doResolveNaturalId( naturalIdParameters );
+		}
 
+		protected final Serializable doResolveNaturalId(Map<String, Object> naturalIdParameters) {
 			final ResolveNaturalIdEvent event =
 					new ResolveNaturalIdEvent( naturalIdParameters, entityPersister, SessionImpl.this );
 			fireResolveNaturalId( event );
@@ -3295,6 +3290,24 @@ public final class SessionImpl
 			return Collections.singletonMap( naturalIdAttributeName, naturalIdValue );
 		}
 
+		private Serializable resolveSimpleNaturalId(Object naturalIdValue) {
+			performAnyNeededCrossReferenceSynchronizations();
+
+			if ( isDefaultNaturalIdResolution() ) {
+				// fast path : a resolution already known to the persistence context needs neither the event
+				// nor a CachedNaturalId lookup key
+				checkOpenOrWaitingForAutoClose();
+				checkTransactionSynchStatus();
+				final Serializable entityId = getPersistenceContext().getNaturalIdHelper()
+						.findCachedSimpleNaturalIdResolution( entityPersister(), naturalIdValue );
+				if ( entityId != null ) {
+					return entityId;
+				}
+			}
+
+			return doResolveNaturalId( getNaturalIdParameters( naturalIdValue ) );
+		}
+
 		@Override
 		public SimpleNaturalIdLoadAccessImpl<T> setSynchronizationEnabled(boolean synchronizationEnabled) {
 			super.synchronizationEnabled( synchronizationEnabled );
@@ -3304,7 +3317,7 @@ public final class SessionImpl
 		@Override
 		@SuppressWarnings("unchecked")
 		public T getReference(Object naturalIdValue) {
-			final Serializable entityId = resolveNaturalId( getNaturalIdParameters( naturalIdValue ) );
+			final Serializable entityId = resolveSimpleNaturalId( naturalIdValue );
 			if ( entityId == null ) {
 				return null;
 			}
@@ -3314,7 +3327,7 @@ public final class SessionImpl
 		@Override
 		@SuppressWarnings("unchecked")
 		public T load(Object naturalIdValue) {
-			final Serializable entityId = resolveNaturalId( getNaturalIdParameters( naturalIdValue ) );
+			final Serializable entityId = resolveSimpleNaturalId( naturalIdValue );
 			if ( entityId == null ) {
 				return null;
 			}
@@ -3979,6 +3992,10 @@ public final class SessionImpl
 			log.tracef( "Serializing Session [%s]", getSessionIdentifier() );
 		}
 
+		if ( persistenceContext == null ) {
+			throw new IllegalStateException( "Cannot serialize Session [" + getSessionIdentifier() + "] once closed and recycled" );
+		}
+
 		oos.defaultWriteObject();
 
 		persistenceContext.serialize( oos );
@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.spi.ActionQueue;
+
+/**
+ * Keeps the persistence contexts and action queues of closed Sessions for reuse by the Sessions opened next,
+ * see {@link org.hibernate.cfg.AvailableSettings#SESSION_RECYCLING_POOL_SIZE}.
+ * <p/>
+ * A persistence context or action queue is only kept once reset, and only if nothing of its closed Session
+ * remains in it: no entity, proxy, collection, snapshot, loading state, queued action or transaction completion
+ * process.  Otherwise it is left to the garbage collector, as without recycling.
+ */
+final class SessionRecyclingPool {
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( SessionRecyclingPool.class );
+
+	private final ArrayBlockingQueue<StatefulPersistenceContext> persistenceContexts;
+	private final ArrayBlockingQueue<ActionQueue> actionQueues;
+
+	SessionRecyclingPool(int size) {
+		this.persistenceContexts = new ArrayBlockingQueue<>( size );
+		this.actionQueues = new ArrayBlockingQueue<>( size );
+	}
+
+	StatefulPersistenceContext checkoutPersistenceContext(SessionImpl session) {
+		final StatefulPersistenceContext persistenceContext = persistenceContexts.poll();
+		if ( persistenceContext == null ) {
+			return new StatefulPersistenceContext( session );
+		}
+		persistenceContext.reuse( session );
+		return persistenceContext;
+	}
+
+	ActionQueue checkoutActionQueue(SessionImpl session) {
+		final ActionQueue actionQueue = actionQueues.poll();
+		if ( actionQueue == null ) {
+			return new ActionQueue( session );
+		}
+		actionQueue.reuse( session );
+		return actionQueue;
+	}
+
+	/**
+	 * Returns the structures of a closed Session to the pool, once the persistence context is cleared.
+	 */
+	void release(StatefulPersistenceContext persistenceContext, ActionQueue actionQueue) {
+		if ( persistenceContext.resetForReuse() ) {
+			persistenceContexts.offer( persistenceContext );
+		}
+		else {
+			log.debug( "Persistence context of the closed Session still holds state, it is not recycled" );
+		}
+		if ( actionQueue.resetForReuse() ) {
+			actionQueues.offer( actionQueue );
+		}
+		else {
+			log.debug( "Action queue of the closed Session still holds transaction completion processes, it is not recycled" );
+		}
+	}
+
+	void clear() {
+		persistenceContexts.clear();
+		actionQueues.clear();
+	}
+}
@@ -8,9 +8,14 @@ package org.hibernate.internal;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.transaction.SystemException;
 
 import org.hibernate.CacheMode;
@@ -90,7 +95,26 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public Serializable insert(String entityName, Object entity) {
 		checkOpen();
-		EntityPersister persister = getEntityPersister( entityName, entity );
+		return doInsert( getEntityPersister( entityName, entity ), entity );
+	}
+
+	@Override
+	public List<Serializable> insertAll(Collection<?> entities) {
+		checkOpen();
+		final Object[] entityArray = entities.toArray();
+		final Serializable[] ids = new Serializable[entityArray.length];
+		for ( Map.Entry<EntityPersister, List<Integer>> group : groupByPersister( entityArray ).entrySet() ) {
+			final EntityPersister persister = group.getKey();
+			for ( int position : group.getValue() ) {
+				ids[position] = doInsert( persister, entityArray[position] );
+			}
+			// all the rows of an entity type are added to the same JDBC batch
+			getJdbcCoordinator().executeBatch();
+		}
+		return Arrays.asList( ids );
+	}
+
+	private Serializable doInsert(EntityPersister persister, Object entity) {
 		Serializable id = persister.getIdentifierGenerator().generate( this, entity );
 		Object[] state = persister.getPropertyValues( entity );
 		if ( persister.isVersioned() ) {
@@ -126,7 +150,23 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void delete(String entityName, Object entity) {
 		checkOpen();
-		EntityPersister persister = getEntityPersister( entityName, entity );
+		doDelete( getEntityPersister( entityName, entity ), entity );
+	}
+
+	@Override
+	public void deleteAll(Collection<?> entities) {
+		checkOpen();
+		final Object[] entityArray = entities.toArray();
+		for ( Map.Entry<EntityPersister, List<Integer>> group : groupByPersister( entityArray ).entrySet() ) {
+			final EntityPersister persister = group.getKey();
+			for ( int position : group.getValue() ) {
+				doDelete( persister, entityArray[position] );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+	}
+
+	private void doDelete(EntityPersister persister, Object entity) {
 		Serializable id = persister.getIdentifier( entity, this );
 		Object version = persister.getVersion( entity );
 		persister.delete( id, version, entity, this );
@@ -144,7 +184,23 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void update(String entityName, Object entity) {
 		checkOpen();
-		EntityPersister persister = getEntityPersister( entityName, entity );
+		doUpdate( getEntityPersister( entityName, entity ), entity );
+	}
+
+	@Override
+	public void updateAll(Collection<?> entities) {
+		checkOpen();
+		final Object[] entityArray = entities.toArray();
+		for ( Map.Entry<EntityPersister, List<Integer>> group : groupByPersister( entityArray ).entrySet() ) {
+			final EntityPersister persister = group.getKey();
+			for ( int position : group.getValue() ) {
+				doUpdate( persister, entityArray[position] );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+	}
+
+	private void doUpdate(EntityPersister persister, Object entity) {
 		Serializable id = persister.getIdentifier( entity, this );
 		Object[] state = persister.getPropertyValues( entity );
 		Object oldVersion;
@@ -160,6 +216,21 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		persister.update( id, state, null, false, null, oldVersion, entity, null, this );
 	}
 
+	/**
+	 * Groups the positions of the given entities by entity persister, ordering the groups by the first
+	 * occurrence of each entity type, so that each JDBC batch is only interrupted once per entity type.
+	 */
+	private Map<EntityPersister, List<Integer>> groupByPersister(Object[] entities) {
+		final Map<EntityPersister, List<Integer>> positionsByPersister = new LinkedHashMap<>();
+		for ( int i = 0; i < entities.length; i++ ) {
+			positionsByPersister.computeIfAbsent(
+					getEntityPersister( null, entities[i] ),
+					persister -> new ArrayList<>()
+			).add( i );
+		}
+		return positionsByPersister;
+	}
+
 
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
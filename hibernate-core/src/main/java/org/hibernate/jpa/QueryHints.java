@@ -11,6 +11,8 @@ import java.util.Set;
 
 import org.hibernate.graph.GraphSemantic;
 
+import static org.hibernate.annotations.QueryHints.BATCH_GRAPH;
+import static org.hibernate.annotations.QueryHints.DETACHED_RESULTS;
 import static org.hibernate.annotations.QueryHints.CACHEABLE;
 import static org.hibernate.annotations.QueryHints.CACHE_MODE;
 import static org.hibernate.annotations.QueryHints.CACHE_REGION;
@@ -21,6 +23,7 @@ import static org.hibernate.annotations.QueryHints.FOLLOW_ON_LOCKING;
 import static org.hibernate.annotations.QueryHints.NATIVE_LOCKMODE;
 import static org.hibernate.annotations.QueryHints.PASS_DISTINCT_THROUGH;
 import static org.hibernate.annotations.QueryHints.READ_ONLY;
+import static org.hibernate.annotations.QueryHints.STREAM_PREFETCH;
 import static org.hibernate.annotations.QueryHints.TIMEOUT_HIBERNATE;
 import static org.hibernate.annotations.QueryHints.TIMEOUT_JPA;
 
@@ -111,6 +114,12 @@ public class QueryHints {
 
 	public static final String HINT_PASS_DISTINCT_THROUGH = PASS_DISTINCT_THROUGH;
 
+	public static final String HINT_BATCH_GRAPH = BATCH_GRAPH;
+
+	public static final String HINT_DETACHED_RESULTS = DETACHED_RESULTS;
+
+	public static final String HINT_STREAM_PREFETCH = STREAM_PREFETCH;
+
 	private static final Set<String> HINTS = buildHintsSet();
 
 	private static Set<String> buildHintsSet() {
@@ -127,6 +136,9 @@ public class QueryHints {
 		hints.add( HINT_NATIVE_LOCKMODE );
 		hints.add( HINT_FETCHGRAPH );
 		hints.add( HINT_LOADGRAPH );
+		hints.add( HINT_BATCH_GRAPH );
+		hints.add( HINT_DETACHED_RESULTS );
+		hints.add( HINT_STREAM_PREFETCH );
 		return java.util.Collections.unmodifiableSet( hints );
 	}
 
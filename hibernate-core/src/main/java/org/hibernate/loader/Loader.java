@@ -56,6 +56,7 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.event.internal.EvictVisitor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.event.spi.PreLoadEvent;
@@ -323,7 +324,14 @@ public abstract class Loader {
 			throws HibernateException, SQLException {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
-		if ( queryParameters.isReadOnlyInitialized() ) {
+		final boolean detachResults = queryParameters.isDetachedResults() && session.isEventSource();
+		if ( detachResults ) {
+			// detached results are never dirty checked, so there is no need for snapshots,
+			// including those of the entities loaded by subsequent selects
+			persistenceContext.setDefaultReadOnly( true );
+			queryParameters.setReadOnly( true );
+		}
+		else if ( queryParameters.isReadOnlyInitialized() ) {
 			// The read-only/modifiable mode for the query was explicitly set.
 			// Temporarily set the default read-only/modifiable setting to the query's setting.
 			persistenceContext.setDefaultReadOnly( queryParameters.isReadOnly() );
@@ -333,6 +341,10 @@ public abstract class Loader {
 			// Use the default read-only/modifiable from the persistence context instead.
 			queryParameters.setReadOnly( persistenceContext.isDefaultReadOnly() );
 		}
+		// the keys of the entities managed before the load, which stay managed
+		final Set<EntityKey> entityKeysBeforeLoad = detachResults
+				? new HashSet<EntityKey>( persistenceContext.getEntitiesByKey().keySet() )
+				: null;
 		persistenceContext.beforeLoad();
 		List result;
 		try {
@@ -343,6 +355,9 @@ public abstract class Loader {
 				persistenceContext.afterLoad();
 			}
 			persistenceContext.initializeNonLazyCollections();
+			if ( detachResults ) {
+				detachLoadedEntities( (EventSource) session, entityKeysBeforeLoad );
+			}
 		}
 		finally {
 			// Restore the original default
@@ -351,6 +366,48 @@ public abstract class Loader {
 		return result;
 	}
 
+	/**
+	 * Removes the entities loaded by a query executed with detached results, along with their collections and
+	 * proxies, from the persistence context, as an evict does.  Unlike an evict, no event is fired and nothing is
+	 * cascaded: every entity loaded during the query, including those loaded by subsequent selects, is itself
+	 * detached.
+	 */
+	private static void detachLoadedEntities(final EventSource session, final Set<EntityKey> entityKeysBeforeLoad) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		final List<EntityKey> loadedEntityKeys = new ArrayList<>();
+		for ( Object key : persistenceContext.getEntitiesByKey().keySet() ) {
+			if ( !entityKeysBeforeLoad.contains( key ) ) {
+				loadedEntityKeys.add( (EntityKey) key );
+			}
+		}
+
+		for ( EntityKey key : loadedEntityKeys ) {
+			final Object entity = persistenceContext.getEntity( key );
+			final EntityEntry entityEntry = entity == null ? null : persistenceContext.getEntry( entity );
+			if ( entityEntry != null ) {
+				final EntityPersister persister = entityEntry.getPersister();
+				if ( persister.hasNaturalIdentifier() ) {
+					persistenceContext.getNaturalIdHelper().handleEviction( entity, persister, key.getIdentifier() );
+				}
+				if ( persister.hasCollections() ) {
+					new EvictVisitor( session, entity ).process( entity, persister );
+				}
+				persistenceContext.removeEntity( key );
+				persistenceContext.removeEntry( entity );
+			}
+			else {
+				persistenceContext.removeEntity( key );
+			}
+
+			// a proxy for the entity, created or initialized by the load, would otherwise stay bound to the
+			// session while pointing at the detached instance
+			final Object proxy = persistenceContext.removeProxy( key );
+			if ( proxy instanceof HibernateProxy ) {
+				( (HibernateProxy) proxy ).getHibernateLazyInitializer().unsetSession();
+			}
+		}
+	}
+
 	/**
 	 * Loads a single row from the result set.  This is the processing used from the
 	 * ScrollableResults where no collection fetches were encountered.
@@ -1012,6 +1069,7 @@ public abstract class Loader {
 				rs,
 				session,
 				queryParameters.isReadOnly( session ),
+				!queryParameters.isDetachedResults(),
 				afterLoadActions
 		);
 		if ( createSubselects ) {
@@ -1107,6 +1165,7 @@ public abstract class Loader {
 				resultSetId,
 				session,
 				readOnly,
+				true,
 				Collections.emptyList()
 		);
 	}
@@ -1116,6 +1175,7 @@ public abstract class Loader {
 			final Object resultSetId,
 			final SharedSessionContractImplementor session,
 			final boolean readOnly,
+			final boolean postLoadEvents,
 			List<AfterLoadAction> afterLoadActions) throws HibernateException {
 
 		final CollectionPersister[] collectionPersisters = getCollectionPersisters();
@@ -1137,7 +1197,7 @@ public abstract class Loader {
 		final PostLoadEvent post;
 		if ( session.isEventSource() ) {
 			pre = new PreLoadEvent( (EventSource) session );
-			post = new PostLoadEvent( (EventSource) session );
+			post = postLoadEvents ? new PostLoadEvent( (EventSource) session ) : null;
 		}
 		else {
 			pre = null;
@@ -1176,7 +1236,9 @@ public abstract class Loader {
 		// persistence context.
 		if ( hydratedObjects != null ) {
 			for ( Object hydratedObject : hydratedObjects ) {
-				TwoPhaseLoad.postLoad( hydratedObject, session, post );
+				if ( post != null ) {
+					TwoPhaseLoad.postLoad( hydratedObject, session, post );
+				}
 				if ( afterLoadActions != null ) {
 					for ( AfterLoadAction afterLoadAction : afterLoadActions ) {
 						final EntityEntry entityEntry = session.getPersistenceContext().getEntry( hydratedObject );
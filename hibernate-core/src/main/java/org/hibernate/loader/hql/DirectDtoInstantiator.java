@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.hql;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.HibernateException;
+import org.hibernate.QueryException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.type.Type;
+
+/**
+ * Instantiates the class of an HQL constructor expression straight from the ResultSet, through a single
+ * MethodHandle which reads each constructor argument with its {@link Type} and calls the constructor, so that
+ * neither a tuple is built nor {@link Constructor#newInstance} is called for each row.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_DIRECT_DTO_PROJECTION
+ */
+final class DirectDtoInstantiator {
+	private static final MethodType INSTANTIATOR_TYPE = MethodType.methodType(
+			Object.class,
+			ResultSet.class,
+			SharedSessionContractImplementor.class
+	);
+
+	/**
+	 * Two arguments (ResultSet and session) per constructor argument have to fit in the 255 slots of a
+	 * MethodHandle while it is assembled
+	 */
+	private static final int MAX_ARGUMENTS = 120;
+
+	private static final MethodHandle READ;
+
+	static {
+		try {
+			READ = MethodHandles.lookup().findStatic(
+					DirectDtoInstantiator.class,
+					"read",
+					MethodType.methodType(
+							Object.class,
+							Type.class,
+							String[].class,
+							ResultSet.class,
+							SharedSessionContractImplementor.class
+					)
+			);
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new ExceptionInInitializerError( e );
+		}
+	}
+
+	private final Constructor constructor;
+	private final MethodHandle instantiator;
+
+	private DirectDtoInstantiator(Constructor constructor, MethodHandle instantiator) {
+		this.constructor = constructor;
+		this.instantiator = instantiator;
+	}
+
+	/**
+	 * Build the instantiator for the given constructor.
+	 *
+	 * @param constructor The constructor of the constructor expression
+	 * @param types The types of the constructor arguments
+	 * @param columnNames The column aliases of each constructor argument
+	 *
+	 * @return The instantiator, or {@code null} if the constructor arguments cannot be read directly
+	 */
+	static DirectDtoInstantiator build(Constructor constructor, Type[] types, String[][] columnNames) {
+		final Class[] parameterTypes = constructor.getParameterTypes();
+		if ( parameterTypes.length != types.length
+				|| parameterTypes.length != columnNames.length
+				|| parameterTypes.length > MAX_ARGUMENTS ) {
+			return null;
+		}
+		for ( Type type : types ) {
+			if ( type == null ) {
+				return null;
+			}
+		}
+
+		MethodHandle handle;
+		try {
+			ReflectHelper.ensureAccessibility( constructor );
+			handle = MethodHandles.lookup().unreflectConstructor( constructor );
+		}
+		catch (IllegalAccessException | SecurityException e) {
+			return null;
+		}
+
+		// replace each constructor argument, from the last one, by the read of its columns
+		for ( int i = parameterTypes.length - 1; i >= 0; i-- ) {
+			final MethodHandle read = MethodHandles.insertArguments( READ, 0, types[i], columnNames[i] )
+					.asType( INSTANTIATOR_TYPE.changeReturnType( parameterTypes[i] ) );
+			handle = MethodHandles.collectArguments( handle, i, read );
+		}
+
+		// then make all the reads share the same ResultSet and session arguments
+		final int[] reorder = new int[ parameterTypes.length * 2 ];
+		for ( int i = 0; i < reorder.length; i++ ) {
+			reorder[i] = i % 2;
+		}
+		handle = handle.asType( handle.type().changeReturnType( Object.class ) );
+		return new DirectDtoInstantiator( constructor, MethodHandles.permuteArguments( handle, INSTANTIATOR_TYPE, reorder ) );
+	}
+
+	private static Object read(Type type, String[] names, ResultSet rs, SharedSessionContractImplementor session)
+			throws SQLException {
+		return type.nullSafeGet( rs, names, session, null );
+	}
+
+	/**
+	 * Instantiate the class from the current row.
+	 *
+	 * @param rs The ResultSet, positioned on the row
+	 * @param session The session
+	 *
+	 * @return The instance
+	 */
+	Object instantiate(ResultSet rs, SharedSessionContractImplementor session) throws SQLException {
+		try {
+			return (Object) instantiator.invokeExact( rs, session );
+		}
+		catch (SQLException | HibernateException | Error e) {
+			throw e;
+		}
+		catch (Throwable t) {
+			throw new QueryException(
+					"could not instantiate class [" + constructor.getDeclaringClass().getName() + "] from tuple",
+					t
+			);
+		}
+	}
+}
@@ -9,6 +9,7 @@ package org.hibernate.loader.hql;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -21,6 +22,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.QueryException;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -29,12 +31,14 @@ import org.hibernate.event.spi.EventSource;
 import org.hibernate.hql.internal.HolderInstantiator;
 import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
 import org.hibernate.hql.internal.ast.tree.AggregatedSelectExpression;
+import org.hibernate.hql.internal.ast.tree.ConstructorNode;
 import org.hibernate.hql.internal.ast.tree.FromElement;
 import org.hibernate.hql.internal.ast.tree.QueryNode;
 import org.hibernate.hql.internal.ast.tree.SelectClause;
 import org.hibernate.hql.spi.NamedParameterInformation;
 import org.hibernate.hql.spi.ParameterInformation;
 import org.hibernate.internal.IteratorImpl;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.BasicLoader;
 import org.hibernate.loader.spi.AfterLoadAction;
@@ -46,6 +50,7 @@ import org.hibernate.persister.entity.Lockable;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.transform.ResultTransformer;
+import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 
@@ -87,6 +92,7 @@ public class QueryLoader extends BasicLoader {
 
 	private AggregatedSelectExpression aggregatedSelectExpression;
 	private String[] queryReturnAliases;
+	private DirectDtoInstantiator directDtoInstantiator;
 
 	private LockMode[] defaultLockModes;
 
@@ -120,6 +126,21 @@ public class QueryLoader extends BasicLoader {
 		aggregatedSelectExpression = selectClause.getAggregatedSelectExpression();
 		queryReturnAliases = selectClause.getQueryReturnAliases();
 
+		if ( hasScalars
+				&& aggregatedSelectExpression instanceof ConstructorNode
+				&& ( (ConstructorNode) aggregatedSelectExpression ).getConstructor() != null
+				&& ConfigurationHelper.getBoolean(
+						AvailableSettings.QUERY_DIRECT_DTO_PROJECTION,
+						getFactory().getProperties(),
+						false
+				) ) {
+			directDtoInstantiator = DirectDtoInstantiator.build(
+					( (ConstructorNode) aggregatedSelectExpression ).getConstructor(),
+					queryReturnTypes,
+					scalarColumnNames
+			);
+		}
+
 		List collectionFromElements = selectClause.getCollectionFromElements();
 		if ( collectionFromElements != null && collectionFromElements.size() != 0 ) {
 			int length = collectionFromElements.size();
@@ -435,7 +456,23 @@ public class QueryLoader extends BasicLoader {
 			SharedSessionContractImplementor session)
 			throws SQLException, HibernateException {
 
+		if ( isDirectDtoProjection( transformer ) ) {
+			return directDtoInstantiator.instantiate( rs, session );
+		}
+
 		Object[] resultRow = getResultRow( row, rs, session );
+		return getResultColumnOrRow( resultRow, transformer );
+	}
+
+	/**
+	 * Whether the results are instantiated straight from the ResultSet by the {@link DirectDtoInstantiator}: never
+	 * when the query has a result transformer, which then gets the rows as without direct instantiation.
+	 */
+	private boolean isDirectDtoProjection(ResultTransformer transformer) {
+		return directDtoInstantiator != null && transformer == null;
+	}
+
+	private Object getResultColumnOrRow(Object[] resultRow, ResultTransformer transformer) {
 		boolean hasTransform = hasSelectNew() || transformer != null;
 		return ( !hasTransform && resultRow.length == 1 ?
 				resultRow[0] :
@@ -443,6 +480,75 @@ public class QueryLoader extends BasicLoader {
 		);
 	}
 
+	/**
+	 * Whether the rows of this query can be read ahead of their processing, i.e. whether the query only selects
+	 * values which their Type reads from the ResultSet without executing other statements, nor keeping a
+	 * reference to the row: no entities, associations nor LOBs.
+	 *
+	 * @see #readAheadRow
+	 */
+	public boolean isReadAheadSupported() {
+		if ( !hasScalars || collectionPersisters != null ) {
+			return false;
+		}
+		for ( Type type : queryReturnTypes ) {
+			if ( !isReadAheadSupported( type ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isReadAheadSupported(Type type) {
+		if ( type == null || type.isAssociationType() ) {
+			return false;
+		}
+		if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				if ( !isReadAheadSupported( subtype ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		for ( int sqlType : type.sqlTypes( getFactory() ) ) {
+			if ( sqlType == Types.BLOB || sqlType == Types.CLOB || sqlType == Types.NCLOB ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Read the values selected by the current row of a query {@link #isReadAheadSupported() supporting read ahead},
+	 * as hydrated by their Type.
+	 *
+	 * @param rs The ResultSet, positioned on the row
+	 * @param session The session
+	 *
+	 * @return The values of the row
+	 */
+	public Object[] readAheadRow(ResultSet rs, SharedSessionContractImplementor session) throws SQLException {
+		return getResultRow( null, rs, session );
+	}
+
+	/**
+	 * Build the result of a row read by {@link #readAheadRow}, as {@link #loadSingleRow} does when positioned on
+	 * the row.
+	 *
+	 * @param values The values of the row
+	 * @param transformer The result transformer of the query
+	 *
+	 * @return The result
+	 */
+	public Object getReadAheadResult(Object[] values, ResultTransformer transformer) {
+		if ( isDirectDtoProjection( transformer ) ) {
+			// instantiated from the values, as the tuples of the query cache
+			return buildHolderInstantiator( transformer ).instantiate( values );
+		}
+		return getResultColumnOrRow( values, transformer );
+	}
+
 	@Override
 	protected Object[] getResultRow(Object[] row, ResultSet rs, SharedSessionContractImplementor session)
 			throws SQLException, HibernateException {
@@ -468,6 +574,10 @@ public class QueryLoader extends BasicLoader {
 		HolderInstantiator holderInstantiator = buildHolderInstantiator( resultTransformer );
 		if ( holderInstantiator.isRequired() ) {
 			for ( int i = 0; i < results.size(); i++ ) {
+				if ( isDirectDtoProjection( resultTransformer ) && !( results.get( i ) instanceof Object[] ) ) {
+					// already instantiated from the ResultSet (results of the query cache are tuples)
+					continue;
+				}
 				Object[] row = (Object[]) results.get( i );
 				Object result = holderInstantiator.instantiate( row );
 				results.set( i, result );
@@ -573,7 +683,9 @@ public class QueryLoader extends BasicLoader {
 		return scroll(
 				queryParameters,
 				queryReturnTypes,
-				buildHolderInstantiator( queryParameters.getResultTransformer() ),
+				isDirectDtoProjection( queryParameters.getResultTransformer() )
+						? HolderInstantiator.NOOP_INSTANTIATOR
+						: buildHolderInstantiator( queryParameters.getResultTransformer() ),
 				session
 		);
 	}
@@ -46,6 +46,7 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -72,6 +73,7 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistenceContext.NaturalIdHelper;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -248,6 +250,7 @@ public abstract class AbstractEntityPersister
 	private String sqlVersionSelectString;
 	private String sqlSnapshotSelectString;
 	private Map<String,String> sqlLazySelectStringsByFetchGroup;
+	private Map<String,String> sqlLazyBatchSelectStringsByFetchGroup;
 
 	private String sqlIdentityInsertString;
 	private String sqlUpdateByRowIdString;
@@ -334,6 +337,7 @@ public abstract class AbstractEntityPersister
 	protected abstract String filterFragment(String alias, Set<String> treatAsDeclarations);
 
 	private static final String DISCRIMINATOR_ALIAS = "clazz_";
+	private static final String LAZY_BATCH_KEY_ALIAS = "lazy_key_";
 
 	public String getDiscriminatorColumnName() {
 		return DISCRIMINATOR_ALIAS;
@@ -416,6 +420,10 @@ public abstract class AbstractEntityPersister
 		return sqlLazySelectStringsByFetchGroup.get( fetchGroup );
 	}
 
+	protected String getSQLLazyBatchSelectString(String fetchGroup) {
+		return sqlLazyBatchSelectStringsByFetchGroup.get( fetchGroup );
+	}
+
 	protected String[] getSQLDeleteStrings() {
 		return sqlDeleteStrings;
 	}
@@ -952,6 +960,10 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 
+		if ( factory.getSessionFactoryOptions().isCompactCacheEntriesEnabled() ) {
+			return new CompactCacheEntryHelper( this );
+		}
+
 		return factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled()
 				? new StructuredCacheEntryHelper( this )
 				: new StandardCacheEntryHelper( this );
@@ -968,6 +980,23 @@ public abstract class AbstractEntityPersister
 	}
 
 	protected Map<String,String> generateLazySelectStringsByFetchGroup() {
+		return generateLazySelectStringsByFetchGroup( 1 );
+	}
+
+	/**
+	 * Generates the selects initializing the lazy fetch groups of {@code batchSize} instances at once, for
+	 * entities which are batch loadable and have a single column identifier.
+	 *
+	 * @return The batch selects, keyed by fetch group name
+	 */
+	protected Map<String,String> generateLazyBatchSelectStringsByFetchGroup() {
+		if ( !isBatchLoadable() || getIdentifierColumnSpan() != 1 || getIdentifierType().isComponentType() ) {
+			return Collections.emptyMap();
+		}
+		return generateLazySelectStringsByFetchGroup( batchSize );
+	}
+
+	private Map<String,String> generateLazySelectStringsByFetchGroup(int batchSize) {
 		final BytecodeEnhancementMetadata enhancementMetadata = entityMetamodel.getBytecodeEnhancementMetadata();
 		if ( !enhancementMetadata.isEnhancedForLazyLoading()
 				|| !enhancementMetadata.getLazyAttributesMetadata().hasLazyAttributes() ) {
@@ -1014,11 +1043,18 @@ public abstract class AbstractEntityPersister
 
 			result.put(
 					groupName,
-					renderSelect(
-							ArrayHelper.toIntArray( tableNumbers ),
-							ArrayHelper.toIntArray( columnNumbers ),
-							ArrayHelper.toIntArray( formulaNumbers )
-					)
+					batchSize > 1
+							? renderBatchSelect(
+									ArrayHelper.toIntArray( tableNumbers ),
+									ArrayHelper.toIntArray( columnNumbers ),
+									ArrayHelper.toIntArray( formulaNumbers ),
+									batchSize
+							)
+							: renderSelect(
+									ArrayHelper.toIntArray( tableNumbers ),
+									ArrayHelper.toIntArray( columnNumbers ),
+									ArrayHelper.toIntArray( formulaNumbers )
+							)
 			);
 		}
 
@@ -1101,7 +1137,9 @@ public abstract class AbstractEntityPersister
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, cacheAccess );
 			if ( ce != null ) {
 				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
-				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
+				final Object initializedValue = cacheEntry == null
+						? LazyPropertyInitializer.UNFETCHED_PROPERTY
+						: initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
 				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
 					// The following should be redundant, since the setter should have set this already.
 					// interceptor.attributeInitialized(fieldName);
@@ -1160,6 +1198,16 @@ public abstract class AbstractEntityPersister
 				.getLazyAttributesMetadata()
 				.getFetchGroupAttributeDescriptors( fetchGroup );
 
+		final String lazyBatchSelect = getSQLLazyBatchSelectString( fetchGroup );
+		if ( lazyBatchSelect != null ) {
+			final List<Object> batch = session.getPersistenceContext()
+					.getBatchFetchQueue()
+					.getLazyAttributesBatch( this, entity, fetchGroup, batchSize );
+			if ( batch.size() > 1 ) {
+				return initializeLazyPropertiesFromDatastore( fieldName, entity, session, id, batch, lazyBatchSelect );
+			}
+		}
+
 		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
 
 		final String lazySelect = getSQLLazySelectString( fetchGroup );
@@ -1249,6 +1297,113 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * Initializes the fetch group of {@code fieldName} for all the given entities (the first one being
+	 * {@code entity}) using a single select restricted to their identifiers.
+	 */
+	private Object initializeLazyPropertiesFromDatastore(
+			final String fieldName,
+			final Object entity,
+			final SharedSessionContractImplementor session,
+			final Serializable id,
+			final List<Object> batch,
+			final String lazyBatchSelect) {
+
+		LOG.tracef( "Initializing lazy properties of %s instances from datastore", batch.size() );
+
+		final String fetchGroup = getEntityMetamodel().getBytecodeEnhancementMetadata()
+				.getLazyAttributesMetadata()
+				.getFetchGroupName( fieldName );
+		final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors = getEntityMetamodel().getBytecodeEnhancementMetadata()
+				.getLazyAttributesMetadata()
+				.getFetchGroupAttributeDescriptors( fetchGroup );
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+
+		try {
+			Object result = null;
+			PreparedStatement ps = null;
+			try {
+				ResultSet rs = null;
+				try {
+					ps = session.getJdbcCoordinator()
+							.getStatementPreparer()
+							.prepareStatement( lazyBatchSelect );
+					for ( int i = 0; i < batchSize; i++ ) {
+						// pad the restriction using the identifier of the entity demanding the load
+						final Object batchEntity = i < batch.size() ? batch.get( i ) : entity;
+						getIdentifierType().nullSafeSet( ps, getIdentifier( batchEntity, session ), i + 1, session );
+					}
+					rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
+					while ( rs.next() ) {
+						final Serializable rowId = (Serializable) getIdentifierType().nullSafeGet(
+								rs,
+								LAZY_BATCH_KEY_ALIAS,
+								session,
+								null
+						);
+						final Object rowEntity = persistenceContext.getEntity( session.generateEntityKey( rowId, this ) );
+						final EntityEntry rowEntry = rowEntity == null ? null : persistenceContext.getEntry( rowEntity );
+						if ( rowEntry == null ) {
+							continue;
+						}
+						final InterceptorImplementor rowInterceptor = ( (PersistentAttributeInterceptable) rowEntity )
+								.$$_hibernate_getInterceptor();
+						final Set<String> initializedLazyAttributeNames = rowInterceptor.getInitializedLazyAttributeNames();
+
+						for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+							if ( initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() ) ) {
+								// its already been initialized (e.g. by a write) so we don't want to overwrite
+								continue;
+							}
+
+							final Object selectedValue = fetchGroupAttributeDescriptor.getType().nullSafeGet(
+									rs,
+									lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
+									session,
+									rowEntity
+							);
+
+							final boolean set = initializeLazyProperty(
+									fieldName,
+									rowEntity,
+									session,
+									rowEntry,
+									fetchGroupAttributeDescriptor.getLazyIndex(),
+									selectedValue
+							);
+							if ( set && rowEntity == entity ) {
+								result = selectedValue;
+							}
+							rowInterceptor.attributeInitialized( fetchGroupAttributeDescriptor.getName() );
+						}
+					}
+				}
+				finally {
+					if ( rs != null ) {
+						session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( rs, ps );
+					}
+				}
+			}
+			finally {
+				if ( ps != null ) {
+					session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( ps );
+					session.getJdbcCoordinator().afterStatementExecution();
+				}
+			}
+
+			LOG.trace( "Done initializing lazy properties" );
+
+			return result;
+		}
+		catch (SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not initialize lazy properties: " + MessageHelper.infoString( this, id, getFactory() ),
+					lazyBatchSelect
+			);
+		}
+	}
+
 	private Object initializeLazyPropertiesFromCache(
 			final String fieldName,
 			final Object entity,
@@ -3792,6 +3947,9 @@ public abstract class AbstractEntityPersister
 			for ( Map.Entry<String, String> entry : sqlLazySelectStringsByFetchGroup.entrySet() ) {
 				LOG.debugf( " Lazy select (%s) : %s", entry.getKey(), entry.getValue() );
 			}
+			for ( Map.Entry<String, String> entry : sqlLazyBatchSelectStringsByFetchGroup.entrySet() ) {
+				LOG.debugf( " Lazy batch select (%s) : %s", entry.getKey(), entry.getValue() );
+			}
 			if ( sqlVersionSelectString != null ) {
 				LOG.debugf( " Version select: %s", sqlVersionSelectString );
 			}
@@ -4072,6 +4230,40 @@ public abstract class AbstractEntityPersister
 		return select.toStatementString();
 	}
 
+	/**
+	 * Like {@link #renderSelect}, but restricted to {@code batchSize} identifiers rather than one, and also selecting
+	 * the identifier (as {@link #LAZY_BATCH_KEY_ALIAS}) to match the rows to the entity instances.  Only used for
+	 * single column identifiers.
+	 */
+	protected String renderBatchSelect(
+			final int[] tableNumbers,
+			final int[] columnNumbers,
+			final int[] formulaNumbers,
+			final int batchSize) {
+
+		Arrays.sort( tableNumbers );
+
+		final int drivingTable = tableNumbers[0];
+		final String drivingAlias = generateTableAlias( getRootAlias(), drivingTable );
+		final String keyColumn = StringHelper.qualify( drivingAlias, getSubclassTableKeyColumns( drivingTable )[0] );
+		final String where = keyColumn + " in (" + StringHelper.repeat( "?", batchSize, "," ) + ")";
+		final String from = createFrom( drivingTable, drivingAlias );
+
+		final JoinFragment jf = createJoin( tableNumbers, drivingAlias );
+
+		final SelectFragment selectFragment = createSelect( columnNumbers, formulaNumbers );
+
+		final Select select = new Select( getFactory().getDialect() );
+		select.setSelectClause( keyColumn + " as " + LAZY_BATCH_KEY_ALIAS + selectFragment.toFragmentString() );
+		select.setFromClause( from );
+		select.setWhereClause( where );
+		select.setOuterJoins( jf.toFromFragmentString(), jf.toWhereFragmentString() );
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			select.setComment( "batch sequential select " + getEntityName() );
+		}
+		return select.toStatementString();
+	}
+
 	private String getRootAlias() {
 		return StringHelper.generateAlias( getEntityName() );
 	}
@@ -4130,6 +4322,7 @@ public abstract class AbstractEntityPersister
 		//select SQL
 		sqlSnapshotSelectString = generateSnapshotSelectString();
 		sqlLazySelectStringsByFetchGroup = generateLazySelectStringsByFetchGroup();
+		sqlLazyBatchSelectStringsByFetchGroup = generateLazyBatchSelectStringsByFetchGroup();
 		sqlVersionSelectString = generateSelectVersionString();
 		if ( hasInsertGeneratedProperties() ) {
 			sqlInsertGeneratedValuesSelectString = generateInsertGeneratedValuesSelectString();
@@ -4838,6 +5031,17 @@ public abstract class AbstractEntityPersister
 	@Override
 	public void afterInitialize(Object entity, SharedSessionContractImplementor session) {
 		getEntityTuplizer().afterInitialize( entity, session );
+
+		if ( !sqlLazyBatchSelectStringsByFetchGroup.isEmpty() ) {
+			// make the instance available for batch initialization of its lazy fetch groups
+			final EntityEntry entry = session.getPersistenceContext().getEntry( entity );
+			if ( entry != null ) {
+				session.getPersistenceContext().getBatchFetchQueue().addLazyAttributesBatchLoadableEntityKey(
+						entry.getEntityKey(),
+						sqlLazyBatchSelectStringsByFetchGroup.keySet()
+				);
+			}
+		}
 	}
 
 	public String[] getPropertyNames() {
@@ -5563,6 +5767,32 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class CompactCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final CompactCacheEntry structure;
+
+		private CompactCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new CompactCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl(
+					state,
+					persister,
+					version,
+					session,
+					entity
+			);
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
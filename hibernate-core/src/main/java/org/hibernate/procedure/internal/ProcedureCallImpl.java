@@ -44,6 +44,8 @@ import org.hibernate.procedure.ProcedureOutputs;
 import org.hibernate.procedure.spi.ParameterRegistrationImplementor;
 import org.hibernate.procedure.spi.ParameterStrategy;
 import org.hibernate.procedure.spi.ProcedureCallImplementor;
+import org.hibernate.query.KeysetPage;
+import org.hibernate.query.KeysetPageable;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.internal.AbstractProducedQuery;
 import org.hibernate.query.procedure.internal.ProcedureParamBindings;
@@ -430,6 +432,11 @@ public class ProcedureCallImpl<R>
 		throw new UnsupportedOperationException( "Procedure/function calls do not support returning 'return types'" );
 	}
 
+	@Override
+	public KeysetPage<R> getKeysetPage(KeysetPageable<R> pageable) {
+		throw new UnsupportedOperationException( "Procedure/function calls do not support keyset pagination" );
+	}
+
 	@Override
 	public ProcedureCallImplementor<R> setEntity(int position, Object val) {
 		return null;
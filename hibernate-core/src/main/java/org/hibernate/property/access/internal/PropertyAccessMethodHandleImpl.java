@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import javax.persistence.AccessType;
+
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterMethodHandleImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessBuildingException;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterMethodHandleImpl;
+
+/**
+ * PropertyAccess accessing the property through MethodHandles bound to either its field or its
+ * getter/setter pair.
+ *
+ * @see PropertyAccessStrategyMethodHandleImpl
+ */
+public class PropertyAccessMethodHandleImpl implements PropertyAccess {
+	private final PropertyAccessStrategyMethodHandleImpl strategy;
+	private final Getter getter;
+	private final Setter setter;
+
+	/**
+	 * @param accessType The kind of member to access, or {@code null} to determine it from the
+	 * {@link javax.persistence.Access} annotations as {@link PropertyAccessMixedImpl} does
+	 */
+	public PropertyAccessMethodHandleImpl(
+			PropertyAccessStrategyMethodHandleImpl strategy,
+			Class containerJavaType,
+			String propertyName,
+			AccessType accessType) {
+		this.strategy = strategy;
+
+		if ( accessType == null ) {
+			accessType = PropertyAccessMixedImpl.getAccessType( containerJavaType, propertyName );
+		}
+
+		switch ( accessType ) {
+			case FIELD: {
+				final Field field = ReflectHelper.findField( containerJavaType, propertyName );
+				this.getter = new GetterMethodHandleImpl( containerJavaType, propertyName, field );
+				this.setter = new SetterMethodHandleImpl( containerJavaType, propertyName, field );
+				break;
+			}
+			case PROPERTY: {
+				final Method getterMethod = ReflectHelper.findGetterMethod( containerJavaType, propertyName );
+				this.getter = new GetterMethodHandleImpl( containerJavaType, propertyName, getterMethod );
+
+				final Method setterMethod = ReflectHelper.findSetterMethod(
+						containerJavaType,
+						propertyName,
+						getterMethod.getReturnType()
+				);
+				this.setter = new SetterMethodHandleImpl( containerJavaType, propertyName, setterMethod );
+				break;
+			}
+			default: {
+				throw new PropertyAccessBuildingException(
+						"Invalid access type " + accessType + " for property named [" + containerJavaType.getName() + "#" + propertyName + "]"
+				);
+			}
+		}
+	}
+
+	@Override
+	public PropertyAccessStrategy getPropertyAccessStrategy() {
+		return strategy;
+	}
+
+	@Override
+	public Getter getGetter() {
+		return getter;
+	}
+
+	@Override
+	public Setter getSetter() {
+		return setter;
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.internal;
+
+import javax.persistence.AccessType;
+
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+
+/**
+ * Defines a strategy for accessing property values through {@link java.lang.invoke.MethodHandle}s bound
+ * to the field or to the getter/setter pair, which may be non-public.  The members are located the same
+ * way as for the {@link PropertyAccessStrategyFieldImpl field}, {@link PropertyAccessStrategyBasicImpl basic}
+ * and {@link PropertyAccessStrategyMixedImpl mixed} strategies respectively.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_METHOD_HANDLES
+ */
+public class PropertyAccessStrategyMethodHandleImpl implements PropertyAccessStrategy {
+	/**
+	 * Field access, the counterpart of {@link PropertyAccessStrategyFieldImpl}
+	 */
+	public static final PropertyAccessStrategyMethodHandleImpl FIELD = new PropertyAccessStrategyMethodHandleImpl( AccessType.FIELD );
+
+	/**
+	 * Getter/setter access, the counterpart of {@link PropertyAccessStrategyBasicImpl}
+	 */
+	public static final PropertyAccessStrategyMethodHandleImpl PROPERTY = new PropertyAccessStrategyMethodHandleImpl( AccessType.PROPERTY );
+
+	/**
+	 * Access as determined by the {@link javax.persistence.Access} annotations, the counterpart of
+	 * {@link PropertyAccessStrategyMixedImpl}
+	 */
+	public static final PropertyAccessStrategyMethodHandleImpl MIXED = new PropertyAccessStrategyMethodHandleImpl( null );
+
+	private final AccessType accessType;
+
+	private PropertyAccessStrategyMethodHandleImpl(AccessType accessType) {
+		this.accessType = accessType;
+	}
+
+	@Override
+	public PropertyAccess buildPropertyAccess(Class containerJavaType, String propertyName) {
+		return new PropertyAccessMethodHandleImpl( this, containerJavaType, propertyName, accessType );
+	}
+}
@@ -9,6 +9,8 @@ package org.hibernate.property.access.internal;
 import java.util.Map;
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.property.access.spi.PropertyAccessStrategyResolver;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
@@ -28,6 +30,9 @@ public class PropertyAccessStrategyResolverInitiator implements StandardServiceI
 
 	@Override
 	public PropertyAccessStrategyResolver initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
-		return new PropertyAccessStrategyResolverStandardImpl( registry );
+		return new PropertyAccessStrategyResolverStandardImpl(
+				registry,
+				ConfigurationHelper.getBoolean( AvailableSettings.USE_METHOD_HANDLES, configurationValues, false )
+		);
 	}
 }
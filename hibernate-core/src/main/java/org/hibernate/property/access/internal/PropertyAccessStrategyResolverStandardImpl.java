@@ -23,9 +23,19 @@ import org.hibernate.service.ServiceRegistry;
  */
 public class PropertyAccessStrategyResolverStandardImpl implements PropertyAccessStrategyResolver {
 	private final ServiceRegistry serviceRegistry;
+	private final boolean useMethodHandles;
 
 	public PropertyAccessStrategyResolverStandardImpl(ServiceRegistry serviceRegistry) {
+		this( serviceRegistry, false );
+	}
+
+	/**
+	 * @param useMethodHandles Whether the field, basic and mixed strategies should be replaced by their
+	 * {@link PropertyAccessStrategyMethodHandleImpl MethodHandle based} counterparts
+	 */
+	public PropertyAccessStrategyResolverStandardImpl(ServiceRegistry serviceRegistry, boolean useMethodHandles) {
 		this.serviceRegistry = serviceRegistry;
+		this.useMethodHandles = useMethodHandles;
 	}
 
 	@Override
@@ -51,7 +61,9 @@ public class PropertyAccessStrategyResolverStandardImpl implements PropertyAcces
 			return BuiltInPropertyAccessStrategies.MAP.getStrategy();
 		}
 		else {
-			return BuiltInPropertyAccessStrategies.BASIC.getStrategy();
+			return useMethodHandles
+					? PropertyAccessStrategyMethodHandleImpl.PROPERTY
+					: BuiltInPropertyAccessStrategies.BASIC.getStrategy();
 		}
 	}
 
@@ -60,12 +72,32 @@ public class PropertyAccessStrategyResolverStandardImpl implements PropertyAcces
 				explicitAccessStrategyName
 		);
 		if ( builtInStrategyEnum != null ) {
-			return builtInStrategyEnum.getStrategy();
+			return useMethodHandles
+					? resolveMethodHandleStrategy( builtInStrategyEnum )
+					: builtInStrategyEnum.getStrategy();
+		}
+		else if ( useMethodHandles
+				&& BuiltInPropertyAccessStrategies.MIXED.getExternalName().equals( explicitAccessStrategyName ) ) {
+			return PropertyAccessStrategyMethodHandleImpl.MIXED;
 		}
 
 		return strategySelectorService().resolveStrategy( PropertyAccessStrategy.class, explicitAccessStrategyName );
 	}
 
+	private static PropertyAccessStrategy resolveMethodHandleStrategy(BuiltInPropertyAccessStrategies builtInStrategyEnum) {
+		switch ( builtInStrategyEnum ) {
+			case BASIC: {
+				return PropertyAccessStrategyMethodHandleImpl.PROPERTY;
+			}
+			case FIELD: {
+				return PropertyAccessStrategyMethodHandleImpl.FIELD;
+			}
+			default: {
+				return builtInStrategyEnum.getStrategy();
+			}
+		}
+	}
+
 	private StrategySelector strategySelectorService;
 
 	protected StrategySelector strategySelectorService() {
@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.spi;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.ReflectHelper;
+
+/**
+ * Getter implementation reading the property through a {@link MethodHandle} bound to either the
+ * field or the getter method, rather than through {@link Field#get} or {@link Method#invoke}.
+ * <p/>
+ * The handle is resolved once, when the Getter is built, and adapted to the {@code (Object)Object}
+ * type so that it can be invoked exactly; primitive values are boxed by the handle itself.
+ *
+ * @see org.hibernate.property.access.internal.PropertyAccessStrategyMethodHandleImpl
+ */
+public class GetterMethodHandleImpl implements Getter {
+	private static final MethodType GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final Class containerClass;
+	private final String propertyName;
+	private final Member member;
+	private final Method getterMethod;
+
+	private final transient MethodHandle methodHandle;
+
+	public GetterMethodHandleImpl(Class containerClass, String propertyName, Field field) {
+		this.containerClass = containerClass;
+		this.propertyName = propertyName;
+		this.member = field;
+		this.getterMethod = ReflectHelper.findGetterMethodForFieldAccess( field, propertyName );
+
+		ReflectHelper.ensureAccessibility( field );
+		try {
+			this.methodHandle = MethodHandles.lookup().unreflectGetter( field ).asType( GETTER_TYPE );
+		}
+		catch (IllegalAccessException e) {
+			throw new PropertyAccessBuildingException(
+					"Unable to build MethodHandle for field [" + field.toGenericString() + "] of persistent property ["
+							+ containerClass.getName() + "#" + propertyName + "]",
+					e
+			);
+		}
+	}
+
+	public GetterMethodHandleImpl(Class containerClass, String propertyName, Method getterMethod) {
+		this.containerClass = containerClass;
+		this.propertyName = propertyName;
+		this.member = getterMethod;
+		this.getterMethod = getterMethod;
+
+		ReflectHelper.ensureAccessibility( getterMethod );
+		try {
+			this.methodHandle = MethodHandles.lookup().unreflect( getterMethod ).asType( GETTER_TYPE );
+		}
+		catch (IllegalAccessException e) {
+			throw new PropertyAccessBuildingException(
+					"Unable to build MethodHandle for getter [" + getterMethod.toGenericString()
+							+ "] of persistent property [" + containerClass.getName() + "#" + propertyName + "]",
+					e
+			);
+		}
+	}
+
+	@Override
+	public Object get(Object owner) {
+		try {
+			return methodHandle.invokeExact( owner );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable t) {
+			throw new PropertyAccessException(
+					t,
+					"Exception occurred inside",
+					false,
+					containerClass,
+					propertyName
+			);
+		}
+	}
+
+	@Override
+	public Object getForInsert(Object owner, Map mergeMap, SharedSessionContractImplementor session) {
+		return get( owner );
+	}
+
+	@Override
+	public Class getReturnType() {
+		return member instanceof Field ? ( (Field) member ).getType() : getterMethod.getReturnType();
+	}
+
+	@Override
+	public Member getMember() {
+		return member;
+	}
+
+	@Override
+	public String getMethodName() {
+		return getterMethod != null ? getterMethod.getName() : null;
+	}
+
+	@Override
+	public Method getMethod() {
+		return getterMethod;
+	}
+
+	private Object writeReplace() throws ObjectStreamException {
+		return new SerialForm( containerClass, propertyName, member );
+	}
+
+	private static class SerialForm implements Serializable {
+		private final Class containerClass;
+		private final String propertyName;
+
+		private final Class declaringClass;
+		private final String memberName;
+		private final boolean field;
+
+		private SerialForm(Class containerClass, String propertyName, Member member) {
+			this.containerClass = containerClass;
+			this.propertyName = propertyName;
+			this.declaringClass = member.getDeclaringClass();
+			this.memberName = member.getName();
+			this.field = member instanceof Field;
+		}
+
+		private Object readResolve() {
+			try {
+				if ( field ) {
+					return new GetterMethodHandleImpl(
+							containerClass,
+							propertyName,
+							declaringClass.getDeclaredField( memberName )
+					);
+				}
+				else {
+					return new GetterMethodHandleImpl(
+							containerClass,
+							propertyName,
+							declaringClass.getDeclaredMethod( memberName )
+					);
+				}
+			}
+			catch (NoSuchFieldException | NoSuchMethodException e) {
+				throw new PropertyAccessSerializationException(
+						"Unable to resolve getter member on deserialization : " + declaringClass.getName() + "#"
+								+ memberName
+				);
+			}
+		}
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.spi;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.PropertySetterAccessException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.internal.util.type.PrimitiveWrapperHelper;
+
+/**
+ * Setter implementation writing the property through a {@link MethodHandle} bound to either the
+ * field or the setter method, rather than through {@link Field#set} or {@link Method#invoke}.
+ * <p/>
+ * The handle is resolved once, when the Setter is built, and adapted to the {@code (Object,Object)void}
+ * type so that it can be invoked exactly; primitive values are unboxed by the handle itself.
+ *
+ * @see org.hibernate.property.access.internal.PropertyAccessStrategyMethodHandleImpl
+ */
+public class SetterMethodHandleImpl implements Setter {
+	private static final MethodType SETTER_TYPE = MethodType.methodType( void.class, Object.class, Object.class );
+
+	private final Class containerClass;
+	private final String propertyName;
+	private final Member member;
+	private final Method setterMethod;
+	private final Class propertyType;
+
+	private final transient MethodHandle methodHandle;
+
+	public SetterMethodHandleImpl(Class containerClass, String propertyName, Field field) {
+		this.containerClass = containerClass;
+		this.propertyName = propertyName;
+		this.member = field;
+		this.propertyType = field.getType();
+		this.setterMethod = ReflectHelper.setterMethodOrNull( containerClass, propertyName, field.getType() );
+
+		ReflectHelper.ensureAccessibility( field );
+		try {
+			this.methodHandle = MethodHandles.lookup().unreflectSetter( field ).asType( SETTER_TYPE );
+		}
+		catch (IllegalAccessException e) {
+			throw new PropertyAccessBuildingException(
+					"Unable to build MethodHandle for field [" + field.toGenericString() + "] of persistent property ["
+							+ containerClass.getName() + "#" + propertyName + "]",
+					e
+			);
+		}
+	}
+
+	public SetterMethodHandleImpl(Class containerClass, String propertyName, Method setterMethod) {
+		this.containerClass = containerClass;
+		this.propertyName = propertyName;
+		this.member = setterMethod;
+		this.propertyType = setterMethod.getParameterTypes()[0];
+		this.setterMethod = setterMethod;
+
+		ReflectHelper.ensureAccessibility( setterMethod );
+		try {
+			this.methodHandle = MethodHandles.lookup().unreflect( setterMethod ).asType( SETTER_TYPE );
+		}
+		catch (IllegalAccessException e) {
+			throw new PropertyAccessBuildingException(
+					"Unable to build MethodHandle for setter [" + setterMethod.toGenericString()
+							+ "] of persistent property [" + containerClass.getName() + "#" + propertyName + "]",
+					e
+			);
+		}
+	}
+
+	@Override
+	public void set(Object target, Object value, SessionFactoryImplementor factory) {
+		try {
+			methodHandle.invokeExact( target, value );
+		}
+		catch (NullPointerException npe) {
+			if ( value == null && propertyType.isPrimitive() ) {
+				throw new PropertyAccessException(
+						npe,
+						"Null value was assigned to a property of primitive type",
+						true,
+						containerClass,
+						propertyName
+				);
+			}
+			throw exceptionOccurredInside( npe );
+		}
+		catch (ClassCastException cce) {
+			if ( value != null && !isAssignable( value ) ) {
+				throw new PropertySetterAccessException(
+						cce,
+						containerClass,
+						propertyName,
+						propertyType,
+						target,
+						value
+				);
+			}
+			throw exceptionOccurredInside( cce );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable t) {
+			throw exceptionOccurredInside( t );
+		}
+	}
+
+	private boolean isAssignable(Object value) {
+		final Class argumentType = propertyType.isPrimitive()
+				? PrimitiveWrapperHelper.getDescriptorByPrimitiveType( propertyType ).getWrapperClass()
+				: propertyType;
+		return argumentType.isInstance( value );
+	}
+
+	private PropertyAccessException exceptionOccurredInside(Throwable t) {
+		return new PropertyAccessException(
+				t,
+				"Exception occurred inside",
+				true,
+				containerClass,
+				propertyName
+		);
+	}
+
+	@Override
+	public String getMethodName() {
+		return setterMethod != null ? setterMethod.getName() : null;
+	}
+
+	@Override
+	public Method getMethod() {
+		return setterMethod;
+	}
+
+	private Object writeReplace() throws ObjectStreamException {
+		return new SerialForm( containerClass, propertyName, member, propertyType );
+	}
+
+	private static class SerialForm implements Serializable {
+		private final Class containerClass;
+		private final String propertyName;
+
+		private final Class declaringClass;
+		private final String memberName;
+		private final Class argumentType;
+		private final boolean field;
+
+		private SerialForm(Class containerClass, String propertyName, Member member, Class argumentType) {
+			this.containerClass = containerClass;
+			this.propertyName = propertyName;
+			this.declaringClass = member.getDeclaringClass();
+			this.memberName = member.getName();
+			this.argumentType = argumentType;
+			this.field = member instanceof Field;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object readResolve() {
+			try {
+				if ( field ) {
+					return new SetterMethodHandleImpl(
+							containerClass,
+							propertyName,
+							declaringClass.getDeclaredField( memberName )
+					);
+				}
+				else {
+					return new SetterMethodHandleImpl(
+							containerClass,
+							propertyName,
+							declaringClass.getDeclaredMethod( memberName, argumentType )
+					);
+				}
+			}
+			catch (NoSuchFieldException | NoSuchMethodException e) {
+				throw new PropertyAccessSerializationException(
+						"Unable to resolve setter member on deserialization : " + declaringClass.getName() + "#"
+								+ memberName + "(" + argumentType.getName() + ")"
+				);
+			}
+		}
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.List;
+
+/**
+ * A page of query results retrieved by {@link Query#getKeysetPage keyset pagination}, carrying the
+ * cursor to the next page.
+ *
+ * @since 5.4
+ */
+public interface KeysetPage<R> {
+	/**
+	 * The pageable this page was retrieved for.
+	 */
+	KeysetPageable<R> getPageable();
+
+	/**
+	 * The results of the page, at most {@link KeysetPageable#getPageSize()} of them.
+	 */
+	List<R> getResults();
+
+	/**
+	 * Are there more results after this page?
+	 */
+	boolean hasNextPage();
+
+	/**
+	 * The pageable for the next page, or {@code null} if this is the last page.
+	 */
+	KeysetPageable<R> getNextPageable();
+
+	/**
+	 * The key of the last result of this page, i.e. the cursor to the next page, or {@code null}
+	 * if this is the last page.
+	 */
+	default Object[] getNextKey() {
+		final KeysetPageable<R> nextPageable = getNextPageable();
+		return nextPageable == null ? null : nextPageable.getLastKey();
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Describes a page to be retrieved by {@link Query#getKeysetPage keyset pagination}: its size,
+ * how to extract the key of a result, and the key of the last result of the previous page (the cursor).
+ * <p/>
+ * The key is made of the values of the query {@code order by} items, in the same order.  For example,
+ * for a query ordered by {@code b.title, b.id}:
+ * <pre>
+ * KeysetPageable&lt;Book&gt; pageable = KeysetPageable.first( 20, b -&gt; new Object[] { b.getTitle(), b.getId() } );
+ * </pre>
+ * The cursor may be carried over to another Session through {@link #getLastKey()} and
+ * {@link #after(int, Function, Object...)}.
+ *
+ * @see KeysetPage
+ *
+ * @since 5.4
+ */
+public final class KeysetPageable<R> {
+	private final int pageSize;
+	private final Function<? super R, Object[]> keyExtractor;
+	private final Object[] lastKey;
+
+	private KeysetPageable(int pageSize, Function<? super R, Object[]> keyExtractor, Object[] lastKey) {
+		if ( pageSize <= 0 ) {
+			throw new IllegalArgumentException( "Page size must be positive : " + pageSize );
+		}
+		if ( keyExtractor == null ) {
+			throw new IllegalArgumentException( "Key extractor must not be null" );
+		}
+		this.pageSize = pageSize;
+		this.keyExtractor = keyExtractor;
+		this.lastKey = lastKey;
+	}
+
+	/**
+	 * The first page of the query results.
+	 *
+	 * @param pageSize The maximum number of results of the page
+	 * @param keyExtractor Extracts the values of the {@code order by} items from a result
+	 */
+	public static <R> KeysetPageable<R> first(int pageSize, Function<? super R, Object[]> keyExtractor) {
+		return new KeysetPageable<>( pageSize, keyExtractor, null );
+	}
+
+	/**
+	 * The page of the query results which directly follow the result with the given key.
+	 *
+	 * @param pageSize The maximum number of results of the page
+	 * @param keyExtractor Extracts the values of the {@code order by} items from a result
+	 * @param lastKey The values of the {@code order by} items of the last result of the previous page;
+	 * none of them may be {@code null}
+	 */
+	public static <R> KeysetPageable<R> after(
+			int pageSize,
+			Function<? super R, Object[]> keyExtractor,
+			Object... lastKey) {
+		if ( lastKey == null || lastKey.length == 0 ) {
+			throw new IllegalArgumentException( "Last key must not be empty" );
+		}
+		return new KeysetPageable<>( pageSize, keyExtractor, lastKey.clone() );
+	}
+
+	/**
+	 * The page following the given result, which is usually the last result of the current page.
+	 */
+	public KeysetPageable<R> next(R lastResult) {
+		return after( pageSize, keyExtractor, keyExtractor.apply( lastResult ) );
+	}
+
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	public Function<? super R, Object[]> getKeyExtractor() {
+		return keyExtractor;
+	}
+
+	/**
+	 * The key of the result preceding the page, or {@code null} for the first page.
+	 */
+	public Object[] getLastKey() {
+		return lastKey == null ? null : lastKey.clone();
+	}
+
+	public boolean isFirst() {
+		return lastKey == null;
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPageable(pageSize=" + pageSize + ", lastKey=" + Arrays.toString( lastKey ) + ")";
+	}
+}
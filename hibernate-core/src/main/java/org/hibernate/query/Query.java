@@ -123,6 +123,23 @@ public interface Query<R> extends TypedQuery<R>, org.hibernate.Query<R>, CommonQ
 		return applyGraph( graph, GraphSemantic.LOAD );
 	}
 
+	/**
+	 * Retrieve a page of the query results using keyset (a.k.a. seek) pagination: rather than skipping
+	 * the results of the previous pages as {@link #setFirstResult} does, the query is restricted to
+	 * the results following the {@link KeysetPageable#getLastKey() last key} of the previous page, so
+	 * that the database can seek to them through an index on the {@code order by} items.
+	 * <p/>
+	 * The query must define an {@code order by} clause whose items uniquely identify a result, for
+	 * example by ending with the identifier.  The first and max results of this query are ignored.
+	 *
+	 * @param pageable The page to retrieve
+	 *
+	 * @return The page of results, carrying the cursor to the next page
+	 *
+	 * @since 5.4
+	 */
+	KeysetPage<R> getKeysetPage(KeysetPageable<R> pageable);
+
 
 	Query<R> setParameter(Parameter<Instant> param, Instant value, TemporalType temporalType);
 
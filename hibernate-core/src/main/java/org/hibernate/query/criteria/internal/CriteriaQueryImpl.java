@@ -288,6 +288,17 @@ public class CriteriaQueryImpl<T> extends AbstractNode implements CriteriaQuery<
 
 	@Override
 	public CriteriaInterpretation interpret(RenderingContext renderingContext) {
+		return interpret( renderJpaql( renderingContext ) );
+	}
+
+	/**
+	 * Render this criteria query as JPQL.
+	 *
+	 * @param renderingContext The rendering context
+	 *
+	 * @return The JPQL
+	 */
+	public String renderJpaql(RenderingContext renderingContext) {
 		final StringBuilder jpaqlBuffer = new StringBuilder();
 
 		queryStructure.render( jpaqlBuffer, renderingContext );
@@ -298,6 +309,18 @@ public class CriteriaQueryImpl<T> extends AbstractNode implements CriteriaQuery<
 
 		log.debugf( "Rendered criteria query -> %s", jpaqlString );
 
+		return jpaqlString;
+	}
+
+	/**
+	 * Interpret this criteria query using an already rendered JPQL form of it (or of a query having the
+	 * same structure).
+	 *
+	 * @param jpaqlString The JPQL
+	 *
+	 * @return The interpretation
+	 */
+	public CriteriaInterpretation interpret(final String jpaqlString) {
 		return new CriteriaInterpretation() {
 			@Override
 			@SuppressWarnings("unchecked")
@@ -23,11 +23,14 @@ import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
 import org.hibernate.query.criteria.LiteralHandlingMode;
+import org.hibernate.query.criteria.internal.CriteriaQueryImpl;
 import org.hibernate.query.criteria.internal.expression.function.FunctionExpression;
 import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.sql.ast.Clause;
 import org.hibernate.type.Type;
 
+import org.jboss.logging.Logger;
+
 /**
  * Compiles a JPA criteria query into an executable {@link TypedQuery}.  Its single contract is the {@link #compile}
  * method.
@@ -38,6 +41,8 @@ import org.hibernate.type.Type;
  * @author Steve Ebersole
  */
 public class CriteriaCompiler implements Serializable {
+	private static final Logger log = Logger.getLogger( CriteriaCompiler.class );
+
 	private final SessionImplementor entityManager;
 
 	public CriteriaCompiler(SessionImplementor entityManager) {
@@ -52,15 +57,31 @@ public class CriteriaCompiler implements Serializable {
 			throw new IllegalArgumentException( "Error occurred validating the Criteria", ise );
 		}
 
-		final Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap = new HashMap<>();
-		final List<ImplicitParameterBinding> implicitParameterBindings = new ArrayList<>();
-
 		final SessionFactoryImplementor sessionFactory = entityManager.getSessionFactory();
 
 		final LiteralHandlingMode criteriaLiteralHandlingMode = sessionFactory
 				.getSessionFactoryOptions()
 				.getCriteriaLiteralHandlingMode();
 
+		CriteriaStructure structure = null;
+		if ( criteria instanceof CriteriaQueryImpl
+				&& sessionFactory.getSessionFactoryOptions().isCriteriaPlanCacheEnabled() ) {
+			structure = CriteriaStructure.resolve( (CriteriaQueryImpl<?>) criteria, criteriaLiteralHandlingMode );
+			if ( structure != null ) {
+				final CriteriaQueryPlan plan = sessionFactory.getQueryPlanCache().getCriteriaQueryPlan( structure.getKey() );
+				if ( plan != null ) {
+					return plan.buildCompiledQuery( entityManager, (CriteriaQueryImpl<?>) criteria, structure );
+				}
+			}
+		}
+
+		final Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap = new HashMap<>();
+		final List<ImplicitParameterBinding> implicitParameterBindings = new ArrayList<>();
+
+		// what got registered while rendering, in order; used to verify the structure before caching the plan
+		final List<ParameterExpression<?>> renderedParameters = new ArrayList<>();
+		final List<Object> renderedLiterals = new ArrayList<>();
+
 		final Dialect dialect = sessionFactory.getServiceRegistry().getService( JdbcServices.class ).getDialect();
 
 		RenderingContext renderingContext = new RenderingContext() {
@@ -116,6 +137,7 @@ public class CriteriaCompiler implements Serializable {
 					}
 
 					explicitParameterInfoMap.put( criteriaQueryParameter, parameterInfo );
+					renderedParameters.add( criteriaQueryParameter );
 				}
 
 				return parameterInfo;
@@ -138,6 +160,7 @@ public class CriteriaCompiler implements Serializable {
 				};
 
 				implicitParameterBindings.add( binding );
+				renderedLiterals.add( literal );
 				return parameterName;
 			}
 
@@ -163,20 +186,47 @@ public class CriteriaCompiler implements Serializable {
 			}
 		};
 
-		return criteria.interpret( renderingContext ).buildCompiledQuery(
-				entityManager,
-				new InterpretedParameterMetadata() {
-					@Override
-					public Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap() {
-						return explicitParameterInfoMap;
-					}
+		final InterpretedParameterMetadata parameterMetadata = new InterpretedParameterMetadata() {
+			@Override
+			public Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap() {
+				return explicitParameterInfoMap;
+			}
 
-					@Override
-					public List<ImplicitParameterBinding> implicitParameterBindings() {
-						return implicitParameterBindings;
-					}
-				}
-		);
+			@Override
+			public List<ImplicitParameterBinding> implicitParameterBindings() {
+				return implicitParameterBindings;
+			}
+		};
+
+		if ( structure == null ) {
+			return criteria.interpret( renderingContext ).buildCompiledQuery( entityManager, parameterMetadata );
+		}
+
+		final CriteriaQueryImpl<?> criteriaQuery = (CriteriaQueryImpl<?>) criteria;
+		final String jpaqlString = criteriaQuery.renderJpaql( renderingContext );
+		if ( sameElements( structure.getParameters(), renderedParameters )
+				&& sameElements( structure.getBoundLiterals(), renderedLiterals ) ) {
+			sessionFactory.getQueryPlanCache().cacheCriteriaQueryPlan(
+					structure.getKey(),
+					new CriteriaQueryPlan( structure, jpaqlString, parameterMetadata )
+			);
+		}
+		else {
+			log.debugf( "Criteria query structure did not match its rendering; not caching plan for : %s", jpaqlString );
+		}
+		return criteriaQuery.interpret( jpaqlString ).buildCompiledQuery( entityManager, parameterMetadata );
+	}
+
+	private static boolean sameElements(List<?> expected, List<?> actual) {
+		if ( expected.size() != actual.size() ) {
+			return false;
+		}
+		for ( int i = 0; i < expected.size(); i++ ) {
+			if ( expected.get( i ) != actual.get( i ) ) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 }
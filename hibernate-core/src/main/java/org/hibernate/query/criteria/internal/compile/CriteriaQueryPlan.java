@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.criteria.internal.compile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.ParameterExpression;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.criteria.internal.CriteriaQueryImpl;
+import org.hibernate.query.criteria.internal.FromImplementor;
+import org.hibernate.query.spi.QueryImplementor;
+
+/**
+ * The cached interpretation of all criteria queries sharing one {@link CriteriaStructure.Key}: the rendered
+ * JPQL together with what is needed to apply it to another criteria query of the same structure.
+ *
+ * @see org.hibernate.engine.query.spi.QueryPlanCache#getCriteriaQueryPlan
+ */
+public class CriteriaQueryPlan {
+	private final String jpaqlString;
+	private final String[] aliases;
+	private final ExplicitParameterInfo<?>[] explicitParameterInfos;
+	private final String[] implicitParameterNames;
+	private final Class[] implicitParameterTypes;
+
+	/**
+	 * Creates the plan from the rendering of the criteria query the given structure was resolved from.
+	 *
+	 * @param structure The structure of the rendered criteria query
+	 * @param jpaqlString The rendered JPQL
+	 * @param parameterMetadata The parameter metadata collected while rendering
+	 */
+	public CriteriaQueryPlan(
+			CriteriaStructure structure,
+			String jpaqlString,
+			InterpretedParameterMetadata parameterMetadata) {
+		this.jpaqlString = jpaqlString;
+
+		final List<FromImplementor<?, ?>> fromNodes = structure.getFromNodes();
+		this.aliases = new String[fromNodes.size()];
+		for ( int i = 0; i < aliases.length; i++ ) {
+			aliases[i] = fromNodes.get( i ).getAlias();
+		}
+
+		final List<ParameterExpression<?>> parameters = structure.getParameters();
+		this.explicitParameterInfos = new ExplicitParameterInfo[parameters.size()];
+		for ( int i = 0; i < explicitParameterInfos.length; i++ ) {
+			explicitParameterInfos[i] = parameterMetadata.explicitParameterInfoMap().get( parameters.get( i ) );
+		}
+
+		final List<ImplicitParameterBinding> implicitParameterBindings = parameterMetadata.implicitParameterBindings();
+		this.implicitParameterNames = new String[implicitParameterBindings.size()];
+		this.implicitParameterTypes = new Class[implicitParameterBindings.size()];
+		for ( int i = 0; i < implicitParameterNames.length; i++ ) {
+			implicitParameterNames[i] = implicitParameterBindings.get( i ).getParameterName();
+			implicitParameterTypes[i] = implicitParameterBindings.get( i ).getJavaType();
+		}
+	}
+
+	public String getJpaqlString() {
+		return jpaqlString;
+	}
+
+	/**
+	 * Build the executable query for a criteria query having the structure this plan was created for, without
+	 * rendering it.
+	 *
+	 * @param entityManager The session the query is created for
+	 * @param criteria The criteria query
+	 * @param structure The structure resolved from {@code criteria}
+	 *
+	 * @return The query
+	 */
+	public QueryImplementor buildCompiledQuery(
+			SessionImplementor entityManager,
+			CriteriaQueryImpl<?> criteria,
+			CriteriaStructure structure) {
+		// apply the aliases rendering would have generated
+		final List<FromImplementor<?, ?>> fromNodes = structure.getFromNodes();
+		for ( int i = 0; i < aliases.length; i++ ) {
+			if ( fromNodes.get( i ).getAlias() == null ) {
+				fromNodes.get( i ).alias( aliases[i] );
+			}
+		}
+
+		final Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap = new HashMap<>();
+		final List<ParameterExpression<?>> parameters = structure.getParameters();
+		for ( int i = 0; i < explicitParameterInfos.length; i++ ) {
+			explicitParameterInfoMap.put( parameters.get( i ), explicitParameterInfos[i] );
+		}
+
+		final List<ImplicitParameterBinding> implicitParameterBindings = new ArrayList<>( implicitParameterNames.length );
+		final List<Object> boundLiterals = structure.getBoundLiterals();
+		for ( int i = 0; i < implicitParameterNames.length; i++ ) {
+			final String parameterName = implicitParameterNames[i];
+			final Class javaType = implicitParameterTypes[i];
+			final Object literal = boundLiterals.get( i );
+			implicitParameterBindings.add(
+					new ImplicitParameterBinding() {
+						public String getParameterName() {
+							return parameterName;
+						}
+
+						public Class getJavaType() {
+							return javaType;
+						}
+
+						public void bind(TypedQuery typedQuery) {
+							typedQuery.setParameter( parameterName, literal );
+						}
+					}
+			);
+		}
+
+		return criteria.interpret( jpaqlString ).buildCompiledQuery(
+				entityManager,
+				new InterpretedParameterMetadata() {
+					@Override
+					public Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap() {
+						return explicitParameterInfoMap;
+					}
+
+					@Override
+					public List<ImplicitParameterBinding> implicitParameterBindings() {
+						return implicitParameterBindings;
+					}
+				}
+		);
+	}
+}
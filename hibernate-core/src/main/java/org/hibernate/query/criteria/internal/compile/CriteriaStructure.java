@@ -0,0 +1,488 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.criteria.internal.compile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Fetch;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.criteria.Subquery;
+
+import org.hibernate.query.criteria.LiteralHandlingMode;
+import org.hibernate.query.criteria.internal.CriteriaQueryImpl;
+import org.hibernate.query.criteria.internal.FromImplementor;
+import org.hibernate.query.criteria.internal.PathSource;
+import org.hibernate.query.criteria.internal.ValueHandlerFactory;
+import org.hibernate.query.criteria.internal.expression.CompoundSelectionImpl;
+import org.hibernate.query.criteria.internal.expression.LiteralExpression;
+import org.hibernate.query.criteria.internal.expression.ParameterExpressionImpl;
+import org.hibernate.query.criteria.internal.path.AbstractJoinImpl;
+import org.hibernate.query.criteria.internal.path.AbstractPathImpl;
+import org.hibernate.query.criteria.internal.path.CollectionAttributeJoin;
+import org.hibernate.query.criteria.internal.path.ListAttributeJoin;
+import org.hibernate.query.criteria.internal.path.MapAttributeJoin;
+import org.hibernate.query.criteria.internal.path.PluralAttributePath;
+import org.hibernate.query.criteria.internal.path.RootImpl;
+import org.hibernate.query.criteria.internal.path.SetAttributeJoin;
+import org.hibernate.query.criteria.internal.path.SingularAttributeJoin;
+import org.hibernate.query.criteria.internal.path.SingularAttributePath;
+import org.hibernate.query.criteria.internal.predicate.BetweenPredicate;
+import org.hibernate.query.criteria.internal.predicate.BooleanStaticAssertionPredicate;
+import org.hibernate.query.criteria.internal.predicate.ComparisonPredicate;
+import org.hibernate.query.criteria.internal.predicate.CompoundPredicate;
+import org.hibernate.query.criteria.internal.predicate.InPredicate;
+import org.hibernate.query.criteria.internal.predicate.LikePredicate;
+import org.hibernate.query.criteria.internal.predicate.NegatedPredicateWrapper;
+import org.hibernate.query.criteria.internal.predicate.NullnessPredicate;
+import org.hibernate.query.criteria.internal.predicate.PredicateImplementor;
+import org.hibernate.sql.ast.Clause;
+
+/**
+ * The structural description of a {@link CriteriaQueryImpl}, used to re-use the interpretation of criteria
+ * queries which are built anew for each execution but always have the same shape.
+ * <p/>
+ * The {@link #getKey() key} covers everything which influences the rendered JPQL (node types, entity and
+ * attribute names, aliases, join types, operators, negation, sort directions, inlined literals, ...) but not
+ * the values of literals which are rendered as parameters, nor the identity of the criteria nodes.  Those
+ * per-instance parts are collected in rendering order so that a cached {@link CriteriaQueryPlan} can be
+ * applied to them.
+ * <p/>
+ * Only a common subset of the criteria API is understood here; for anything else (subqueries, treats,
+ * functions, group by, ...) {@link #resolve} returns {@code null} and the query is simply rendered.
+ */
+public class CriteriaStructure {
+	private static final Object BOUND = new Object();
+
+	private final LiteralHandlingMode literalHandlingMode;
+
+	private final List<Object> tokens = new ArrayList<>();
+	private final Map<From<?, ?>, Integer> fromNodeOrdinals = new IdentityHashMap<>();
+	private final List<FromImplementor<?, ?>> fromNodes = new ArrayList<>();
+	private final Map<ParameterExpression<?>, Integer> parameterOrdinals = new IdentityHashMap<>();
+	private final List<ParameterExpression<?>> parameters = new ArrayList<>();
+	private final List<Object> boundLiterals = new ArrayList<>();
+
+	private Key key;
+
+	private CriteriaStructure(LiteralHandlingMode literalHandlingMode) {
+		this.literalHandlingMode = literalHandlingMode;
+	}
+
+	/**
+	 * Resolve the structure of the given criteria query.
+	 *
+	 * @param criteria The criteria query
+	 * @param literalHandlingMode The literal handling mode the query would be rendered with
+	 *
+	 * @return The structure, or {@code null} if the query uses constructs which are not supported here.
+	 */
+	public static CriteriaStructure resolve(CriteriaQueryImpl<?> criteria, LiteralHandlingMode literalHandlingMode) {
+		final CriteriaStructure structure = new CriteriaStructure( literalHandlingMode );
+		if ( !structure.visitQuery( criteria ) ) {
+			return null;
+		}
+		structure.key = new Key( structure.tokens.toArray() );
+		return structure;
+	}
+
+	public Key getKey() {
+		return key;
+	}
+
+	/**
+	 * The roots, joins and fetches of the query, in the order they are rendered in the from clause.
+	 */
+	public List<FromImplementor<?, ?>> getFromNodes() {
+		return fromNodes;
+	}
+
+	/**
+	 * The distinct explicit parameters, in the order they are first rendered.
+	 */
+	public List<ParameterExpression<?>> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * The values of the literals which are rendered as parameters, in rendering order.
+	 */
+	public List<Object> getBoundLiterals() {
+		return boundLiterals;
+	}
+
+	private boolean visitQuery(CriteriaQueryImpl<?> criteria) {
+		if ( !criteria.getGroupList().isEmpty() || criteria.getGroupRestriction() != null ) {
+			return false;
+		}
+
+		tokens.add( criteria.getResultType() );
+		tokens.add( criteria.isDistinct() );
+
+		// register the from-clause nodes first, they are referenced from all other clauses
+		for ( Root<?> root : criteria.getRoots() ) {
+			if ( root.getClass() != RootImpl.class || !( (RootImpl<?>) root ).getTreats().isEmpty() ) {
+				return false;
+			}
+			tokens.add( RootImpl.class );
+			tokens.add( root.getModel().getName() );
+			registerFromNode( (RootImpl<?>) root );
+		}
+		for ( Root<?> root : criteria.getRoots() ) {
+			if ( !visitJoins( root, root.getJoins() ) || !visitFetches( root, root.getFetches() ) ) {
+				return false;
+			}
+		}
+
+		// then follow the rendering order: select, from (join conditions), where, order by
+		if ( criteria.getSelection() == null ) {
+			if ( criteria.getRoots().size() != 1 ) {
+				return false;
+			}
+			tokens.add( null );
+		}
+		else if ( !visitSelection( criteria.getSelection() ) ) {
+			return false;
+		}
+
+		for ( FromImplementor<?, ?> fromNode : fromNodes ) {
+			if ( fromNode instanceof AbstractJoinImpl ) {
+				final Predicate on = ( (AbstractJoinImpl<?, ?>) fromNode ).getOn();
+				tokens.add( on != null );
+				if ( on != null && !visitExpression( on, Clause.FROM ) ) {
+					return false;
+				}
+			}
+		}
+
+		tokens.add( criteria.getRestriction() != null );
+		if ( criteria.getRestriction() != null && !visitExpression( criteria.getRestriction(), Clause.WHERE ) ) {
+			return false;
+		}
+
+		tokens.add( criteria.getOrderList().size() );
+		for ( Order order : criteria.getOrderList() ) {
+			tokens.add( order.isAscending() );
+			if ( !visitExpression( order.getExpression(), Clause.ORDER ) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private void registerFromNode(FromImplementor<?, ?> fromNode) {
+		fromNodeOrdinals.put( fromNode, fromNodes.size() );
+		fromNodes.add( fromNode );
+		tokens.add( fromNode.getAlias() );
+	}
+
+	private boolean visitJoins(From<?, ?> parent, Collection<? extends Join<?, ?>> joins) {
+		if ( joins == null ) {
+			return true;
+		}
+		for ( Join<?, ?> join : joins ) {
+			if ( !visitJoin( parent, join, false ) ) {
+				return false;
+			}
+			if ( !visitJoins( join, join.getJoins() ) || !visitFetches( join, join.getFetches() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean visitFetches(From<?, ?> parent, Collection<? extends Fetch<?, ?>> fetches) {
+		if ( fetches == null ) {
+			return true;
+		}
+		for ( Fetch<?, ?> fetch : fetches ) {
+			if ( !( fetch instanceof Join ) || !visitJoin( parent, (Join<?, ?>) fetch, true ) ) {
+				return false;
+			}
+			if ( !visitFetches( (From<?, ?>) fetch, fetch.getFetches() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean visitJoin(From<?, ?> parent, Join<?, ?> join, boolean fetch) {
+		final Class<?> joinClass = join.getClass();
+		if ( joinClass != SingularAttributeJoin.class
+				&& joinClass != SetAttributeJoin.class
+				&& joinClass != ListAttributeJoin.class
+				&& joinClass != CollectionAttributeJoin.class
+				&& joinClass != MapAttributeJoin.class ) {
+			return false;
+		}
+		final AbstractJoinImpl<?, ?> joinImpl = (AbstractJoinImpl<?, ?>) join;
+		if ( joinImpl.isCorrelated() || joinImpl.getParent() != parent ) {
+			return false;
+		}
+		tokens.add( joinClass );
+		tokens.add( fetch );
+		tokens.add( fromNodeOrdinals.get( parent ) );
+		tokens.add( join.getAttribute().getName() );
+		tokens.add( join.getJoinType() );
+		registerFromNode( joinImpl );
+		return true;
+	}
+
+	private boolean visitSelection(Selection<?> selection) {
+		if ( selection.getClass() == CompoundSelectionImpl.class ) {
+			tokens.add( CompoundSelectionImpl.class );
+			tokens.add( selection.getJavaType() );
+			tokens.add( selection.getCompoundSelectionItems().size() );
+			for ( Selection<?> item : selection.getCompoundSelectionItems() ) {
+				if ( !visitSelection( item ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return selection instanceof Expression && visitExpression( (Expression<?>) selection, Clause.SELECT );
+	}
+
+	private boolean visitExpression(Expression<?> expression, Clause clause) {
+		if ( expression == null ) {
+			return false;
+		}
+
+		if ( expression instanceof From ) {
+			final Integer ordinal = fromNodeOrdinals.get( expression );
+			if ( ordinal == null ) {
+				return false;
+			}
+			tokens.add( From.class );
+			tokens.add( ordinal );
+			return true;
+		}
+
+		final Class<?> expressionClass = expression.getClass();
+		if ( expressionClass == SingularAttributePath.class || expressionClass == PluralAttributePath.class ) {
+			final AbstractPathImpl<?> path = (AbstractPathImpl<?>) expression;
+			tokens.add( expressionClass );
+			tokens.add( path.getAttribute().getName() );
+			return visitPathSource( path.getPathSource() );
+		}
+		if ( expressionClass == ParameterExpressionImpl.class ) {
+			visitParameter( (ParameterExpressionImpl<?>) expression );
+			return true;
+		}
+		if ( expressionClass == LiteralExpression.class ) {
+			return visitLiteral( (LiteralExpression<?>) expression, clause );
+		}
+		if ( expression instanceof PredicateImplementor ) {
+			final PredicateImplementor predicate = (PredicateImplementor) expression;
+			return visitPredicate( predicate, predicate.isNegated(), clause );
+		}
+		return false;
+	}
+
+	private boolean visitPathSource(PathSource<?> source) {
+		if ( source == null ) {
+			tokens.add( null );
+			return true;
+		}
+		if ( source instanceof From ) {
+			final Integer ordinal = fromNodeOrdinals.get( source );
+			if ( ordinal == null ) {
+				return false;
+			}
+			tokens.add( From.class );
+			tokens.add( ordinal );
+			return true;
+		}
+		if ( source.getClass() == SingularAttributePath.class ) {
+			final SingularAttributePath<?> path = (SingularAttributePath<?>) source;
+			tokens.add( SingularAttributePath.class );
+			tokens.add( path.getAttribute().getName() );
+			return visitPathSource( path.getPathSource() );
+		}
+		return false;
+	}
+
+	private void visitParameter(ParameterExpressionImpl<?> parameter) {
+		tokens.add( ParameterExpressionImpl.class );
+		final Integer ordinal = parameterOrdinals.get( parameter );
+		if ( ordinal != null ) {
+			tokens.add( ordinal );
+			return;
+		}
+		tokens.add( parameters.size() );
+		tokens.add( parameter.getName() );
+		tokens.add( parameter.getPosition() );
+		tokens.add( parameter.getJavaType() );
+		parameterOrdinals.put( parameter, parameters.size() );
+		parameters.add( parameter );
+	}
+
+	private boolean visitLiteral(LiteralExpression<?> literal, Clause clause) {
+		final Object value = literal.getLiteral();
+		if ( value == null ) {
+			return false;
+		}
+		tokens.add( LiteralExpression.class );
+		tokens.add( literal.getJavaType() );
+		tokens.add( value.getClass() );
+		if ( isInlined( value, clause ) ) {
+			tokens.add( value );
+		}
+		else {
+			tokens.add( BOUND );
+			boundLiterals.add( value );
+		}
+		return true;
+	}
+
+	/**
+	 * Mirrors the decision {@link LiteralExpression#render} makes between inlining the literal and binding it
+	 * as a parameter.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean isInlined(Object value, Clause clause) {
+		if ( value instanceof Enum ) {
+			return false;
+		}
+		if ( clause == Clause.SELECT ) {
+			return ValueHandlerFactory.determineAppropriateHandler( (Class) value.getClass() ) != null;
+		}
+		switch ( literalHandlingMode ) {
+			case AUTO: {
+				return ValueHandlerFactory.isNumeric( value );
+			}
+			case INLINE: {
+				return ValueHandlerFactory.determineAppropriateHandler( (Class) value.getClass() ) != null;
+			}
+			default: {
+				return false;
+			}
+		}
+	}
+
+	private boolean visitPredicate(PredicateImplementor predicate, boolean negated, Clause clause) {
+		final Class<?> predicateClass = predicate.getClass();
+
+		if ( predicateClass == NegatedPredicateWrapper.class ) {
+			if ( predicate.isJunction() ) {
+				return visitJunction( predicate, clause );
+			}
+			return visitPredicate( ( (NegatedPredicateWrapper) predicate ).getWrappedPredicate(), negated, clause );
+		}
+		if ( predicateClass == CompoundPredicate.class ) {
+			return visitJunction( predicate, clause );
+		}
+
+		tokens.add( predicateClass );
+		tokens.add( negated );
+		if ( predicateClass == ComparisonPredicate.class ) {
+			final ComparisonPredicate comparison = (ComparisonPredicate) predicate;
+			tokens.add( comparison.getComparisonOperator( negated ) );
+			return visitExpression( comparison.getLeftHandOperand(), clause )
+					&& visitExpression( comparison.getRightHandOperand(), clause );
+		}
+		if ( predicateClass == NullnessPredicate.class ) {
+			return visitExpression( ( (NullnessPredicate) predicate ).getOperand(), clause );
+		}
+		if ( predicateClass == LikePredicate.class ) {
+			final LikePredicate like = (LikePredicate) predicate;
+			if ( !visitExpression( like.getMatchExpression(), clause )
+					|| !visitExpression( like.getPattern(), clause ) ) {
+				return false;
+			}
+			tokens.add( like.getEscapeCharacter() != null );
+			return like.getEscapeCharacter() == null || visitExpression( like.getEscapeCharacter(), clause );
+		}
+		if ( predicateClass == BetweenPredicate.class ) {
+			final BetweenPredicate<?> between = (BetweenPredicate<?>) predicate;
+			return visitExpression( between.getExpression(), clause )
+					&& visitExpression( between.getLowerBound(), clause )
+					&& visitExpression( between.getUpperBound(), clause );
+		}
+		if ( predicateClass == InPredicate.class ) {
+			final InPredicate<?> in = (InPredicate<?>) predicate;
+			// parameter expressions get a cast rendered, subqueries are not handled at all
+			if ( in.getExpressionInternal() instanceof ParameterExpressionImpl
+					|| ( in.getValues().size() == 1 && in.getValues().get( 0 ) instanceof Subquery ) ) {
+				return false;
+			}
+			if ( !visitExpression( in.getExpressionInternal(), clause ) ) {
+				return false;
+			}
+			tokens.add( in.getValues().size() );
+			for ( Expression<?> value : in.getValues() ) {
+				if ( !visitExpression( value, clause ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if ( predicateClass == BooleanStaticAssertionPredicate.class ) {
+			tokens.add( ( (BooleanStaticAssertionPredicate) predicate ).getAssertedValue() );
+			return true;
+		}
+		return false;
+	}
+
+	private boolean visitJunction(PredicateImplementor junction, Clause clause) {
+		// for junctions the negation is already cooked into the operator and the expressions
+		tokens.add( CompoundPredicate.class );
+		tokens.add( junction.getOperator() );
+		tokens.add( junction.getExpressions().size() );
+		for ( Expression<Boolean> expression : junction.getExpressions() ) {
+			if ( !( expression instanceof PredicateImplementor ) ) {
+				return false;
+			}
+			final PredicateImplementor predicate = (PredicateImplementor) expression;
+			if ( !visitPredicate( predicate, predicate.isNegated(), clause ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The cache key describing the shape of a criteria query.
+	 */
+	public static final class Key {
+		private final Object[] tokens;
+		private final int hashCode;
+
+		private Key(Object[] tokens) {
+			this.tokens = tokens;
+			this.hashCode = Arrays.hashCode( tokens );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final Key that = (Key) o;
+			return hashCode == that.hashCode && Arrays.equals( tokens, that.tokens );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -56,6 +56,13 @@ public class NegatedPredicateWrapper extends ExpressionImpl<Boolean> implements
 		return negatedExpressions;
 	}
 
+	/**
+	 * The predicate being negated.
+	 */
+	public PredicateImplementor getWrappedPredicate() {
+		return predicate;
+	}
+
 	@Override
 	public BooleanOperator getOperator() {
 		return negatedOperator;
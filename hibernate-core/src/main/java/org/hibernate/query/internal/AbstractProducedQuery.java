@@ -47,11 +47,13 @@ import org.hibernate.PropertyNotFoundException;
 import org.hibernate.QueryParameterException;
 import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
+import org.hibernate.engine.internal.BatchGraphLoader;
 import org.hibernate.engine.query.spi.EntityGraphQueryHint;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.spi.ExceptionConverter;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.TypedValue;
 import org.hibernate.graph.GraphSemantic;
@@ -61,6 +63,7 @@ import org.hibernate.hql.internal.QueryExecutionRequestException;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.internal.EntityManagerMessageLogger;
 import org.hibernate.internal.HEMLogging;
+import org.hibernate.internal.PrefetchingScrollableResultsIterator;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.QueryHints;
 import org.hibernate.jpa.TypedParameterValue;
@@ -72,9 +75,12 @@ import org.hibernate.jpa.internal.util.LockModeTypeHelper;
 import org.hibernate.property.access.spi.BuiltInPropertyAccessStrategies;
 import org.hibernate.property.access.spi.Getter;
 import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.query.KeysetPage;
+import org.hibernate.query.KeysetPageable;
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.spi.CloseableIterator;
 import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.spi.QueryParameterBinding;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -91,6 +97,9 @@ import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
 import static org.hibernate.jpa.AvailableSettings.ALIAS_SPECIFIC_LOCK_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_BATCH_GRAPH;
+import static org.hibernate.jpa.QueryHints.HINT_DETACHED_RESULTS;
+import static org.hibernate.jpa.QueryHints.HINT_STREAM_PREFETCH;
 import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
 import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
@@ -130,12 +139,15 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 	private RowSelection queryOptions = new RowSelection();
 
 	private EntityGraphQueryHint entityGraphQueryHint;
+	private RootGraphImplementor<?> batchGraph;
 
 	private Object optionalObject;
 	private Serializable optionalId;
 	private String optionalEntityName;
 
 	private Boolean passDistinctThrough;
+	private boolean detachedResults;
+	private int streamPrefetch;
 
 	public AbstractProducedQuery(
 			SharedSessionContractImplementor producer,
@@ -998,6 +1010,18 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		if ( entityGraphQueryHint != null ) {
 			hints.put( entityGraphQueryHint.getHintName(), entityGraphQueryHint.getOriginEntityGraph() );
 		}
+
+		if ( batchGraph != null ) {
+			hints.put( HINT_BATCH_GRAPH, batchGraph );
+		}
+
+		if ( detachedResults ) {
+			hints.put( HINT_DETACHED_RESULTS, true );
+		}
+
+		if ( streamPrefetch > 0 ) {
+			hints.put( HINT_STREAM_PREFETCH, streamPrefetch );
+		}
 	}
 
 	protected void putIfNotNull(Map<String, Object> hints, String hintName, Enum hintValue) {
@@ -1092,12 +1116,29 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 				}
 				applied = true;
 			}
+			else if ( HINT_BATCH_GRAPH.equals( hintName ) ) {
+				if ( value instanceof RootGraph ) {
+					this.batchGraph = (RootGraphImplementor<?>) value;
+				}
+				else {
+					MSG_LOGGER.warnf( "The %s hint was set, but the value was not an EntityGraph!", hintName );
+				}
+				applied = true;
+			}
 			else if ( HINT_FOLLOW_ON_LOCKING.equals( hintName ) ) {
 				applied = applyFollowOnLockingHint( ConfigurationHelper.getBoolean( value ) );
 			}
 			else if ( QueryHints.HINT_PASS_DISTINCT_THROUGH.equals( hintName ) ) {
 				applied = applyPassDistinctThrough( ConfigurationHelper.getBoolean( value ) );
 			}
+			else if ( HINT_DETACHED_RESULTS.equals( hintName ) ) {
+				this.detachedResults = ConfigurationHelper.getBoolean( value );
+				applied = true;
+			}
+			else if ( HINT_STREAM_PREFETCH.equals( hintName ) ) {
+				this.streamPrefetch = ConfigurationHelper.getInteger( value );
+				applied = true;
+			}
 			else {
 				MSG_LOGGER.ignoringUnrecognizedQueryHint( hintName );
 			}
@@ -1396,6 +1437,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		if ( passDistinctThrough != null ) {
 			queryParameters.setPassDistinctThrough( passDistinctThrough );
 		}
+		queryParameters.setDetachedResults( detachedResults );
 		return queryParameters;
 	}
 
@@ -1508,11 +1550,17 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			return StreamSupport.stream( spliterator, false );
 		}
 		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator<R> iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final CloseableIterator<R> iterator;
+		if ( streamPrefetch > 0 ) {
+			iterator = new PrefetchingScrollableResultsIterator<>( scrollableResults, streamPrefetch );
+		}
+		else {
+			iterator = new ScrollableResultsIterator<>( scrollableResults );
+		}
 		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream<R> stream = StreamSupport.stream( spliterator, false );
-		stream.onClose( scrollableResults::close );
+		stream.onClose( iterator::close );
 
 		return stream;
 	}
@@ -1526,7 +1574,11 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 	public List<R> list() {
 		beforeQuery();
 		try {
-			return doList();
+			final List<R> list = doList();
+			if ( batchGraph != null && getProducer() instanceof SessionImplementor ) {
+				BatchGraphLoader.load( (SessionImplementor) getProducer(), list, batchGraph );
+			}
+			return list;
 		}
 		catch (QueryExecutionRequestException he) {
 			throw new IllegalStateException( he );
@@ -1564,6 +1616,67 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		);
 	}
 
+	@Override
+	public KeysetPage<R> getKeysetPage(KeysetPageable<R> pageable) {
+		beforeQuery();
+		try {
+			final List<R> list = doKeysetList( pageable );
+			if ( batchGraph != null && getProducer() instanceof SessionImplementor ) {
+				BatchGraphLoader.load( (SessionImplementor) getProducer(), list, batchGraph );
+			}
+			return new KeysetPageImpl<>( pageable, list );
+		}
+		catch (QueryExecutionRequestException he) {
+			throw new IllegalStateException( he );
+		}
+		catch (TypeMismatchException e) {
+			throw new IllegalArgumentException( e );
+		}
+		catch (HibernateException he) {
+			throw getExceptionConverter().convert( he, getLockOptions() );
+		}
+		finally {
+			afterQuery();
+		}
+	}
+
+	/**
+	 * Retrieve the results of the page, plus the first result of the next page (if any)
+	 */
+	@SuppressWarnings("unchecked")
+	protected List<R> doKeysetList(KeysetPageable<R> pageable) {
+		if ( lockOptions.getLockMode() != null && lockOptions.getLockMode() != LockMode.NONE ) {
+			if ( !getProducer().isTransactionInProgress() ) {
+				throw new TransactionRequiredException( "no transaction is in progress" );
+			}
+		}
+
+		final Object[] lastKey = pageable.getLastKey();
+		final String expandedQuery = KeysetPaginationHelper.applyKeyset(
+				getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() ),
+				lastKey,
+				getProducer().getJdbcServices().getJdbcEnvironment().getDialect().supportsRowValueConstructorSyntax()
+		);
+		final QueryParameters queryParameters = makeQueryParametersForExecution( expandedQuery );
+		if ( lastKey != null ) {
+			for ( int i = 0; i < lastKey.length; i++ ) {
+				queryParameters.getNamedParameters().put(
+						KeysetPaginationHelper.parameterName( i ),
+						new TypedValue( getProducer().getFactory().resolveParameterBindType( lastKey[i] ), lastKey[i] )
+				);
+			}
+		}
+
+		// the offset is replaced by the key, and one more result tells whether there is a next page
+		final RowSelection selection = new RowSelection();
+		selection.setTimeout( queryOptions.getTimeout() );
+		selection.setFetchSize( queryOptions.getFetchSize() );
+		selection.setMaxRows( pageable.getPageSize() + 1 );
+		queryParameters.setRowSelection( selection );
+
+		return getProducer().list( expandedQuery, queryParameters );
+	}
+
 	protected abstract QueryParameterBindings getQueryParameterBindings();
 
 	@Override
@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.List;
+
+import org.hibernate.query.KeysetPage;
+import org.hibernate.query.KeysetPageable;
+
+/**
+ * Standard implementation of KeysetPage
+ */
+public class KeysetPageImpl<R> implements KeysetPage<R> {
+	private final KeysetPageable<R> pageable;
+	private final List<R> results;
+	private final KeysetPageable<R> nextPageable;
+
+	/**
+	 * @param pageable The pageable the results were retrieved for
+	 * @param results The results, including the one following the page (if any)
+	 */
+	public KeysetPageImpl(KeysetPageable<R> pageable, List<R> results) {
+		this.pageable = pageable;
+		if ( results.size() > pageable.getPageSize() ) {
+			this.results = results.subList( 0, pageable.getPageSize() );
+			this.nextPageable = pageable.next( this.results.get( this.results.size() - 1 ) );
+		}
+		else {
+			this.results = results;
+			this.nextPageable = null;
+		}
+	}
+
+	@Override
+	public KeysetPageable<R> getPageable() {
+		return pageable;
+	}
+
+	@Override
+	public List<R> getResults() {
+		return results;
+	}
+
+	@Override
+	public boolean hasNextPage() {
+		return nextPageable != null;
+	}
+
+	@Override
+	public KeysetPageable<R> getNextPageable() {
+		return nextPageable;
+	}
+}
@@ -0,0 +1,358 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.QueryException;
+
+/**
+ * Rewrites an HQL query for {@link org.hibernate.query.Query#getKeysetPage keyset pagination}, restricting
+ * it to the results following a given key of its {@code order by} items.
+ * <p/>
+ * The restriction uses the row value constructor syntax, {@code (a, b) > (:k0, :k1)}, when the Dialect
+ * supports it and all the items are ordered in the same direction.  Otherwise it is expanded to
+ * {@code a > :k0 or (a = :k0 and b > :k1)}, which also handles mixed directions.  Either way, the key
+ * values are bound to {@link #parameterName named parameters}.
+ * <p/>
+ * Only the top level of the query is considered, i.e. clauses of subqueries and text within literals are
+ * skipped.  Items ordering by a select alias or by position are resolved to the corresponding select
+ * expression.
+ */
+public final class KeysetPaginationHelper {
+	private static final String PARAMETER_PREFIX = "hibernateKeyset";
+	private static final Pattern ALIASED_SELECT_ITEM = Pattern.compile(
+			"(.+)\\s+as\\s+([\\p{javaJavaIdentifierStart}][\\p{javaJavaIdentifierPart}]*)",
+			Pattern.CASE_INSENSITIVE | Pattern.DOTALL
+	);
+
+	private KeysetPaginationHelper() {
+	}
+
+	/**
+	 * The name of the parameter the value of the key item at the given position is bound to.
+	 */
+	public static String parameterName(int position) {
+		return PARAMETER_PREFIX + position;
+	}
+
+	/**
+	 * Apply the keyset restriction to the given query.
+	 *
+	 * @param query The HQL query, which must define an {@code order by} clause
+	 * @param lastKey The key to retrieve the results after, or {@code null} to start from the first result
+	 * @param supportsRowValueConstructorSyntax Whether the Dialect supports row value constructors
+	 *
+	 * @return The restricted query
+	 */
+	public static String applyKeyset(String query, Object[] lastKey, boolean supportsRowValueConstructorSyntax) {
+		final List<Token> tokens = topLevelTokens( query );
+
+		final int orderBy = indexOfClause( tokens, "order", 0 );
+		if ( orderBy < 0 ) {
+			throw new QueryException( "Keyset pagination requires the query to define an order by clause", query );
+		}
+		final int orderByStart = tokens.get( orderBy ).start;
+
+		final List<String> keyExpressions = new ArrayList<>();
+		final List<Boolean> keyDirections = new ArrayList<>();
+		for ( String item : splitItems( query, tokens.get( orderBy + 1 ).end, query.length() ) ) {
+			parseOrderByItem( item, keyExpressions, keyDirections );
+		}
+		final List<String[]> selectItems = selectItems( query, tokens, orderBy );
+		for ( int i = 0; i < keyExpressions.size(); i++ ) {
+			keyExpressions.set( i, resolveSelectReference( query, keyExpressions.get( i ), selectItems ) );
+		}
+
+		if ( lastKey == null ) {
+			return query;
+		}
+		if ( lastKey.length != keyExpressions.size() ) {
+			throw new IllegalArgumentException(
+					"Keyset pagination key has " + lastKey.length + " values, but the query order by clause defines "
+							+ keyExpressions.size() + " items : " + keyExpressions
+			);
+		}
+		for ( int i = 0; i < lastKey.length; i++ ) {
+			if ( lastKey[i] == null ) {
+				throw new IllegalArgumentException( "Keyset pagination key values must not be null : " + keyExpressions.get( i ) );
+			}
+		}
+
+		final String restriction = renderRestriction( keyExpressions, keyDirections, supportsRowValueConstructorSyntax );
+
+		final int where = indexOfToken( tokens, "where", orderBy );
+		if ( where >= 0 ) {
+			int whereEnd = orderByStart;
+			final int groupBy = indexOfClause( tokens, "group", where );
+			if ( groupBy >= 0 ) {
+				whereEnd = tokens.get( groupBy ).start;
+			}
+			return query.substring( 0, tokens.get( where ).start )
+					+ "where (" + query.substring( tokens.get( where ).end, whereEnd ).trim() + ") and " + restriction
+					+ " " + query.substring( whereEnd );
+		}
+		else {
+			final int groupBy = indexOfClause( tokens, "group", 0 );
+			final int insertionPoint = groupBy >= 0 ? tokens.get( groupBy ).start : orderByStart;
+			return query.substring( 0, insertionPoint ) + "where " + restriction + " " + query.substring( insertionPoint );
+		}
+	}
+
+	private static String renderRestriction(
+			List<String> keyExpressions,
+			List<Boolean> keyDirections,
+			boolean supportsRowValueConstructorSyntax) {
+		final int size = keyExpressions.size();
+		if ( size > 1 && supportsRowValueConstructorSyntax && !keyDirections.contains( !keyDirections.get( 0 ) ) ) {
+			final StringBuilder lhs = new StringBuilder( "(" );
+			final StringBuilder rhs = new StringBuilder( "(" );
+			for ( int i = 0; i < size; i++ ) {
+				if ( i > 0 ) {
+					lhs.append( ", " );
+					rhs.append( ", " );
+				}
+				lhs.append( keyExpressions.get( i ) );
+				rhs.append( ':' ).append( parameterName( i ) );
+			}
+			return lhs.append( ") " ).append( operator( keyDirections.get( 0 ) ) ).append( ' ' ).append( rhs ).append( ')' ).toString();
+		}
+
+		final StringBuilder restriction = new StringBuilder( "(" );
+		for ( int i = 0; i < size; i++ ) {
+			if ( i > 0 ) {
+				restriction.append( " or " );
+			}
+			restriction.append( '(' );
+			for ( int j = 0; j < i; j++ ) {
+				restriction.append( keyExpressions.get( j ) ).append( " = :" ).append( parameterName( j ) ).append( " and " );
+			}
+			restriction.append( keyExpressions.get( i ) )
+					.append( ' ' )
+					.append( operator( keyDirections.get( i ) ) )
+					.append( " :" )
+					.append( parameterName( i ) )
+					.append( ')' );
+		}
+		return restriction.append( ')' ).toString();
+	}
+
+	private static String operator(boolean ascending) {
+		return ascending ? ">" : "<";
+	}
+
+	private static void parseOrderByItem(String item, List<String> keyExpressions, List<Boolean> keyDirections) {
+		String expression = item.trim();
+		String lowerCase = expression.toLowerCase( Locale.ROOT );
+		if ( lowerCase.endsWith( " nulls first" ) || lowerCase.endsWith( " nulls last" ) ) {
+			expression = expression.substring( 0, lowerCase.lastIndexOf( " nulls " ) ).trim();
+			lowerCase = expression.toLowerCase( Locale.ROOT );
+		}
+		boolean ascending = true;
+		if ( lowerCase.endsWith( " desc" ) ) {
+			ascending = false;
+			expression = expression.substring( 0, expression.length() - 5 ).trim();
+		}
+		else if ( lowerCase.endsWith( " asc" ) ) {
+			expression = expression.substring( 0, expression.length() - 4 ).trim();
+		}
+		keyExpressions.add( expression );
+		keyDirections.add( ascending );
+	}
+
+	/**
+	 * Resolve an order by item referring to a select item, by alias or by (1-based) position, to the expression
+	 * of the select item, as the keyset restriction cannot refer to select items.
+	 */
+	private static String resolveSelectReference(String query, String expression, List<String[]> selectItems) {
+		if ( isPosition( expression ) ) {
+			final int position = Integer.parseInt( expression );
+			if ( selectItems == null || position < 1 || position > selectItems.size() ) {
+				throw new QueryException(
+						"Keyset pagination cannot resolve order by item [" + expression + "] to a select item",
+						query
+				);
+			}
+			return selectItems.get( position - 1 )[0];
+		}
+		if ( selectItems != null ) {
+			for ( String[] selectItem : selectItems ) {
+				if ( expression.equals( selectItem[1] ) ) {
+					return selectItem[0];
+				}
+			}
+		}
+		return expression;
+	}
+
+	private static boolean isPosition(String expression) {
+		for ( int i = 0; i < expression.length(); i++ ) {
+			if ( !Character.isDigit( expression.charAt( i ) ) ) {
+				return false;
+			}
+		}
+		return !expression.isEmpty();
+	}
+
+	/**
+	 * The expression and alias (possibly {@code null}) of each item of the top level select clause, or
+	 * {@code null} if the select items cannot be referred to, i.e. for an implicit select clause or a
+	 * constructor expression.
+	 */
+	private static List<String[]> selectItems(String query, List<Token> tokens, int orderBy) {
+		if ( tokens.isEmpty() || !tokens.get( 0 ).is( "select" ) ) {
+			return null;
+		}
+		final int from = indexOfToken( tokens, "from", orderBy );
+		if ( from < 0 ) {
+			return null;
+		}
+		int first = 1;
+		if ( tokens.get( first ).is( "distinct" ) ) {
+			first++;
+		}
+		if ( first >= from || tokens.get( first ).is( "new" ) ) {
+			return null;
+		}
+		final int start = tokens.get( first - 1 ).end;
+
+		final List<String[]> selectItems = new ArrayList<>();
+		for ( String item : splitItems( query, start, tokens.get( from ).start ) ) {
+			final Matcher matcher = ALIASED_SELECT_ITEM.matcher( item.trim() );
+			if ( matcher.matches() ) {
+				selectItems.add( new String[] { matcher.group( 1 ).trim(), matcher.group( 2 ) } );
+			}
+			else {
+				selectItems.add( new String[] { item.trim(), null } );
+			}
+		}
+		return selectItems;
+	}
+
+	private static List<String> splitItems(String query, int start, int end) {
+		final List<String> items = new ArrayList<>();
+		int depth = 0;
+		int itemStart = start;
+		for ( int i = start; i < end; i++ ) {
+			final char c = query.charAt( i );
+			if ( c == '\'' || c == '"' || c == '`' ) {
+				i = skipQuoted( query, i );
+			}
+			else if ( c == '(' ) {
+				depth++;
+			}
+			else if ( c == ')' ) {
+				depth--;
+			}
+			else if ( c == ',' && depth == 0 ) {
+				items.add( query.substring( itemStart, i ) );
+				itemStart = i + 1;
+			}
+		}
+		items.add( query.substring( itemStart, end ) );
+		return items;
+	}
+
+	/**
+	 * Find the given clause, i.e. the keyword followed by {@code by}
+	 */
+	private static int indexOfClause(List<Token> tokens, String keyword, int from) {
+		for ( int i = from; i < tokens.size() - 1; i++ ) {
+			if ( tokens.get( i ).is( keyword ) && tokens.get( i + 1 ).is( "by" ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int indexOfToken(List<Token> tokens, String keyword, int until) {
+		for ( int i = 0; i < until; i++ ) {
+			if ( tokens.get( i ).is( keyword ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static List<Token> topLevelTokens(String query) {
+		final List<Token> tokens = new ArrayList<>();
+		int depth = 0;
+		int i = 0;
+		while ( i < query.length() ) {
+			final char c = query.charAt( i );
+			if ( c == '\'' || c == '"' || c == '`' ) {
+				i = skipQuoted( query, i ) + 1;
+			}
+			else if ( c == '(' ) {
+				depth++;
+				i++;
+			}
+			else if ( c == ')' ) {
+				depth--;
+				i++;
+			}
+			else if ( isWordPart( c ) || c == ':' ) {
+				final int start = i;
+				do {
+					i++;
+				}
+				while ( i < query.length() && isWordPart( query.charAt( i ) ) );
+				if ( depth == 0 ) {
+					tokens.add( new Token( query.substring( start, i ), start, i ) );
+				}
+			}
+			else {
+				i++;
+			}
+		}
+		return tokens;
+	}
+
+	private static boolean isWordPart(char c) {
+		return Character.isJavaIdentifierPart( c ) || c == '.';
+	}
+
+	/**
+	 * @return The position of the closing quote
+	 */
+	private static int skipQuoted(String query, int start) {
+		final char quote = query.charAt( start );
+		int i = start + 1;
+		while ( i < query.length() ) {
+			if ( query.charAt( i ) == quote ) {
+				if ( i + 1 < query.length() && query.charAt( i + 1 ) == quote ) {
+					// escaped quote
+					i += 2;
+					continue;
+				}
+				return i;
+			}
+			i++;
+		}
+		return i;
+	}
+
+	private static class Token {
+		private final String text;
+		private final int start;
+		private final int end;
+
+		private Token(String text, int start, int end) {
+			this.text = text;
+			this.start = start;
+			this.end = end;
+		}
+
+		private boolean is(String keyword) {
+			return text.equalsIgnoreCase( keyword );
+		}
+	}
+}
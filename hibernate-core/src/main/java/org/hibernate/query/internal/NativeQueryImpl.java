@@ -44,6 +44,8 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.query.KeysetPage;
+import org.hibernate.query.KeysetPageable;
 import org.hibernate.query.NativeQuery;
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.Query;
@@ -270,6 +272,11 @@ public class NativeQueryImpl<T> extends AbstractProducedQuery<T> implements Nati
 		throw new UnsupportedOperationException( "SQL queries do not currently support iteration" );
 	}
 
+	@Override
+	public KeysetPage<T> getKeysetPage(KeysetPageable<T> pageable) {
+		throw new UnsupportedOperationException( "SQL queries do not currently support keyset pagination" );
+	}
+
 	private boolean shouldFlush() {
 		if ( getProducer().isTransactionInProgress() ) {
 			FlushMode effectiveFlushMode = getHibernateFlushMode();
@@ -0,0 +1,52 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.query.spi.StreamPrefetchExecutor;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Standard StreamPrefetchExecutor, running the reads on daemon threads of a pool created on first use and shut
+ * down with the service registry.
+ */
+public class StreamPrefetchExecutorImpl implements StreamPrefetchExecutor, Stoppable {
+	private ExecutorService executorService;
+
+	@Override
+	public synchronized Executor getExecutor() {
+		if ( executorService == null ) {
+			executorService = Executors.newCachedThreadPool( new PrefetchThreadFactory() );
+		}
+		return executorService;
+	}
+
+	@Override
+	public synchronized void stop() {
+		if ( executorService != null ) {
+			executorService.shutdown();
+			executorService = null;
+		}
+	}
+
+	private static class PrefetchThreadFactory implements ThreadFactory {
+		private final AtomicInteger threadCount = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Stream Prefetch Thread " + threadCount.incrementAndGet() );
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.query.spi.StreamPrefetchExecutor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Service initiator for the StreamPrefetchExecutor service
+ */
+public class StreamPrefetchExecutorInitiator implements StandardServiceInitiator<StreamPrefetchExecutor> {
+	/**
+	 * Singleton access
+	 */
+	public static final StreamPrefetchExecutorInitiator INSTANCE = new StreamPrefetchExecutorInitiator();
+
+	@Override
+	public StreamPrefetchExecutor initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return new StreamPrefetchExecutorImpl();
+	}
+
+	@Override
+	public Class<StreamPrefetchExecutor> getServiceInitiated() {
+		return StreamPrefetchExecutor.class;
+	}
+}
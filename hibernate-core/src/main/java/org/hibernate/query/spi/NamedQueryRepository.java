@@ -6,9 +6,16 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
@@ -145,22 +152,54 @@ public class NamedQueryRepository {
 	}
 
 	public Map<String,HibernateException> checkNamedQueries(QueryPlanCache queryPlanCache) {
-		Map<String,HibernateException> errors = new HashMap<String,HibernateException>();
+		Map<String,HibernateException> errors = new ConcurrentHashMap<String,HibernateException>();
 
-		// Check named HQL queries
+		// Check named HQL queries; translation is independent per query, so compile them in parallel
 		log.debugf( "Checking %s named HQL queries", namedQueryDefinitionMap.size() );
-		for ( NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
-			// this will throw an error if there's something wrong.
+		final int parallelism = Math.min( Runtime.getRuntime().availableProcessors(), namedQueryDefinitionMap.size() );
+		if ( parallelism <= 1 ) {
+			for ( NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
+				checkNamedQuery( namedQueryDefinition, queryPlanCache, errors );
+			}
+		}
+		else {
+			// a dedicated pool rather than the common ForkJoinPool, whose threads are shared with the application
+			// and do not carry the context ClassLoader of the deployment
+			final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+			final ExecutorService executor = Executors.newFixedThreadPool(
+					parallelism,
+					runnable -> {
+						final Thread thread = new Thread( runnable, "Hibernate named query check" );
+						thread.setDaemon( true );
+						thread.setContextClassLoader( contextClassLoader );
+						return thread;
+					}
+			);
 			try {
-				log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
-				//TODO: BUG! this currently fails for named queries for non-POJO entities
-				queryPlanCache.getHQLQueryPlan( namedQueryDefinition.getQueryString(), false, Collections.EMPTY_MAP );
+				final List<Future<?>> checks = new ArrayList<>( namedQueryDefinitionMap.size() );
+				for ( NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
+					checks.add( executor.submit( () -> checkNamedQuery( namedQueryDefinition, queryPlanCache, errors ) ) );
+				}
+				for ( Future<?> check : checks ) {
+					check.get();
+				}
 			}
-			catch ( HibernateException e ) {
-				errors.put( namedQueryDefinition.getName(), e );
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while checking named HQL queries", e );
+			}
+			catch (ExecutionException e) {
+				if ( e.getCause() instanceof RuntimeException ) {
+					throw (RuntimeException) e.getCause();
+				}
+				if ( e.getCause() instanceof Error ) {
+					throw (Error) e.getCause();
+				}
+				throw new HibernateException( "Unable to check named HQL queries", e.getCause() );
+			}
+			finally {
+				executor.shutdownNow();
 			}
-
-
 		}
 
 		// Check native-sql queries
@@ -197,6 +236,21 @@ public class NamedQueryRepository {
 			}
 		}
 
-		return errors;
+		return new HashMap<String,HibernateException>( errors );
+	}
+
+	private static void checkNamedQuery(
+			NamedQueryDefinition namedQueryDefinition,
+			QueryPlanCache queryPlanCache,
+			Map<String,HibernateException> errors) {
+		// this will throw an error if there's something wrong.
+		try {
+			log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
+			//TODO: BUG! this currently fails for named queries for non-POJO entities
+			queryPlanCache.getHQLQueryPlan( namedQueryDefinition.getQueryString(), false, Collections.EMPTY_MAP );
+		}
+		catch ( HibernateException e ) {
+			errors.put( namedQueryDefinition.getName(), e );
+		}
 	}
 }
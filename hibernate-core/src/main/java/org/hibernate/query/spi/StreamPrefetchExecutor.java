@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.spi;
+
+import java.util.concurrent.Executor;
+
+import org.hibernate.service.Service;
+
+/**
+ * Runs the background reads of the query results streamed with the
+ * {@link org.hibernate.annotations.QueryHints#STREAM_PREFETCH} hint.  Can be replaced, e.g. by an executor
+ * managed by the application server.
+ *
+ * @since 5.4
+ */
+public interface StreamPrefetchExecutor extends Service {
+	/**
+	 * The executor running the background reads.  Each read lasts until its stream is exhausted or closed, so the
+	 * executor should not bound the number of reads running concurrently.
+	 *
+	 * @return The executor
+	 */
+	Executor getExecutor();
+}
@@ -74,4 +74,25 @@ public interface ResourceRegistry {
 
 	void cancelLastQuery();
 
+	/**
+	 * Register an action stopping the use of the registered resources by another thread, e.g. a background thread
+	 * reading a registered ResultSet.  The action is run, and unregistered, by {@link #releaseResources()} before
+	 * any resource is released, so that no resource is closed while still in use.
+	 *
+	 * @param action The action, returning once the other thread no longer uses the resources
+	 *
+	 * @since 5.4
+	 */
+	void registerBeforeReleaseAction(Runnable action);
+
+	/**
+	 * Unregister an action previously registered by {@link #registerBeforeReleaseAction}, once the other thread
+	 * stopped using the resources by itself.
+	 *
+	 * @param action The action
+	 *
+	 * @since 5.4
+	 */
+	void unregisterBeforeReleaseAction(Runnable action);
+
 }
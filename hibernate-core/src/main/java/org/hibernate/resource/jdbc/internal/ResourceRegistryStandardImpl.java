@@ -14,11 +14,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
@@ -29,6 +25,12 @@ import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 
 /**
+ * The standard ResourceRegistry.
+ * <p/>
+ * Statements and ResultSets are tracked by a {@link ResultsetsTrackingContainer}, which avoids any map or set
+ * allocation for the usual case of a single Statement at a time with a single ResultSet.  Releasing the resources returns
+ * the registry to its initial state, so an instance can be reused after {@link #releaseResources()}.
+ *
  * @author Steve Ebersole
  */
 public class ResourceRegistryStandardImpl implements ResourceRegistry {
@@ -36,13 +38,15 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private final JdbcObserver jdbcObserver;
 
-	private final Map<Statement, Set<ResultSet>> xref = new HashMap<Statement, Set<ResultSet>>();
-	private final Set<ResultSet> unassociatedResultSets = new HashSet<ResultSet>();
+	private final ResultsetsTrackingContainer xref = new ResultsetsTrackingContainer();
+	private final ResultSetsSet unassociatedResultSets = new ResultSetsSet();
 
 	private List<Blob> blobs;
 	private List<Clob> clobs;
 	private List<NClob> nclobs;
 
+	private List<Runnable> beforeReleaseActions;
+
 	private Statement lastQuery;
 
 	public ResourceRegistryStandardImpl() {
@@ -55,20 +59,18 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	@Override
 	public boolean hasRegisteredResources() {
-		return hasRegistered( xref )
-				|| hasRegistered( unassociatedResultSets )
+		return xref.hasRegisteredResources()
+				|| !unassociatedResultSets.isEmpty()
 				|| hasRegistered( blobs )
 				|| hasRegistered( clobs )
 				|| hasRegistered( nclobs );
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public void register(Statement statement, boolean cancelable) {
 		log.tracef( "Registering statement [%s]", statement );
 
-		Set<ResultSet> previousValue = xref.putIfAbsent( statement, Collections.EMPTY_SET );
-		if ( previousValue != null ) {
+		if ( !xref.registerStatement( statement ) ) {
 			throw new HibernateException( "JDBC Statement already registered" );
 		}
 
@@ -83,15 +85,11 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 		// Keep this at DEBUG level, rather than warn.  Numerous connection pool implementations can return a
 		// proxy/wrapper around the JDBC Statement, causing excessive logging here.  See HHH-8210.
-		if ( log.isDebugEnabled() && !xref.containsKey( statement ) ) {
+		if ( log.isDebugEnabled() && !xref.containsStatement( statement ) ) {
 			log.unregisteredStatement();
 		}
 		else {
-			final Set<ResultSet> resultSets = xref.get( statement );
-			if ( resultSets != null ) {
-				closeAll( resultSets );
-			}
-			xref.remove( statement );
+			xref.removeStatement( statement, ResourceRegistryStandardImpl::close );
 		}
 		close( statement );
 
@@ -113,16 +111,9 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 			}
 		}
 		if ( statement != null ) {
-			final Set<ResultSet> resultSets = xref.get( statement );
-			if ( resultSets == null ) {
+			if ( !xref.removeResultSet( statement, resultSet ) ) {
 				log.unregisteredStatement();
 			}
-			else {
-				resultSets.remove( resultSet );
-				if ( resultSets.isEmpty() ) {
-					xref.remove( statement );
-				}
-			}
 		}
 		else {
 			final boolean removed = unassociatedResultSets.remove( resultSet );
@@ -141,6 +132,11 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 		resultSets.clear();
 	}
 
+	private static void closeAll(ResultSetsSet resultSets) {
+		resultSets.forEach( ResourceRegistryStandardImpl::close );
+		resultSets.clear();
+	}
+
 	@SuppressWarnings({"unchecked"})
 	public static void close(ResultSet resultSet) {
 		log.tracef( "Closing result set [%s]", resultSet );
@@ -204,19 +200,13 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 			}
 		}
 		if ( statement != null ) {
-			Set<ResultSet> resultSets = xref.get( statement );
+			final boolean statementRegistered = xref.registerResultSet( statement, resultSet );
 
 			// Keep this at DEBUG level, rather than warn.  Numerous connection pool implementations can return a
 			// proxy/wrapper around the JDBC Statement, causing excessive logging here.  See HHH-8210.
-			if ( log.isDebugEnabled() && resultSets == null ) {
+			if ( log.isDebugEnabled() && !statementRegistered ) {
 				log.debug( "ResultSet statement was not registered (on register)" );
 			}
-
-			if ( resultSets == null || resultSets == Collections.EMPTY_SET ) {
-				resultSets = new HashSet<ResultSet>();
-				xref.put( statement, resultSets );
-			}
-			resultSets.add( resultSet );
 		}
 		else {
 			unassociatedResultSets.add( resultSet );
@@ -297,6 +287,21 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 		}
 	}
 
+	@Override
+	public void registerBeforeReleaseAction(Runnable action) {
+		if ( beforeReleaseActions == null ) {
+			beforeReleaseActions = new ArrayList<>();
+		}
+		beforeReleaseActions.add( action );
+	}
+
+	@Override
+	public void unregisterBeforeReleaseAction(Runnable action) {
+		if ( beforeReleaseActions != null ) {
+			beforeReleaseActions.remove( action );
+		}
+	}
+
 	@Override
 	public void releaseResources() {
 		log.trace( "Releasing JDBC resources" );
@@ -305,15 +310,19 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 			jdbcObserver.jdbcReleaseRegistryResourcesStart();
 		}
 
-		for ( Map.Entry<Statement, Set<ResultSet>> entry : xref.entrySet() ) {
-			if ( entry.getValue() != null ) {
-				closeAll( entry.getValue() );
+		if ( hasRegistered( beforeReleaseActions ) ) {
+			// copied, as an action may unregister itself
+			final Runnable[] actions = beforeReleaseActions.toArray( new Runnable[beforeReleaseActions.size()] );
+			beforeReleaseActions.clear();
+			for ( Runnable action : actions ) {
+				action.run();
 			}
-			close( entry.getKey() );
 		}
-		xref.clear();
+
+		xref.removeAll( ResourceRegistryStandardImpl::close, ResourceRegistryStandardImpl::close );
 
 		closeAll( unassociatedResultSets );
+		lastQuery = null;
 
 		if ( blobs != null ) {
 			for ( Blob blob : blobs ) {
@@ -356,10 +365,6 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 		}
 	}
 
-	private boolean hasRegistered(Map resource) {
-		return resource != null && !resource.isEmpty();
-	}
-
 	private boolean hasRegistered(Collection resource) {
 		return resource != null && !resource.isEmpty();
 	}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.function.Consumer;
+
+/**
+ * A set of JDBC ResultSets optimized for the common case of holding a single ResultSet: the first one is
+ * kept in a field, and a backing HashSet is only created when more are added.
+ */
+final class ResultSetsSet {
+
+	private ResultSet first;
+	private HashSet<ResultSet> overflow;
+
+	void add(ResultSet resultSet) {
+		if ( first == null ) {
+			if ( overflow == null || !overflow.contains( resultSet ) ) {
+				first = resultSet;
+			}
+		}
+		else if ( !first.equals( resultSet ) ) {
+			if ( overflow == null ) {
+				overflow = new HashSet<>();
+			}
+			overflow.add( resultSet );
+		}
+	}
+
+	boolean remove(ResultSet resultSet) {
+		if ( first != null && first.equals( resultSet ) ) {
+			first = null;
+			return true;
+		}
+		return overflow != null && overflow.remove( resultSet );
+	}
+
+	boolean isEmpty() {
+		return first == null && ( overflow == null || overflow.isEmpty() );
+	}
+
+	void forEach(Consumer<ResultSet> action) {
+		if ( first != null ) {
+			action.accept( first );
+		}
+		if ( overflow != null ) {
+			overflow.forEach( action );
+		}
+	}
+
+	void clear() {
+		first = null;
+		if ( overflow != null ) {
+			overflow.clear();
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Tracks the JDBC Statements registered with a {@link ResourceRegistryStandardImpl}, along with the ResultSets
+ * associated with each of them.
+ * <p/>
+ * Usually only one Statement is registered at a time, so the first one is kept in dedicated fields and the map
+ * holding any further Statements is only created when needed.  The {@link ResultSetsSet} of the first Statement
+ * is kept for every Statement taking that slot, and the set of a removed Statement of the map is kept for the
+ * next one, so registering ResultSets does not allocate a set per Statement.  An empty set means the Statement
+ * has no associated ResultSets.
+ */
+final class ResultsetsTrackingContainer {
+
+	private Statement firstStatement;
+	private final ResultSetsSet firstStatementResultSets = new ResultSetsSet();
+
+	private HashMap<Statement,ResultSetsSet> xref;
+	private ResultSetsSet spareResultSets;
+
+	boolean hasRegisteredResources() {
+		return firstStatement != null || ( xref != null && !xref.isEmpty() );
+	}
+
+	boolean containsStatement(Statement statement) {
+		return isFirstStatement( statement ) || ( xref != null && xref.containsKey( statement ) );
+	}
+
+	/**
+	 * @return {@code false} if the Statement was already registered
+	 */
+	boolean registerStatement(Statement statement) {
+		if ( containsStatement( statement ) ) {
+			return false;
+		}
+		if ( firstStatement == null ) {
+			firstStatement = statement;
+		}
+		else {
+			overflow().put( statement, null );
+		}
+		return true;
+	}
+
+	/**
+	 * Associates the ResultSet with the Statement, registering the Statement if needed.
+	 *
+	 * @return {@code false} if the Statement was not registered yet
+	 */
+	boolean registerResultSet(Statement statement, ResultSet resultSet) {
+		if ( isFirstStatement( statement ) ) {
+			firstStatementResultSets.add( resultSet );
+			return true;
+		}
+		if ( firstStatement == null && ( xref == null || !xref.containsKey( statement ) ) ) {
+			firstStatement = statement;
+			firstStatementResultSets.add( resultSet );
+			return false;
+		}
+		final Map<Statement,ResultSetsSet> map = overflow();
+		final boolean statementRegistered = map.containsKey( statement );
+		ResultSetsSet resultSets = map.get( statement );
+		if ( resultSets == null ) {
+			resultSets = takeSpareResultSets();
+			map.put( statement, resultSets );
+		}
+		resultSets.add( resultSet );
+		return statementRegistered;
+	}
+
+	/**
+	 * Removes the ResultSet from those associated with the Statement; the Statement itself is removed once it
+	 * has no more associated ResultSets.
+	 *
+	 * @return {@code false} if the Statement has no associated ResultSets
+	 */
+	boolean removeResultSet(Statement statement, ResultSet resultSet) {
+		final ResultSetsSet resultSets = getResultSets( statement );
+		if ( resultSets == null || resultSets.isEmpty() ) {
+			return false;
+		}
+		resultSets.remove( resultSet );
+		if ( resultSets.isEmpty() ) {
+			removeStatement( statement, null );
+		}
+		return true;
+	}
+
+	/**
+	 * Removes the Statement, passing each of its associated ResultSets, if any, to the given action first.
+	 */
+	void removeStatement(Statement statement, Consumer<ResultSet> resultSetAction) {
+		if ( isFirstStatement( statement ) ) {
+			release( firstStatementResultSets, resultSetAction );
+			firstStatement = null;
+		}
+		else if ( xref != null ) {
+			final ResultSetsSet resultSets = xref.remove( statement );
+			if ( resultSets != null ) {
+				release( resultSets, resultSetAction );
+				spareResultSets = resultSets;
+			}
+		}
+	}
+
+	/**
+	 * Passes each registered Statement and each of their associated ResultSets to the given actions, then removes
+	 * them all.
+	 */
+	void removeAll(Consumer<ResultSet> resultSetAction, Consumer<Statement> statementAction) {
+		if ( firstStatement != null ) {
+			release( firstStatementResultSets, resultSetAction );
+			statementAction.accept( firstStatement );
+			firstStatement = null;
+		}
+		if ( xref != null && !xref.isEmpty() ) {
+			xref.forEach(
+					(statement, resultSets) -> {
+						if ( resultSets != null ) {
+							release( resultSets, resultSetAction );
+							spareResultSets = resultSets;
+						}
+						statementAction.accept( statement );
+					}
+			);
+			xref.clear();
+		}
+	}
+
+	private ResultSetsSet getResultSets(Statement statement) {
+		if ( isFirstStatement( statement ) ) {
+			return firstStatementResultSets;
+		}
+		return xref == null ? null : xref.get( statement );
+	}
+
+	private static void release(ResultSetsSet resultSets, Consumer<ResultSet> resultSetAction) {
+		if ( resultSetAction != null ) {
+			resultSets.forEach( resultSetAction );
+		}
+		resultSets.clear();
+	}
+
+	private ResultSetsSet takeSpareResultSets() {
+		final ResultSetsSet resultSets = spareResultSets;
+		if ( resultSets == null ) {
+			return new ResultSetsSet();
+		}
+		spareResultSets = null;
+		return resultSets;
+	}
+
+	private boolean isFirstStatement(Statement statement) {
+		return firstStatement != null && firstStatement.equals( statement );
+	}
+
+	private HashMap<Statement,ResultSetsSet> overflow() {
+		if ( xref == null ) {
+			xref = new HashMap<>();
+		}
+		return xref;
+	}
+}
@@ -27,6 +27,12 @@ public interface JdbcObserver {
 	public void jdbcExecuteBatchStart();
 	public void jdbcExecuteBatchEnd();
 
+	/**
+	 * Called with the SQL executed by the statement or batch whose execution is ending, when known, right before
+	 * {@link #jdbcExecuteStatementEnd()} or {@link #jdbcExecuteBatchEnd()}.
+	 */
+	default public void jdbcExecutedSql(String sql) {}
+
 	default public void jdbcReleaseRegistryResourcesStart() {}
 	default public void jdbcReleaseRegistryResourcesEnd() {}
 
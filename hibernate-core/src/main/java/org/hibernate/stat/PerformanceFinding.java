@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * A performance hot spot detected at run time, aggregated over all the Sessions in which it occurred.
+ * Findings are collected when the {@code hibernate.session.events.diagnostics} property is enabled.
+ *
+ * @see Statistics#getPerformanceFindings()
+ *
+ * @since 5.4
+ */
+public interface PerformanceFinding extends Serializable {
+	enum Type {
+		/**
+		 * The same entity was fetched from the database one row at a time, over and over, in a single
+		 * Session: the "N+1 selects" pattern for a to-one association or proxy
+		 */
+		REPEATED_ENTITY_FETCH,
+		/**
+		 * Collections of the same role were initialized from the database one at a time, over and over, in
+		 * a single Session: the "N+1 selects" pattern for a collection
+		 */
+		REPEATED_COLLECTION_FETCH,
+		/**
+		 * A JDBC statement or batch took longer than the configured threshold to execute
+		 */
+		SLOW_STATEMENT
+	}
+
+	/**
+	 * The type of finding
+	 */
+	Type getType();
+
+	/**
+	 * The name of the repeatedly fetched entity, the role of the repeatedly initialized collection, or the SQL
+	 * of the slow statement; {@code null} for a slow statement whose SQL is not known, as for statements not
+	 * prepared by Hibernate
+	 */
+	String getRole();
+
+	/**
+	 * The first stack frame outside of Hibernate and the JDK which triggered the fetches or statement
+	 */
+	String getCallSite();
+
+	/**
+	 * For repeated fetches, the number of Sessions in which the pattern was detected; for slow statements, the
+	 * number of slow executions
+	 */
+	long getOccurrenceCount();
+
+	/**
+	 * For repeated fetches, the highest number of fetches performed by a single Session; for slow statements,
+	 * the highest execution time, in milliseconds
+	 */
+	long getMaxValue();
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * Execution time distribution of a SQL statement, or of all SQL statements of a given {@link SqlStatementType}.
+ * <p/>
+ * All times are expressed in microseconds.  Percentiles are computed from a histogram whose buckets are
+ * at most ~6% wide, so they are approximations of the recorded values.  A JDBC batch is recorded as a single
+ * execution.
+ *
+ * @since 5.4
+ */
+public interface SqlStatementStatistics extends Serializable {
+	/**
+	 * The type of the statement(s)
+	 */
+	SqlStatementType getStatementType();
+
+	/**
+	 * How many times has this statement been executed?
+	 */
+	long getExecutionCount();
+
+	/**
+	 * How long, cumulatively, have all executions of this statement taken?
+	 */
+	long getExecutionTotalTime();
+
+	/**
+	 * What is the average amount of time taken to execute this statement?
+	 */
+	long getExecutionAvgTime();
+
+	/**
+	 * What is the min amount of time taken to execute this statement?
+	 */
+	long getExecutionMinTime();
+
+	/**
+	 * What is the max amount of time taken to execute this statement?
+	 */
+	long getExecutionMaxTime();
+
+	/**
+	 * The execution time below which the given percentage of the executions fall.
+	 *
+	 * @param percentile The percentile, between 0 and 100
+	 */
+	long getExecutionTimePercentile(double percentile);
+
+	/**
+	 * The median execution time
+	 */
+	default long getExecutionTimeP50() {
+		return getExecutionTimePercentile( 50 );
+	}
+
+	/**
+	 * The 95th percentile of the execution times
+	 */
+	default long getExecutionTimeP95() {
+		return getExecutionTimePercentile( 95 );
+	}
+
+	/**
+	 * The 99th percentile of the execution times
+	 */
+	default long getExecutionTimeP99() {
+		return getExecutionTimePercentile( 99 );
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.util.Locale;
+
+/**
+ * The kind of operation performed by a SQL statement, as determined from its leading keyword.
+ *
+ * @since 5.4
+ */
+public enum SqlStatementType {
+	/**
+	 * A query, such as the statements issued to load entities, initialize collections or execute HQL queries
+	 */
+	SELECT,
+	INSERT,
+	UPDATE,
+	DELETE,
+	/**
+	 * Any other statement, such as a stored procedure call or a DDL statement
+	 */
+	OTHER;
+
+	/**
+	 * Determine the type of the given SQL statement.  Leading whitespace, comments (as added by
+	 * {@code hibernate.use_sql_comments}) and opening parentheses are skipped.
+	 *
+	 * @param sql The SQL statement
+	 *
+	 * @return The statement type; never {@code null}
+	 */
+	public static SqlStatementType interpret(String sql) {
+		if ( sql == null ) {
+			return OTHER;
+		}
+		final int length = sql.length();
+		int start = 0;
+		while ( start < length ) {
+			final char c = sql.charAt( start );
+			if ( Character.isWhitespace( c ) || c == '(' ) {
+				start++;
+			}
+			else if ( sql.startsWith( "/*", start ) ) {
+				final int end = sql.indexOf( "*/", start + 2 );
+				if ( end < 0 ) {
+					return OTHER;
+				}
+				start = end + 2;
+			}
+			else if ( sql.startsWith( "--", start ) ) {
+				final int end = sql.indexOf( '\n', start + 2 );
+				if ( end < 0 ) {
+					return OTHER;
+				}
+				start = end + 1;
+			}
+			else {
+				break;
+			}
+		}
+		int end = start;
+		while ( end < length && Character.isLetter( sql.charAt( end ) ) ) {
+			end++;
+		}
+		switch ( sql.substring( start, end ).toLowerCase( Locale.ROOT ) ) {
+			case "select":
+			case "with":
+				return SELECT;
+			case "insert":
+				return INSERT;
+			case "update":
+				return UPDATE;
+			case "delete":
+				return DELETE;
+			default:
+				return OTHER;
+		}
+	}
+}
@@ -386,4 +386,71 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Get the number of distinct query strings sharing the same query plan as the given HQL query, when the
+	 * {@code hibernate.query.plan_cache_normalization} property is enabled, i.e. the number of query strings which
+	 * only differ from it in formatting, and possibly in the values of their literals.
+	 *
+	 * @param hql The HQL query
+	 *
+	 * @since 5.4
+	 */
+	default long getQueryPlanCacheVariantCount(String hql) {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get all SQL statements whose execution times have been recorded.  Execution times are only recorded
+	 * when the {@code hibernate.statistics.sql_statements} property is enabled, and the maximum number of
+	 * statements tracked is given by the {@code hibernate.statistics.query_max_size} property.
+	 *
+	 * @since 5.4
+	 */
+	default String[] getSqlStatements() {
+		//For backward compatibility
+		return new String[0];
+	}
+
+	/**
+	 * Execution time statistics for a SQL statement
+	 *
+	 * @param sql The SQL statement, as sent to the JDBC driver
+	 *
+	 * @return SqlStatementStatistics or {@code null} if no execution of the statement has been recorded
+	 *
+	 * @since 5.4
+	 */
+	default SqlStatementStatistics getSqlStatementStatistics(String sql) {
+		//For backward compatibility
+		return null;
+	}
+
+	/**
+	 * Execution time statistics for all SQL statements of the given type
+	 *
+	 * @param statementType The type of SQL statement
+	 *
+	 * @return SqlStatementStatistics or {@code null} if SQL statement statistics are not supported
+	 *
+	 * @since 5.4
+	 */
+	default SqlStatementStatistics getSqlStatementTypeStatistics(SqlStatementType statementType) {
+		//For backward compatibility
+		return null;
+	}
+
+	/**
+	 * Get the performance hot spots detected in Sessions: repeated fetches of the same entity or collection
+	 * role, and slow statements.  Findings are only collected when the {@code hibernate.session.events.diagnostics}
+	 * property is enabled, and the maximum number of findings tracked is given by the
+	 * {@code hibernate.statistics.query_max_size} property.
+	 *
+	 * @since 5.4
+	 */
+	default PerformanceFinding[] getPerformanceFindings() {
+		//For backward compatibility
+		return new PerformanceFinding[0];
+	}
 }
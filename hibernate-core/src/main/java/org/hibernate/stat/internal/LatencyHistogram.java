@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies, with log-linear buckets in the style of HdrHistogram: values below
+ * {@value #LINEAR_LIMIT} each have their own bucket, and every power of two above that is split into
+ * {@value #SUB_BUCKET_COUNT} buckets, which bounds the relative error of a reported percentile to ~6%.
+ * <p/>
+ * Recording a value is a handful of atomic increments on a fixed-size array, with no allocation.
+ */
+final class LatencyHistogram implements Serializable {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+
+	/**
+	 * Values of {@code 2^(MAX_EXPONENT+1)} and above all fall into the last bucket.
+	 */
+	private static final int MAX_EXPONENT = 40;
+	private static final int BUCKET_COUNT = LINEAR_LIMIT + ( MAX_EXPONENT - SUB_BUCKET_BITS ) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets = new AtomicLongArray( BUCKET_COUNT );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong min = new AtomicLong( Long.MAX_VALUE );
+	private final AtomicLong max = new AtomicLong();
+
+	void record(long value) {
+		if ( value < 0 ) {
+			value = 0;
+		}
+		buckets.incrementAndGet( bucketIndex( value ) );
+		count.increment();
+		total.add( value );
+		for ( long old = min.get(); ( value < old ) && !min.compareAndSet( old, value ); old = min.get() ) {}
+		for ( long old = max.get(); ( value > old ) && !max.compareAndSet( old, value ); old = max.get() ) {}
+	}
+
+	long getCount() {
+		return count.sum();
+	}
+
+	long getTotal() {
+		return total.sum();
+	}
+
+	long getMin() {
+		final long value = min.get();
+		return value == Long.MAX_VALUE ? 0L : value;
+	}
+
+	long getMax() {
+		return max.get();
+	}
+
+	long getAverage() {
+		final long count = getCount();
+		return count == 0 ? 0L : getTotal() / count;
+	}
+
+	/**
+	 * @return The highest value equivalent to the bucket containing the given percentile, capped by the
+	 * maximum recorded value
+	 */
+	long getValueAtPercentile(double percentile) {
+		// the buckets are summed instead of using the count, as they are not updated atomically together
+		long recorded = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			recorded += buckets.get( i );
+		}
+		if ( recorded == 0 ) {
+			return 0L;
+		}
+		final double fraction = Math.min( Math.max( percentile, 0d ), 100d ) / 100d;
+		final long target = Math.max( 1L, (long) Math.ceil( fraction * recorded ) );
+		long seen = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			seen += buckets.get( i );
+			if ( seen >= target ) {
+				return Math.min( highestEquivalentValue( i ), getMax() );
+			}
+		}
+		return getMax();
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < LINEAR_LIMIT ) {
+			return (int) value;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( value );
+		if ( exponent > MAX_EXPONENT ) {
+			return BUCKET_COUNT - 1;
+		}
+		final int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) - SUB_BUCKET_COUNT;
+		return LINEAR_LIMIT + ( exponent - SUB_BUCKET_BITS - 1 ) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long highestEquivalentValue(int index) {
+		if ( index < LINEAR_LIMIT ) {
+			return index;
+		}
+		if ( index == BUCKET_COUNT - 1 ) {
+			return Long.MAX_VALUE;
+		}
+		final int offset = index - LINEAR_LIMIT;
+		final int shift = offset / SUB_BUCKET_COUNT + 1;
+		final long subBucket = SUB_BUCKET_COUNT + offset % SUB_BUCKET_COUNT;
+		return ( ( subBucket + 1 ) << shift ) - 1;
+	}
+}
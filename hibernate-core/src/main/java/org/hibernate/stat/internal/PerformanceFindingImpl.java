@@ -0,0 +1,71 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.PerformanceFinding;
+
+/**
+ * Aggregated occurrences of a {@link PerformanceFinding}
+ */
+public class PerformanceFindingImpl implements PerformanceFinding {
+	private final Type type;
+	private final String role;
+	private final String callSite;
+
+	private final LongAdder occurrenceCount = new LongAdder();
+	private final AtomicLong maxValue = new AtomicLong();
+
+	PerformanceFindingImpl(Type type, String role, String callSite) {
+		this.type = type;
+		this.role = role;
+		this.callSite = callSite;
+	}
+
+	void occurred(long value) {
+		occurrenceCount.increment();
+		for ( long old = maxValue.get(); ( value > old ) && !maxValue.compareAndSet( old, value ); old = maxValue.get() ) {}
+	}
+
+	@Override
+	public Type getType() {
+		return type;
+	}
+
+	@Override
+	public String getRole() {
+		return role;
+	}
+
+	@Override
+	public String getCallSite() {
+		return callSite;
+	}
+
+	@Override
+	public long getOccurrenceCount() {
+		return occurrenceCount.sum();
+	}
+
+	@Override
+	public long getMaxValue() {
+		return maxValue.get();
+	}
+
+	@Override
+	public String toString() {
+		return "PerformanceFinding"
+				+ "[type=" + type
+				+ ",role=" + role
+				+ ",callSite=" + callSite
+				+ ",occurrenceCount=" + getOccurrenceCount()
+				+ ",maxValue=" + getMaxValue()
+				+ ']';
+	}
+}
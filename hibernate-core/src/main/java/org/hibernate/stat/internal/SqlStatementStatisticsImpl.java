@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import org.hibernate.stat.SqlStatementStatistics;
+import org.hibernate.stat.SqlStatementType;
+
+/**
+ * SQL statement execution time statistics, backed by a {@link LatencyHistogram}
+ */
+public class SqlStatementStatisticsImpl implements SqlStatementStatistics {
+	private final SqlStatementType statementType;
+	private final LatencyHistogram histogram = new LatencyHistogram();
+
+	SqlStatementStatisticsImpl(SqlStatementType statementType) {
+		this.statementType = statementType;
+	}
+
+	void executed(long microseconds) {
+		histogram.record( microseconds );
+	}
+
+	@Override
+	public SqlStatementType getStatementType() {
+		return statementType;
+	}
+
+	@Override
+	public long getExecutionCount() {
+		return histogram.getCount();
+	}
+
+	@Override
+	public long getExecutionTotalTime() {
+		return histogram.getTotal();
+	}
+
+	@Override
+	public long getExecutionAvgTime() {
+		return histogram.getAverage();
+	}
+
+	@Override
+	public long getExecutionMinTime() {
+		return histogram.getMin();
+	}
+
+	@Override
+	public long getExecutionMaxTime() {
+		return histogram.getMax();
+	}
+
+	@Override
+	public long getExecutionTimePercentile(double percentile) {
+		return histogram.getValueAtPercentile( percentile );
+	}
+
+	@Override
+	public String toString() {
+		return "SqlStatementStatistics"
+				+ "[statementType=" + statementType
+				+ ",executionCount=" + getExecutionCount()
+				+ ",executionAvgTime=" + getExecutionAvgTime()
+				+ ",executionMinTime=" + getExecutionMinTime()
+				+ ",executionMaxTime=" + getExecutionMaxTime()
+				+ ",executionTimeP50=" + getExecutionTimeP50()
+				+ ",executionTimeP99=" + getExecutionTimeP99()
+				+ ']';
+	}
+}
@@ -22,6 +22,8 @@ import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
 import org.hibernate.service.spi.Manageable;
+import org.hibernate.stat.PerformanceFinding;
+import org.hibernate.stat.SqlStatementType;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -100,6 +102,18 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	 */
 	private final BoundedConcurrentHashMap<String, QueryStatisticsImpl> queryStatsMap;
 
+	/**
+	 * Keyed by SQL string
+	 */
+	private final BoundedConcurrentHashMap<String, SqlStatementStatisticsImpl> sqlStatementStatsMap;
+
+	private final ConcurrentMap<SqlStatementType,SqlStatementStatisticsImpl> sqlStatementTypeStatsMap = new ConcurrentHashMap<>();
+
+	/**
+	 * Keyed by type, role and call site
+	 */
+	private final BoundedConcurrentHashMap<String, PerformanceFindingImpl> performanceFindingsMap;
+
 	/**
 	 * Keyed by region name
 	 */
@@ -122,6 +136,20 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 				20,
 				BoundedConcurrentHashMap.Eviction.LRU
 		);
+		this.sqlStatementStatsMap = new BoundedConcurrentHashMap(
+				sessionFactory != null ?
+					sessionFactory.getSessionFactoryOptions().getQueryStatisticsMaxSize() :
+					Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE,
+				20,
+				BoundedConcurrentHashMap.Eviction.LRU
+		);
+		this.performanceFindingsMap = new BoundedConcurrentHashMap(
+				sessionFactory != null ?
+					sessionFactory.getSessionFactoryOptions().getQueryStatisticsMaxSize() :
+					Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE,
+				20,
+				BoundedConcurrentHashMap.Eviction.LRU
+		);
 		clear();
 	}
 
@@ -182,6 +210,9 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		naturalIdQueryStatsMap.clear();
 		l2CacheStatsMap.clear();
 		queryStatsMap.clear();
+		sqlStatementStatsMap.clear();
+		sqlStatementTypeStatsMap.clear();
+		performanceFindingsMap.clear();
 		deprecatedNaturalIdStatsMap.clear();
 
 		queryPlanCacheHitCount.reset();
@@ -826,6 +857,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheVariantCount(String hql) {
+		if ( sessionFactory == null ) {
+			return 0;
+		}
+		return sessionFactory.getQueryPlanCache().getNormalizedQueryVariantCount( hql );
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -851,6 +890,56 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		);
 	}
 
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// SQL statement statistics
+
+	@Override
+	public String[] getSqlStatements() {
+		return ArrayHelper.toStringArray( sqlStatementStatsMap.keySet() );
+	}
+
+	@Override
+	public SqlStatementStatisticsImpl getSqlStatementStatistics(String sql) {
+		return sqlStatementStatsMap.get( sql );
+	}
+
+	@Override
+	public SqlStatementStatisticsImpl getSqlStatementTypeStatistics(SqlStatementType statementType) {
+		return sqlStatementTypeStatsMap.computeIfAbsent(
+				statementType,
+				SqlStatementStatisticsImpl::new
+		);
+	}
+
+	@Override
+	public void sqlStatementExecuted(String sql, long microseconds) {
+		final SqlStatementStatisticsImpl statementStatistics = sqlStatementStatsMap.computeIfAbsent(
+				sql,
+				s -> new SqlStatementStatisticsImpl( SqlStatementType.interpret( s ) )
+		);
+		statementStatistics.executed( microseconds );
+		getSqlStatementTypeStatistics( statementStatistics.getStatementType() ).executed( microseconds );
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Performance findings
+
+	@Override
+	public PerformanceFinding[] getPerformanceFindings() {
+		return performanceFindingsMap.values().toArray( new PerformanceFinding[0] );
+	}
+
+	@Override
+	public void performanceFinding(PerformanceFinding.Type type, String role, String callSite, long value) {
+		LOG.debugf( "Performance finding: %s of %s at %s (%s)", type, role, callSite, value );
+		performanceFindingsMap.computeIfAbsent(
+				type + ":" + role + ":" + callSite,
+				s -> new PerformanceFindingImpl( type, role, callSite )
+		).occurred( value );
+	}
+
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Session/misc stats
 
@@ -8,6 +8,7 @@ package org.hibernate.stat.spi;
 
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
+import org.hibernate.stat.PerformanceFinding;
 import org.hibernate.stat.Statistics;
 
 /**
@@ -266,4 +267,30 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating execution of a SQL statement, or of a JDBC batch of it
+	 *
+	 * @param sql The SQL statement
+	 * @param microseconds execution time
+	 *
+	 * @since 5.4
+	 */
+	default void sqlStatementExecuted(String sql, long microseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the detection of a performance hot spot in a Session
+	 *
+	 * @param type The type of finding
+	 * @param role The entity name or collection role, or the SQL of a slow statement if known
+	 * @param callSite The call site which triggered it
+	 * @param value The number of fetches, or the execution time in milliseconds
+	 *
+	 * @since 5.4
+	 */
+	default void performanceFinding(PerformanceFinding.Type type, String role, String callSite, long value) {
+		//For backward compatibility
+	}
 }
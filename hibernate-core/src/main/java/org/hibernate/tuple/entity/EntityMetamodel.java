@@ -14,6 +14,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.EntityMode;
 import org.hibernate.HibernateException;
@@ -23,6 +24,7 @@ import org.hibernate.cfg.NotYetImplementedException;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CascadeStyles;
+import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.ReflectHelper;
@@ -79,6 +81,8 @@ public class EntityMetamodel implements Serializable {
 	private final boolean[] propertyNullability;
 	private final boolean[] propertyVersionability;
 	private final CascadeStyle[] cascadeStyles;
+	// lazily (re)created, as it is not serialized
+	private transient volatile Map<CascadingAction, int[]> cascadePlans;
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	// value generations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -982,6 +986,53 @@ public class EntityMetamodel implements Serializable {
 		return cascadeStyles;
 	}
 
+	/**
+	 * The indexes of the properties which need to be visited when cascading the given action from an instance
+	 * of this entity: properties whose cascade style applies to the action (components qualify when any of their
+	 * sub-properties cascade), logical one-to-ones subject to orphan removal and, if the action
+	 * {@link CascadingAction#requiresNoCascadeChecking() checks non-cascading properties}, all association and
+	 * component valued properties.  An empty plan means cascading the action is a no-op for this entity.
+	 *
+	 * @param action The cascading action
+	 *
+	 * @return The (ascending) property indexes
+	 */
+	public int[] getCascadePlan(CascadingAction action) {
+		Map<CascadingAction, int[]> plans = cascadePlans;
+		if ( plans == null ) {
+			// racing threads may each create a map, which only costs rebuilding a few plans
+			plans = new ConcurrentHashMap<>();
+			cascadePlans = plans;
+		}
+		int[] plan = plans.get( action );
+		if ( plan == null ) {
+			plan = buildCascadePlan( action );
+			plans.put( action, plan );
+		}
+		return plan;
+	}
+
+	private int[] buildCascadePlan(CascadingAction action) {
+		if ( !hasCascades && !action.requiresNoCascadeChecking() ) {
+			return ArrayHelper.EMPTY_INT_ARRAY;
+		}
+		final List<Integer> indexes = new ArrayList<>();
+		for ( int i = 0; i < propertySpan; i++ ) {
+			final CascadeStyle style = cascadeStyles[i];
+			final Type type = propertyTypes[i];
+			if ( style.doCascade( action )
+					|| ( action.requiresNoCascadeChecking() && ( type.isAssociationType() || type.isComponentType() ) )
+					|| ( action.deleteOrphans() && style.hasOrphanDelete() && isLogicalOneToOne( type ) ) ) {
+				indexes.add( i );
+			}
+		}
+		return ArrayHelper.toIntArray( indexes );
+	}
+
+	private static boolean isLogicalOneToOne(Type type) {
+		return type.isEntityType() && ( (EntityType) type ).isLogicalOneToOne();
+	}
+
 	public boolean hasPreInsertGeneratedValues() {
 		return hasPreInsertGeneratedValues;
 	}
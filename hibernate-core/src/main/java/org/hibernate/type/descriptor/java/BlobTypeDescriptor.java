@@ -18,7 +18,7 @@ import org.hibernate.engine.jdbc.BinaryStream;
 import org.hibernate.engine.jdbc.BlobImplementer;
 import org.hibernate.engine.jdbc.BlobProxy;
 import org.hibernate.engine.jdbc.WrappedBlob;
-import org.hibernate.engine.jdbc.internal.BinaryStreamImpl;
+import org.hibernate.engine.jdbc.internal.StreamBackedBinaryStream;
 import org.hibernate.type.descriptor.WrapperOptions;
 
 /**
@@ -113,8 +113,9 @@ public class BlobTypeDescriptor extends AbstractTypeDescriptor<Blob> {
 					return (X) ( (BlobImplementer) value ).getUnderlyingStream();
 				}
 				else {
-					// otherwise we need to build a BinaryStream...
-					return (X) new BinaryStreamImpl( DataHelper.extractBytes( value.getBinaryStream() ) );
+					// otherwise we need to build a BinaryStream; wrap the Blob's stream rather than reading it into
+					// memory so that large values are streamed straight through to the JDBC driver
+					return (X) new StreamBackedBinaryStream( value.getBinaryStream(), value.length() );
 				}
 			}
 			else if ( byte[].class.isAssignableFrom( type )) {
@@ -98,7 +98,7 @@ public class ClobTypeDescriptor extends AbstractTypeDescriptor<Clob> {
 				}
 				else {
 					// otherwise we need to build a CharacterStream...
-					return (X) new CharacterStreamImpl( DataHelper.extractString( value.getCharacterStream() ) );
+					return (X) new CharacterStreamImpl( value.getCharacterStream(), value.length() );
 				}
 			}
 			else if (Clob.class.isAssignableFrom( type )) {
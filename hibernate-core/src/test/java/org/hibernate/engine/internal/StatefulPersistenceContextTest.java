@@ -0,0 +1,198 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests clearing and serializing a {@link StatefulPersistenceContext}, whose secondary structures are only
+ * created on first use.
+ */
+public class StatefulPersistenceContextTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Folder.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		inTransaction(
+				session -> {
+					final Folder inbox = new Folder( 1, "inbox" );
+					inbox.labels.add( "mail" );
+					session.persist( inbox );
+					session.persist( new Folder( 2, "archive" ) );
+				}
+		);
+	}
+
+	@Test
+	public void testClear() {
+		inTransaction(
+				session -> {
+					final StatefulPersistenceContext persistenceContext = persistenceContext( session );
+					final Folder inbox = session.get( Folder.class, 1 );
+					Hibernate.initialize( inbox.labels );
+					final Folder archive = session.getReference( Folder.class, 2 );
+					assertFalse( Hibernate.isInitialized( archive ) );
+					assertEquals( 1, persistenceContext.getNumberOfManagedEntities() );
+					assertTrue( persistenceContext.containsProxy( archive ) );
+
+					session.clear();
+
+					assertEquals( 0, persistenceContext.getNumberOfManagedEntities() );
+					assertTrue( persistenceContext.getEntitiesByKey().isEmpty() );
+					assertTrue( persistenceContext.getCollectionsByKey().isEmpty() );
+					assertFalse( persistenceContext.containsProxy( archive ) );
+					assertNull( ( (HibernateProxy) archive ).getHibernateLazyInitializer().getSession() );
+					assertNull( persistenceContext.getEntity( entityKey( session, 1 ) ) );
+
+					// the cleared structures are created again on use
+					final Folder reloaded = session.get( Folder.class, 1 );
+					assertEquals( "inbox", reloaded.name );
+					assertEquals( 1, reloaded.labels.size() );
+					final Folder proxy = session.getReference( Folder.class, 2 );
+					assertTrue( persistenceContext.containsProxy( proxy ) );
+					Hibernate.initialize( proxy );
+					assertTrue( Hibernate.isInitialized( proxy ) );
+				}
+		);
+	}
+
+	@Test
+	public void testSerializeFresh() {
+		inSession(
+				session -> {
+					final StatefulPersistenceContext fresh = new StatefulPersistenceContext( (SessionImplementor) session );
+					final StatefulPersistenceContext copy = roundTrip( fresh, (SessionImplementor) session );
+
+					assertEquals( 0, copy.getNumberOfManagedEntities() );
+					assertTrue( copy.getEntitiesByKey().isEmpty() );
+					assertTrue( copy.getCollectionsByKey().isEmpty() );
+					assertNull( copy.getProxy( entityKey( session, 2 ) ) );
+					assertFalse( copy.isDefaultReadOnly() );
+				}
+		);
+	}
+
+	@Test
+	public void testSerializePopulated() {
+		inSession(
+				session -> {
+					final StatefulPersistenceContext persistenceContext = persistenceContext( session );
+					final Folder inbox = session.get( Folder.class, 1 );
+					Hibernate.initialize( inbox.labels );
+					final Folder archive = session.getReference( Folder.class, 2 );
+
+					inSession(
+							other -> {
+								final StatefulPersistenceContext copy = roundTrip(
+										persistenceContext,
+										(SessionImplementor) other
+								);
+								assertEquals( 1, copy.getNumberOfManagedEntities() );
+								assertEquals( 1, copy.getCollectionsByKey().size() );
+
+								final Folder inboxCopy = (Folder) copy.getEntity( entityKey( other, 1 ) );
+								assertNotNull( inboxCopy );
+								assertEquals( "inbox", inboxCopy.name );
+								assertNotNull( copy.getEntry( inboxCopy ) );
+
+								final Object archiveCopy = copy.getProxy( entityKey( other, 2 ) );
+								assertNotNull( archiveCopy );
+								assertFalse( Hibernate.isInitialized( archiveCopy ) );
+								// proxies are reconnected to the session deserializing the persistence context
+								assertSame(
+										other,
+										( (HibernateProxy) archiveCopy ).getHibernateLazyInitializer().getSession()
+								);
+							}
+					);
+					assertSame( session, ( (HibernateProxy) archive ).getHibernateLazyInitializer().getSession() );
+				}
+		);
+	}
+
+	private static StatefulPersistenceContext persistenceContext(Session session) {
+		return (StatefulPersistenceContext) ( (SessionImplementor) session ).getPersistenceContext();
+	}
+
+	private static EntityKey entityKey(Session session, Integer id) {
+		final SessionImplementor sessionImplementor = (SessionImplementor) session;
+		final EntityPersister persister = sessionImplementor.getFactory()
+				.getMetamodel()
+				.entityPersister( Folder.class );
+		return sessionImplementor.generateEntityKey( id, persister );
+	}
+
+	private static StatefulPersistenceContext roundTrip(
+			StatefulPersistenceContext persistenceContext,
+			SessionImplementor session) {
+		try {
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream oos = new ObjectOutputStream( bytes )) {
+				persistenceContext.serialize( oos );
+			}
+			try (ObjectInputStream ois = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) )) {
+				return StatefulPersistenceContext.deserialize( ois, session );
+			}
+		}
+		catch (IOException | ClassNotFoundException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	@Entity(name = "Folder")
+	public static class Folder implements Serializable {
+		@Id
+		private Integer id;
+		private String name;
+		@ElementCollection
+		private Set<String> labels = new HashSet<>();
+
+		public Folder() {
+		}
+
+		public Folder(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.service.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.event.spi.PreCollectionRecreateEventListener;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests dispatching events through {@link EventListenerGroup#fireEventOnEachListener} and
+ * {@link EventListenerGroup#fireLazyEventOnEachListener}.
+ */
+public class EventListenerGroupFireEventTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testAppendedListenersAreFired() {
+		final EventListenerRegistry listenerRegistry = sessionFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class );
+
+		final List<Object> flushedEntities = new ArrayList<>();
+		final List<FlushEntityEvent> flushEvents = new ArrayList<>();
+		listenerRegistry.getEventListenerGroup( EventType.FLUSH_ENTITY ).appendListener(
+				(FlushEntityEventListener) event -> {
+					flushedEntities.add( event.getEntity() );
+					flushEvents.add( event );
+				}
+		);
+
+		final List<LoadEventListener.LoadType> loadTypes = new ArrayList<>();
+		final EventListenerGroup<LoadEventListener> loadGroup = listenerRegistry.getEventListenerGroup( EventType.LOAD );
+		loadGroup.appendListener( (LoadEvent event, LoadEventListener.LoadType loadType) -> loadTypes.add( loadType ) );
+
+		inTransaction(
+				session -> {
+					session.persist( new Item( 1, "first" ) );
+					session.persist( new Item( 2, "second" ) );
+				}
+		);
+		assertEquals( 2, flushedEntities.size() );
+		// the same event instance is used for all the entities of a flush
+		assertSame( flushEvents.get( 0 ), flushEvents.get( 1 ) );
+
+		inTransaction(
+				session -> {
+					final Item item = session.get( Item.class, 1 );
+					assertEquals( "first", item.name );
+				}
+		);
+		assertTrue( loadTypes.contains( LoadEventListener.GET ) );
+	}
+
+	@Test
+	public void testLazyEventCreatedOnlyWithListeners() {
+		final EventListenerRegistry listenerRegistry = sessionFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class );
+		final EventListenerGroup<PreCollectionRecreateEventListener> group = listenerRegistry.getEventListenerGroup(
+				EventType.PRE_COLLECTION_RECREATE
+		);
+		assertTrue( group.isEmpty() );
+
+		final AtomicInteger created = new AtomicInteger();
+		group.fireLazyEventOnEachListener(
+				() -> {
+					created.incrementAndGet();
+					return null;
+				},
+				PreCollectionRecreateEventListener::onPreRecreateCollection
+		);
+		assertEquals( 0, created.get() );
+
+		// collection actions fire their events through fireLazyEventOnEachListener
+		final List<Object> recreatedCollections = new ArrayList<>();
+		group.appendListener( event -> recreatedCollections.add( event.getCollection() ) );
+		inTransaction(
+				session -> {
+					final Item item = new Item( 3, "third" );
+					item.tags.add( "new" );
+					session.persist( item );
+				}
+		);
+		assertEquals( 1, recreatedCollections.size() );
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testListenersAreReadOnly() {
+		final EventListenerRegistry listenerRegistry = sessionFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class );
+		final EventListenerGroup<LoadEventListener> group = listenerRegistry.getEventListenerGroup( EventType.LOAD );
+		// the read-only view is only created again when the listeners change
+		assertSame( group.listeners(), group.listeners() );
+		final Iterator<LoadEventListener> listeners = group.listeners().iterator();
+		listeners.next();
+		listeners.remove();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
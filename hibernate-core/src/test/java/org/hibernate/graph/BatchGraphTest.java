@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.jpa.test.BaseEntityManagerFunctionalTestCase;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil2.inTransaction;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests initializing an entity graph level by level, with one batched query per association level.
+ */
+public class BatchGraphTest extends BaseEntityManagerFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { PurchaseOrder.class, OrderLine.class, Product.class, Category.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( options );
+	}
+
+	@Before
+	public void prepareTestData() {
+		inTransaction(
+				entityManagerFactory(),
+				session -> {
+					final Category[] categories = { new Category( 1, "books" ), new Category( 2, "music" ) };
+					for ( Category category : categories ) {
+						session.persist( category );
+					}
+					int lineId = 0;
+					for ( int orderId = 1; orderId <= 3; orderId++ ) {
+						final PurchaseOrder order = new PurchaseOrder( orderId );
+						session.persist( order );
+						for ( int i = 0; i < 2; i++ ) {
+							lineId++;
+							final Product product = new Product( lineId, categories[lineId % 2] );
+							session.persist( product );
+							final OrderLine line = new OrderLine( lineId, order, product );
+							order.lines.add( line );
+							session.persist( line );
+						}
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testOneQueryPerLevel() {
+		inTransaction(
+				entityManagerFactory(),
+				session -> {
+					final RootGraph<PurchaseOrder> graph = GraphParser.parse(
+							PurchaseOrder.class,
+							"lines(product(category))",
+							session
+					);
+
+					sqlStatementInterceptor.clear();
+					final List<PurchaseOrder> orders = session.createQuery( "from PurchaseOrder", PurchaseOrder.class )
+							.setHint( QueryHints.BATCH_GRAPH, graph )
+							.getResultList();
+
+					// the root query, then lines, products and categories
+					sqlStatementInterceptor.assertExecutedCount( 4 );
+
+					assertEquals( 3, orders.size() );
+					for ( PurchaseOrder order : orders ) {
+						assertTrue( Hibernate.isInitialized( order.lines ) );
+						assertEquals( 2, order.lines.size() );
+						for ( OrderLine line : order.lines ) {
+							assertTrue( Hibernate.isInitialized( line.product ) );
+							final Product product = (Product) Hibernate.unproxy( line.product );
+							assertTrue( Hibernate.isInitialized( product.category ) );
+						}
+					}
+					sqlStatementInterceptor.assertExecutedCount( 4 );
+				}
+		);
+	}
+
+	@Entity(name = "PurchaseOrder")
+	public static class PurchaseOrder {
+		@Id
+		private Integer id;
+		@OneToMany(mappedBy = "order")
+		private List<OrderLine> lines = new ArrayList<>();
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "OrderLine")
+	public static class OrderLine {
+		@Id
+		private Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private PurchaseOrder order;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Product product;
+
+		public OrderLine() {
+		}
+
+		public OrderLine(Integer id, PurchaseOrder order, Product product) {
+			this.id = id;
+			this.order = order;
+			this.product = product;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Category category;
+
+		public Product() {
+		}
+
+		public Product(Integer id, Category category) {
+			this.id = id;
+			this.category = category;
+		}
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Category() {
+		}
+
+		public Category(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
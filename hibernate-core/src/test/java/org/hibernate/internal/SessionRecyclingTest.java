@@ -0,0 +1,188 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
+import org.hibernate.LazyInitializationException;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the reuse of the persistence contexts and action queues of closed Sessions.
+ */
+public class SessionRecyclingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Account.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		// a single pooled persistence context, so that each session gets the one of the session closed before it
+		settings.put( AvailableSettings.SESSION_RECYCLING_POOL_SIZE, "1" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		inTransaction(
+				session -> {
+					final Account account = new Account( 1, "checking" );
+					account.tags.add( "main" );
+					session.persist( account );
+					session.persist( new Account( 2, "savings" ) );
+				}
+		);
+	}
+
+	@Test
+	public void testStructuresReused() {
+		final PersistenceContext persistenceContext;
+		final ActionQueue actionQueue;
+		final Account account;
+		final Account proxy;
+
+		final Session first = openSession();
+		try {
+			first.beginTransaction();
+			persistenceContext = ( (SessionImplementor) first ).getPersistenceContext();
+			actionQueue = ( (SessionImplementor) first ).getActionQueue();
+			account = first.get( Account.class, 1 );
+			Hibernate.initialize( account.tags );
+			proxy = first.load( Account.class, 2 );
+			assertFalse( Hibernate.isInitialized( proxy ) );
+			persistenceContext.setDefaultReadOnly( true );
+			first.getTransaction().commit();
+		}
+		finally {
+			first.close();
+		}
+
+		inTransaction(
+				session -> {
+					final SessionImplementor sessionImplementor = (SessionImplementor) session;
+					assertSame( persistenceContext, sessionImplementor.getPersistenceContext() );
+					assertSame( actionQueue, sessionImplementor.getActionQueue() );
+					assertSame( session, persistenceContext.getSession() );
+
+					// nothing of the closed session is visible from the new one
+					assertEquals( 0, persistenceContext.getNumberOfManagedEntities() );
+					assertTrue( persistenceContext.getCollectionsByKey().isEmpty() );
+					assertFalse( persistenceContext.isDefaultReadOnly() );
+					assertFalse( session.contains( account ) );
+					assertFalse( session.contains( proxy ) );
+
+					final Account reloaded = session.get( Account.class, 1 );
+					assertNotSame( account, reloaded );
+					assertEquals( 1, reloaded.tags.size() );
+				}
+		);
+
+		// the proxy of the closed session is not reconnected to the session now using its persistence context
+		try {
+			Hibernate.initialize( proxy );
+			fail( "Expecting the proxy of the closed session to stay detached" );
+		}
+		catch (LazyInitializationException expected) {
+		}
+	}
+
+	@Test
+	public void testPendingActionsDiscarded() {
+		final ActionQueue actionQueue;
+		final Session first = openSession();
+		try {
+			first.setHibernateFlushMode( FlushMode.MANUAL );
+			first.persist( new Account( 3, "unflushed" ) );
+			actionQueue = ( (SessionImplementor) first ).getActionQueue();
+			assertTrue( actionQueue.hasAnyQueuedActions() );
+		}
+		finally {
+			first.close();
+		}
+
+		inTransaction(
+				session -> {
+					assertSame( actionQueue, ( (SessionImplementor) session ).getActionQueue() );
+					assertFalse( actionQueue.hasAnyQueuedActions() );
+				}
+		);
+		inTransaction(
+				session -> assertNull( session.get( Account.class, 3 ) )
+		);
+	}
+
+	@Test
+	public void testNotResetWhileHoldingState() {
+		inTransaction(
+				session -> {
+					final StatefulPersistenceContext persistenceContext = (StatefulPersistenceContext) ( (SessionImplementor) session )
+							.getPersistenceContext();
+					session.get( Account.class, 1 );
+					assertFalse( persistenceContext.resetForReuse() );
+					assertSame( session, persistenceContext.getSession() );
+				}
+		);
+	}
+
+	@Test
+	public void testClosedSessionNotUsable() {
+		final Session first = openSession();
+		first.close();
+		try {
+			( (SessionImplementor) first ).getPersistenceContext();
+			fail( "Expecting the closed session to be unusable" );
+		}
+		catch (IllegalStateException expected) {
+		}
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Integer id;
+		private String name;
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+
+		public Account() {
+		}
+
+		public Account(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
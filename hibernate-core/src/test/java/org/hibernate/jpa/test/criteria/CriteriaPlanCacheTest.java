@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jpa.test.criteria;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.Id;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.test.BaseEntityManagerFunctionalTestCase;
+import org.hibernate.query.criteria.LiteralHandlingMode;
+import org.hibernate.query.criteria.internal.CriteriaQueryImpl;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests re-using the interpretation of criteria queries having the same structure.
+ */
+public class CriteriaPlanCacheTest extends BaseEntityManagerFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Book.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( AvailableSettings.CRITERIA_PLAN_CACHE, "true" );
+	}
+
+	@Before
+	public void init() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.persist( new Book( 1, "Dune", 1965 ) );
+			entityManager.persist( new Book( 2, "Neuromancer", 1984 ) );
+			entityManager.persist( new Book( 3, "Hyperion", 1989 ) );
+		} );
+	}
+
+	@Test
+	public void testSameStructureSharesPlan() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			final CriteriaStructure dune = structure( criteria( entityManager, "Dune", 1900 ) );
+			final CriteriaStructure hyperion = structure( criteria( entityManager, "Hyperion", 1900 ) );
+			assertNotNull( dune );
+			assertEquals( dune.getKey(), hyperion.getKey() );
+			// numeric literals are inlined by default, so they are part of the structure
+			assertNotEquals( dune.getKey(), structure( criteria( entityManager, "Dune", 1980 ) ).getKey() );
+
+			final QueryPlanCache queryPlanCache = entityManagerFactory().unwrap( SessionFactoryImplementor.class )
+					.getQueryPlanCache();
+			assertNull( queryPlanCache.getCriteriaQueryPlan( dune.getKey() ) );
+
+			List<Book> books = find( entityManager, "Dune", 1900, 2000 );
+			assertEquals( 1, books.size() );
+			assertEquals( "Dune", books.get( 0 ).title );
+			assertNotNull( queryPlanCache.getCriteriaQueryPlan( dune.getKey() ) );
+
+			books = find( entityManager, "Hyperion", 1900, 2000 );
+			assertEquals( 1, books.size() );
+			assertEquals( "Hyperion", books.get( 0 ).title );
+
+			assertEquals( 0, find( entityManager, "Hyperion", 1900, 1985 ).size() );
+			assertEquals( 1, find( entityManager, "Neuromancer", 1900, 1985 ).size() );
+		} );
+	}
+
+	private List<Book> find(EntityManager entityManager, String title, int from, int to) {
+		final CriteriaQuery<Book> criteria = criteria( entityManager, title, from );
+		return entityManager.createQuery( criteria )
+				.setParameter( "to", to )
+				.getResultList();
+	}
+
+	private CriteriaQuery<Book> criteria(EntityManager entityManager, String title, int from) {
+		final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		final CriteriaQuery<Book> criteria = cb.createQuery( Book.class );
+		final Root<Book> root = criteria.from( Book.class );
+		final ParameterExpression<Integer> to = cb.parameter( Integer.class, "to" );
+		criteria.where(
+				cb.equal( root.get( "title" ), title ),
+				cb.between( root.<Integer>get( "published" ), cb.literal( from ), to )
+		);
+		criteria.orderBy( cb.asc( root.get( "title" ) ) );
+		return criteria;
+	}
+
+	private CriteriaStructure structure(CriteriaQuery<?> criteria) {
+		return CriteriaStructure.resolve( (CriteriaQueryImpl<?>) criteria, LiteralHandlingMode.AUTO );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		private Integer published;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Integer published) {
+			this.id = id;
+			this.title = title;
+			this.published = published;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property;
+
+import javax.persistence.Access;
+import javax.persistence.AccessType;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.PropertySetterAccessException;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.property.access.internal.PropertyAccessStrategyMethodHandleImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.Setter;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PropertyAccessStrategyMethodHandleTest extends BaseUnitTestCase {
+
+	@Test
+	public void testFieldAccess() {
+		final PropertyAccess access = PropertyAccessStrategyMethodHandleImpl.FIELD.buildPropertyAccess(
+				Item.class,
+				"quantity"
+		);
+		final Item item = new Item();
+		access.getSetter().set( item, 5, null );
+		assertEquals( 5, item.quantity );
+		assertEquals( 5, access.getGetter().get( item ) );
+		assertEquals( int.class, access.getGetter().getReturnType() );
+		// field access never goes through the accessor methods
+		assertEquals( 0, item.accessorCalls );
+	}
+
+	@Test
+	public void testPropertyAccess() {
+		final PropertyAccess access = PropertyAccessStrategyMethodHandleImpl.PROPERTY.buildPropertyAccess(
+				Item.class,
+				"name"
+		);
+		final Item item = new Item();
+		access.getSetter().set( item, "hammer", null );
+		assertEquals( "hammer", access.getGetter().get( item ) );
+		assertEquals( "getName", access.getGetter().getMethodName() );
+		assertEquals( "setName", access.getSetter().getMethodName() );
+		assertEquals( 2, item.accessorCalls );
+	}
+
+	@Test
+	public void testMixedAccess() {
+		final Item item = new Item();
+		PropertyAccessStrategyMethodHandleImpl.MIXED.buildPropertyAccess( Item.class, "name" )
+				.getSetter()
+				.set( item, "hammer", null );
+		assertEquals( 1, item.accessorCalls );
+		PropertyAccessStrategyMethodHandleImpl.MIXED.buildPropertyAccess( Item.class, "quantity" )
+				.getSetter()
+				.set( item, 5, null );
+		assertEquals( 1, item.accessorCalls );
+	}
+
+	@Test
+	public void testNullAssignedToPrimitive() {
+		final Setter setter = PropertyAccessStrategyMethodHandleImpl.FIELD.buildPropertyAccess( Item.class, "quantity" )
+				.getSetter();
+		try {
+			setter.set( new Item(), null, null );
+			fail( "Expecting PropertyAccessException" );
+		}
+		catch (PropertyAccessException e) {
+			assertTrue( e.getMessage().contains( "Null value was assigned to a property of primitive type" ) );
+		}
+	}
+
+	@Test
+	public void testValueOfWrongType() {
+		final Setter setter = PropertyAccessStrategyMethodHandleImpl.FIELD.buildPropertyAccess( Item.class, "name" )
+				.getSetter();
+		try {
+			setter.set( new Item(), 5, null );
+			fail( "Expecting PropertySetterAccessException" );
+		}
+		catch (PropertySetterAccessException e) {
+			assertTrue( e.getCause() instanceof ClassCastException );
+		}
+	}
+
+	@Test
+	public void testExceptionInsideSetter() {
+		final Setter setter = PropertyAccessStrategyMethodHandleImpl.PROPERTY.buildPropertyAccess( Item.class, "code" )
+				.getSetter();
+		try {
+			setter.set( new Item(), null, null );
+			fail( "Expecting PropertyAccessException" );
+		}
+		catch (PropertyAccessException e) {
+			assertTrue( e.getMessage().contains( "Exception occurred inside" ) );
+			assertTrue( e.getCause() instanceof NullPointerException );
+		}
+	}
+
+	@Test
+	public void testErrorNotWrapped() {
+		final Getter getter = PropertyAccessStrategyMethodHandleImpl.PROPERTY.buildPropertyAccess( Item.class, "code" )
+				.getGetter();
+		try {
+			getter.get( new Item() );
+			fail( "Expecting AssertionError" );
+		}
+		catch (AssertionError expected) {
+			assertEquals( "code", expected.getMessage() );
+		}
+	}
+
+	@Test
+	public void testSerialization() {
+		final PropertyAccess access = PropertyAccessStrategyMethodHandleImpl.FIELD.buildPropertyAccess(
+				Item.class,
+				"quantity"
+		);
+		final Getter getter = (Getter) SerializationHelper.clone( access.getGetter() );
+		final Setter setter = (Setter) SerializationHelper.clone( access.getSetter() );
+
+		final Item item = new Item();
+		setter.set( item, 3, null );
+		assertEquals( 3, getter.get( item ) );
+		assertNull( setter.getMethod() );
+	}
+
+	@Access(AccessType.FIELD)
+	public static class Item {
+		private int quantity;
+		private String name;
+		private transient int accessorCalls;
+
+		@Access(AccessType.PROPERTY)
+		private String getName() {
+			accessorCalls++;
+			return name;
+		}
+
+		private void setName(String name) {
+			accessorCalls++;
+			this.name = name;
+		}
+
+		private String getCode() {
+			throw new AssertionError( "code" );
+		}
+
+		private void setCode(String code) {
+			this.name = code.trim();
+		}
+	}
+}
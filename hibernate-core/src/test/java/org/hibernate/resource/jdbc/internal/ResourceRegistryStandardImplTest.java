@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.hibernate.HibernateException;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the Statement and ResultSet tracking of {@link ResourceRegistryStandardImpl}, both within and beyond
+ * the inline slots.
+ */
+public class ResourceRegistryStandardImplTest {
+
+	@Test
+	public void testSingleStatementAndResultSet() throws Exception {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement statement = mock( Statement.class );
+		final ResultSet resultSet = mock( ResultSet.class );
+
+		assertFalse( registry.hasRegisteredResources() );
+		registry.register( statement, true );
+		registry.register( resultSet, statement );
+		assertTrue( registry.hasRegisteredResources() );
+
+		registry.release( resultSet, statement );
+		verify( resultSet ).close();
+		assertFalse( registry.hasRegisteredResources() );
+
+		registry.register( statement, true );
+		registry.release( statement );
+		verify( statement ).close();
+		assertFalse( registry.hasRegisteredResources() );
+	}
+
+	@Test
+	public void testDuplicateStatementRegistration() {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement statement = mock( Statement.class );
+		registry.register( statement, false );
+		try {
+			registry.register( statement, false );
+			fail( "Expecting the second registration to fail" );
+		}
+		catch (HibernateException expected) {
+		}
+	}
+
+	@Test
+	public void testReleaseResourcesBeyondInlineSlots() throws Exception {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement first = mock( Statement.class );
+		final Statement second = mock( Statement.class );
+		final ResultSet firstResultSet = mock( ResultSet.class );
+		final ResultSet secondResultSet = mock( ResultSet.class );
+		final ResultSet thirdResultSet = mock( ResultSet.class );
+
+		registry.register( first, true );
+		registry.register( second, true );
+		registry.register( firstResultSet, first );
+		registry.register( secondResultSet, first );
+		registry.register( thirdResultSet, second );
+
+		registry.release( secondResultSet, first );
+		verify( secondResultSet ).close();
+		assertTrue( registry.hasRegisteredResources() );
+
+		registry.releaseResources();
+		verify( first ).close();
+		verify( second ).close();
+		verify( firstResultSet ).close();
+		verify( thirdResultSet ).close();
+		assertFalse( registry.hasRegisteredResources() );
+
+		// the registry is reusable once its resources have been released
+		final Statement third = mock( Statement.class );
+		registry.register( third, false );
+		assertTrue( registry.hasRegisteredResources() );
+		registry.release( third );
+		verify( third ).close();
+		verify( first, never() ).cancel();
+		assertFalse( registry.hasRegisteredResources() );
+	}
+
+	@Test
+	public void testResultSetsOfSuccessiveStatements() throws Exception {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement first = mock( Statement.class );
+		final Statement second = mock( Statement.class );
+		final Statement third = mock( Statement.class );
+		final ResultSet secondResultSet = mock( ResultSet.class );
+		final ResultSet thirdResultSet = mock( ResultSet.class );
+
+		registry.register( first, false );
+		registry.register( second, false );
+		registry.register( secondResultSet, second );
+		registry.release( second );
+		verify( secondResultSet ).close();
+
+		// the ResultSets of a released Statement are not carried over to the next one
+		registry.register( third, false );
+		registry.register( thirdResultSet, third );
+		registry.release( thirdResultSet, third );
+		verify( thirdResultSet ).close();
+		registry.release( first );
+		assertFalse( registry.hasRegisteredResources() );
+		verify( secondResultSet ).close();
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bulkid;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.hql.spi.id.chunked.ChunkedIdsBulkIdStrategy;
+
+public class ChunkedIdsBulkCompositeIdTest extends AbstractBulkCompositeIdTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( ChunkedIdsBulkIdStrategy.CHUNK_SIZE, "3" );
+		configuration.setProperty( ChunkedIdsBulkIdStrategy.COMMIT_CHUNKS, "true" );
+		return configuration;
+	}
+
+	@Override
+	protected Class<? extends MultiTableBulkIdStrategy> getMultiTableBulkIdStrategyClass() {
+		return ChunkedIdsBulkIdStrategy.class;
+	}
+}
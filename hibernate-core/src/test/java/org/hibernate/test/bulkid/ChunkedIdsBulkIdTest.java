@@ -0,0 +1,27 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bulkid;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.hql.spi.id.chunked.ChunkedIdsBulkIdStrategy;
+
+public class ChunkedIdsBulkIdTest extends AbstractBulkIdTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		// smaller than the number of matching rows, and not a divisor of it, to also apply a partial chunk
+		configuration.setProperty( ChunkedIdsBulkIdStrategy.CHUNK_SIZE, "3" );
+		return configuration;
+	}
+
+	@Override
+	protected Class<? extends MultiTableBulkIdStrategy> getMultiTableBulkIdStrategyClass() {
+		return ChunkedIdsBulkIdStrategy.class;
+	}
+}
@@ -0,0 +1,22 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bulkid;
+
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.hql.spi.id.cte.CteDataModifyingBulkIdStrategy;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+
+@RequiresDialectFeature(DialectChecks.SupportsDataModifyingCTE.class)
+public class CteDataModifyingBulkCompositeIdTest extends AbstractBulkCompositeIdTest {
+
+	@Override
+	protected Class<? extends MultiTableBulkIdStrategy> getMultiTableBulkIdStrategyClass() {
+		return CteDataModifyingBulkIdStrategy.class;
+	}
+}
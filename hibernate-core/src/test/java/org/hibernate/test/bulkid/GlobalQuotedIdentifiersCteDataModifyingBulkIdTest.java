@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bulkid;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+
+/**
+ * Runs the bulk operations of {@link CteDataModifyingBulkIdTest} with globally quoted identifiers, the names
+ * of the data-modifying CTEs being derived from the name of the id CTE.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsDataModifyingCTE.class)
+public class GlobalQuotedIdentifiersCteDataModifyingBulkIdTest extends CteDataModifyingBulkIdTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( AvailableSettings.GLOBALLY_QUOTED_IDENTIFIERS, Boolean.TRUE.toString() );
+		return configuration;
+	}
+}
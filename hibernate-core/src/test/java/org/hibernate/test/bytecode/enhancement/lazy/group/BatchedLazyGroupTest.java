@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.lazy.group;
+
+import java.util.List;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.LazyGroup;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests initializing a lazy fetch group for several managed instances with one select.
+ */
+@RunWith( BytecodeEnhancerRunner.class )
+public class BatchedLazyGroupTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Document.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, s -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				s.persist( new Document( i, "document " + i, "summary " + i, "content " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testFetchGroupInitializedForBatch() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		doInHibernate( this::sessionFactory, s -> {
+			final List<Document> documents = s.createQuery( "from Document order by id", Document.class ).list();
+			for ( Document document : documents ) {
+				assertFalse( Hibernate.isPropertyInitialized( document, "summary" ) );
+			}
+
+			statistics.clear();
+			assertEquals( "summary 1", documents.get( 0 ).summary );
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+
+			for ( Document document : documents ) {
+				assertTrue( Hibernate.isPropertyInitialized( document, "summary" ) );
+				assertTrue( Hibernate.isPropertyInitialized( document, "content" ) );
+			}
+			assertEquals( "summary 3", documents.get( 2 ).summary );
+			assertEquals( "content 5", documents.get( 4 ).content );
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+		} );
+	}
+
+	@Test
+	public void testEvictedInstanceLeftOutOfBatch() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		doInHibernate( this::sessionFactory, s -> {
+			final List<Document> documents = s.createQuery( "from Document order by id", Document.class ).list();
+			s.evict( documents.get( 1 ) );
+
+			statistics.clear();
+			assertEquals( "summary 1", documents.get( 0 ).summary );
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+
+			assertFalse( Hibernate.isPropertyInitialized( documents.get( 1 ), "summary" ) );
+			for ( Document document : documents.subList( 2, documents.size() ) ) {
+				assertTrue( Hibernate.isPropertyInitialized( document, "summary" ) );
+			}
+		} );
+	}
+
+	@After
+	public void cleanup() {
+		doInHibernate( this::sessionFactory, s -> {
+			s.createQuery( "delete Document" ).executeUpdate();
+		} );
+	}
+
+	@Entity( name = "Document" )
+	@BatchSize( size = 10 )
+	private static class Document {
+
+		@Id
+		Long id;
+
+		String title;
+
+		@Basic( fetch = FetchType.LAZY )
+		@LazyGroup( "text" )
+		String summary;
+
+		@Basic( fetch = FetchType.LAZY )
+		@LazyGroup( "text" )
+		String content;
+
+		Document() {
+		}
+
+		Document(Long id, String title, String summary, String content) {
+			this.id = id;
+			this.title = title;
+			this.summary = summary;
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import javax.persistence.Cacheable;
+import javax.persistence.Embeddable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the compact binary second-level cache entry format.
+ */
+public class CompactCacheEntryTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class );
+		settings.put( AvailableSettings.USE_COMPACT_CACHE_ENTRIES, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Test
+	public void testRoundTrip() {
+		final UUID sku = UUID.randomUUID();
+		inTransaction(
+				s -> s.persist(
+						new Product( 1L, "Widget", new BigDecimal( "19.99" ), 42, sku, LocalDate.of( 2019, 3, 14 ), new Dimensions( 2.5d, 4 ) )
+				)
+		);
+
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Product.class );
+		assertThat( persister.getCacheEntryStructure(), instanceOf( CompactCacheEntry.class ) );
+
+		inSession(
+				s -> {
+					final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+					final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, sessionFactory(), null );
+					final Object cachedItem = cacheAccess.get( s, cacheKey );
+					assertThat( cachedItem, instanceOf( byte[].class ) );
+
+					// the compact form should be noticeably smaller than the serialized standard entry
+					final CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure(
+							cachedItem,
+							sessionFactory()
+					);
+					final int compactSize = ( (byte[]) cachedItem ).length;
+					final int standardSize = SerializationHelper.serialize( entry.getDisassembledState() ).length;
+					assertTrue(
+							"Expected compact entry (" + compactSize + " bytes) to be smaller than the standard one (" + standardSize + " bytes)",
+							compactSize * 4 < standardSize
+					);
+				}
+		);
+
+		sessionFactory().getStatistics().clear();
+		inTransaction(
+				s -> {
+					final Product product = s.get( Product.class, 1L );
+					assertEquals( "Widget", product.name );
+					assertEquals( new BigDecimal( "19.99" ), product.price );
+					assertEquals( Integer.valueOf( 42 ), product.stock );
+					assertEquals( sku, product.sku );
+					assertEquals( LocalDate.of( 2019, 3, 14 ), product.introduced );
+					assertEquals( 2.5d, product.dimensions.width, 0d );
+					assertEquals( 4, product.dimensions.depth );
+					assertNull( product.description );
+				}
+		);
+		assertEquals( 1, sessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+
+		inTransaction( s -> s.delete( s.get( Product.class, 1L ) ) );
+	}
+
+	@Test
+	public void testUnreadableEntryIsTreatedAsMiss() {
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Product.class );
+		final byte[] future = new byte[] { CompactCacheEntry.FORMAT_VERSION + 1, 0, 0, 0, 0 };
+		assertNull( persister.getCacheEntryStructure().destructure( future, sessionFactory() ) );
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	public static class Product {
+		@Id
+		private Long id;
+		@Version
+		private Integer version;
+		private String name;
+		private String description;
+		private BigDecimal price;
+		private Integer stock;
+		private UUID sku;
+		private LocalDate introduced;
+		private Dimensions dimensions;
+
+		public Product() {
+		}
+
+		public Product(
+				Long id,
+				String name,
+				BigDecimal price,
+				Integer stock,
+				UUID sku,
+				LocalDate introduced,
+				Dimensions dimensions) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+			this.stock = stock;
+			this.sku = sku;
+			this.introduced = introduced;
+			this.dimensions = dimensions;
+		}
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		private double width;
+		private int depth;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(double width, int depth) {
+			this.width = width;
+			this.depth = depth;
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the primitive array representation of cached collections of entities with numeric or UUID ids,
+ * and the batch loading of their elements on a cache hit.
+ */
+public class PackedCollectionCacheEntryTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int CHILD_COUNT = 100;
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class );
+		settings.put( AvailableSettings.USE_COMPACT_CACHE_ENTRIES, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Parent.class, Child.class, Tag.class };
+	}
+
+	@Test
+	public void testLongIds() {
+		inTransaction(
+				s -> {
+					final Parent parent = new Parent( 1L );
+					s.persist( parent );
+					for ( long i = 0; i < CHILD_COUNT; i++ ) {
+						s.persist( new Child( i, parent ) );
+					}
+				}
+		);
+
+		// populate the collection cache
+		inTransaction( s -> assertEquals( CHILD_COUNT, s.get( Parent.class, 1L ).children.size() ) );
+
+		final CollectionPersister persister = sessionFactory().getMetamodel()
+				.collectionPersister( Parent.class.getName() + ".children" );
+		inSession(
+				s -> {
+					final CollectionDataAccess cacheAccess = persister.getCacheAccessStrategy();
+					final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, sessionFactory(), null );
+					final Object cachedItem = cacheAccess.get( s, cacheKey );
+					assertThat( cachedItem, instanceOf( CollectionCacheEntry.class ) );
+
+					final CollectionCacheEntry entry = (CollectionCacheEntry) cachedItem;
+					assertEquals( CHILD_COUNT, entry.getState().length );
+					final int packedSize = SerializationHelper.serialize( entry ).length;
+					final int boxedSize = SerializationHelper.serialize( entry.getState() ).length;
+					assertTrue(
+							"Expected packed entry (" + packedSize + " bytes) to be smaller than the boxed state (" + boxedSize + " bytes)",
+							packedSize < boxedSize
+					);
+				}
+		);
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		inTransaction(
+				s -> {
+					final Parent parent = s.get( Parent.class, 1L );
+					final List<Long> ids = new ArrayList<>();
+					for ( Child child : parent.children ) {
+						ids.add( child.id );
+					}
+					assertEquals( CHILD_COUNT, ids.size() );
+					for ( long i = 0; i < CHILD_COUNT; i++ ) {
+						assertTrue( ids.contains( i ) );
+					}
+				}
+		);
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+		// the parent, then the children in batches of 50
+		assertEquals( 3, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testUuidIds() {
+		final Set<UUID> tagIds = new HashSet<>();
+		inTransaction(
+				s -> {
+					final Parent parent = new Parent( 2L );
+					s.persist( parent );
+					for ( int i = 0; i < 5; i++ ) {
+						final Tag tag = new Tag( UUID.randomUUID(), parent );
+						tagIds.add( tag.id );
+						s.persist( tag );
+					}
+				}
+		);
+
+		inTransaction( s -> assertEquals( 5, s.get( Parent.class, 2L ).tags.size() ) );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		inTransaction(
+				s -> {
+					final Set<UUID> loaded = new HashSet<>();
+					for ( Tag tag : s.get( Parent.class, 2L ).tags ) {
+						loaded.add( tag.id );
+					}
+					assertEquals( tagIds, loaded );
+				}
+		);
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "parent")
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private List<Child> children = new ArrayList<>();
+
+		@OneToMany(mappedBy = "parent")
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private Set<Tag> tags = new HashSet<>();
+
+		public Parent() {
+		}
+
+		public Parent(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	@BatchSize(size = 50)
+	public static class Child {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Long id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		private UUID id;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Tag() {
+		}
+
+		public Tag(UUID id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cascade;
+
+import java.lang.reflect.Field;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.tuple.entity.EntityMetamodel;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests the per-entity cascade plans limiting which properties are visited when cascading.
+ */
+public class CascadePlanTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Owner.class, Address.class, Account.class };
+	}
+
+	@Test
+	public void testCascadePlans() {
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Owner.class );
+		final EntityMetamodel entityMetamodel = persister.getEntityMetamodel();
+		final int addressIndex = entityMetamodel.getPropertyIndex( "address" );
+		final int accountIndex = entityMetamodel.getPropertyIndex( "account" );
+
+		assertArrayEquals( new int[] { addressIndex }, entityMetamodel.getCascadePlan( CascadingActions.PERSIST ) );
+		assertArrayEquals( new int[0], entityMetamodel.getCascadePlan( CascadingActions.DELETE ) );
+		// non-cascading associations have to be checked for transient references on flush
+		assertArrayEquals(
+				new int[] { Math.min( addressIndex, accountIndex ), Math.max( addressIndex, accountIndex ) },
+				entityMetamodel.getCascadePlan( CascadingActions.PERSIST_ON_FLUSH )
+		);
+
+		final EntityMetamodel accountMetamodel = sessionFactory().getMetamodel()
+				.entityPersister( Account.class )
+				.getEntityMetamodel();
+		assertEquals( 0, accountMetamodel.getCascadePlan( CascadingActions.PERSIST_ON_FLUSH ).length );
+	}
+
+	@Test
+	public void testCascadePlansAfterDeserialization() throws Exception {
+		final EntityMetamodel entityMetamodel = sessionFactory().getMetamodel()
+				.entityPersister( Owner.class )
+				.getEntityMetamodel();
+		final int[] plan = entityMetamodel.getCascadePlan( CascadingActions.PERSIST );
+
+		// the plans are transient, so they are missing from a deserialized EntityMetamodel
+		final Field cascadePlans = EntityMetamodel.class.getDeclaredField( "cascadePlans" );
+		cascadePlans.setAccessible( true );
+		cascadePlans.set( entityMetamodel, null );
+
+		assertArrayEquals( plan, entityMetamodel.getCascadePlan( CascadingActions.PERSIST ) );
+	}
+
+	@Test
+	public void testPersistCascade() {
+		inTransaction(
+				session -> {
+					final Account account = new Account( 1 );
+					session.persist( account );
+					session.persist( new Owner( 1, "Ann", new Address( 1, "Main Street" ), account ) );
+				}
+		);
+		inTransaction(
+				session -> {
+					final Owner owner = session.get( Owner.class, 1 );
+					assertNotNull( owner.address );
+					assertEquals( "Main Street", owner.address.street );
+				}
+		);
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+		private String email;
+		private String phone;
+		@ManyToOne(cascade = CascadeType.PERSIST)
+		private Address address;
+		@ManyToOne
+		private Account account;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name, Address address, Account account) {
+			this.id = id;
+			this.name = name;
+			this.address = address;
+			this.account = account;
+		}
+	}
+
+	@Entity(name = "Address")
+	public static class Address {
+		@Id
+		private Integer id;
+		private String street;
+
+		public Address() {
+		}
+
+		public Address(Integer id, String street) {
+			this.id = id;
+			this.street = street;
+		}
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Integer id;
+		private String iban;
+
+		public Account() {
+		}
+
+		public Account(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.hql;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.QueryException;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.cache.internal.StandardQueryCache;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
+import org.hibernate.loader.hql.QueryLoader;
+import org.hibernate.transform.Transformers;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests constructor expressions instantiated straight from the ResultSet, and the
+ * {@link org.hibernate.transform.AliasToBeanResultTransformer}.
+ */
+public class DirectDtoProjectionTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final String DIRECT_DTO_INSTANTIATOR = "org.hibernate.loader.hql.DirectDtoInstantiator";
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.QUERY_DIRECT_DTO_PROJECTION, "true" );
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		inTransaction(
+				session -> {
+					session.persist( new Product( 1, "apple", 10, 1.5 ) );
+					session.persist( new Product( 2, "pear", 20, null ) );
+				}
+		);
+	}
+
+	@Test
+	public void testList() {
+		inTransaction(
+				session -> {
+					final List<ProductSummary> summaries = session.createQuery(
+							"select new " + ProductSummary.class.getName() + "(p.id, p.name, p.stock, p.price) from Product p order by p.id",
+							ProductSummary.class
+					).list();
+					assertEquals( 2, summaries.size() );
+					assertEquals( "apple", summaries.get( 0 ).name );
+					assertEquals( 10, summaries.get( 0 ).stock );
+					assertEquals( Double.valueOf( 1.5 ), summaries.get( 0 ).price );
+					assertEquals( 2L, summaries.get( 1 ).id );
+					assertNull( summaries.get( 1 ).price );
+					assertTrue( summaries.get( 0 ).directlyInstantiated );
+				}
+		);
+	}
+
+	@Test
+	public void testScroll() {
+		inTransaction(
+				session -> {
+					try (ScrollableResults results = session.createQuery(
+							"select new " + ProductSummary.class.getName() + "(p.id, p.name, p.stock, p.price) from Product p order by p.id"
+					).scroll( ScrollMode.FORWARD_ONLY )) {
+						assertTrue( results.next() );
+						assertEquals( "apple", ( (ProductSummary) results.get( 0 ) ).name );
+						assertTrue( ( (ProductSummary) results.get( 0 ) ).directlyInstantiated );
+						assertTrue( results.next() );
+						assertEquals( "pear", ( (ProductSummary) results.get( 0 ) ).name );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testQueryCache() {
+		final String hql = "select new " + ProductSummary.class.getName() + "(p.id, p.name, p.stock, p.price) from Product p where p.id = 1";
+		for ( int i = 0; i < 2; i++ ) {
+			inTransaction(
+					session -> {
+						final List<ProductSummary> summaries = session.createQuery( hql, ProductSummary.class )
+								.setCacheable( true )
+								.setCacheRegion( StandardQueryCache.class.getName() )
+								.list();
+						assertEquals( 1, summaries.size() );
+						assertEquals( "apple", summaries.get( 0 ).name );
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testNullPrimitiveArgument() {
+		inTransaction(
+				session -> {
+					try {
+						session.createQuery(
+								"select new " + StockSummary.class.getName() + "(p.name, p.reserved) from Product p"
+						).list();
+						fail( "Expecting the null primitive argument to be rejected" );
+					}
+					catch (Exception expected) {
+						// depending on the exception conversion, possibly wrapped in an IllegalArgumentException
+						assertTrue(
+								expected instanceof QueryException || expected.getCause() instanceof QueryException
+						);
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testResultTransformerNotOverridden() {
+		final String hql = "select new " + ProductSummary.class.getName() + "(p.id, p.name, p.stock, p.price) from Product p";
+		inTransaction(
+				session -> {
+					// rejected as without direct instantiation, rather than silently ignored
+					try {
+						session.createQuery( hql ).setResultTransformer( Transformers.TO_LIST ).list();
+						fail( "Expecting the result transformer of a constructor expression to be rejected" );
+					}
+					catch (Exception expected) {
+						assertTrue(
+								expected instanceof QueryException || expected.getCause() instanceof QueryException
+						);
+					}
+					try {
+						session.createQuery( hql ).setResultTransformer( Transformers.TO_LIST ).scroll().close();
+						fail( "Expecting the result transformer of a constructor expression to be rejected" );
+					}
+					catch (Exception expected) {
+						assertTrue(
+								expected instanceof QueryException || expected.getCause() instanceof QueryException
+						);
+					}
+				}
+		);
+
+		final QueryLoader loader = queryLoader( hql );
+		final Object[] values = { 1L, "apple", 10, 1.5 };
+		assertTrue( loader.getReadAheadResult( values, null ) instanceof ProductSummary );
+		// the rows are left to the result transformer
+		assertSame( values, loader.getReadAheadResult( values, Transformers.TO_LIST ) );
+	}
+
+	private QueryLoader queryLoader(String hql) {
+		final QueryTranslatorImpl translator = (QueryTranslatorImpl) sessionFactory().getQueryPlanCache()
+				.getHQLQueryPlan( hql, false, Collections.emptyMap() )
+				.getTranslators()[0];
+		try {
+			final Field field = QueryTranslatorImpl.class.getDeclaredField( "queryLoader" );
+			field.setAccessible( true );
+			return (QueryLoader) field.get( translator );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	@Test
+	public void testAliasToBean() {
+		inTransaction(
+				session -> {
+					@SuppressWarnings("unchecked")
+					final List<StockBean> beans = session.createQuery(
+							"select p.name as name, p.stock as stock from Product p order by p.id"
+					).setResultTransformer( Transformers.aliasToBean( StockBean.class ) ).list();
+					assertEquals( 2, beans.size() );
+					assertEquals( "apple", beans.get( 0 ).getName() );
+					assertEquals( 20, beans.get( 1 ).stock );
+				}
+		);
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private long id;
+		private String name;
+		private int stock;
+		private Double price;
+		private Integer reserved;
+
+		public Product() {
+		}
+
+		public Product(long id, String name, int stock, Double price) {
+			this.id = id;
+			this.name = name;
+			this.stock = stock;
+			this.price = price;
+		}
+	}
+
+	public static class ProductSummary {
+		private final long id;
+		private final String name;
+		private final int stock;
+		private final Double price;
+		private final boolean directlyInstantiated;
+
+		public ProductSummary(long id, String name, int stock, Double price) {
+			this.id = id;
+			this.name = name;
+			this.stock = stock;
+			this.price = price;
+			this.directlyInstantiated = Arrays.stream( new Throwable().getStackTrace() )
+					.anyMatch( element -> element.getClassName().equals( DIRECT_DTO_INSTANTIATOR ) );
+		}
+	}
+
+	public static class StockSummary {
+		public StockSummary(String name, int stock) {
+		}
+	}
+
+	public static class StockBean {
+		private String name;
+		private int stock;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
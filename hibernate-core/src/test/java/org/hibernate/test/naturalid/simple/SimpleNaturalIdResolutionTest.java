@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.naturalid.simple;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests resolving simple natural ids from the persistence context without firing a resolution event.
+ */
+public class SimpleNaturalIdResolutionTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepareTestData() {
+		inTransaction( session -> session.persist( new Book( 1, "978-0441013593" ) ) );
+	}
+
+	@Test
+	public void testResolutionFromPersistenceContext() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Book.class );
+
+		inTransaction(
+				session -> {
+					final PersistenceContext.NaturalIdHelper naturalIdHelper = session.getPersistenceContext()
+							.getNaturalIdHelper();
+					assertNull( naturalIdHelper.findCachedSimpleNaturalIdResolution( persister, "978-0441013593" ) );
+
+					statistics.clear();
+					final Book book = session.bySimpleNaturalId( Book.class ).load( "978-0441013593" );
+					assertEquals( 1, statistics.getNaturalIdQueryExecutionCount() );
+					assertEquals( 1, naturalIdHelper.findCachedSimpleNaturalIdResolution( persister, "978-0441013593" ) );
+
+					assertSame( book, session.bySimpleNaturalId( Book.class ).load( "978-0441013593" ) );
+					assertSame( book, session.bySimpleNaturalId( Book.class ).getReference( "978-0441013593" ) );
+					assertEquals( 1, statistics.getNaturalIdQueryExecutionCount() );
+				}
+		);
+	}
+
+	@Test
+	public void testChangedNaturalId() {
+		inTransaction(
+				session -> {
+					final Book book = session.bySimpleNaturalId( Book.class ).load( "978-0441013593" );
+					book.isbn = "978-0441172719";
+
+					assertNull( session.bySimpleNaturalId( Book.class ).load( "978-0441013593" ) );
+					assertSame( book, session.bySimpleNaturalId( Book.class ).load( "978-0441172719" ) );
+				}
+		);
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		@NaturalId(mutable = true)
+		private String isbn;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String isbn) {
+			this.id = id;
+			this.isbn = isbn;
+		}
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.QueryException;
+import org.hibernate.query.KeysetPage;
+import org.hibernate.query.KeysetPageable;
+import org.hibernate.query.Query;
+import org.hibernate.query.internal.KeysetPaginationHelper;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link Query#getKeysetPage keyset pagination}.
+ */
+public class KeysetPaginationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Book.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepareTestData() {
+		inTransaction(
+				session -> {
+					for ( int i = 0; i < 25; i++ ) {
+						session.persist( new Book( i, "Title " + ( i % 7 ), i % 3 ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testPagingThroughResults() {
+		final String hql = "from Book b where b.rating = 0 or b.rating = 2 order by b.title, b.id";
+		inTransaction(
+				session -> {
+					final List<Book> expected = session.createQuery( hql, Book.class ).list();
+
+					final List<Book> paged = new ArrayList<>();
+					KeysetPageable<Book> pageable = KeysetPageable.first( 4, b -> new Object[] { b.title, b.id } );
+					int pages = 0;
+					while ( pageable != null ) {
+						final KeysetPage<Book> page = session.createQuery( hql, Book.class ).getKeysetPage( pageable );
+						assertTrue( page.getResults().size() <= 4 );
+						paged.addAll( page.getResults() );
+						pageable = page.getNextPageable();
+						pages++;
+					}
+
+					assertEquals( expected, paged );
+					assertEquals( ( expected.size() + 3 ) / 4, pages );
+				}
+		);
+	}
+
+	@Test
+	public void testMixedOrderingDirections() {
+		final String hql = "from Book b order by b.rating desc, b.id asc";
+		inTransaction(
+				session -> {
+					final List<Book> expected = session.createQuery( hql, Book.class ).setFirstResult( 10 ).list();
+
+					final Book last = session.createQuery( hql, Book.class ).setFirstResult( 9 ).setMaxResults( 1 ).uniqueResult();
+					final KeysetPage<Book> page = session.createQuery( hql, Book.class )
+							.getKeysetPage( KeysetPageable.after( 100, b -> new Object[] { b.rating, b.id }, last.rating, last.id ) );
+
+					assertEquals( expected, page.getResults() );
+					assertFalse( page.hasNextPage() );
+					assertNull( page.getNextKey() );
+				}
+		);
+	}
+
+	@Test
+	public void testCriteriaQuery() {
+		inTransaction(
+				session -> {
+					final CriteriaBuilder builder = session.getCriteriaBuilder();
+					final CriteriaQuery<Book> criteria = builder.createQuery( Book.class );
+					final Root<Book> root = criteria.from( Book.class );
+					criteria.where( builder.equal( root.get( "rating" ), 1 ) );
+					criteria.orderBy( builder.desc( root.get( "title" ) ), builder.asc( root.get( "id" ) ) );
+
+					final List<Book> expected = session.createQuery( criteria ).list();
+
+					final KeysetPage<Book> first = session.createQuery( criteria )
+							.getKeysetPage( KeysetPageable.first( 5, b -> new Object[] { b.title, b.id } ) );
+					assertEquals( expected.subList( 0, 5 ), first.getResults() );
+					assertTrue( first.hasNextPage() );
+					assertEquals( expected.get( 4 ).id, first.getNextKey()[1] );
+
+					final KeysetPage<Book> second = session.createQuery( criteria ).getKeysetPage( first.getNextPageable() );
+					assertEquals( expected.subList( 5, expected.size() ), second.getResults() );
+					assertFalse( second.hasNextPage() );
+				}
+		);
+	}
+
+	@Test
+	public void testRestrictionRendering() {
+		final Object[] key = { "Title", 1 };
+		assertEquals(
+				"from Book b where (b.title, b.id) > (:hibernateKeyset0, :hibernateKeyset1) order by b.title, b.id",
+				KeysetPaginationHelper.applyKeyset( "from Book b order by b.title, b.id", key, true )
+		);
+		assertEquals(
+				"from Book b where (b.rating = 1) and ((b.title < :hibernateKeyset0) or (b.title = :hibernateKeyset0 and b.id > :hibernateKeyset1)) order by b.title desc, b.id",
+				KeysetPaginationHelper.applyKeyset( "from Book b where b.rating = 1 order by b.title desc, b.id", key, true )
+		);
+	}
+
+	@Test
+	public void testSelectItemReferences() {
+		final Object[] key = { "Title", 1 };
+		assertEquals(
+				"select b.title as t, b.id from Book b where (b.title, b.id) > (:hibernateKeyset0, :hibernateKeyset1) order by t, 2",
+				KeysetPaginationHelper.applyKeyset( "select b.title as t, b.id from Book b order by t, 2", key, true )
+		);
+		assertEquals(
+				"select distinct upper(b.title) as t, b.id from Book b where ((upper(b.title) < :hibernateKeyset0) or (upper(b.title) = :hibernateKeyset0 and b.id > :hibernateKeyset1)) order by 1 desc, b.id",
+				KeysetPaginationHelper.applyKeyset( "select distinct upper(b.title) as t, b.id from Book b order by 1 desc, b.id", key, true )
+		);
+
+		final String hql = "select b.title as t, b.id from Book b order by t, 2";
+		inTransaction(
+				session -> {
+					final List<Object[]> expected = session.createQuery( hql, Object[].class ).list();
+
+					final List<Object[]> paged = new ArrayList<>();
+					KeysetPageable<Object[]> pageable = KeysetPageable.first( 6, row -> new Object[] { row[0], row[1] } );
+					while ( pageable != null ) {
+						final KeysetPage<Object[]> page = session.createQuery( hql, Object[].class ).getKeysetPage( pageable );
+						paged.addAll( page.getResults() );
+						pageable = page.getNextPageable();
+					}
+
+					assertEquals( expected.size(), paged.size() );
+					for ( int i = 0; i < expected.size(); i++ ) {
+						assertEquals( expected.get( i )[1], paged.get( i )[1] );
+					}
+				}
+		);
+	}
+
+	@Test(expected = QueryException.class)
+	public void testUnresolvablePosition() {
+		KeysetPaginationHelper.applyKeyset( "from Book b order by 1", new Object[] { 1 }, true );
+	}
+
+	@Test(expected = QueryException.class)
+	public void testPositionOutOfRange() {
+		KeysetPaginationHelper.applyKeyset( "select b.id from Book b order by 2", new Object[] { 1 }, true );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		private int rating;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, int rating) {
+			this.id = id;
+			this.title = title;
+			this.rating = rating;
+		}
+	}
+}
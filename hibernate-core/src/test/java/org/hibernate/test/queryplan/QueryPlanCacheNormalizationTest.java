@@ -0,0 +1,168 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.queryplan;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.hql.internal.ast.HqlQueryNormalizer;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests caching HQL query plans by normalized query.
+ */
+public class QueryPlanCacheNormalizationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.QUERY_PLAN_CACHE_NORMALIZATION, "literals" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testNormalization() {
+		assertEquals(
+				"from Item i where i.name = :hibernateLiteral0 and i.quantity > :hibernateLiteral1 order by i.id",
+				HqlQueryNormalizer.normalize( "from Item i\n\twhere i.name='it''s'   and i.quantity >5 order by i.id", true )
+						.getQuery()
+		);
+		assertEquals(
+				"it's",
+				HqlQueryNormalizer.normalize( "from Item i where i.name = 'it''s'", true )
+						.getLiteralParameters()
+						.get( "hibernateLiteral0" )
+						.getValue()
+		);
+		// literals outside of comparisons, and the literals of queries with ordinal parameters, are kept
+		assertEquals(
+				"select i.quantity + 1 from Item i where i.quantity between 1 and 5",
+				HqlQueryNormalizer.normalize( "select i.quantity+1 from Item i where i.quantity between 1 and 5", true )
+						.getQuery()
+		);
+		assertEquals(
+				"from Item i where i.name = 'a' and i.quantity = ?1",
+				HqlQueryNormalizer.normalize( "from Item i where i.name='a' and i.quantity=?1", true ).getQuery()
+		);
+		assertEquals(
+				"from Item i where i.name = 'a'",
+				HqlQueryNormalizer.normalize( "from   Item i where i.name='a'", false ).getQuery()
+		);
+	}
+
+	@Test
+	public void testVariantsShareThePlan() {
+		final QueryPlanCache cache = sessionFactory().getQueryPlanCache();
+		cache.cleanup();
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		final HQLQueryPlan first = cache.getHQLQueryPlan( "from Item i where i.name = 'a'", false, Collections.emptyMap() );
+		final HQLQueryPlan second = cache.getHQLQueryPlan( "from Item i\nwhere i.name='b'", false, Collections.emptyMap() );
+
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+		assertEquals( 1, statistics.getQueryPlanCacheHitCount() );
+		assertSame( first.getTranslators()[0], second.getTranslators()[0] );
+		assertFalse( first.getParameterMetadata().hasNamedParameters() );
+		assertEquals( 2, statistics.getQueryPlanCacheVariantCount( "from Item i where i.name = 'c'" ) );
+	}
+
+	@Test
+	public void testVariantsCountedOnce() {
+		final QueryPlanCache cache = sessionFactory().getQueryPlanCache();
+		cache.cleanup();
+
+		for ( int i = 0; i < 3; i++ ) {
+			cache.getHQLQueryPlan( "from Item i where i.name = 'a'", false, Collections.emptyMap() );
+		}
+		assertEquals( 1, cache.getNormalizedQueryVariantCount( "from Item i where i.name = 'a'" ) );
+
+		cache.getHQLQueryPlan( "from Item i where i.name = 'b'", false, Collections.emptyMap() );
+		assertEquals( 2, cache.getNormalizedQueryVariantCount( "from Item i where i.name = 'a'" ) );
+
+		// looking up the count does not count the looked up query
+		assertEquals( 2, cache.getNormalizedQueryVariantCount( "from Item i where i.name = 'c'" ) );
+
+		cache.cleanup();
+		assertEquals( 0, cache.getNormalizedQueryVariantCount( "from Item i where i.name = 'a'" ) );
+	}
+
+	@Test
+	public void testExecution() {
+		inTransaction(
+				session -> {
+					session.persist( new Item( 1, "a", 10 ) );
+					session.persist( new Item( 2, "b", 20 ) );
+					session.persist( new Item( 3, "b", 30 ) );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					List<Item> items = session.createQuery( "from Item i where i.name = 'a'", Item.class ).list();
+					assertEquals( 1, items.size() );
+					assertEquals( Integer.valueOf( 1 ), items.get( 0 ).id );
+
+					items = session.createQuery(
+							"from Item i where i.name = 'b' and i.quantity > :quantity order by i.id",
+							Item.class
+					)
+							.setParameter( "quantity", 25 )
+							.list();
+					assertEquals( 1, items.size() );
+					assertEquals( Integer.valueOf( 3 ), items.get( 0 ).id );
+
+					assertEquals(
+							2,
+							session.createQuery( "update Item i set i.quantity = 0 where i.name = 'b'" ).executeUpdate()
+					);
+					assertEquals( 1, session.createQuery( "from Item i where i.quantity > 0", Item.class ).list().size() );
+				}
+		);
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		private int quantity;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, int quantity) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.queryplan;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests recording the HQL query plan keys and pre-compiling them into an empty {@link QueryPlanCache}.
+ */
+public class QueryPlanCacheWarmUpTest extends BaseCoreFunctionalTestCase {
+	@Override
+	public String[] getMappings() {
+		return new String[] {
+				"queryplan/filter-defs.hbm.xml",
+				"queryplan/Joined.hbm.xml"
+		};
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testRecordAndWarmUp() throws Exception {
+		final String multiLineQuery = "from Person p\n\twhere p.name = :name";
+		final Path file = Files.createTempFile( "query-plans", ".txt" );
+		try {
+			Session s = openSession();
+			QueryPlanCache cache = ( (SessionImplementor) s ).getFactory().getQueryPlanCache();
+			cache.cleanup();
+
+			cache.getHQLQueryPlan( "from Person", false, getEnabledFilters( s ) );
+			cache.getHQLQueryPlan( multiLineQuery, true, getEnabledFilters( s ) );
+			s.enableFilter( "sex" ).setParameter( "sexCode", Character.valueOf( 'F' ) );
+			cache.getHQLQueryPlan( "from Person", false, getEnabledFilters( s ) );
+
+			assertEquals( 3, cache.recordHQLQueryPlanKeys( file ) );
+
+			cache.cleanup();
+			assertEquals( 3, cache.warmUp( file ) );
+
+			final Statistics statistics = sessionFactory().getStatistics();
+			statistics.clear();
+			cache.getHQLQueryPlan( "from Person", false, getEnabledFilters( s ) );
+			s.disableFilter( "sex" );
+			cache.getHQLQueryPlan( "from Person", false, getEnabledFilters( s ) );
+			cache.getHQLQueryPlan( multiLineQuery, true, getEnabledFilters( s ) );
+			assertEquals( 3, statistics.getQueryPlanCacheHitCount() );
+			assertEquals( 0, statistics.getQueryPlanCacheMissCount() );
+
+			s.close();
+		}
+		finally {
+			Files.deleteIfExists( file );
+		}
+	}
+
+	private Map getEnabledFilters(Session s) {
+		return ( (SessionImplementor) s ).getLoadQueryInfluencers().getEnabledFilters();
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.readonly;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.proxy.HibernateProxy;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests queries executed with the {@link QueryHints#DETACHED_RESULTS} hint.
+ */
+public class DetachedResultsQueryTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Customer.class, PurchaseOrder.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepareTestData() {
+		inTransaction(
+				session -> {
+					final Customer customer = new Customer( 1, "Acme" );
+					customer.orders.add( new PurchaseOrder( 1, customer ) );
+					customer.orders.add( new PurchaseOrder( 2, customer ) );
+					session.persist( customer );
+				}
+		);
+	}
+
+	@Test
+	public void testResultsAreDetached() {
+		inTransaction(
+				session -> {
+					final List<PurchaseOrder> orders = session.createQuery(
+							"select distinct o from PurchaseOrder o join fetch o.customer c join fetch c.orders order by o.id",
+							PurchaseOrder.class
+					)
+							.setHint( QueryHints.DETACHED_RESULTS, true )
+							.list();
+
+					assertEquals( 2, orders.size() );
+					// identity within the results still holds
+					final Customer customer = orders.get( 0 ).customer;
+					assertSame( customer, orders.get( 1 ).customer );
+					assertTrue( Hibernate.isInitialized( customer.orders ) );
+					assertTrue( customer.orders.contains( orders.get( 0 ) ) );
+
+					assertEquals( 0, session.getPersistenceContext().getNumberOfManagedEntities() );
+					assertEquals( 0, session.getPersistenceContext().getCollectionEntries().size() );
+					for ( PurchaseOrder order : orders ) {
+						assertFalse( session.contains( order ) );
+					}
+					assertFalse( session.contains( customer ) );
+
+					// modifications are not flushed
+					customer.name = "Changed";
+				}
+		);
+		inTransaction(
+				session -> assertEquals( "Acme", session.get( Customer.class, 1 ).name )
+		);
+	}
+
+	@Test
+	public void testAlreadyManagedEntitiesStayManaged() {
+		inTransaction(
+				session -> {
+					final Customer customer = session.get( Customer.class, 1 );
+
+					final List<Customer> customers = session.createQuery( "from Customer", Customer.class )
+							.setHint( QueryHints.DETACHED_RESULTS, true )
+							.list();
+
+					assertEquals( 1, customers.size() );
+					assertSame( customer, customers.get( 0 ) );
+					assertTrue( session.contains( customer ) );
+				}
+		);
+	}
+
+	@Test
+	public void testProxiesOfLoadedEntitiesAreDetached() {
+		inTransaction(
+				session -> {
+					final Customer reference = session.getReference( Customer.class, 1 );
+					assertFalse( Hibernate.isInitialized( reference ) );
+
+					final List<Customer> customers = session.createQuery( "from Customer", Customer.class )
+							.setHint( QueryHints.DETACHED_RESULTS, true )
+							.list();
+
+					assertEquals( 1, customers.size() );
+					// the proxy is returned, initialized by the load, and detached along with its target
+					assertSame( reference, customers.get( 0 ) );
+					assertTrue( Hibernate.isInitialized( reference ) );
+					assertEquals( 0, session.getPersistenceContext().getNumberOfManagedEntities() );
+					assertFalse( session.getPersistenceContext().containsProxy( reference ) );
+					assertNull( ( (HibernateProxy) reference ).getHibernateLazyInitializer().getSession() );
+					assertFalse( session.contains( reference ) );
+				}
+		);
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "customer", cascade = CascadeType.ALL)
+		private List<PurchaseOrder> orders = new ArrayList<>();
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "PurchaseOrder")
+	public static class PurchaseOrder {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Customer customer;
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
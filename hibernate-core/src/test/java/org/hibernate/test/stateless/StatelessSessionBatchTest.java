@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stateless;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests the collection-oriented operations of {@link StatelessSession}.
+ */
+public class StatelessSessionBatchTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class, Supplier.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testInsertUpdateDeleteAll() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < 5; i++ ) {
+			entities.add( new Product( (long) i, "product " + i ) );
+			entities.add( new Supplier( (long) i, "supplier " + i ) );
+		}
+
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			session.getTransaction().begin();
+			statistics.clear();
+			final List<Serializable> ids = session.insertAll( entities );
+			// one batch per entity type, rather than one per row as the types alternate
+			assertEquals( 2, statistics.getPrepareStatementCount() );
+			assertEquals( entities.size(), ids.size() );
+			assertEquals( 0L, ids.get( 0 ) );
+			assertEquals( 4L, ids.get( 9 ) );
+			session.getTransaction().commit();
+		}
+
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			session.getTransaction().begin();
+			for ( Object entity : entities ) {
+				if ( entity instanceof Product ) {
+					( (Product) entity ).name += " (updated)";
+				}
+				else {
+					( (Supplier) entity ).name += " (updated)";
+				}
+			}
+			statistics.clear();
+			session.updateAll( entities );
+			assertEquals( 2, statistics.getPrepareStatementCount() );
+			session.getTransaction().commit();
+		}
+
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			final Product product = (Product) session.get( Product.class, 0L );
+			assertNotNull( product );
+			assertEquals( "product 0 (updated)", product.name );
+		}
+
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			session.getTransaction().begin();
+			statistics.clear();
+			session.deleteAll( entities );
+			assertEquals( 2, statistics.getPrepareStatementCount() );
+			session.getTransaction().commit();
+		}
+
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			assertEquals( 0L, session.createQuery( "select count(p) from Product p" ).uniqueResult() );
+			assertEquals( 0L, session.createQuery( "select count(s) from Supplier s" ).uniqueResult() );
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Long id;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Supplier")
+	public static class Supplier {
+		@Id
+		private Long id;
+		private String name;
+
+		public Supplier() {
+		}
+
+		public Supplier(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
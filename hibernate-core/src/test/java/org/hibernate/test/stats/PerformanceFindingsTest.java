@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.PerformanceFinding;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the detection of repeated fetches and slow statements by the
+ * {@link org.hibernate.engine.internal.DiagnosticSessionEventListener}.
+ */
+public class PerformanceFindingsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.SESSION_EVENTS_DIAGNOSTICS, "true" );
+		settings.put( AvailableSettings.SESSION_EVENTS_DIAGNOSTICS_FETCH_THRESHOLD, "5" );
+		// report every statement
+		settings.put( AvailableSettings.SESSION_EVENTS_DIAGNOSTICS_SLOW_STATEMENT_THRESHOLD, "0" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testRepeatedCollectionFetchIsReported() throws Exception {
+		inTransaction(
+				session -> {
+					for ( int i = 0; i < 6; i++ ) {
+						final Author author = new Author( i );
+						author.books.add( new Book( i, author ) );
+						session.persist( author );
+					}
+				}
+		);
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		inTransaction(
+				session -> {
+					for ( Author author : session.createQuery( "from Author", Author.class ).list() ) {
+						assertEquals( 1, author.books.size() );
+					}
+				}
+		);
+
+		PerformanceFinding collectionFetches = null;
+		PerformanceFinding slowStatements = null;
+		for ( PerformanceFinding finding : statistics.getPerformanceFindings() ) {
+			if ( finding.getType() == PerformanceFinding.Type.REPEATED_COLLECTION_FETCH ) {
+				collectionFetches = finding;
+			}
+			else if ( finding.getType() == PerformanceFinding.Type.SLOW_STATEMENT
+					&& finding.getRole() != null
+					&& finding.getRole().toLowerCase( Locale.ROOT ).contains( "author_id=?" ) ) {
+				// the statement initializing the collections
+				slowStatements = finding;
+			}
+		}
+
+		assertNotNull( collectionFetches );
+		assertEquals( Author.class.getName() + ".books", collectionFetches.getRole() );
+		assertEquals( 1, collectionFetches.getOccurrenceCount() );
+		assertEquals( 6, collectionFetches.getMaxValue() );
+		assertNotNull( collectionFetches.getCallSite() );
+
+		assertNotNull( slowStatements );
+		assertTrue( slowStatements.getRole().toLowerCase( Locale.ROOT ).startsWith( "select" ) );
+		assertEquals( 6, slowStatements.getOccurrenceCount() );
+		assertNotNull( slowStatements.getCallSite() );
+
+		final PerformanceFinding copy = SqlStatementStatisticsTest.roundTrip( slowStatements );
+		assertEquals( slowStatements.getRole(), copy.getRole() );
+		assertEquals( slowStatements.getOccurrenceCount(), copy.getOccurrenceCount() );
+		assertEquals( slowStatements.getMaxValue(), copy.getMaxValue() );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		@OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+}
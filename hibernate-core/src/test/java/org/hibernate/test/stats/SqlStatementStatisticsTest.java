@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.SqlStatementStatistics;
+import org.hibernate.stat.SqlStatementType;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the per-SQL-statement execution time statistics.
+ */
+public class SqlStatementStatisticsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.SQL_STATEMENT_STATISTICS, "true" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testExecutionTimesAreRecorded() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		inTransaction(
+				session -> {
+					for ( int i = 0; i < 10; i++ ) {
+						session.persist( new Book( i, "Book " + i ) );
+					}
+				}
+		);
+		for ( int i = 0; i < 3; i++ ) {
+			final int id = i;
+			inTransaction( session -> assertNotNull( session.get( Book.class, id ) ) );
+		}
+
+		// 10 rows inserted in 2 JDBC batches
+		final SqlStatementStatistics inserts = statistics.getSqlStatementTypeStatistics( SqlStatementType.INSERT );
+		assertEquals( 2, inserts.getExecutionCount() );
+
+		final SqlStatementStatistics selects = statistics.getSqlStatementTypeStatistics( SqlStatementType.SELECT );
+		assertEquals( 3, selects.getExecutionCount() );
+
+		String loadSql = null;
+		for ( String sql : statistics.getSqlStatements() ) {
+			if ( SqlStatementType.interpret( sql ) == SqlStatementType.SELECT ) {
+				loadSql = sql;
+			}
+		}
+		assertNotNull( loadSql );
+		final SqlStatementStatistics load = statistics.getSqlStatementStatistics( loadSql );
+		assertEquals( 3, load.getExecutionCount() );
+		assertTrue( load.getExecutionMinTime() <= load.getExecutionTimeP50() );
+		assertTrue( load.getExecutionTimeP50() <= load.getExecutionTimeP99() );
+		assertTrue( load.getExecutionTimeP99() <= load.getExecutionMaxTime() );
+
+		assertNull( statistics.getSqlStatementStatistics( "select unknown" ) );
+
+		statistics.clear();
+		assertEquals( 0, statistics.getSqlStatements().length );
+		assertEquals( 0, statistics.getSqlStatementTypeStatistics( SqlStatementType.SELECT ).getExecutionCount() );
+	}
+
+	@Test
+	public void testSerialization() throws Exception {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		inTransaction( session -> session.persist( new Book( 1, "Book 1" ) ) );
+		inTransaction( session -> assertNotNull( session.get( Book.class, 1 ) ) );
+
+		final SqlStatementStatistics selects = statistics.getSqlStatementTypeStatistics( SqlStatementType.SELECT );
+		final SqlStatementStatistics copy = roundTrip( selects );
+		assertEquals( SqlStatementType.SELECT, copy.getStatementType() );
+		assertEquals( selects.getExecutionCount(), copy.getExecutionCount() );
+		assertEquals( selects.getExecutionTotalTime(), copy.getExecutionTotalTime() );
+		assertEquals( selects.getExecutionMinTime(), copy.getExecutionMinTime() );
+		assertEquals( selects.getExecutionMaxTime(), copy.getExecutionMaxTime() );
+		assertEquals( selects.getExecutionTimeP99(), copy.getExecutionTimeP99() );
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> T roundTrip(T object) throws IOException, ClassNotFoundException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream( bytes )) {
+			oos.writeObject( object );
+		}
+		try (ObjectInputStream ois = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) )) {
+			return (T) ois.readObject();
+		}
+	}
+
+	@Test
+	public void testStatementTypeInterpretation() {
+		assertEquals( SqlStatementType.SELECT, SqlStatementType.interpret( "select b.id from Book b" ) );
+		assertEquals( SqlStatementType.SELECT, SqlStatementType.interpret( "/* load Book */ (SELECT 1)" ) );
+		assertEquals( SqlStatementType.INSERT, SqlStatementType.interpret( "  insert into Book values (?)" ) );
+		assertEquals( SqlStatementType.UPDATE, SqlStatementType.interpret( "-- comment\nupdate Book set title=?" ) );
+		assertEquals( SqlStatementType.DELETE, SqlStatementType.interpret( "delete from Book" ) );
+		assertEquals( SqlStatementType.OTHER, SqlStatementType.interpret( "{call doSomething(?)}" ) );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
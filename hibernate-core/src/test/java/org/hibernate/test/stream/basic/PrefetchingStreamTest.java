@@ -0,0 +1,244 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stream.basic;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.HibernateException;
+import org.hibernate.QueryException;
+import org.hibernate.Session;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.PrefetchingScrollableResultsIterator;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests streaming query results with the rows read ahead by a background task.
+ */
+public class PrefetchingStreamTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int COUNT = 50;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Reading.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		inTransaction(
+				session -> {
+					for ( int i = 1; i <= COUNT; i++ ) {
+						session.persist(
+								new Reading(
+										i,
+										"sensor-" + i,
+										i % 2 == 0,
+										i % 10 == 0 ? null : BigDecimal.valueOf( i, 1 ),
+										LocalDate.of( 2019, 1, 1 ).plusDays( i )
+								)
+						);
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testScalars() {
+		final String hql = "select r.id, r.sensor, r.valid, r.amount, r.readOn, r.takenAt from Reading r order by r.id";
+		inTransaction(
+				session -> {
+					final List<Object[]> expected;
+					try (Stream<Object[]> stream = session.createQuery( hql, Object[].class ).stream()) {
+						expected = stream.collect( Collectors.toList() );
+					}
+
+					final List<Object[]> rows;
+					try (Stream<Object[]> stream = session.createQuery( hql, Object[].class )
+							.setHint( QueryHints.STREAM_PREFETCH, 4 )
+							.setFetchSize( 10 )
+							.stream()) {
+						rows = stream.collect( Collectors.toList() );
+					}
+
+					assertEquals( COUNT, rows.size() );
+					for ( int i = 0; i < COUNT; i++ ) {
+						assertArrayEquals( expected.get( i ), rows.get( i ) );
+					}
+					assertEquals( 1, rows.get( 0 )[0] );
+					assertEquals( "sensor-1", rows.get( 0 )[1] );
+					assertEquals( false, rows.get( 0 )[2] );
+					assertNull( rows.get( 9 )[3] );
+					assertEquals( LocalDate.of( 2019, 1, 2 ), rows.get( 0 )[4] );
+				}
+		);
+	}
+
+	@Test
+	public void testSingleColumnAndConstructor() {
+		inTransaction(
+				session -> {
+					try (Stream<String> stream = session.createQuery(
+							"select r.sensor from Reading r where r.valid = true order by r.id",
+							String.class
+					).setHint( QueryHints.STREAM_PREFETCH, 8 ).stream()) {
+						final List<String> sensors = stream.collect( Collectors.toList() );
+						assertEquals( COUNT / 2, sensors.size() );
+						assertEquals( "sensor-2", sensors.get( 0 ) );
+					}
+
+					try (Stream<ReadingSummary> stream = session.createQuery(
+							"select new " + ReadingSummary.class.getName() + "(r.id, r.sensor) from Reading r order by r.id",
+							ReadingSummary.class
+					).setHint( QueryHints.STREAM_PREFETCH, 8 ).stream()) {
+						final List<ReadingSummary> summaries = stream.collect( Collectors.toList() );
+						assertEquals( COUNT, summaries.size() );
+						assertEquals( 3, summaries.get( 2 ).id );
+						assertEquals( "sensor-3", summaries.get( 2 ).sensor );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testEntitiesRejected() {
+		inTransaction(
+				session -> {
+					try {
+						session.createQuery( "from Reading r order by r.id", Reading.class )
+								.setHint( QueryHints.STREAM_PREFETCH, 4 )
+								.stream();
+						fail( "Expecting the hint to be rejected for a query selecting entities" );
+					}
+					catch (QueryException expected) {
+					}
+					assertFalse(
+							( (SessionImplementor) session ).getJdbcCoordinator().getLogicalConnection()
+									.getResourceRegistry().hasRegisteredResources()
+					);
+				}
+		);
+	}
+
+	@Test
+	public void testEarlyClose() {
+		inTransaction(
+				session -> {
+					final Stream<Integer> stream = session.createQuery( "select r.id from Reading r order by r.id", Integer.class )
+							.setHint( QueryHints.STREAM_PREFETCH, 2 )
+							.stream();
+					assertEquals( 3, stream.limit( 3 ).count() );
+					stream.close();
+					assertFalse(
+							( (SessionImplementor) session ).getJdbcCoordinator().getLogicalConnection()
+									.getResourceRegistry().hasRegisteredResources()
+					);
+					assertReaderStopped();
+					// the Connection is still usable
+					assertEquals(
+							Long.valueOf( COUNT ),
+							session.createQuery( "select count(r) from Reading r", Long.class ).uniqueResult()
+					);
+				}
+		);
+	}
+
+	@Test
+	public void testSessionClosedWithoutClosingStream() {
+		final Session session = sessionFactory().openSession();
+		final Iterator<Integer> iterator;
+		try {
+			session.beginTransaction();
+			iterator = session.createQuery( "select r.id from Reading r order by r.id", Integer.class )
+					.setHint( QueryHints.STREAM_PREFETCH, 2 )
+					.stream()
+					.iterator();
+			assertEquals( Integer.valueOf( 1 ), iterator.next() );
+			session.getTransaction().commit();
+		}
+		finally {
+			session.close();
+		}
+		// the reader, blocked on the full buffer, was stopped before the ResultSet was released with the Session
+		assertReaderStopped();
+		try {
+			while ( iterator.hasNext() ) {
+				iterator.next();
+			}
+			fail( "Expecting the stream to report its released ResultSet" );
+		}
+		catch (HibernateException expected) {
+			assertTrue( expected.getMessage().contains( "released before its last row was read" ) );
+		}
+	}
+
+	private static void assertReaderStopped() {
+		// the reader is stopped synchronously, before the JDBC resources are released
+		for ( StackTraceElement[] stackTrace : Thread.getAllStackTraces().values() ) {
+			for ( StackTraceElement element : stackTrace ) {
+				assertFalse(
+						"The reader is still running",
+						element.getClassName().startsWith( PrefetchingScrollableResultsIterator.class.getName() )
+				);
+			}
+		}
+	}
+
+	public static class ReadingSummary {
+		private final int id;
+		private final String sensor;
+
+		public ReadingSummary(int id, String sensor) {
+			this.id = id;
+			this.sensor = sensor;
+		}
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		private int id;
+		private String sensor;
+		private boolean valid;
+		private BigDecimal amount;
+		private LocalDate readOn;
+		private LocalDateTime takenAt;
+
+		public Reading() {
+		}
+
+		public Reading(int id, String sensor, boolean valid, BigDecimal amount, LocalDate readOn) {
+			this.id = id;
+			this.sensor = sensor;
+			this.valid = valid;
+			this.amount = amount;
+			this.readOn = readOn;
+			this.takenAt = readOn.atTime( 2, 30 );
+		}
+	}
+}
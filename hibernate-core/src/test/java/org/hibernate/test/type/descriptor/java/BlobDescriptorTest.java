@@ -8,13 +8,19 @@ package org.hibernate.test.type.descriptor.java;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Blob;
 import java.sql.SQLException;
 
+import org.hibernate.engine.jdbc.BinaryStream;
 import org.hibernate.engine.jdbc.BlobImplementer;
 import org.hibernate.engine.jdbc.BlobProxy;
 import org.hibernate.testing.TestForIssue;
@@ -81,4 +87,18 @@ public class BlobDescriptorTest extends AbstractDescriptorTest<Blob> {
 		// Call to BlobImplementer#getUnderlyingStream() should mark input stream for reset.
 		assertEquals( bytes.length, blob.getUnderlyingStream().getInputStream().available() );
 	}
+
+	@Test
+	public void testUnwrapToBinaryStreamDoesNotReadContent() throws SQLException {
+		final long length = Integer.MAX_VALUE + 1L;
+		final InputStream stream = new ByteArrayInputStream( new byte[] { 1, 2, 3 } );
+		final Blob blob = mock( Blob.class );
+		when( blob.getBinaryStream() ).thenReturn( stream );
+		when( blob.length() ).thenReturn( length );
+
+		final BinaryStream binaryStream = BlobTypeDescriptor.INSTANCE.unwrap( blob, BinaryStream.class, null );
+		assertSame( stream, binaryStream.getInputStream() );
+		assertEquals( length, binaryStream.getLength() );
+		assertEquals( 3, stream.available() );
+	}
 }
@@ -52,6 +52,33 @@ public class SpatialRelateExpression implements Criterion {
 		this.value = value;
 	}
 
+	/**
+	 * Returns the name of the geometry property
+	 *
+	 * @return The property name
+	 */
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	/**
+	 * Returns the search {@code Geometry}
+	 *
+	 * @return The search {@code Geometry}
+	 */
+	public Geometry getValue() {
+		return value;
+	}
+
+	/**
+	 * Returns the type of {@code SpatialRelation} used in the comparison
+	 *
+	 * @return The spatial relation
+	 */
+	public int getSpatialRelation() {
+		return spatialRelation;
+	}
+
 	@Override
 	public TypedValue[] getTypedValues(Criteria criteria, CriteriaQuery criteriaQuery) throws HibernateException {
 		return new TypedValue[] { criteriaQuery.getTypedValue( criteria, propertyName, value ) };
@@ -8,9 +8,6 @@
 package org.hibernate.spatial.dialect.h2geodb;
 
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.sql.Blob;
 
 import org.hibernate.HibernateException;
@@ -114,30 +111,13 @@ public class GeoDbWkb {
 	}
 
 	private static ByteBuffer toByteBuffer(Blob blob) {
-		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-		final byte[] buf = new byte[1024];
-
-		InputStream in = null;
 		try {
-			in = blob.getBinaryStream();
-			int n = 0;
-			while ( ( n = in.read( buf ) ) >= 0 ) {
-				baos.write( buf, 0, n );
-			}
+			// read in a single call, rather than through a stream copied to a growing buffer
+			return ByteBuffer.from( blob.getBytes( 1, (int) blob.length() ) );
 		}
 		catch (Exception e) {
 			LOGGER.warn( "Could not convert database BLOB object to binary stream.", e );
+			return ByteBuffer.from( new byte[0] );
 		}
-		finally {
-			try {
-				if ( in != null ) {
-					in.close();
-				}
-			}
-			catch (IOException e) {
-				LOGGER.warn( "Could not close binary stream." );
-			}
-		}
-		return ByteBuffer.from( baos.toByteArray() );
 	}
 }
@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+package org.hibernate.spatial.dialect.postgis;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.postgresql.util.PGBinaryObject;
+import org.postgresql.util.PGobject;
+
+/**
+ * A Postgis geometry value held as (E)WKB bytes.
+ * <p/>
+ * When the driver transfers the geometry type in binary format, the bytes are written to, and read from, the
+ * protocol buffer as they are, without any hex conversion.  Binary transfer of the geometry type is enabled by
+ * listing the oid of the geometry type in the {@code binaryTransferEnable} connection property and, for reads,
+ * by registering this class for the {@code geometry} type with
+ * {@link org.postgresql.PGConnection#addDataType(String, Class)}.  Otherwise, the bytes are hex-encoded, in a
+ * single pass, only when the driver asks for the text {@link #getValue() value}.
+ */
+public class PGGeometryObject extends PGobject implements PGBinaryObject {
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	private byte[] wkb;
+
+	/**
+	 * Constructs an empty geometry value, as the driver does before reading it.
+	 */
+	public PGGeometryObject() {
+		setType( "geometry" );
+	}
+
+	/**
+	 * Constructs a geometry value from its (E)WKB.
+	 *
+	 * @param wkb The (E)WKB of the geometry, which is not copied
+	 */
+	public PGGeometryObject(byte[] wkb) {
+		this();
+		this.wkb = wkb;
+	}
+
+	/**
+	 * Returns the (E)WKB of the geometry
+	 *
+	 * @return The (E)WKB, or {@code null} if the value is a WKT rather than a WKB
+	 */
+	public byte[] getWkb() {
+		if ( wkb == null && isHexWkb( value ) ) {
+			wkb = fromHex( value );
+		}
+		return wkb;
+	}
+
+	@Override
+	public void setValue(String value) throws SQLException {
+		super.setValue( value );
+		this.wkb = null;
+	}
+
+	@Override
+	public String getValue() {
+		if ( value == null && wkb != null ) {
+			value = toHex( wkb );
+		}
+		return value;
+	}
+
+	@Override
+	public void setByteValue(byte[] value, int offset) throws SQLException {
+		this.wkb = Arrays.copyOfRange( value, offset, value.length );
+		this.value = null;
+	}
+
+	@Override
+	public int lengthInBytes() {
+		final byte[] bytes = getWkb();
+		return bytes == null ? 0 : bytes.length;
+	}
+
+	@Override
+	public void toBytes(byte[] bytes, int offset) {
+		final byte[] source = getWkb();
+		System.arraycopy( source, 0, bytes, offset, source.length );
+	}
+
+	/**
+	 * Whether the given text value is a hex-encoded WKB, i.e. starts with the byte-order byte, rather than a WKT
+	 */
+	static boolean isHexWkb(String value) {
+		return value != null && ( value.startsWith( "00" ) || value.startsWith( "01" ) );
+	}
+
+	static String toHex(byte[] bytes) {
+		final char[] chars = new char[bytes.length * 2];
+		for ( int i = 0; i < bytes.length; i++ ) {
+			chars[i * 2] = HEX_DIGITS[( bytes[i] >> 4 ) & 0x0F];
+			chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0F];
+		}
+		return new String( chars );
+	}
+
+	static byte[] fromHex(String hex) {
+		final byte[] bytes = new byte[hex.length() / 2];
+		for ( int i = 0; i < bytes.length; i++ ) {
+			bytes[i] = (byte) ( ( Character.digit( hex.charAt( i * 2 ), 16 ) << 4 )
+					| Character.digit( hex.charAt( i * 2 + 1 ), 16 ) );
+		}
+		return bytes;
+	}
+}
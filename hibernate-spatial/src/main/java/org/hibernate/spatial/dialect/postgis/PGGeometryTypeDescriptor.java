@@ -48,25 +48,33 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 		if ( object == null ) {
 			return null;
 		}
-		ByteBuffer buffer = null;
+		if ( object instanceof PGGeometryObject ) {
+			final byte[] wkb = ( (PGGeometryObject) object ).getWkb();
+			return wkb == null ? parseWkt( ( (PGGeometryObject) object ).getValue() ) : parseWkb( wkb );
+		}
 		if ( object instanceof PGobject ) {
 			String pgValue = ( (PGobject) object ).getValue();
 
-			if ( pgValue.startsWith( "00" ) || pgValue.startsWith( "01" ) ) {
+			if ( PGGeometryObject.isHexWkb( pgValue ) ) {
 				//we have a WKB because this pgValue starts with the bit-order byte
-				buffer = ByteBuffer.from( pgValue );
-				final WkbDecoder decoder = Wkb.newDecoder( Wkb.Dialect.POSTGIS_EWKB_1 );
-				return decoder.decode( buffer );
-
+				return parseWkb( PGGeometryObject.fromHex( pgValue ) );
 			}
 			else {
 				return parseWkt( pgValue );
 			}
 
 		}
+		if ( object instanceof byte[] ) {
+			return parseWkb( (byte[]) object );
+		}
 		throw new IllegalStateException( "Received object of type " + object.getClass().getCanonicalName() );
 	}
 
+	private static Geometry<?> parseWkb(byte[] wkb) {
+		final WkbDecoder decoder = Wkb.newDecoder( Wkb.Dialect.POSTGIS_EWKB_1 );
+		return decoder.decode( ByteBuffer.from( wkb ) );
+	}
+
 	private static Geometry<?> parseWkt(String pgValue) {
 		final WktDecoder decoder = Wkt.newDecoder( Wkt.Dialect.POSTGIS_EWKT_1 );
 		return decoder.decode( pgValue );
@@ -99,14 +107,11 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 				st.setObject( name, obj );
 			}
 
-			private PGobject toPGobject(X value, WrapperOptions options) throws SQLException {
+			private PGobject toPGobject(X value, WrapperOptions options) {
 				final WkbEncoder encoder = Wkb.newEncoder( Wkb.Dialect.POSTGIS_EWKB_1 );
 				final Geometry geometry = getJavaDescriptor().unwrap( value, Geometry.class, options );
-				final String hexString = encoder.encode( geometry, ByteOrder.NDR ).toString();
-				final PGobject obj = new PGobject();
-				obj.setType( "geometry" );
-				obj.setValue( hexString );
-				return obj;
+				// hex-encoded by the PGGeometryObject only if the driver does not transfer it in binary format
+				return new PGGeometryObject( encoder.encode( geometry, ByteOrder.NDR ).toByteArray() );
 			}
 
 		};
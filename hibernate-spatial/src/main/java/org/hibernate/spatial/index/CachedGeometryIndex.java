@@ -0,0 +1,269 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.index;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.spatial.HSMessageLogger;
+import org.hibernate.spatial.Spatial;
+import org.hibernate.spatial.SpatialRelation;
+import org.hibernate.spatial.criterion.SpatialRelateExpression;
+
+import org.jboss.logging.Logger;
+
+import org.geolatte.geom.jts.JTS;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * An in-memory STR-tree over the geometries of a second-level cached, read-only entity type, such as a
+ * reference layer of countries or zones, which answers spatial restrictions on these geometries without
+ * querying the database.
+ * <p/>
+ * The tree is built, on first use, from the identifiers and geometries of all the instances of the entity
+ * type, read in a single query.  The matching instances are then loaded by identifier, which, for a fully
+ * cached entity type, is served by the second-level cache.  The index is invalidated, and rebuilt on next use,
+ * when an instance of the entity type is inserted, updated or deleted through a session of the session
+ * factory, or when an indexed instance can no longer be loaded.  Changes made otherwise, e.g. by bulk HQL
+ * statements or by other applications, require an explicit {@link #invalidate()}.
+ * <p/>
+ * An index which is no longer used must be {@link #close() closed}, so that it is no longer notified of the
+ * changes.
+ * <p/>
+ * <pre>
+ * CachedGeometryIndex&lt;Country&gt; countries = new CachedGeometryIndex&lt;&gt;( sessionFactory, Country.class, "geom" );
+ * List&lt;Country&gt; result = countries.list( session, SpatialRestrictions.intersects( "geom", area ) );
+ * ...
+ * countries.close();
+ * </pre>
+ *
+ * @param <T> The entity type
+ */
+public class CachedGeometryIndex<T> implements AutoCloseable {
+
+	private static final HSMessageLogger LOG = Logger.getMessageLogger(
+			HSMessageLogger.class,
+			CachedGeometryIndex.class.getName()
+	);
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final Class<T> entityClass;
+	private final String propertyName;
+	private final EntityPersister persister;
+	private final CachedGeometryIndexInvalidator invalidator;
+
+	private volatile Snapshot snapshot;
+	private volatile boolean closed;
+
+	/**
+	 * Creates the index of the given geometry property, and registers it for the invalidation events.
+	 *
+	 * @param sessionFactory The session factory
+	 * @param entityClass The entity type, which must be read-only and second-level cached
+	 * @param propertyName The name of the geometry property
+	 */
+	public CachedGeometryIndex(SessionFactory sessionFactory, Class<T> entityClass, String propertyName) {
+		this.sessionFactory = sessionFactory.unwrap( SessionFactoryImplementor.class );
+		this.entityClass = entityClass;
+		this.propertyName = propertyName;
+		this.persister = this.sessionFactory.getMetamodel().entityPersister( entityClass );
+
+		if ( persister.isMutable() || !persister.canReadFromCache() ) {
+			throw new IllegalArgumentException(
+					"Entity [" + persister.getEntityName() + "] must be immutable and second-level cached to be indexed"
+			);
+		}
+		if ( !( persister.getPropertyType( propertyName ) instanceof Spatial ) ) {
+			throw new IllegalArgumentException(
+					"Property [" + persister.getEntityName() + "#" + propertyName + "] is not a geometry"
+			);
+		}
+
+		this.invalidator = CachedGeometryIndexInvalidator.forSessionFactory( this.sessionFactory );
+		this.invalidator.register( this );
+	}
+
+	/**
+	 * Returns the instances satisfying the given restriction on the indexed geometry property.
+	 *
+	 * @param session The session loading the instances
+	 * @param restriction The spatial restriction, as created by {@link org.hibernate.spatial.criterion.SpatialRestrictions}
+	 *
+	 * @return The matching instances
+	 */
+	public List<T> list(Session session, SpatialRelateExpression restriction) {
+		if ( !propertyName.equals( restriction.getPropertyName() ) ) {
+			throw new IllegalArgumentException(
+					"Restriction on [" + restriction.getPropertyName() + "] cannot be answered by the index of ["
+							+ persister.getEntityName() + "#" + propertyName + "]"
+			);
+		}
+		return list( session, restriction.getSpatialRelation(), restriction.getValue() );
+	}
+
+	/**
+	 * Returns the instances whose geometry has the given spatial relation to the search geometry.
+	 *
+	 * @param session The session loading the instances
+	 * @param spatialRelation The {@link SpatialRelation}
+	 * @param value The search geometry
+	 *
+	 * @return The matching instances
+	 */
+	@SuppressWarnings("unchecked")
+	public List<T> list(Session session, int spatialRelation, Geometry value) {
+		if ( closed ) {
+			throw new IllegalStateException( "Index of [" + persister.getEntityName() + "#" + propertyName + "] is closed" );
+		}
+		final Snapshot current = getSnapshot();
+		final Collection<IndexedGeometry> candidates = spatialRelation == SpatialRelation.DISJOINT
+				? current.all
+				: current.tree.query( value.getEnvelopeInternal() );
+
+		final List<T> result = new ArrayList<>();
+		for ( IndexedGeometry candidate : candidates ) {
+			if ( matches( spatialRelation, candidate.geometry, value ) ) {
+				final T instance = session.get( entityClass, candidate.id );
+				if ( instance == null ) {
+					// deleted without notice
+					invalidate();
+				}
+				else {
+					result.add( instance );
+				}
+			}
+		}
+		return result;
+	}
+
+	private static boolean matches(int spatialRelation, Geometry geometry, Geometry value) {
+		switch ( spatialRelation ) {
+			case SpatialRelation.EQUALS: {
+				return geometry.equalsTopo( value );
+			}
+			case SpatialRelation.DISJOINT: {
+				return geometry.disjoint( value );
+			}
+			case SpatialRelation.TOUCHES: {
+				return geometry.touches( value );
+			}
+			case SpatialRelation.CROSSES: {
+				return geometry.crosses( value );
+			}
+			case SpatialRelation.WITHIN: {
+				return geometry.within( value );
+			}
+			case SpatialRelation.OVERLAPS: {
+				return geometry.overlaps( value );
+			}
+			case SpatialRelation.CONTAINS: {
+				return geometry.contains( value );
+			}
+			case SpatialRelation.INTERSECTS: {
+				return geometry.intersects( value );
+			}
+			case SpatialRelation.FILTER: {
+				return geometry.getEnvelopeInternal().intersects( value.getEnvelopeInternal() );
+			}
+			default: {
+				throw new IllegalArgumentException( "Unknown spatial relation: " + spatialRelation );
+			}
+		}
+	}
+
+	/**
+	 * Discards the index, which is rebuilt on next use.
+	 */
+	public void invalidate() {
+		// waits for a build in progress, which may have missed the change
+		synchronized ( this ) {
+			snapshot = null;
+		}
+	}
+
+	/**
+	 * Discards the index, and stops its invalidation on the changes of the indexed instances.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		invalidator.unregister( this );
+		invalidate();
+	}
+
+	private Snapshot getSnapshot() {
+		Snapshot current = snapshot;
+		if ( current == null ) {
+			synchronized ( this ) {
+				current = snapshot;
+				if ( current == null ) {
+					current = build();
+					snapshot = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	private Snapshot build() {
+		final String idPropertyName = persister.getIdentifierPropertyName() == null
+				? "id"
+				: persister.getIdentifierPropertyName();
+		final String hql = "select e." + idPropertyName + ", e." + propertyName
+				+ " from " + persister.getEntityName() + " e";
+
+		final Snapshot result = new Snapshot();
+		try (StatelessSession session = sessionFactory.openStatelessSession()) {
+			for ( Object row : session.createQuery( hql ).list() ) {
+				final Object[] columns = (Object[]) row;
+				final Geometry geometry = toJts( columns[1] );
+				if ( geometry != null ) {
+					final IndexedGeometry indexed = new IndexedGeometry( (Serializable) columns[0], geometry );
+					result.all.add( indexed );
+					result.tree.insert( geometry.getEnvelopeInternal(), indexed );
+				}
+			}
+		}
+		result.tree.build();
+		LOG.debugf( "Built spatial index of %s geometries of %s", result.all.size(), persister.getEntityName() );
+		return result;
+	}
+
+	private static Geometry toJts(Object geometry) {
+		if ( geometry instanceof org.geolatte.geom.Geometry ) {
+			return JTS.to( (org.geolatte.geom.Geometry) geometry );
+		}
+		return (Geometry) geometry;
+	}
+
+	boolean isIndexed(EntityPersister persister) {
+		return this.persister.getEntityMetamodel().getSubclassEntityNames().contains( persister.getEntityName() );
+	}
+
+	private static class Snapshot {
+		private final STRtree tree = new STRtree();
+		private final List<IndexedGeometry> all = new ArrayList<>();
+	}
+
+	private static class IndexedGeometry {
+		private final Serializable id;
+		private final Geometry geometry;
+
+		private IndexedGeometry(Serializable id, Geometry geometry) {
+			this.id = id;
+			this.geometry = geometry;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.index;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Invalidates the open {@link CachedGeometryIndex}es of a session factory on the post-commit events.  A single
+ * invalidator is registered per session factory, as event listeners cannot be removed, and the indexes are
+ * removed from it when closed.
+ */
+final class CachedGeometryIndexInvalidator
+		implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+	private final Set<CachedGeometryIndex<?>> indexes = new CopyOnWriteArraySet<>();
+
+	private CachedGeometryIndexInvalidator() {
+	}
+
+	/**
+	 * Returns the invalidator of the given session factory, registering it for the post-commit events first if
+	 * needed.
+	 */
+	static CachedGeometryIndexInvalidator forSessionFactory(SessionFactoryImplementor sessionFactory) {
+		final EventListenerRegistry listenerRegistry = sessionFactory.getServiceRegistry()
+				.getService( EventListenerRegistry.class );
+		synchronized ( listenerRegistry ) {
+			for ( PostCommitInsertEventListener listener : listenerRegistry.getEventListenerGroup( EventType.POST_COMMIT_INSERT )
+					.listeners() ) {
+				if ( listener instanceof CachedGeometryIndexInvalidator ) {
+					return (CachedGeometryIndexInvalidator) listener;
+				}
+			}
+			final CachedGeometryIndexInvalidator invalidator = new CachedGeometryIndexInvalidator();
+			listenerRegistry.appendListeners( EventType.POST_COMMIT_INSERT, invalidator );
+			listenerRegistry.appendListeners( EventType.POST_COMMIT_UPDATE, invalidator );
+			listenerRegistry.appendListeners( EventType.POST_COMMIT_DELETE, invalidator );
+			return invalidator;
+		}
+	}
+
+	void register(CachedGeometryIndex<?> index) {
+		indexes.add( index );
+	}
+
+	void unregister(CachedGeometryIndex<?> index) {
+		indexes.remove( index );
+	}
+
+	boolean isRegistered(CachedGeometryIndex<?> index) {
+		return indexes.contains( index );
+	}
+
+	private void invalidate(EntityPersister persister) {
+		for ( CachedGeometryIndex<?> index : indexes ) {
+			if ( index.isIndexed( persister ) ) {
+				index.invalidate();
+			}
+		}
+	}
+
+	@Override
+	public void onPostInsert(PostInsertEvent event) {
+		invalidate( event.getPersister() );
+	}
+
+	@Override
+	public void onPostInsertCommitFailed(PostInsertEvent event) {
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		invalidate( event.getPersister() );
+	}
+
+	@Override
+	public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		invalidate( event.getPersister() );
+	}
+
+	@Override
+	public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+	}
+
+	@Override
+	public boolean requiresPostCommitHanding(EntityPersister persister) {
+		for ( CachedGeometryIndex<?> index : indexes ) {
+			if ( index.isIndexed( persister ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -23,6 +23,7 @@ import org.postgresql.util.PGobject;
 import static org.geolatte.geom.builder.DSL.c;
 import static org.geolatte.geom.builder.DSL.g;
 import static org.geolatte.geom.builder.DSL.linestring;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -65,6 +66,32 @@ public class PostgisUnmarshalTest {
 		testCase( wkb, geom );
 	}
 
+	@Test
+	public void testBinaryWkb() throws SQLException {
+		byte[] wkb = Wkb.toWkb( geom, ByteOrder.NDR ).toByteArray();
+		byte[] protocolBuffer = new byte[wkb.length + 4];
+		System.arraycopy( wkb, 0, protocolBuffer, 4, wkb.length );
+
+		PGGeometryObject pgo = new PGGeometryObject();
+		pgo.setByteValue( protocolBuffer, 4 );
+		assertEquals( geom, PGGeometryTypeDescriptor.toGeometry( pgo ) );
+	}
+
+	@Test
+	public void testGeometryObjectTextValue() throws SQLException {
+		byte[] wkb = Wkb.toWkb( geom, ByteOrder.NDR ).toByteArray();
+		PGGeometryObject pgo = new PGGeometryObject( wkb );
+		assertEquals( Wkb.toWkb( geom, ByteOrder.NDR ).toString().toUpperCase(), pgo.getValue() );
+		assertEquals( wkb.length, pgo.lengthInBytes() );
+
+		byte[] protocolBuffer = new byte[wkb.length];
+		pgo.toBytes( protocolBuffer, 0 );
+		assertArrayEquals( wkb, protocolBuffer );
+
+		PGGeometryObject received = new PGGeometryObject();
+		received.setValue( pgo.getValue() );
+		assertEquals( geom, PGGeometryTypeDescriptor.toGeometry( received ) );
+	}
 
 	public void testCase(String pgValue, Geometry<?> expected) throws SQLException {
 		PGobject pgo = new PGobject();
@@ -0,0 +1,182 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.index;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.spatial.criterion.SpatialRestrictions;
+import org.hibernate.spatial.testing.SpatialDialectMatcher;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.Skip;
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests answering spatial restrictions from the {@link CachedGeometryIndex}.
+ */
+@Skip(condition = SpatialDialectMatcher.class, message = "No Spatial Dialect")
+public class CachedGeometryIndexTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Zone.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testRestrictions() {
+		inTransaction(
+				session -> {
+					session.persist( new Zone( 1, geometry( "POLYGON((0 0, 10 0, 10 10, 0 10, 0 0))" ) ) );
+					session.persist( new Zone( 2, geometry( "POLYGON((5 5, 15 5, 15 15, 5 15, 5 5))" ) ) );
+					session.persist( new Zone( 3, geometry( "POLYGON((20 20, 30 20, 30 30, 20 30, 20 20))" ) ) );
+				}
+		);
+
+		final CachedGeometryIndex<Zone> index = new CachedGeometryIndex<>( sessionFactory(), Zone.class, "geom" );
+		final Geometry point = geometry( "POINT(7 7)" );
+
+		inSession(
+				session -> {
+					assertEquals( ids( 1, 2 ), ids( index.list( session, SpatialRestrictions.intersects( "geom", point ) ) ) );
+					assertEquals( ids( 3 ), ids( index.list( session, SpatialRestrictions.disjoint( "geom", geometry( "POLYGON((0 0, 16 0, 16 16, 0 16, 0 0))" ) ) ) ) );
+					assertEquals( ids( 1 ), ids( index.list( session, SpatialRestrictions.within( "geom", geometry( "POLYGON((-1 -1, 11 -1, 11 11, -1 11, -1 -1))" ) ) ) ) );
+				}
+		);
+
+		// the instances come from the second-level cache
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		inSession(
+				session -> assertEquals( ids( 1, 2 ), ids( index.list( session, SpatialRestrictions.contains( "geom", point ) ) ) )
+		);
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+
+		// a new zone invalidates the index
+		inTransaction( session -> session.persist( new Zone( 4, geometry( "POLYGON((6 6, 8 6, 8 8, 6 8, 6 6))" ) ) ) );
+		inSession(
+				session -> assertEquals( ids( 1, 2, 4 ), ids( index.list( session, SpatialRestrictions.intersects( "geom", point ) ) ) )
+		);
+		index.close();
+	}
+
+	@Test
+	public void testClose() {
+		final CachedGeometryIndex<Zone> first = new CachedGeometryIndex<>( sessionFactory(), Zone.class, "geom" );
+		final CachedGeometryIndex<Zone> second = new CachedGeometryIndex<>( sessionFactory(), Zone.class, "geom" );
+
+		// the indexes share the listeners registered for the session factory
+		int invalidators = 0;
+		for ( Object listener : sessionFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.getEventListenerGroup( EventType.POST_COMMIT_INSERT )
+				.listeners() ) {
+			if ( listener instanceof CachedGeometryIndexInvalidator ) {
+				invalidators++;
+			}
+		}
+		assertEquals( 1, invalidators );
+
+		final CachedGeometryIndexInvalidator invalidator = CachedGeometryIndexInvalidator.forSessionFactory( sessionFactory() );
+		assertTrue( invalidator.isRegistered( first ) );
+		assertTrue( invalidator.isRegistered( second ) );
+
+		first.close();
+		assertFalse( invalidator.isRegistered( first ) );
+		assertTrue( invalidator.isRegistered( second ) );
+		second.close();
+		assertFalse( invalidator.isRegistered( second ) );
+
+		try {
+			inSession( session -> first.list( session, SpatialRestrictions.intersects( "geom", geometry( "POINT(7 7)" ) ) ) );
+			fail( "Expecting a closed index to be rejected" );
+		}
+		catch (IllegalStateException expected) {
+		}
+	}
+
+	private static Set<Integer> ids(Integer... ids) {
+		final Set<Integer> result = new HashSet<>();
+		for ( Integer id : ids ) {
+			result.add( id );
+		}
+		return result;
+	}
+
+	private static Set<Integer> ids(List<Zone> zones) {
+		final Set<Integer> result = new HashSet<>();
+		for ( Zone zone : zones ) {
+			result.add( zone.id );
+		}
+		return result;
+	}
+
+	private static Geometry geometry(String wkt) {
+		try {
+			final Geometry geometry = new WKTReader().read( wkt );
+			geometry.setSRID( 4326 );
+			return geometry;
+		}
+		catch (ParseException e) {
+			throw new IllegalArgumentException( e );
+		}
+	}
+
+	@Entity(name = "Zone")
+	@Immutable
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	public static class Zone {
+		@Id
+		private Integer id;
+
+		private Geometry geom;
+
+		public Zone() {
+		}
+
+		public Zone(Integer id, Geometry geom) {
+			this.id = id;
+			this.geom = geom;
+		}
+	}
+}
@@ -214,6 +214,13 @@ abstract public class DialectChecks {
 		}
 	}
 
+	public static class SupportsDataModifyingCTE implements DialectCheck {
+		public boolean isMatch(Dialect dialect) {
+			return dialect.supportsDataModifyingCTE() &&
+					dialect.supportsRowValueConstructorSyntaxInInList();
+		}
+	}
+
 	public static class SupportValuesListAndRowValueConstructorSyntaxInInList
 			implements DialectCheck {
 		public boolean isMatch(Dialect dialect) {